@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.2.1"
 	id("io.spring.dependency-management") version "1.1.4"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.daymemory"
@@ -29,6 +30,10 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-mail")
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
+	// 사용자별 조회 캐시 (크기/유휴 시간 제한)
+	implementation("com.github.ben-manes.caffeine:caffeine")
 
 	// PostgreSQL
 	runtimeOnly("org.postgresql:postgresql")
@@ -54,10 +59,20 @@ dependencies {
 	// Test Dependencies
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.security:spring-security-test")
+	testImplementation("com.icegreen:greenmail-junit5:2.0.1")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
+	// 벤치마크 테스트는 -Dbenchmark=true 일 때만 실행
+	systemProperty("benchmark", System.getProperty("benchmark") ?: "false")
+}
+
+// 마이크로 벤치마크: ./gradlew jmh (src/jmh/java)
+jmh {
+	warmupIterations.set(3)
+	iterations.set(5)
+	fork.set(1)
 }
 
 tasks.withType<JavaCompile> {
@@ -0,0 +1,73 @@
+package com.daymemory.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리마인더 메일 본문 생성 벤치마크 (호출당 100,000건 렌더링)
+ * - formatted: 기존 방식, 매번 ~4KB 텍스트 블록에 String.formatted 실행
+ * - precompiled: MailTemplateRenderer, 미리 컴파일한 정적 조각 + 이스케이프된 값
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MailTemplateRenderBenchmark {
+
+    private static final int RENDERS = 100_000;
+
+    private MailTemplateRenderer renderer;
+    private String legacyFormat;
+    private String[] titles;
+
+    @Setup
+    public void setUp() throws IOException {
+        renderer = new MailTemplateRenderer();
+        renderer.init();
+
+        // 기존 EmailService.buildHtmlEmailTemplate 과 같은 포맷 문자열을 템플릿에서 재구성
+        try (InputStream in = MailTemplateRenderer.class.getResourceAsStream("/templates/mail/reminder.html")) {
+            legacyFormat = new String(in.readAllBytes(), StandardCharsets.UTF_8)
+                    .replace("%", "%%")
+                    .replace("{{recipientName}}", "%s")
+                    .replace("{{eventTitle}}", "%s")
+                    .replace("{{daysRemaining}}", "%d");
+        }
+
+        titles = new String[]{"친구 생일", "결혼기념일", "어머니 생신", "프로젝트 마감"};
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RENDERS)
+    public void formatted(Blackhole blackhole) {
+        for (int i = 0; i < RENDERS; i++) {
+            int days = i % 30 + 1;
+            blackhole.consume(legacyFormat.formatted("홍길동", titles[i & 3], days, days));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RENDERS)
+    public void precompiled(Blackhole blackhole) {
+        for (int i = 0; i < RENDERS; i++) {
+            int days = i % 30 + 1;
+            blackhole.consume(renderer.render("reminder", Map.of(
+                    "recipientName", "홍길동",
+                    "eventTitle", titles[i & 3],
+                    "daysRemaining", days)));
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.daymemory.controller;
 
 import com.daymemory.domain.dto.EventDto;
+import com.daymemory.domain.dto.PageDto;
 import com.daymemory.domain.entity.Event;
 import com.daymemory.security.SecurityUtils;
+import com.daymemory.service.EventImportService;
 import com.daymemory.service.EventService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -12,8 +14,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -24,6 +29,7 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final EventImportService eventImportService;
 
     @Operation(summary = "이벤트 생성", description = "새로운 이벤트(생일, 기념일 등)를 생성합니다.")
     @ApiResponses({
@@ -42,6 +48,26 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "이벤트 일괄 가져오기",
+            description = "CSV(.csv) 또는 JSON Lines(.jsonl) 파일의 이벤트를 한 번에 생성합니다. " +
+                    "CSV는 첫 줄에 title, eventDate, eventType 열이 필요하고 JSON Lines는 한 줄에 이벤트 생성 요청 하나입니다. " +
+                    "검증에 실패하거나 중복된 행은 건너뛰고 줄 번호별 결과를 반환합니다. (최대 " + EventImportService.MAX_ROWS + "행)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "가져오기 완료 (행별 결과 포함)",
+                    content = @Content(schema = @Schema(implementation = EventDto.ImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 파일 형식 또는 CSV 헤더 누락",
+                    content = @Content(schema = @Schema(implementation = com.daymemory.exception.GlobalExceptionHandler.ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = com.daymemory.exception.GlobalExceptionHandler.ErrorResponse.class)))
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<EventDto.ImportResponse> importEvents(
+            @RequestParam("file") MultipartFile file) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        EventDto.ImportResponse response = eventImportService.importEvents(userId, file);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "이벤트 목록 조회", description = "사용자의 이벤트 목록을 조회합니다. 타입을 지정하면 해당 타입의 이벤트만 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "이벤트 목록 조회 성공",
@@ -62,6 +88,25 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    @Operation(summary = "이벤트 목록 페이지 조회",
+            description = "사용자의 이벤트를 (저장된 기준 날짜 anchorDate, ID) 순으로 커서 기반 페이지 조회합니다. " +
+                    "반복 이벤트의 eventDate는 다음 발생일이므로 정렬 순서와 다를 수 있습니다. " +
+                    "응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다. (size 최대 100)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "이벤트 페이지 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서",
+                    content = @Content(schema = @Schema(implementation = com.daymemory.exception.GlobalExceptionHandler.ErrorResponse.class)))
+    })
+    @GetMapping("/page")
+    public ResponseEntity<PageDto.CursorPage<EventDto.Response>> getEventPage(
+            @RequestParam(required = false) Event.EventType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + PageDto.DEFAULT_SIZE) int size,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return ResponseEntity.ok(eventService.getEventPage(userId, type, cursor, size, direction));
+    }
+
     @Operation(summary = "이벤트 상세 조회", description = "특정 이벤트의 상세 정보를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "이벤트 조회 성공",
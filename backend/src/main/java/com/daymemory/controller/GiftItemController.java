@@ -1,6 +1,7 @@
 package com.daymemory.controller;
 
 import com.daymemory.domain.dto.GiftItemDto;
+import com.daymemory.domain.dto.PageDto;
 import com.daymemory.domain.entity.GiftItem;
 import com.daymemory.security.SecurityUtils;
 import com.daymemory.service.GiftItemService;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -80,6 +82,25 @@ public class GiftItemController {
         return ResponseEntity.ok(giftItems);
     }
 
+    @Operation(summary = "선물 목록 페이지 조회",
+            description = "사용자의 선물을 (등록 시각, ID) 순으로 커서 기반 페이지 조회합니다. 기본은 최신순이며, " +
+                    "응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다. (size 최대 100)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "선물 페이지 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서",
+                    content = @Content(schema = @Schema(implementation = com.daymemory.exception.GlobalExceptionHandler.ErrorResponse.class)))
+    })
+    @GetMapping("/page")
+    public ResponseEntity<PageDto.CursorPage<GiftItemDto.Response>> getGiftItemPage(
+            @RequestParam(required = false) Boolean isPurchased,
+            @RequestParam(required = false) GiftItem.GiftCategory category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + PageDto.DEFAULT_SIZE) int size,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return ResponseEntity.ok(giftItemService.getGiftItemPage(userId, isPurchased, category, cursor, size, direction));
+    }
+
     @Operation(summary = "선물 단건 조회", description = "선물 ID로 선물 상세 정보를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "선물 조회 성공",
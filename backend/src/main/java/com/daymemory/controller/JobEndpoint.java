@@ -0,0 +1,60 @@
+package com.daymemory.controller;
+
+import com.daymemory.domain.dto.JobDto;
+import com.daymemory.domain.entity.JobRun;
+import com.daymemory.domain.repository.JobCheckpointRepository;
+import com.daymemory.domain.repository.JobLeaseRepository;
+import com.daymemory.domain.repository.JobRunRepository;
+import com.daymemory.service.JobCoordinator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 스케줄 작업 현황 Actuator 엔드포인트
+ * - GET /actuator/jobs : 작업별 임대 보유 인스턴스 + 최근 실행 이력 + 최근 청크 체크포인트(처리량)
+ * - GET /actuator/jobs/{jobName} : 특정 작업의 최근 실행 이력
+ */
+@Component
+@Endpoint(id = "jobs")
+@RequiredArgsConstructor
+public class JobEndpoint {
+
+    private static final int RECENT_RUN_LIMIT = 50;
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobRunRepository jobRunRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final JobCoordinator jobCoordinator;
+
+    @ReadOperation
+    public JobDto.Summary jobs() {
+        return JobDto.Summary.builder()
+                .instanceId(jobCoordinator.getInstanceId())
+                .leases(jobLeaseRepository.findAllByOrderByJobNameAsc().stream()
+                        .map(JobDto.LeaseResponse::from)
+                        .collect(Collectors.toList()))
+                .recentRuns(toResponses(jobRunRepository.findRecent(PageRequest.of(0, RECENT_RUN_LIMIT))))
+                .checkpoints(jobCheckpointRepository.findRecent(PageRequest.of(0, RECENT_RUN_LIMIT)).stream()
+                        .map(JobDto.CheckpointResponse::from)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @ReadOperation
+    public List<JobDto.RunResponse> runs(@Selector String jobName) {
+        return toResponses(jobRunRepository.findRecentByJobName(jobName, PageRequest.of(0, RECENT_RUN_LIMIT)));
+    }
+
+    private List<JobDto.RunResponse> toResponses(List<JobRun> runs) {
+        return runs.stream()
+                .map(JobDto.RunResponse::from)
+                .collect(Collectors.toList());
+    }
+}
@@ -11,10 +11,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Statistics", description = "통계 API - 이벤트, 선물, 리마인더 등의 통계 정보를 제공합니다.")
 @RestController
@@ -43,6 +46,26 @@ public class StatisticsController {
         return ResponseEntity.ok(statistics);
     }
 
+    /**
+     * 연도별 이벤트 통계 (전년 대비 차트)
+     * GET /api/statistics/events/yearly?fromYear={fromYear}&toYear={toYear}
+     */
+    @Operation(summary = "연도별 이벤트 통계", description = "여러 연도의 월별 이벤트 통계를 한 번에 조회합니다. (최대 10년, 키: 연도)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "통계 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 연도 범위",
+                    content = @Content(schema = @Schema(implementation = com.daymemory.exception.GlobalExceptionHandler.ErrorResponse.class)))
+    })
+    @GetMapping("/events/yearly")
+    public ResponseEntity<Map<Integer, StatisticsDto.EventStatistics>> getYearlyEventStatistics(
+            @RequestParam int fromYear,
+            @RequestParam int toYear) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        Map<Integer, StatisticsDto.EventStatistics> statistics =
+                statisticsService.getYearlyEventStatistics(userId, fromYear, toYear);
+        return ResponseEntity.ok(statistics);
+    }
+
     /**
      * 선물 구매 통계
      * GET /api/statistics/gifts?userId={userId}
@@ -64,16 +87,28 @@ public class StatisticsController {
     /**
      * 리마인더 발송 통계
      * GET /api/statistics/reminders?days={days}
+     * GET /api/statistics/reminders?from={from}&to={to}&granularity={DAY|WEEK|MONTH}
      */
-    @Operation(summary = "리마인더 발송 통계", description = "지정된 기간 동안의 리마인더 발송 통계를 조회합니다. (기본값: 30일)")
+    @Operation(summary = "리마인더 발송 통계",
+            description = "로그인한 사용자의 리마인더 발송 통계를 일/주/월 단위로 조회합니다. " +
+                    "from/to를 지정하지 않으면 오늘까지 최근 days일(기본값: 30일)을 조회합니다. (최대 약 10년)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "통계 조회 성공",
-                    content = @Content(schema = @Schema(implementation = StatisticsDto.ReminderStatistics.class)))
+                    content = @Content(schema = @Schema(implementation = StatisticsDto.ReminderStatistics.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 기간",
+                    content = @Content(schema = @Schema(implementation = com.daymemory.exception.GlobalExceptionHandler.ErrorResponse.class)))
     })
     @GetMapping("/reminders")
     public ResponseEntity<StatisticsDto.ReminderStatistics> getReminderStatistics(
-            @RequestParam(defaultValue = "30") int days) {
-        StatisticsDto.ReminderStatistics statistics = statisticsService.getReminderStatistics(days);
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") StatisticsDto.Granularity granularity) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        LocalDate endDate = to != null ? to : LocalDate.now();
+        LocalDate startDate = from != null ? from : endDate.minusDays(days - 1L);
+        StatisticsDto.ReminderStatistics statistics =
+                statisticsService.getReminderStatistics(userId, startDate, endDate, granularity);
         return ResponseEntity.ok(statistics);
     }
 
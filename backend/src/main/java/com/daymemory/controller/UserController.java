@@ -1,6 +1,7 @@
 package com.daymemory.controller;
 
 import com.daymemory.domain.dto.UserDto;
+import com.daymemory.service.DataExportService;
 import com.daymemory.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,9 +11,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.Locale;
 
 @Tag(name = "User", description = "사용자 인증 및 관리 API")
 @RestController
@@ -21,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final DataExportService dataExportService;
 
     /**
      * 회원가입
@@ -95,6 +103,43 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 내 데이터 내보내기
+     * GET /api/users/me/export?format=JSON|CSV
+     */
+    @Operation(summary = "내 데이터 내보내기",
+            description = "이벤트, 리마인더, 선물, AI 추천, 리마인더 발송 기록 전체를 JSON 또는 CSV 파일로 내려받습니다. " +
+                    "데이터를 읽는 대로 스트리밍하며, Accept-Encoding에 gzip이 있으면 gzip으로 압축합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 시작 (스트리밍)"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자",
+                    content = @Content(schema = @Schema(implementation = com.daymemory.exception.GlobalExceptionHandler.ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = com.daymemory.exception.GlobalExceptionHandler.ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "진행 중인 내보내기가 많음 (사용자별 1건, 전체 동시 실행 수 제한)",
+                    content = @Content(schema = @Schema(implementation = com.daymemory.exception.GlobalExceptionHandler.ErrorResponse.class)))
+    })
+    @GetMapping("/me/export")
+    public ResponseEntity<StreamingResponseBody> exportMyData(
+            @RequestParam(defaultValue = "JSON") DataExportService.Format format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Long userId = userService.getCurrentUserId();
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        StreamingResponseBody body = dataExportService.export(userId, format, gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("daymemory-export-" + LocalDate.now() + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     /**
      * 내 정보 수정
      */
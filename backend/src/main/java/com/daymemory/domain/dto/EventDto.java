@@ -2,6 +2,7 @@ package com.daymemory.domain.dto;
 
 import com.daymemory.domain.entity.Event;
 import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.util.LunarCalendar;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -59,6 +60,9 @@ public class EventDto {
         @Schema(description = "매년 반복 여부", example = "true")
         private Boolean isRecurring;
 
+        @Schema(description = "반복 주기 (NONE, YEARLY, MONTHLY, LUNAR_YEARLY, 생략 시 isRecurring이면 YEARLY). LUNAR_YEARLY는 eventDate의 음력 월/일로 매년 반복", example = "YEARLY")
+        private Event.RecurrenceRule recurrenceRule;
+
         @Schema(description = "트래킹 활성화 여부", example = "true")
         private Boolean isTracking;
 
@@ -87,18 +91,36 @@ public class EventDto {
         @Schema(description = "관계", example = "아버지")
         private String relationship;
 
-        @Schema(description = "이벤트 날짜", example = "2025-12-25")
+        @Schema(description = "이벤트 날짜 (반복 이벤트는 오늘 이후 가장 가까운 발생일)", example = "2025-12-25")
         @JsonDeserialize(using = LocalDateDeserializer.class)
         @JsonSerialize(using = LocalDateSerializer.class)
         @JsonFormat(pattern = "yyyy-MM-dd")
         private LocalDate eventDate;
 
+        @Schema(description = "저장된 기준 날짜 (반복 이벤트는 첫 발생일, 페이지 조회의 정렬·커서 기준)", example = "2020-12-25")
+        @JsonDeserialize(using = LocalDateDeserializer.class)
+        @JsonSerialize(using = LocalDateSerializer.class)
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate anchorDate;
+
         @Schema(description = "이벤트 타입", example = "BIRTHDAY")
         private Event.EventType eventType;
 
         @Schema(description = "매년 반복 여부", example = "true")
         private Boolean isRecurring;
 
+        @Schema(description = "반복 주기", example = "YEARLY")
+        private Event.RecurrenceRule recurrenceRule;
+
+        @Schema(description = "음력 월 (음력 반복 이벤트만)", example = "3")
+        private Integer lunarMonth;
+
+        @Schema(description = "음력 일 (음력 반복 이벤트만)", example = "15")
+        private Integer lunarDay;
+
+        @Schema(description = "음력 윤달 여부 (음력 반복 이벤트만, 윤달 기념일은 이후 평달에 반복)", example = "false")
+        private Boolean lunarLeapMonth;
+
         @Schema(description = "활성화 상태", example = "true")
         private Boolean isActive;
 
@@ -112,11 +134,29 @@ public class EventDto {
         private List<ReminderDto> reminders;
 
         public static Response from(Event event) {
-            long dDay = ChronoUnit.DAYS.between(LocalDate.now(), event.getEventDate());
+            LocalDate today = LocalDate.now();
+            LocalDate nextOccurrence = event.nextOccurrence(today);
+            return from(event, nextOccurrence != null ? nextOccurrence : event.getEventDate());
+        }
 
+        // 특정 발생일 기준 응답 (반복 이벤트의 구간 조회)
+        public static Response from(Event event, LocalDate occurrence) {
             List<ReminderDto> reminderDtos = event.getReminders().stream()
                     .map(ReminderDto::from)
                     .collect(Collectors.toList());
+            return of(event, occurrence, reminderDtos);
+        }
+
+        // 프로젝션 행 응답 (목록 조회): 발생일/음력 날짜는 행으로 만든 임시 Event로 계산
+        public static Response from(EventRow row, List<ReminderDto> reminders) {
+            Event event = row.toEvent();
+            LocalDate nextOccurrence = event.nextOccurrence(LocalDate.now());
+            return of(event, nextOccurrence != null ? nextOccurrence : event.getEventDate(), reminders);
+        }
+
+        private static Response of(Event event, LocalDate occurrence, List<ReminderDto> reminderDtos) {
+            long dDay = ChronoUnit.DAYS.between(LocalDate.now(), occurrence);
+            LunarCalendar.LunarDate lunarDate = event.lunarDate();
 
             return Response.builder()
                     .id(event.getId())
@@ -124,9 +164,14 @@ public class EventDto {
                     .description(event.getDescription())
                     .recipientName(event.getRecipientName())
                     .relationship(event.getRelationship())
-                    .eventDate(event.getEventDate())
+                    .eventDate(occurrence)
+                    .anchorDate(event.getEventDate())
                     .eventType(event.getEventType())
                     .isRecurring(event.getIsRecurring())
+                    .recurrenceRule(event.recurrence())
+                    .lunarMonth(lunarDate != null ? lunarDate.month() : null)
+                    .lunarDay(lunarDate != null ? lunarDate.day() : null)
+                    .lunarLeapMonth(lunarDate != null ? lunarDate.leapMonth() : null)
                     .isActive(event.getIsActive())
                     .isTracking(event.getIsTracking())
                     .dDay(dDay)
@@ -157,6 +202,14 @@ public class EventDto {
                     .isActive(reminder.getIsActive())
                     .build();
         }
+
+        public static ReminderDto from(EventReminderRow row) {
+            return ReminderDto.builder()
+                    .id(row.id())
+                    .daysBeforeEvent(row.daysBeforeEvent())
+                    .isActive(row.isActive())
+                    .build();
+        }
     }
 
     @Schema(description = "리마인더 업데이트 요청")
@@ -169,6 +222,50 @@ public class EventDto {
         private List<Integer> reminderDays;
     }
 
+    @Schema(description = "이벤트 일괄 가져오기 결과")
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ImportResponse {
+        @Schema(description = "읽은 행 수 (헤더/빈 줄 제외)", example = "120")
+        private int totalRows;
+
+        @Schema(description = "생성된 이벤트 수", example = "118")
+        private int importedCount;
+
+        @Schema(description = "실패한 행 수", example = "2")
+        private int failedCount;
+
+        @Schema(description = "최대 행 수를 넘어 뒤쪽 행을 읽지 않았는지 여부", example = "false")
+        private boolean truncated;
+
+        @Schema(description = "행별 결과 (파일 줄 번호 순)")
+        private List<ImportRowResult> results;
+    }
+
+    @Schema(description = "이벤트 일괄 가져오기 행별 결과")
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ImportRowResult {
+        @Schema(description = "파일의 줄 번호 (1부터)", example = "2")
+        private int line;
+
+        @Schema(description = "생성 여부", example = "true")
+        private boolean imported;
+
+        @Schema(description = "생성된 이벤트 ID", example = "101")
+        private Long eventId;
+
+        @Schema(description = "이벤트 제목", example = "엄마 생신")
+        private String title;
+
+        @Schema(description = "실패 사유", example = "이벤트 날짜는 오늘 이후여야 합니다.")
+        private String message;
+    }
+
     @Schema(description = "트래킹 활성화/비활성화 요청")
     @Getter
     @NoArgsConstructor
@@ -0,0 +1,11 @@
+package com.daymemory.domain.dto;
+
+/**
+ * 이벤트 목록 조회용 리마인더 프로젝션 행 (이벤트 ID로 묶어 EventRow에 붙인다)
+ */
+public record EventReminderRow(
+        Long eventId,
+        Long id,
+        Integer daysBeforeEvent,
+        Boolean isActive) {
+}
@@ -0,0 +1,40 @@
+package com.daymemory.domain.dto;
+
+import com.daymemory.domain.entity.Event;
+
+import java.time.LocalDate;
+
+/**
+ * 이벤트 목록 조회용 프로젝션 행 (JPQL 생성자 표현식)
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 스냅샷/더티 체킹 비용이 없다.
+ */
+public record EventRow(
+        Long id,
+        String title,
+        String description,
+        String recipientName,
+        String relationship,
+        LocalDate eventDate,
+        Event.EventType eventType,
+        Boolean isRecurring,
+        Event.RecurrenceRule recurrenceRule,
+        Boolean isActive,
+        Boolean isTracking) {
+
+    // 발생일/음력 계산용 임시 Event (영속 상태가 아니며 리마인더는 비어 있다)
+    public Event toEvent() {
+        return Event.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .recipientName(recipientName)
+                .relationship(relationship)
+                .eventDate(eventDate)
+                .eventType(eventType)
+                .isRecurring(isRecurring)
+                .recurrenceRule(recurrenceRule)
+                .isActive(isActive)
+                .isTracking(isTracking)
+                .build();
+    }
+}
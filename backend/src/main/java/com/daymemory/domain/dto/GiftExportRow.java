@@ -0,0 +1,23 @@
+package com.daymemory.domain.dto;
+
+import com.daymemory.domain.entity.GiftItem;
+
+import java.time.LocalDateTime;
+
+/**
+ * 데이터 내보내기용 선물 프로젝션 행 (JPQL 생성자 표현식)
+ */
+public record GiftExportRow(
+        Long id,
+        Long eventId,
+        String name,
+        String description,
+        Integer price,
+        Integer estimatedPrice,
+        Integer budget,
+        String url,
+        String imageUrl,
+        GiftItem.GiftCategory category,
+        Boolean isPurchased,
+        LocalDateTime createdAt) {
+}
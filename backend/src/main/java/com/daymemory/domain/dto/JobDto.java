@@ -0,0 +1,118 @@
+package com.daymemory.domain.dto;
+
+import com.daymemory.domain.entity.JobCheckpoint;
+import com.daymemory.domain.entity.JobLease;
+import com.daymemory.domain.entity.JobRun;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스케줄 작업 현황 (GET /actuator/jobs)
+ */
+public class JobDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Summary {
+        private String instanceId;
+        private List<LeaseResponse> leases;
+        private List<RunResponse> recentRuns;
+        private List<CheckpointResponse> checkpoints;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LeaseResponse {
+        private String jobName;
+        private String owner;
+        private String lockedUntil;  // UTC
+        private String acquiredAt;   // UTC
+
+        public static LeaseResponse from(JobLease lease) {
+            return LeaseResponse.builder()
+                    .jobName(lease.getJobName())
+                    .owner(lease.getOwner())
+                    .lockedUntil(lease.getLockedUntil().toString())
+                    .acquiredAt(lease.getAcquiredAt().toString())
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RunResponse {
+        private Long id;
+        private String jobName;
+        private String owner;
+        private String status;
+        private String startedAt;
+        private String finishedAt;
+        private Long rowsProcessed;
+        private Integer failures;
+        private String errorMessage;
+
+        public static RunResponse from(JobRun run) {
+            return RunResponse.builder()
+                    .id(run.getId())
+                    .jobName(run.getJobName())
+                    .owner(run.getOwner())
+                    .status(run.getStatus().name())
+                    .startedAt(run.getStartedAt().toString())
+                    .finishedAt(run.getFinishedAt() != null ? run.getFinishedAt().toString() : null)
+                    .rowsProcessed(run.getRowsProcessed())
+                    .failures(run.getFailures())
+                    .errorMessage(run.getErrorMessage())
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CheckpointResponse {
+        private String jobName;
+        private String jobKey;
+        private String status;
+        private Long lastKey;
+        private Integer chunks;
+        private Long rowsRead;
+        private Long rowsWritten;
+        private Double rowsPerSecond;           // 전체 청크 평균 처리량
+        private Double lastChunkRowsPerSecond;  // 마지막 청크 처리량
+        private String startedAt;
+        private String updatedAt;
+        private String completedAt;
+
+        public static CheckpointResponse from(JobCheckpoint checkpoint) {
+            return CheckpointResponse.builder()
+                    .jobName(checkpoint.getJobName())
+                    .jobKey(checkpoint.getJobKey())
+                    .status(checkpoint.getStatus().name())
+                    .lastKey(checkpoint.getLastKey())
+                    .chunks(checkpoint.getChunks())
+                    .rowsRead(checkpoint.getRowsRead())
+                    .rowsWritten(checkpoint.getRowsWritten())
+                    .rowsPerSecond(rate(checkpoint.getRowsRead(), checkpoint.getElapsedMillis()))
+                    .lastChunkRowsPerSecond(rate(checkpoint.getLastChunkRows(), checkpoint.getLastChunkMillis()))
+                    .startedAt(checkpoint.getStartedAt().toString())
+                    .updatedAt(checkpoint.getUpdatedAt().toString())
+                    .completedAt(checkpoint.getCompletedAt() != null ? checkpoint.getCompletedAt().toString() : null)
+                    .build();
+        }
+
+        private static Double rate(long rows, long millis) {
+            return millis > 0 ? rows * 1000.0 / millis : null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.daymemory.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class PageDto {
+
+    // 페이지 크기 제한
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    // 요청한 페이지 크기를 1 ~ MAX_SIZE로 제한
+    public static int limitSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    @Schema(description = "커서 기반 페이지")
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorPage<T> {
+        @Schema(description = "페이지 항목")
+        private List<T> items;
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNi0wMy0wMXwxMjM")
+        private String nextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+    }
+}
@@ -0,0 +1,23 @@
+package com.daymemory.domain.dto;
+
+import com.daymemory.domain.entity.AIRecommendation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 데이터 내보내기용 AI 추천 요청 프로젝션 행 (추천 선물은 RecommendedGiftExportRow)
+ */
+public record RecommendationExportRow(
+        Long id,
+        Long eventId,
+        String eventTitle,
+        String recipientName,
+        String recipientGender,
+        Integer recipientAge,
+        Integer budget,
+        String preferredCategories,
+        String additionalMessage,
+        Integer daysUntilEvent,
+        AIRecommendation.RecommendationStatus status,
+        LocalDateTime createdAt) {
+}
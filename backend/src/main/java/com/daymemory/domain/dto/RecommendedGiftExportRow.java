@@ -0,0 +1,18 @@
+package com.daymemory.domain.dto;
+
+import com.daymemory.domain.entity.GiftItem;
+
+/**
+ * 데이터 내보내기용 AI 추천 선물 프로젝션 행
+ */
+public record RecommendedGiftExportRow(
+        Long id,
+        Long recommendationId,
+        Long savedGiftId,
+        String name,
+        String description,
+        GiftItem.GiftCategory category,
+        Integer estimatedPrice,
+        String reason,
+        String purchaseLink) {
+}
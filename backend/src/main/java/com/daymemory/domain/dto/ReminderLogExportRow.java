@@ -0,0 +1,17 @@
+package com.daymemory.domain.dto;
+
+import com.daymemory.domain.entity.ReminderLog;
+
+import java.time.LocalDateTime;
+
+/**
+ * 데이터 내보내기용 리마인더 발송 기록 프로젝션 행
+ */
+public record ReminderLogExportRow(
+        Long id,
+        Long eventId,
+        Integer daysBeforeEvent,
+        LocalDateTime sentAt,
+        ReminderLog.ReminderStatus status,
+        Integer retryCount) {
+}
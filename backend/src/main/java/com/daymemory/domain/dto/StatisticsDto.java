@@ -13,7 +13,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.Map;
 
 public class StatisticsDto {
@@ -68,17 +70,56 @@ public class StatisticsDto {
         @Schema(description = "성공률 (%)", example = "95.7")
         private double successRate;
 
-        @Schema(description = "일별 발송 통계 (키: YYYY-MM-DD)")
+        @Schema(description = "집계 단위", example = "DAY")
+        private Granularity granularity;
+
+        @Schema(description = "구간별 발송 통계 (키: 구간 시작일 YYYY-MM-DD, 발송이 없는 구간은 0건)")
         private Map<String, DailyReminderStats> dailyStats;
     }
 
-    @Schema(description = "일별 리마인더 발송 통계")
+    @Schema(description = "리마인더 발송 통계 집계 단위")
+    public enum Granularity {
+        DAY("day"),
+        WEEK("week"),     // 월요일 시작
+        MONTH("month");
+
+        // PostgreSQL date_trunc 단위
+        private final String sqlUnit;
+
+        Granularity(String sqlUnit) {
+            this.sqlUnit = sqlUnit;
+        }
+
+        public String sqlUnit() {
+            return sqlUnit;
+        }
+
+        // date가 속한 구간의 시작일
+        public LocalDate truncate(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+
+        // 다음 구간의 시작일
+        public LocalDate next(LocalDate bucketStart) {
+            return switch (this) {
+                case DAY -> bucketStart.plusDays(1);
+                case WEEK -> bucketStart.plusWeeks(1);
+                case MONTH -> bucketStart.plusMonths(1);
+            };
+        }
+    }
+
+    @Schema(description = "구간별 리마인더 발송 통계")
     @Getter
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
     public static class DailyReminderStats {
-        @Schema(description = "날짜 (YYYY-MM-DD)", example = "2025-11-11")
+        @Schema(description = "구간 시작일 (YYYY-MM-DD)", example = "2025-11-11")
         private String date;
 
         @Schema(description = "발송 성공 건수", example = "5")
@@ -191,6 +191,9 @@ public class UserDto {
 
         @Schema(description = "알림 시간 (HH:mm 형식)", example = "09:00")
         private String reminderTime;
+
+        @Schema(description = "시간대 (IANA ID)", example = "Asia/Seoul")
+        private String timeZone;
     }
 
     /**
@@ -207,6 +210,9 @@ public class UserDto {
 
         @Schema(description = "알림 시간 (HH:mm 형식)", example = "09:00")
         private String reminderTime;
+
+        @Schema(description = "시간대 (IANA ID)", example = "Asia/Seoul")
+        private String timeZone;
     }
 
     /**
@@ -17,7 +17,8 @@ import lombok.*;
 public class AIRecommendation extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_recommendations_seq_generator")
+    @SequenceGenerator(name = "ai_recommendations_seq_generator", sequenceName = "ai_recommendations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,9 +1,11 @@
 package com.daymemory.domain.entity;
 
+import com.daymemory.util.LunarCalendar;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,7 +26,8 @@ import java.util.List;
 public class Event extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq_generator")
+    @SequenceGenerator(name = "events_seq_generator", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,6 +58,12 @@ public class Event extends BaseEntity {
     @Builder.Default
     private Boolean isRecurring = false;
 
+    // 반복 주기 (eventDate가 첫 발생일, 이후 발생일은 행을 복사하지 않고 조회 시점에 계산)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence_rule", nullable = false, length = 20)
+    @Builder.Default
+    private RecurrenceRule recurrenceRule = RecurrenceRule.NONE;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean isActive = true;
@@ -104,6 +113,88 @@ public class Event extends BaseEntity {
         CUSTOM              // 사용자 정의
     }
 
+    /**
+     * 반복 주기
+     * 발생일은 항상 첫 발생일(eventDate)에서 n주기를 더해 계산하므로, 짧은 달/평년에 날짜가 당겨져도 다음 주기에 원래 날짜로 돌아온다.
+     * (2월 29일 → 평년은 2월 28일, 매월 31일 → 짧은 달은 말일)
+     * 음력 반복은 첫 발생일의 음력 월/일을 매년 양력으로 환산한다 (윤달은 평달, 30일이 없는 달은 29일, 2100년까지).
+     */
+    public enum RecurrenceRule {
+        NONE(null),                     // 반복 안 함
+        YEARLY(ChronoUnit.YEARS),       // 매년
+        MONTHLY(ChronoUnit.MONTHS),     // 매월
+        LUNAR_YEARLY(ChronoUnit.YEARS); // 매년 (음력)
+
+        private final ChronoUnit unit;
+
+        RecurrenceRule(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        // 첫 발생일로부터 n번째 발생일 (음력 환산 범위를 벗어나면 null)
+        LocalDate occurrence(LocalDate anchor, long n) {
+            if (unit == null || n == 0) {
+                return anchor;
+            }
+            return this == LUNAR_YEARLY ? LunarCalendar.plusLunarYears(anchor, n) : anchor.plus(n, unit);
+        }
+    }
+
+    // 반복 규칙 (규칙 없이 isRecurring만 켜진 이벤트는 매년 반복)
+    public RecurrenceRule recurrence() {
+        if (!Boolean.TRUE.equals(isRecurring)) {
+            return RecurrenceRule.NONE;
+        }
+        return recurrenceRule == RecurrenceRule.NONE ? RecurrenceRule.YEARLY : recurrenceRule;
+    }
+
+    /**
+     * from 이후(당일 포함) 첫 발생일 (반복하지 않는 이벤트가 이미 지났으면 null)
+     */
+    public LocalDate nextOccurrence(LocalDate from) {
+        RecurrenceRule rule = recurrence();
+        long n = firstPeriodFrom(from, rule);
+        return n < 0 ? null : rule.occurrence(eventDate, n);
+    }
+
+    /**
+     * [start, end] 구간의 발생일 (날짜순)
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate start, LocalDate end) {
+        List<LocalDate> occurrences = new ArrayList<>();
+        RecurrenceRule rule = recurrence();
+        long n = firstPeriodFrom(start, rule);
+        if (n < 0) {
+            return occurrences;
+        }
+        LocalDate occurrence = rule.occurrence(eventDate, n);
+        while (occurrence != null && !occurrence.isAfter(end)) {
+            occurrences.add(occurrence);
+            if (rule == RecurrenceRule.NONE) {
+                break;
+            }
+            occurrence = rule.occurrence(eventDate, ++n);
+        }
+        return occurrences;
+    }
+
+    // from 이후 첫 발생일의 주기 번호 (없으면 -1)
+    private long firstPeriodFrom(LocalDate from, RecurrenceRule rule) {
+        if (!eventDate.isBefore(from)) {
+            return 0;
+        }
+        if (rule == RecurrenceRule.NONE) {
+            return -1;
+        }
+        // 말일 보정으로 당겨진 발생일(음력은 양력 날짜가 해마다 달라짐)은 from보다 앞설 수 있어 다음 주기로 넘긴다
+        long n = rule.unit.between(eventDate, from);
+        LocalDate occurrence = rule.occurrence(eventDate, n);
+        while (occurrence != null && occurrence.isBefore(from)) {
+            occurrence = rule.occurrence(eventDate, ++n);
+        }
+        return occurrence == null ? -1 : n;
+    }
+
     public void update(String title, String description, String recipientName, String relationship,
                       LocalDate eventDate, EventType eventType, Boolean isRecurring) {
         this.title = title;
@@ -113,6 +204,19 @@ public class Event extends BaseEntity {
         this.eventDate = eventDate;
         this.eventType = eventType;
         this.isRecurring = isRecurring;
+        if (!Boolean.TRUE.equals(isRecurring)) {
+            this.recurrenceRule = RecurrenceRule.NONE;
+        }
+    }
+
+    // 음력 반복 이벤트의 음력 날짜 (그 외에는 null)
+    public LunarCalendar.LunarDate lunarDate() {
+        return recurrence() == RecurrenceRule.LUNAR_YEARLY ? LunarCalendar.fromSolar(eventDate) : null;
+    }
+
+    public void changeRecurrence(RecurrenceRule recurrenceRule) {
+        this.recurrenceRule = recurrenceRule;
+        this.isRecurring = recurrenceRule != RecurrenceRule.NONE;
     }
 
     public void toggleTracking() {
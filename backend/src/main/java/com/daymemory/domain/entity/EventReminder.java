@@ -16,7 +16,8 @@ import lombok.*;
 public class EventReminder extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_reminders_seq_generator")
+    @SequenceGenerator(name = "event_reminders_seq_generator", sequenceName = "event_reminders_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
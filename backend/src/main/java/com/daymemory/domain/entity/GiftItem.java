@@ -18,7 +18,8 @@ import lombok.*;
 public class GiftItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "gift_items_seq_generator")
+    @SequenceGenerator(name = "gift_items_seq_generator", sequenceName = "gift_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,87 @@
+package com.daymemory.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 작업 체크포인트 (작업 실행 1건당 1행)
+ * 실행은 (job_name, job_key)로 구분하고 (예: 리마인더 발송일), 청크를 커밋할 때마다 같은 트랜잭션에서
+ * 마지막으로 처리한 키(last_key)와 처리량을 갱신한다. 중단 후 같은 실행을 다시 시작하면 last_key 다음부터 이어서 처리한다.
+ * 갱신은 JobCheckpointRepository의 UPDATE 쿼리로만 처리한다.
+ */
+@Entity
+@Table(name = "job_checkpoints", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_job_checkpoints_job_key", columnNames = {"job_name", "job_key"})
+}, indexes = {
+    @Index(name = "idx_job_checkpoints_updated", columnList = "updated_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_checkpoints_seq_generator")
+    @SequenceGenerator(name = "job_checkpoints_seq_generator", sequenceName = "job_checkpoints_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    // 실행 구분 키 (같은 키로 다시 실행하면 이어서 처리)
+    @Column(name = "job_key", nullable = false, length = 200)
+    private String jobKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.RUNNING;
+
+    // 마지막으로 커밋한 청크의 마지막 키 (키셋 커서)
+    @Column(name = "last_key", nullable = false)
+    @Builder.Default
+    private Long lastKey = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer chunks = 0;
+
+    @Column(name = "rows_read", nullable = false)
+    @Builder.Default
+    private Long rowsRead = 0L;
+
+    @Column(name = "rows_written", nullable = false)
+    @Builder.Default
+    private Long rowsWritten = 0L;
+
+    // 청크 처리 시간 합계 (평균 처리량 계산용)
+    @Column(name = "elapsed_millis", nullable = false)
+    @Builder.Default
+    private Long elapsedMillis = 0L;
+
+    // 마지막 청크의 처리량
+    @Column(name = "last_chunk_rows", nullable = false)
+    @Builder.Default
+    private Integer lastChunkRows = 0;
+
+    @Column(name = "last_chunk_millis", nullable = false)
+    @Builder.Default
+    private Long lastChunkMillis = 0L;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public enum Status {
+        RUNNING,    // 실행 중 또는 중단됨 (다시 실행하면 last_key부터 이어서 처리)
+        COMPLETED   // 마지막 청크까지 처리 완료
+    }
+}
@@ -0,0 +1,33 @@
+package com.daymemory.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 임대(lease)
+ * 작업마다 1행, locked_until(UTC)까지 owner 인스턴스만 작업을 실행한다.
+ * 획득/반납은 JobLeaseRepository의 원자적 UPSERT로만 처리한다.
+ */
+@Entity
+@Table(name = "job_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobLease {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(nullable = false, length = 200)
+    private String owner;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "acquired_at", nullable = false)
+    private LocalDateTime acquiredAt;
+}
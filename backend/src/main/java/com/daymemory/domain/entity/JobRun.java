@@ -0,0 +1,73 @@
+package com.daymemory.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 이력 (임대를 얻어 실제로 실행한 경우만 기록)
+ */
+@Entity
+@Table(name = "job_runs", indexes = {
+    @Index(name = "idx_job_runs_job_started", columnList = "job_name, started_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_runs_seq_generator")
+    @SequenceGenerator(name = "job_runs_seq_generator", sequenceName = "job_runs_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    // 실행한 인스턴스 ID
+    @Column(nullable = false, length = 200)
+    private String owner;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private JobStatus status = JobStatus.RUNNING;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "rows_processed", nullable = false)
+    @Builder.Default
+    private Long rowsProcessed = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer failures = 0;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    public enum JobStatus {
+        RUNNING,    // 실행 중
+        SUCCEEDED,  // 완료
+        FAILED      // 예외로 중단
+    }
+
+    public void succeed(long rowsProcessed, int failures) {
+        this.status = JobStatus.SUCCEEDED;
+        this.rowsProcessed = rowsProcessed;
+        this.failures = failures;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = JobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,75 @@
+package com.daymemory.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 아웃박스
+ * 호출자는 트랜잭션 안에서 행을 적재만 하고, MailOutboxDispatcher가 백그라운드 워커 풀로 SMTP 발송한다.
+ */
+@Entity
+@Table(name = "mail_outbox", indexes = {
+    @Index(name = "idx_mail_outbox_status_id", columnList = "status, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_outbox_seq_generator")
+    @SequenceGenerator(name = "mail_outbox_seq_generator", sequenceName = "mail_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    // 리마인더 메일인 경우 발송 결과를 반영할 로그
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reminder_log_id")
+    private ReminderLog reminderLog;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private MailStatus status = MailStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "last_attempt_at")
+    private LocalDateTime lastAttemptAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    // 재시도 가능한 실패 후 다음 발송 시각 (이 시각 전에는 선점하지 않는다, NULL이면 바로 발송)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    public enum MailStatus {
+        PENDING,    // 발송 대기
+        SENDING,    // 워커가 발송 중
+        SENT,       // 발송 완료
+        FAILED      // 최대 재시도 초과 또는 영구 실패 (수신자 거부, 5xx)
+    }
+
+    public void markSending() {
+        this.status = MailStatus.SENDING;
+        this.attempts = this.attempts + 1;
+        this.lastAttemptAt = LocalDateTime.now();
+    }
+}
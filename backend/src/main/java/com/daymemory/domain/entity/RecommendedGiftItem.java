@@ -15,7 +15,8 @@ import lombok.*;
 public class RecommendedGiftItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recommended_gift_items_seq_generator")
+    @SequenceGenerator(name = "recommended_gift_items_seq_generator", sequenceName = "recommended_gift_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,48 @@
+package com.daymemory.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 일일 리마인더 발송 집계 (사용자, 날짜당 1행)
+ * 리마인더 로그가 SENT/FAILED로 바뀔 때 같은 트랜잭션에서 ReminderDailyStatRepository의 UPSERT로 누적한다.
+ * 대시보드/발송 통계는 전체 로그를 훑지 않고 사용자의 최근 N일 행만 읽는다.
+ * 실패는 자동 재발송을 모두 소진했거나 재발송 의미가 없어져 SUPERSEDED된 최종 실패만 센다 (재시도 중의 실패는 세지 않는다).
+ * 결과가 난 시점 기준으로 세므로, 최종 실패 후 수동 재발송에 성공한 리마인더는 실패 1건 + 성공 1건으로 남는다.
+ */
+@Entity
+@Table(name = "reminder_daily_stats", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_reminder_daily_stats_user_date", columnNames = {"user_id", "stat_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReminderDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reminder_daily_stats_seq_generator")
+    @SequenceGenerator(name = "reminder_daily_stats_seq_generator", sequenceName = "reminder_daily_stats_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "sent_count", nullable = false)
+    @Builder.Default
+    private Integer sentCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private Integer failedCount = 0;
+
+    // 그날 마지막으로 발송에 성공한 시각
+    @Column(name = "last_sent_at")
+    private LocalDateTime lastSentAt;
+}
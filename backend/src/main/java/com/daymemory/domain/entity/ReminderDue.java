@@ -0,0 +1,51 @@
+package com.daymemory.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 리마인더 발송 예정일 프로젝션
+ * 이벤트 리마인더 1건당 1행, fire_date(= 이벤트 날짜 - daysBeforeEvent)로 "오늘 발송할 리마인더"를 인덱스 범위 조회한다.
+ * 활성 + 추적 중인 이벤트의 활성 리마인더만 보관하며, EventService가 변경 시마다 동기화한다.
+ */
+@Entity
+@Table(name = "reminder_due",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reminder_due_event_days", columnNames = {"event_id", "days_before_event"})
+    },
+    indexes = {
+        @Index(name = "idx_reminder_due_fire_date", columnList = "fire_date, id"),
+        @Index(name = "idx_reminder_due_user_fire_date", columnList = "user_id, fire_date")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReminderDue {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reminder_due_seq_generator")
+    @SequenceGenerator(name = "reminder_due_seq_generator", sequenceName = "reminder_due_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    // 사용자별 조회(대시보드)를 위한 비정규화 컬럼
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "days_before_event", nullable = false)
+    private Integer daysBeforeEvent;
+
+    @Column(name = "fire_date", nullable = false)
+    private LocalDate fireDate;
+
+    // 반복 이벤트의 다음 발생일 기준으로 발송일 이동
+    public void reschedule(LocalDate fireDate) {
+        this.fireDate = fireDate;
+    }
+}
@@ -3,11 +3,15 @@ package com.daymemory.domain.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "reminder_logs", indexes = {
-    @Index(name = "idx_event_days_sent", columnList = "event_id, days_before_event, sent_at")
+    @Index(name = "idx_event_days_sent", columnList = "event_id, days_before_event, sent_at"),
+    @Index(name = "idx_reminder_logs_status_retry", columnList = "status, next_retry_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_reminder_logs_idempotency_key", columnNames = "idempotency_key")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,7 +20,8 @@ import java.time.LocalDateTime;
 public class ReminderLog extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reminder_logs_seq_generator")
+    @SequenceGenerator(name = "reminder_logs_seq_generator", sequenceName = "reminder_logs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,12 +40,61 @@ public class ReminderLog extends BaseEntity {
     @Builder.Default
     private ReminderStatus status = ReminderStatus.SENT;
 
+    // 일일 발송 멱등 키 (이벤트:일수:발송일) - 실패 시 해제되어 재발송 가능
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    // 발송일 (멱등 키의 날짜) - 실패로 해제된 키를 재발송 때 다시 만들 때 사용
+    @Column(name = "fire_date")
+    private LocalDate fireDate;
+
+    // 재발송 횟수 (재발송은 새 로그를 만들지 않고 이 로그를 다시 대기 상태로 돌린다)
+    @Column(name = "retry_count", nullable = false)
+    @Builder.Default
+    private Integer retryCount = 0;
+
+    // 다음 자동 재발송 시각 (NULL이면 아직 백오프가 잡히지 않은 실패 로그)
+    @Column(name = "next_retry_at")
+    private LocalDateTime nextRetryAt;
+
     public enum ReminderStatus {
+        PENDING,    // 메일 아웃박스에 적재됨 (발송 대기)
         SENT,
-        FAILED
+        FAILED,
+        SUPERSEDED  // 재발송 의미가 없어져 재시도 대상에서 제외됨 (지난 이벤트, 알림 해제 등)
     }
 
     public void markAsFailed() {
         this.status = ReminderStatus.FAILED;
+        this.idempotencyKey = null;
+        this.nextRetryAt = null;
+    }
+
+    public void scheduleRetry(LocalDateTime retryAt) {
+        this.nextRetryAt = retryAt;
+    }
+
+    public void supersede() {
+        this.status = ReminderStatus.SUPERSEDED;
+        this.nextRetryAt = null;
+    }
+
+    public static String idempotencyKey(Long eventId, int daysBeforeEvent, LocalDate fireDate) {
+        return eventId + ":" + daysBeforeEvent + ":" + fireDate;
+    }
+
+    // 재발송 시 다시 선점할 멱등 키
+    public String retryIdempotencyKey() {
+        return idempotencyKey(event.getId(), daysBeforeEvent, effectiveFireDate());
+    }
+
+    // 이 리마인더가 알린 발생일 (발송일 + 일수)
+    public LocalDate occurrenceDate() {
+        return effectiveFireDate().plusDays(daysBeforeEvent);
+    }
+
+    // 발송일이 없는 이전 로그는 발송 시각의 날짜
+    private LocalDate effectiveFireDate() {
+        return fireDate != null ? fireDate : sentAt.toLocalDate();
     }
 }
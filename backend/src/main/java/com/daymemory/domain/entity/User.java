@@ -3,11 +3,15 @@ package com.daymemory.domain.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_reminder_slot", columnList = "time_zone, reminder_time"),
+    @Index(name = "idx_users_reminder_slot_changed", columnList = "reminder_slot_changed")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -15,6 +19,9 @@ import java.util.List;
 @Builder
 public class User extends BaseEntity {
 
+    public static final LocalTime DEFAULT_REMINDER_TIME = LocalTime.of(9, 0);
+    public static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -55,6 +62,21 @@ public class User extends BaseEntity {
     @Builder.Default
     private NotificationMethod notificationMethod = NotificationMethod.EMAIL;
 
+    // 리마인더 발송 시각 (timeZone 기준 현지 시각, 분 단위)
+    @Column(name = "reminder_time", nullable = false)
+    @Builder.Default
+    private LocalTime reminderTime = DEFAULT_REMINDER_TIME;
+
+    // IANA 시간대 ID (예: Asia/Seoul)
+    @Column(name = "time_zone", nullable = false, length = 64)
+    @Builder.Default
+    private String timeZone = DEFAULT_TIME_ZONE;
+
+    // 발송 시각/시간대/수신 여부가 바뀌어 리마인더 타이밍 휠에 아직 반영되지 않음 (임대 보유 인스턴스가 확인 후 해제)
+    @Column(name = "reminder_slot_changed", nullable = false)
+    @Builder.Default
+    private Boolean reminderSlotChanged = true;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Event> events = new ArrayList<>();
@@ -1,13 +1,18 @@
 package com.daymemory.domain.repository;
 
+import com.daymemory.domain.dto.RecommendationExportRow;
 import com.daymemory.domain.entity.AIRecommendation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AIRecommendationRepository extends JpaRepository<AIRecommendation, Long> {
@@ -26,4 +31,14 @@ public interface AIRecommendationRepository extends JpaRepository<AIRecommendati
            "LEFT JOIN FETCH r.event " +
            "WHERE r.id = :recommendationId")
     Optional<AIRecommendation> findByIdWithUserAndEvent(@Param("recommendationId") Long recommendationId);
+
+    // 데이터 내보내기: 추천 요청을 커서(fetch size)로 흘려 읽는다 (트랜잭션 안에서 닫을 것)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.daymemory.domain.dto.RecommendationExportRow(r.id, e.id, r.eventTitle, r.recipientName, " +
+           "r.recipientGender, r.recipientAge, r.budget, r.preferredCategories, r.additionalMessage, " +
+           "r.daysUntilEvent, r.status, r.createdAt) " +
+           "FROM AIRecommendation r LEFT JOIN r.event e " +
+           "WHERE r.user.id = :userId " +
+           "ORDER BY r.id ASC")
+    Stream<RecommendationExportRow> streamExportRowsByUserId(@Param("userId") Long userId);
 }
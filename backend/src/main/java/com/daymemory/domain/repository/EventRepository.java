@@ -1,18 +1,25 @@
 package com.daymemory.domain.repository;
 
+import com.daymemory.domain.dto.EventReminderRow;
+import com.daymemory.domain.dto.EventRow;
 import com.daymemory.domain.entity.Event;
 import com.daymemory.domain.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
 
     // N+1 문제 방지: User만 fetch join
     @Query("SELECT DISTINCT e FROM Event e " +
@@ -33,6 +40,43 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     List<Event> findByUserIdAndEventTypeAndIsActiveTrue(@Param("userId") Long userId,
                                                          @Param("eventType") Event.EventType eventType);
 
+    // 목록 조회용 프로젝션: 엔티티를 만들지 않고 필요한 컬럼만 읽는다 (리마인더는 findReminderRowsByUserId로 한 번에)
+    @Query("SELECT new com.daymemory.domain.dto.EventRow(e.id, e.title, e.description, e.recipientName, " +
+           "e.relationship, e.eventDate, e.eventType, e.isRecurring, e.recurrenceRule, e.isActive, e.isTracking) " +
+           "FROM Event e " +
+           "WHERE e.user.id = :userId AND e.isActive = true " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventRow> findRowsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.daymemory.domain.dto.EventRow(e.id, e.title, e.description, e.recipientName, " +
+           "e.relationship, e.eventDate, e.eventType, e.isRecurring, e.recurrenceRule, e.isActive, e.isTracking) " +
+           "FROM Event e " +
+           "WHERE e.user.id = :userId AND e.eventType = :eventType AND e.isActive = true " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventRow> findRowsByUserIdAndEventType(@Param("userId") Long userId,
+                                                @Param("eventType") Event.EventType eventType);
+
+    // 사용자의 활성 이벤트 리마인더 전체를 한 문장으로 (이벤트별 지연 로딩 N+1 대신)
+    @Query("SELECT new com.daymemory.domain.dto.EventReminderRow(r.event.id, r.id, r.daysBeforeEvent, r.isActive) " +
+           "FROM EventReminder r " +
+           "WHERE r.event.user.id = :userId AND r.event.isActive = true " +
+           "ORDER BY r.id ASC")
+    List<EventReminderRow> findReminderRowsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.daymemory.domain.dto.EventReminderRow(r.event.id, r.id, r.daysBeforeEvent, r.isActive) " +
+           "FROM EventReminder r " +
+           "WHERE r.event.user.id = :userId AND r.event.eventType = :eventType AND r.event.isActive = true " +
+           "ORDER BY r.id ASC")
+    List<EventReminderRow> findReminderRowsByUserIdAndEventType(@Param("userId") Long userId,
+                                                                @Param("eventType") Event.EventType eventType);
+
+    // 페이지에 담긴 이벤트의 리마인더만 (키셋 페이지 조회용)
+    @Query("SELECT new com.daymemory.domain.dto.EventReminderRow(r.event.id, r.id, r.daysBeforeEvent, r.isActive) " +
+           "FROM EventReminder r " +
+           "WHERE r.event.id IN :eventIds " +
+           "ORDER BY r.id ASC")
+    List<EventReminderRow> findReminderRowsByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
     // 반복 이벤트 조회 (지난 이벤트 포함)
     @Query("SELECT DISTINCT e FROM Event e " +
            "LEFT JOIN FETCH e.user " +
@@ -40,22 +84,41 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     List<Event> findByUserIdAndIsRecurringTrue(@Param("userId") Long userId);
 
     // N+1 문제 방지: User와 Reminders를 fetch join
+    // 반복 이벤트는 첫 발생일이 endDate 이전이면 모두 조회 (구간 내 발생일은 Event.occurrencesBetween으로 계산)
     @Query("SELECT DISTINCT e FROM Event e " +
            "LEFT JOIN FETCH e.user " +
            "LEFT JOIN FETCH e.reminders " +
            "WHERE e.user.id = :userId AND e.isActive = true " +
-           "AND e.eventDate BETWEEN :startDate AND :endDate " +
+           "AND ((e.isRecurring = false AND e.eventDate BETWEEN :startDate AND :endDate) " +
+           "  OR (e.isRecurring = true AND e.eventDate <= :endDate)) " +
            "ORDER BY e.eventDate ASC")
     List<Event> findUpcomingEvents(@Param("userId") Long userId,
                                    @Param("startDate") LocalDate startDate,
                                    @Param("endDate") LocalDate endDate);
 
+    // 통계: 반복하지 않는 이벤트의 (연, 월, 타입)별 개수 - 엔티티를 읽지 않고 (user_id, event_date) 인덱스 범위에서 집계
+    @Query("SELECT YEAR(e.eventDate), MONTH(e.eventDate), e.eventType, COUNT(e) FROM Event e " +
+           "WHERE e.user.id = :userId AND e.isActive = true AND e.isRecurring = false " +
+           "AND e.eventDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY YEAR(e.eventDate), MONTH(e.eventDate), e.eventType")
+    List<Object[]> countByMonthAndType(@Param("userId") Long userId,
+                                       @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate);
+
+    // 통계: 첫 발생일이 endDate 이전인 반복 이벤트 원본 (구간 내 발생일은 Event.occurrencesBetween으로 계산)
+    @Query("SELECT e FROM Event e " +
+           "WHERE e.user.id = :userId AND e.isActive = true AND e.isRecurring = true " +
+           "AND e.eventDate <= :endDate")
+    List<Event> findRecurringAnchors(@Param("userId") Long userId,
+                                     @Param("endDate") LocalDate endDate);
+
     // N+1 문제 방지: User와 Reminders를 fetch join
+    // 반복 이벤트는 첫 발생일이 targetDate 이전이면 모두 조회 (targetDate가 발생일인지는 호출자가 확인)
     @Query("SELECT DISTINCT e FROM Event e " +
            "LEFT JOIN FETCH e.user " +
            "LEFT JOIN FETCH e.reminders r " +
            "WHERE e.isActive = true AND e.isTracking = true " +
-           "AND e.eventDate = :targetDate " +
+           "AND (e.eventDate = :targetDate OR (e.isRecurring = true AND e.eventDate < :targetDate)) " +
            "AND r.isActive = true")
     List<Event> findEventsByDate(@Param("targetDate") LocalDate targetDate);
 
@@ -75,10 +138,31 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
-    // 모든 반복 이벤트를 Reminders와 함께 조회 (N+1 방지)
-    @Query("SELECT DISTINCT e FROM Event e " +
+    // 청크 단위로 Event를 User와 함께 조회 (N+1 방지)
+    @Query("SELECT e FROM Event e " +
            "LEFT JOIN FETCH e.user " +
-           "LEFT JOIN FETCH e.reminders " +
-           "WHERE e.isRecurring = true AND e.isActive = true")
-    List<Event> findAllRecurringEventsWithReminders();
+           "WHERE e.id IN :eventIds")
+    List<Event> findAllWithUserByIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // 일괄 가져오기 중복 확인: 청크의 제목들로 활성 이벤트의 (제목, 날짜)를 한 번에 조회
+    @Query("SELECT e.title, e.eventDate FROM Event e " +
+           "WHERE e.user.id = :userId AND e.isActive = true AND e.title IN :titles")
+    List<Object[]> findTitleAndDateByUserIdAndTitleIn(@Param("userId") Long userId,
+                                                      @Param("titles") Collection<String> titles);
+
+    // 데이터 내보내기: 비활성 포함 전체 이벤트를 커서(fetch size)로 흘려 읽는다 (트랜잭션 안에서 닫을 것)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.daymemory.domain.dto.EventRow(e.id, e.title, e.description, e.recipientName, " +
+           "e.relationship, e.eventDate, e.eventType, e.isRecurring, e.recurrenceRule, e.isActive, e.isTracking) " +
+           "FROM Event e " +
+           "WHERE e.user.id = :userId " +
+           "ORDER BY e.id ASC")
+    Stream<EventRow> streamExportRowsByUserId(@Param("userId") Long userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.daymemory.domain.dto.EventReminderRow(r.event.id, r.id, r.daysBeforeEvent, r.isActive) " +
+           "FROM EventReminder r " +
+           "WHERE r.event.user.id = :userId " +
+           "ORDER BY r.id ASC")
+    Stream<EventReminderRow> streamExportReminderRowsByUserId(@Param("userId") Long userId);
 }
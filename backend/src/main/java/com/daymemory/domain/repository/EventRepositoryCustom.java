@@ -0,0 +1,20 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.dto.EventRow;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.util.KeysetCursor;
+
+import java.util.List;
+
+public interface EventRepositoryCustom {
+
+    /**
+     * 활성 이벤트 키셋 페이지 조회 ((event_date, id) 순, 반복 이벤트는 첫 발생일 기준)
+     * (user_id, event_date, id) 인덱스 순서로 필요한 컬럼만 프로젝션으로 읽는다 (리마인더는 findReminderRowsByEventIdIn으로 따로).
+     *
+     * @param eventType 타입 필터 (null이면 전체)
+     * @param cursor    이전 페이지 마지막 행 (null이면 첫 페이지)
+     * @param limit     최대 행 수
+     */
+    List<EventRow> findPage(Long userId, Event.EventType eventType, KeysetCursor cursor, boolean ascending, int limit);
+}
@@ -0,0 +1,46 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.dto.EventRow;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventRow> findPage(Long userId, Event.EventType eventType, KeysetCursor cursor, boolean ascending, int limit) {
+        String direction = ascending ? "ASC" : "DESC";
+        String comparison = ascending ? ">" : "<";
+
+        StringBuilder jpql = new StringBuilder("SELECT new com.daymemory.domain.dto.EventRow(e.id, e.title, e.description, " +
+                "e.recipientName, e.relationship, e.eventDate, e.eventType, e.isRecurring, e.recurrenceRule, e.isActive, e.isTracking) " +
+                "FROM Event e WHERE e.user.id = :userId AND e.isActive = true");
+        if (eventType != null) {
+            jpql.append(" AND e.eventType = :eventType");
+        }
+        if (cursor != null) {
+            jpql.append(" AND (e.eventDate ").append(comparison).append(" :cursorDate")
+                .append(" OR (e.eventDate = :cursorDate AND e.id ").append(comparison).append(" :cursorId))");
+        }
+        jpql.append(" ORDER BY e.eventDate ").append(direction).append(", e.id ").append(direction);
+
+        TypedQuery<EventRow> query = entityManager.createQuery(jpql.toString(), EventRow.class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit);
+        if (eventType != null) {
+            query.setParameter("eventType", eventType);
+        }
+        if (cursor != null) {
+            query.setParameter("cursorDate", cursor.dateKey());
+            query.setParameter("cursorId", cursor.id());
+        }
+        return query.getResultList();
+    }
+}
@@ -1,16 +1,21 @@
 package com.daymemory.domain.repository;
 
+import com.daymemory.domain.dto.GiftExportRow;
 import com.daymemory.domain.entity.GiftItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface GiftItemRepository extends JpaRepository<GiftItem, Long> {
+public interface GiftItemRepository extends JpaRepository<GiftItem, Long>, GiftItemRepositoryCustom {
 
     // N+1 문제 방지: User와 Event를 fetch join
     @Query("SELECT DISTINCT g FROM GiftItem g " +
@@ -49,6 +54,9 @@ public interface GiftItemRepository extends JpaRepository<GiftItem, Long> {
            "WHERE g.user.id = :userId AND g.isPurchased = false")
     List<GiftItem> findByUserIdAndIsPurchasedFalse(@Param("userId") Long userId);
 
+    // 미구매 선물 개수 (대시보드, idx_gift_user_purchased 인덱스 조회)
+    long countByUserIdAndIsPurchasedFalse(Long userId);
+
     // 특정 ID의 GiftItem을 User, Event와 함께 조회 (N+1 방지)
     @Query("SELECT DISTINCT g FROM GiftItem g " +
            "LEFT JOIN FETCH g.user " +
@@ -117,4 +125,13 @@ public interface GiftItemRepository extends JpaRepository<GiftItem, Long> {
     List<GiftItem> searchBySimilarity(
             @Param("userId") Long userId,
             @Param("keyword") String keyword);
+
+    // 데이터 내보내기: 선물을 커서(fetch size)로 흘려 읽는다 (트랜잭션 안에서 닫을 것)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.daymemory.domain.dto.GiftExportRow(g.id, e.id, g.name, g.description, g.price, " +
+           "g.estimatedPrice, g.budget, g.url, g.imageUrl, g.category, g.isPurchased, g.createdAt) " +
+           "FROM GiftItem g LEFT JOIN g.event e " +
+           "WHERE g.user.id = :userId " +
+           "ORDER BY g.id ASC")
+    Stream<GiftExportRow> streamExportRowsByUserId(@Param("userId") Long userId);
 }
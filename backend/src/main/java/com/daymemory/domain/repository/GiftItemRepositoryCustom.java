@@ -0,0 +1,20 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.GiftItem;
+import com.daymemory.util.KeysetCursor;
+
+import java.util.List;
+
+public interface GiftItemRepositoryCustom {
+
+    /**
+     * 선물 키셋 페이지 조회 ((created_at, id) 순, 이벤트 fetch join)
+     *
+     * @param isPurchased 구매 상태 필터 (null이면 전체)
+     * @param category    카테고리 필터 (null이면 전체)
+     * @param cursor      이전 페이지 마지막 행 (null이면 첫 페이지)
+     * @param limit       최대 행 수
+     */
+    List<GiftItem> findPage(Long userId, Boolean isPurchased, GiftItem.GiftCategory category,
+                            KeysetCursor cursor, boolean ascending, int limit);
+}
@@ -0,0 +1,51 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.GiftItem;
+import com.daymemory.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+public class GiftItemRepositoryImpl implements GiftItemRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<GiftItem> findPage(Long userId, Boolean isPurchased, GiftItem.GiftCategory category,
+                                   KeysetCursor cursor, boolean ascending, int limit) {
+        String direction = ascending ? "ASC" : "DESC";
+        String comparison = ascending ? ">" : "<";
+
+        // 이벤트는 다대일이라 fetch join해도 행 수가 늘지 않아 LIMIT을 그대로 적용할 수 있다
+        StringBuilder jpql = new StringBuilder("SELECT g FROM GiftItem g LEFT JOIN FETCH g.event WHERE g.user.id = :userId");
+        if (isPurchased != null) {
+            jpql.append(" AND g.isPurchased = :isPurchased");
+        }
+        if (category != null) {
+            jpql.append(" AND g.category = :category");
+        }
+        if (cursor != null) {
+            jpql.append(" AND (g.createdAt ").append(comparison).append(" :cursorCreatedAt")
+                .append(" OR (g.createdAt = :cursorCreatedAt AND g.id ").append(comparison).append(" :cursorId))");
+        }
+        jpql.append(" ORDER BY g.createdAt ").append(direction).append(", g.id ").append(direction);
+
+        TypedQuery<GiftItem> query = entityManager.createQuery(jpql.toString(), GiftItem.class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit);
+        if (isPurchased != null) {
+            query.setParameter("isPurchased", isPurchased);
+        }
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        if (cursor != null) {
+            query.setParameter("cursorCreatedAt", cursor.dateTimeKey());
+            query.setParameter("cursorId", cursor.id());
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.JobCheckpoint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+
+    // 실행 시작: 처음이면 행을 만들고, 이미 있으면 (중단/완료된 실행 재시작) 커서를 유지한 채 RUNNING으로 되돌린다
+    @Modifying
+    @Query(value = "INSERT INTO job_checkpoints (id, job_name, job_key, status, last_key, chunks, rows_read, rows_written, " +
+           "elapsed_millis, last_chunk_rows, last_chunk_millis, started_at, updated_at) " +
+           "VALUES (nextval('job_checkpoints_seq'), :jobName, :jobKey, 'RUNNING', 0, 0, 0, 0, 0, 0, 0, :now, :now) " +
+           "ON CONFLICT (job_name, job_key) DO UPDATE SET " +
+           "status = 'RUNNING', updated_at = EXCLUDED.updated_at, completed_at = NULL",
+           nativeQuery = true)
+    int open(@Param("jobName") String jobName,
+             @Param("jobKey") String jobKey,
+             @Param("now") LocalDateTime now);
+
+    Optional<JobCheckpoint> findByJobNameAndJobKey(String jobName, String jobKey);
+
+    // 청크 커밋: 청크 처리와 같은 트랜잭션에서 커서와 처리량을 갱신
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.lastKey = :lastKey, c.chunks = c.chunks + 1, " +
+           "c.rowsRead = c.rowsRead + :rowsRead, c.rowsWritten = c.rowsWritten + :rowsWritten, " +
+           "c.elapsedMillis = c.elapsedMillis + :elapsedMillis, " +
+           "c.lastChunkRows = :rowsRead, c.lastChunkMillis = :elapsedMillis, c.updatedAt = :now " +
+           "WHERE c.id = :id")
+    int advance(@Param("id") Long id,
+                @Param("lastKey") long lastKey,
+                @Param("rowsRead") int rowsRead,
+                @Param("rowsWritten") long rowsWritten,
+                @Param("elapsedMillis") long elapsedMillis,
+                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.status = com.daymemory.domain.entity.JobCheckpoint.Status.COMPLETED, " +
+           "c.completedAt = :now, c.updatedAt = :now WHERE c.id = :id")
+    int complete(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query("SELECT c FROM JobCheckpoint c ORDER BY c.updatedAt DESC, c.id DESC")
+    List<JobCheckpoint> findRecent(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM JobCheckpoint c WHERE c.updatedAt < :threshold")
+    int deleteUpdatedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,41 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // 임대 획득: 행이 없거나 만료되었거나 이미 내 임대이면 갱신 (1 = 획득, 0 = 다른 인스턴스가 보유 중)
+    // 인스턴스 간 시계 차이를 없애기 위해 DB 시계(UTC)를 기준으로 한다
+    @Modifying
+    @Query(value = "INSERT INTO job_leases (job_name, owner, locked_until, acquired_at) " +
+           "VALUES (:jobName, :owner, " +
+           "(clock_timestamp() AT TIME ZONE 'UTC') + make_interval(secs => :lockAtMostSeconds), " +
+           "clock_timestamp() AT TIME ZONE 'UTC') " +
+           "ON CONFLICT (job_name) DO UPDATE SET " +
+           "owner = EXCLUDED.owner, locked_until = EXCLUDED.locked_until, acquired_at = EXCLUDED.acquired_at " +
+           "WHERE job_leases.locked_until <= EXCLUDED.acquired_at OR job_leases.owner = EXCLUDED.owner",
+           nativeQuery = true)
+    int tryAcquire(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("lockAtMostSeconds") long lockAtMostSeconds);
+
+    // 임대 반납: 획득 시점부터 lockAtLeastSeconds 동안은 유지해 다른 인스턴스의 같은 주기 실행을 막는다
+    @Modifying
+    @Query(value = "UPDATE job_leases SET locked_until = GREATEST(" +
+           "clock_timestamp() AT TIME ZONE 'UTC', acquired_at + make_interval(secs => :lockAtLeastSeconds)) " +
+           "WHERE job_name = :jobName AND owner = :owner",
+           nativeQuery = true)
+    int release(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("lockAtLeastSeconds") long lockAtLeastSeconds);
+
+    List<JobLease> findAllByOrderByJobNameAsc();
+}
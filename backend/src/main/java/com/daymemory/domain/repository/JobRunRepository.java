@@ -0,0 +1,26 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.JobRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    @Query("SELECT r FROM JobRun r ORDER BY r.startedAt DESC, r.id DESC")
+    List<JobRun> findRecent(Pageable pageable);
+
+    @Query("SELECT r FROM JobRun r WHERE r.jobName = :jobName ORDER BY r.startedAt DESC, r.id DESC")
+    List<JobRun> findRecentByJobName(@Param("jobName") String jobName, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM JobRun r WHERE r.startedAt < :threshold")
+    int deleteStartedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,52 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송 대기 메일 선점 (여러 인스턴스/스레드가 같은 행을 가져가지 않도록 SKIP LOCKED, 재시도 대기 중인 메일은 제외)
+    @Query(value = "SELECT * FROM mail_outbox " +
+           "WHERE status = 'PENDING' " +
+           "AND (next_attempt_at IS NULL OR next_attempt_at <= :now) " +
+           "ORDER BY id " +
+           "LIMIT :limit " +
+           "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<MailOutbox> findPendingForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.daymemory.domain.entity.MailOutbox.MailStatus.SENT, m.sentAt = :sentAt, m.lastError = null " +
+           "WHERE m.id = :id")
+    int markSent(@Param("id") Long id, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.lastError = :lastError, m.nextAttemptAt = :nextAttemptAt " +
+           "WHERE m.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("status") MailOutbox.MailStatus status,
+                   @Param("lastError") String lastError,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // SMTP 서킷 브레이커가 열려 발송하지 않은 선점 메일을 대기 상태로 되돌림 (시도 횟수 미차감)
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.daymemory.domain.entity.MailOutbox.MailStatus.PENDING, " +
+           "m.attempts = m.attempts - 1 " +
+           "WHERE m.id IN :ids AND m.status = com.daymemory.domain.entity.MailOutbox.MailStatus.SENDING")
+    int releaseUnsent(@Param("ids") Collection<Long> ids);
+
+    // 워커가 발송 도중 종료된 경우 SENDING 상태로 남은 메일을 다시 대기 상태로 복구
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.daymemory.domain.entity.MailOutbox.MailStatus.PENDING " +
+           "WHERE m.status = com.daymemory.domain.entity.MailOutbox.MailStatus.SENDING AND m.lastAttemptAt < :threshold")
+    int releaseStuck(@Param("threshold") LocalDateTime threshold);
+}
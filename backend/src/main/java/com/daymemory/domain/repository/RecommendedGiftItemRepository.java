@@ -1,12 +1,18 @@
 package com.daymemory.domain.repository;
 
+import com.daymemory.domain.dto.RecommendedGiftExportRow;
 import com.daymemory.domain.entity.RecommendedGiftItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface RecommendedGiftItemRepository extends JpaRepository<RecommendedGiftItem, Long> {
@@ -18,8 +24,24 @@ public interface RecommendedGiftItemRepository extends JpaRepository<Recommended
            "WHERE r.recommendation.id = :recommendationId")
     List<RecommendedGiftItem> findByRecommendationId(@Param("recommendationId") Long recommendationId);
 
+    // 여러 추천의 선물 아이템을 IN 1문장으로 조회 (추천 이력 목록의 N+1 방지)
+    @Query("SELECT r FROM RecommendedGiftItem r " +
+           "LEFT JOIN FETCH r.savedGift " +
+           "WHERE r.recommendation.id IN :recommendationIds " +
+           "ORDER BY r.id ASC")
+    List<RecommendedGiftItem> findByRecommendationIdIn(@Param("recommendationIds") Collection<Long> recommendationIds);
+
     // SavedGift ID로 조회 (deleteGiftItem 최적화)
     @Query("SELECT r FROM RecommendedGiftItem r " +
            "WHERE r.savedGift.id = :savedGiftId")
     List<RecommendedGiftItem> findBySavedGiftId(@Param("savedGiftId") Long savedGiftId);
+
+    // 데이터 내보내기: 사용자의 추천 선물을 커서(fetch size)로 흘려 읽는다 (트랜잭션 안에서 닫을 것)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.daymemory.domain.dto.RecommendedGiftExportRow(r.id, r.recommendation.id, s.id, r.name, " +
+           "r.description, r.category, r.estimatedPrice, r.reason, r.purchaseLink) " +
+           "FROM RecommendedGiftItem r LEFT JOIN r.savedGift s " +
+           "WHERE r.recommendation.user.id = :userId " +
+           "ORDER BY r.id ASC")
+    Stream<RecommendedGiftExportRow> streamExportRowsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,75 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.ReminderDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReminderDailyStatRepository extends JpaRepository<ReminderDailyStat, Long> {
+
+    // 발송 성공 누적: 리마인더 로그의 사용자를 조인으로 찾아 (사용자, 날짜) 행을 만들거나 더한다 (문장 1개)
+    @Modifying
+    @Query(value = "INSERT INTO reminder_daily_stats (id, user_id, stat_date, sent_count, failed_count, last_sent_at) " +
+           "SELECT nextval('reminder_daily_stats_seq'), e.user_id, :statDate, 1, 0, :sentAt " +
+           "FROM reminder_logs rl JOIN events e ON e.id = rl.event_id " +
+           "WHERE rl.id = :reminderLogId " +
+           "ON CONFLICT (user_id, stat_date) DO UPDATE SET " +
+           "sent_count = reminder_daily_stats.sent_count + 1, " +
+           "last_sent_at = GREATEST(reminder_daily_stats.last_sent_at, EXCLUDED.last_sent_at)",
+           nativeQuery = true)
+    int recordSent(@Param("reminderLogId") Long reminderLogId,
+                   @Param("statDate") LocalDate statDate,
+                   @Param("sentAt") LocalDateTime sentAt);
+
+    // 최종 실패 누적 (더 이상 재발송하지 않는 리마인더 1건당 1회)
+    @Modifying
+    @Query(value = "INSERT INTO reminder_daily_stats (id, user_id, stat_date, sent_count, failed_count) " +
+           "SELECT nextval('reminder_daily_stats_seq'), e.user_id, :statDate, 0, 1 " +
+           "FROM reminder_logs rl JOIN events e ON e.id = rl.event_id " +
+           "WHERE rl.id = :reminderLogId " +
+           "ON CONFLICT (user_id, stat_date) DO UPDATE SET " +
+           "failed_count = reminder_daily_stats.failed_count + 1",
+           nativeQuery = true)
+    int recordFailed(@Param("reminderLogId") Long reminderLogId,
+                     @Param("statDate") LocalDate statDate);
+
+    // 발송 실패 누적 - 자동 재발송 횟수를 다 쓴 로그만 센다 (아직 재발송할 실패는 최종 결과가 아니다)
+    @Modifying
+    @Query(value = "INSERT INTO reminder_daily_stats (id, user_id, stat_date, sent_count, failed_count) " +
+           "SELECT nextval('reminder_daily_stats_seq'), e.user_id, :statDate, 0, 1 " +
+           "FROM reminder_logs rl JOIN events e ON e.id = rl.event_id " +
+           "WHERE rl.id = :reminderLogId AND rl.retry_count = :maxRetries " +
+           "ON CONFLICT (user_id, stat_date) DO UPDATE SET " +
+           "failed_count = reminder_daily_stats.failed_count + 1",
+           nativeQuery = true)
+    int recordFailedIfExhausted(@Param("reminderLogId") Long reminderLogId,
+                                @Param("statDate") LocalDate statDate,
+                                @Param("maxRetries") int maxRetries);
+
+    // 사용자의 기간 내 집계를 구간(date_trunc 단위)별로 합산 - 발송이 있는 구간만 구간 시작일 순으로 반환
+    @Query(value = "SELECT CAST(date_trunc(:unit, CAST(s.stat_date AS TIMESTAMP)) AS DATE) AS bucket, " +
+           "SUM(s.sent_count), SUM(s.failed_count) " +
+           "FROM reminder_daily_stats s " +
+           "WHERE s.user_id = :userId AND s.stat_date BETWEEN :startDate AND :endDate " +
+           "GROUP BY bucket ORDER BY bucket",
+           nativeQuery = true)
+    List<Object[]> sumByBucket(@Param("userId") Long userId,
+                               @Param("startDate") LocalDate startDate,
+                               @Param("endDate") LocalDate endDate,
+                               @Param("unit") String unit);
+
+    // 사용자의 기간 내 일일 집계 (기간의 일수만큼만 읽는다)
+    List<ReminderDailyStat> findByUserIdAndStatDateBetweenOrderByStatDateAsc(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // 회원 탈퇴: user_id에 FK가 없으므로 직접 지운다
+    @Modifying
+    @Query("DELETE FROM ReminderDailyStat s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,59 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.ReminderDue;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReminderDueRepository extends JpaRepository<ReminderDue, Long> {
+
+    // 발송 슬롯별 키셋 커서: 해당 (시간대, 발송 시각)을 설정한 사용자의 리마인더만 조회
+    @Query("SELECT rd FROM ReminderDue rd, User u " +
+           "WHERE u.id = rd.userId " +
+           "AND u.timeZone = :timeZone AND u.reminderTime = :reminderTime AND u.reminderEnabled = true " +
+           "AND rd.fireDate = :fireDate AND rd.id > :lastId " +
+           "ORDER BY rd.id ASC")
+    List<ReminderDue> findSlotDueAfter(
+            @Param("fireDate") LocalDate fireDate,
+            @Param("timeZone") String timeZone,
+            @Param("reminderTime") LocalTime reminderTime,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    // 사용자의 특정 발송일 리마인더를 Event와 함께 조회 (N+1 방지)
+    @Query("SELECT rd FROM ReminderDue rd " +
+           "JOIN FETCH rd.event " +
+           "WHERE rd.userId = :userId AND rd.fireDate = :fireDate " +
+           "ORDER BY rd.daysBeforeEvent ASC")
+    List<ReminderDue> findByUserIdAndFireDateWithEvent(
+            @Param("userId") Long userId,
+            @Param("fireDate") LocalDate fireDate);
+
+    // 발송일이 지난 반복 이벤트 리마인더를 Event와 함께 키셋 커서로 조회 (다음 발생일로 이동 대상, today는 모든 시간대에서 지난 날짜 기준)
+    @Query("SELECT rd FROM ReminderDue rd " +
+           "JOIN FETCH rd.event e " +
+           "WHERE rd.fireDate < :today AND e.isRecurring = true AND rd.id > :lastId " +
+           "ORDER BY rd.id ASC")
+    List<ReminderDue> findPassedRecurringAfter(
+            @Param("today") LocalDate today,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ReminderDue rd WHERE rd.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // 회원 탈퇴: 사용자의 발송 예정 리마인더 전체 삭제 (Event에서 cascade되지 않으므로 이벤트 삭제 전에)
+    @Modifying
+    @Query("DELETE FROM ReminderDue rd WHERE rd.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
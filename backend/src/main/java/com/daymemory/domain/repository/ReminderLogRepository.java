@@ -1,17 +1,24 @@
 package com.daymemory.domain.repository;
 
+import com.daymemory.domain.dto.ReminderLogExportRow;
 import com.daymemory.domain.entity.ReminderLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ReminderLogRepository extends JpaRepository<ReminderLog, Long> {
+public interface ReminderLogRepository extends JpaRepository<ReminderLog, Long>, ReminderLogRepositoryCustom {
 
     // N+1 문제 방지: Event를 fetch join
     @Query("SELECT DISTINCT rl FROM ReminderLog rl " +
@@ -19,15 +26,12 @@ public interface ReminderLogRepository extends JpaRepository<ReminderLog, Long>
            "WHERE rl.event.id = :eventId")
     List<ReminderLog> findByEventId(@Param("eventId") Long eventId);
 
-    // 특정 이벤트의 특정 일수의 최근 리마인더 조회
-    @Query("SELECT rl FROM ReminderLog rl " +
-           "WHERE rl.event.id = :eventId " +
-           "AND rl.daysBeforeEvent = :daysBeforeEvent " +
-           "AND rl.sentAt >= :startDate " +
-           "ORDER BY rl.sentAt DESC")
-    Optional<ReminderLog> findRecentReminder(
-            @Param("eventId") Long eventId,
-            @Param("daysBeforeEvent") Integer daysBeforeEvent,
+    // 청크 단위 중복 발송 체크: 기간 내 로그가 있는 (eventId, daysBeforeEvent) 쌍을 한 번에 조회
+    @Query("SELECT rl.event.id, rl.daysBeforeEvent FROM ReminderLog rl " +
+           "WHERE rl.event.id IN :eventIds " +
+           "AND rl.sentAt >= :startDate")
+    List<Object[]> findRecentReminderKeys(
+            @Param("eventIds") Collection<Long> eventIds,
             @Param("startDate") LocalDateTime startDate);
 
     // 특정 기간 동안 발송된 모든 리마인더 조회
@@ -39,10 +43,75 @@ public interface ReminderLogRepository extends JpaRepository<ReminderLog, Long>
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
+    // 리마인더 로그의 사용자 ID (발송 결과 반영 후 사용자 캐시 무효화용)
+    @Query("SELECT DISTINCT rl.event.user.id FROM ReminderLog rl WHERE rl.id IN :ids")
+    List<Long> findUserIdsByIds(@Param("ids") Collection<Long> ids);
+
     // 실패한 리마인더만 조회
     @Query("SELECT DISTINCT rl FROM ReminderLog rl " +
            "LEFT JOIN FETCH rl.event " +
            "WHERE rl.status = 'FAILED' " +
            "AND rl.sentAt >= :afterDate")
     List<ReminderLog> findFailedRemindersAfter(@Param("afterDate") LocalDateTime afterDate);
+
+    // 자동 재발송 대상 실패 로그 (키셋 커서, 이벤트/사용자 fetch join, sentAfter 이전에 발송된 오래된 실패 로그는 제외)
+    @Query("SELECT rl FROM ReminderLog rl " +
+           "JOIN FETCH rl.event e " +
+           "JOIN FETCH e.user " +
+           "WHERE rl.status = com.daymemory.domain.entity.ReminderLog.ReminderStatus.FAILED " +
+           "AND rl.retryCount < :maxRetries " +
+           "AND (rl.nextRetryAt IS NULL OR rl.nextRetryAt <= :now) " +
+           "AND rl.sentAt >= :sentAfter " +
+           "AND rl.id > :lastId " +
+           "ORDER BY rl.id")
+    List<ReminderLog> findRetryableAfter(@Param("now") LocalDateTime now,
+                                         @Param("sentAfter") LocalDateTime sentAfter,
+                                         @Param("maxRetries") int maxRetries,
+                                         @Param("lastId") Long lastId,
+                                         Pageable pageable);
+
+    // 메일 아웃박스 발송 결과 반영
+    @Modifying
+    @Query("UPDATE ReminderLog rl SET rl.status = :status, rl.sentAt = :sentAt " +
+           "WHERE rl.id = :id")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") ReminderLog.ReminderStatus status,
+                     @Param("sentAt") LocalDateTime sentAt);
+
+    // 발송 실패 처리 (멱등 키를 해제해 재발송 허용, 재발송 시각은 ReminderRetryService가 백오프로 다시 잡는다)
+    @Modifying
+    @Query("UPDATE ReminderLog rl SET rl.status = com.daymemory.domain.entity.ReminderLog.ReminderStatus.FAILED, " +
+           "rl.idempotencyKey = null, rl.nextRetryAt = null " +
+           "WHERE rl.id = :id")
+    int markFailed(@Param("id") Long id);
+
+    // 실패 로그 재발송 선점: 아직 FAILED이고 해제된 멱등 키를 다른 로그가 잡지 않았을 때만 키를 다시 잡고 발송 대기로 되돌린다
+    // (동시에 같은 로그를 되돌리면 행 잠금 후 상태 조건이 다시 평가되어 한 쪽만 1행)
+    @Modifying
+    @Query("UPDATE ReminderLog rl SET rl.status = com.daymemory.domain.entity.ReminderLog.ReminderStatus.PENDING, " +
+           "rl.idempotencyKey = :idempotencyKey, rl.retryCount = rl.retryCount + 1, " +
+           "rl.nextRetryAt = null, rl.sentAt = :sentAt " +
+           "WHERE rl.id = :id " +
+           "AND rl.status = com.daymemory.domain.entity.ReminderLog.ReminderStatus.FAILED " +
+           "AND NOT EXISTS (SELECT 1 FROM ReminderLog other WHERE other.idempotencyKey = :idempotencyKey)")
+    int requeueFailed(@Param("id") Long id,
+                      @Param("idempotencyKey") String idempotencyKey,
+                      @Param("sentAt") LocalDateTime sentAt);
+
+    // 아직 FAILED인 로그만 재시도 대상에서 제외 (그 사이 재적재된 로그는 건드리지 않는다)
+    @Modifying
+    @Query("UPDATE ReminderLog rl SET rl.status = com.daymemory.domain.entity.ReminderLog.ReminderStatus.SUPERSEDED, " +
+           "rl.nextRetryAt = null " +
+           "WHERE rl.id = :id " +
+           "AND rl.status = com.daymemory.domain.entity.ReminderLog.ReminderStatus.FAILED")
+    int supersedeIfFailed(@Param("id") Long id);
+
+    // 데이터 내보내기: 사용자 이벤트의 발송 기록을 커서(fetch size)로 흘려 읽는다 (트랜잭션 안에서 닫을 것)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.daymemory.domain.dto.ReminderLogExportRow(rl.id, rl.event.id, rl.daysBeforeEvent, " +
+           "rl.sentAt, rl.status, rl.retryCount) " +
+           "FROM ReminderLog rl " +
+           "WHERE rl.event.user.id = :userId " +
+           "ORDER BY rl.id ASC")
+    Stream<ReminderLogExportRow> streamExportRowsByUserId(@Param("userId") Long userId);
 }
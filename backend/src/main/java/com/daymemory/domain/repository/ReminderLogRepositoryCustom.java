@@ -0,0 +1,17 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.ReminderLog;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ReminderLogRepositoryCustom {
+
+    /**
+     * 발송 대기 로그 일괄 선점 (JDBC 배치 INSERT ... ON CONFLICT DO NOTHING)
+     * 동시/중복 실행이 이미 같은 멱등 키를 적재한 로그는 건너뛴다.
+     *
+     * @return 이번 호출로 적재된 로그의 멱등 키 → 로그 id
+     */
+    Map<String, Long> claimPending(List<ReminderLog> logs);
+}
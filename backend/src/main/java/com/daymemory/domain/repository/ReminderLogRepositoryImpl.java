@@ -0,0 +1,70 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.ReminderLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ReminderLogRepositoryImpl implements ReminderLogRepositoryCustom {
+
+    private static final String INSERT_PENDING_SQL =
+            "INSERT INTO reminder_logs " +
+            "(id, event_id, days_before_event, sent_at, status, idempotency_key, fire_date, created_at, updated_at) " +
+            "VALUES (nextval('reminder_logs_seq'), ?, ?, ?, 'PENDING', ?, ?, ?, ?) " +
+            "ON CONFLICT (idempotency_key) DO NOTHING";
+
+    private static final String SELECT_IDS_SQL =
+            "SELECT id, idempotency_key FROM reminder_logs WHERE idempotency_key IN (:keys)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public Map<String, Long> claimPending(List<ReminderLog> logs) {
+        if (logs.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = new ArrayList<>(logs.size());
+        for (ReminderLog log : logs) {
+            batchArgs.add(new Object[]{
+                    log.getEvent().getId(),
+                    log.getDaysBeforeEvent(),
+                    log.getSentAt(),
+                    log.getIdempotencyKey(),
+                    log.getFireDate(),
+                    now,
+                    now
+            });
+        }
+
+        // 행별 결과: 1 = 적재, 0 = 멱등 키 충돌로 건너뜀
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_PENDING_SQL, batchArgs);
+
+        List<String> claimedKeys = new ArrayList<>();
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i] > 0) {
+                claimedKeys.add(logs.get(i).getIdempotencyKey());
+            }
+        }
+        if (claimedKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Long> idsByKey = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_IDS_SQL, Map.of("keys", claimedKeys),
+                rs -> {
+                    idsByKey.put(rs.getString("idempotency_key"), rs.getLong("id"));
+                });
+        return idsByKey;
+    }
+}
@@ -3,8 +3,11 @@ package com.daymemory.domain.repository;
 import com.daymemory.domain.entity.OAuthProvider;
 import com.daymemory.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +15,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     Optional<User> findByOauthProviderAndOauthProviderId(OAuthProvider oauthProvider, String oauthProviderId);
+
+    // 리마인더 타이밍 휠 구성용: 사용 중인 (시간대, 발송 시각) 조합 [timeZone, reminderTime]
+    @Query("SELECT DISTINCT u.timeZone, u.reminderTime FROM User u WHERE u.reminderEnabled = true")
+    List<Object[]> findReminderSlots();
+
+    // 발송 설정이 바뀐 사용자 표시 해제 (해제한 행이 있으면 휠을 다시 구성)
+    @Modifying
+    @Query("UPDATE User u SET u.reminderSlotChanged = false WHERE u.reminderSlotChanged = true")
+    int clearReminderSlotChanges();
 }
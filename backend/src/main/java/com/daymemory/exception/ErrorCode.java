@@ -13,6 +13,7 @@ public enum ErrorCode {
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "만료된 토큰입니다."),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+    EXPORT_TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "진행 중인 데이터 내보내기가 많습니다. 잠시 후 다시 시도해 주세요."),
 
     // Event
     EVENT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 이벤트를 찾을 수 없습니다."),
@@ -20,7 +21,10 @@ public enum ErrorCode {
     EVENT_TYPE_INVALID(HttpStatus.BAD_REQUEST, "유효하지 않은 이벤트 타입입니다."),
     EVENT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "해당 이벤트에 접근할 권한이 없습니다."),
     EVENT_NOT_RECURRING(HttpStatus.BAD_REQUEST, "반복 이벤트가 아닙니다."),
+    LUNAR_DATE_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "음력 반복은 1900년부터 2100년까지의 날짜만 지원합니다."),
     REMINDER_DAYS_INVALID(HttpStatus.BAD_REQUEST, "리마인더 일수는 1 이상이어야 합니다."),
+    IMPORT_FILE_INVALID(HttpStatus.BAD_REQUEST, "CSV(.csv) 또는 JSON Lines(.jsonl) 파일만 가져올 수 있습니다."),
+    IMPORT_CSV_HEADER_INVALID(HttpStatus.BAD_REQUEST, "CSV 첫 줄에 title, eventDate, eventType 열이 있어야 합니다."),
 
     // Reminder
     REMINDER_NOT_FOUND(HttpStatus.NOT_FOUND, "리마인더를 찾을 수 없습니다."),
@@ -49,6 +53,7 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "유효하지 않은 입력값입니다."),
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "입력값 검증에 실패했습니다."),
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
     SERVER_INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
     DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "데이터베이스 오류가 발생했습니다.");
 
@@ -67,16 +67,26 @@ public class AIRecommendationService {
 
     /**
      * AI 추천 이력 조회 (N+1 문제 방지)
+     * 추천 목록, 추천 선물 아이템(IN 1문장), 사용자 선물을 각각 한 번씩 조회해 추천 수와 무관하게 3문장으로 만든다.
      */
     public List<AIRecommendationDto.RecommendResponse> getRecommendations() {
         Long userId = SecurityUtils.getCurrentUserId();
         List<AIRecommendation> recommendations = aiRecommendationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        if (recommendations.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, List<RecommendedGiftItem>> itemsByRecommendation = recommendedGiftItemRepository
+                .findByRecommendationIdIn(recommendations.stream().map(AIRecommendation::getId).toList())
+                .stream()
+                .collect(java.util.stream.Collectors.groupingBy(item -> item.getRecommendation().getId()));
 
         // 사용자 선물을 한번만 조회 (N+1 방지)
         List<GiftItem> userGifts = giftItemRepository.findByUserId(userId);
 
         return recommendations.stream()
-                .map(recommendation -> convertToResponse(recommendation, userGifts))
+                .map(recommendation -> convertToResponse(recommendation,
+                        itemsByRecommendation.getOrDefault(recommendation.getId(), List.of()), userGifts))
                 .collect(java.util.stream.Collectors.toList());
     }
 
@@ -96,16 +106,16 @@ public class AIRecommendationService {
         // 사용자 선물을 한번만 조회 (N+1 방지)
         List<GiftItem> userGifts = giftItemRepository.findByUserId(currentUserId);
 
-        return convertToResponse(recommendation, userGifts);
+        return convertToResponse(recommendation,
+                recommendedGiftItemRepository.findByRecommendationId(recommendation.getId()), userGifts);
     }
 
     /**
-     * AI 추천을 응답 DTO로 변환 (N+1 방지 - userGifts를 외부에서 주입)
+     * AI 추천을 응답 DTO로 변환 (N+1 방지 - 추천 선물 아이템과 userGifts를 외부에서 주입)
      */
-    private AIRecommendationDto.RecommendResponse convertToResponse(AIRecommendation recommendation, List<GiftItem> userGifts) {
-        // 추천된 선물 아이템 조회 (이미 fetch join으로 조회됨)
-        List<RecommendedGiftItem> recommendedItems = recommendedGiftItemRepository.findByRecommendationId(recommendation.getId());
-
+    private AIRecommendationDto.RecommendResponse convertToResponse(AIRecommendation recommendation,
+                                                                    List<RecommendedGiftItem> recommendedItems,
+                                                                    List<GiftItem> userGifts) {
         // 이미 매칭된 GiftItem ID를 추적 (중복 매칭 방지)
         java.util.Set<Long> matchedGiftIds = new java.util.HashSet<>();
 
@@ -218,7 +228,10 @@ public class AIRecommendationService {
 
         Event.EventType eventType = event.getEventType();
         String eventTitle = event.getTitle();
-        int daysUntilEvent = (int) ChronoUnit.DAYS.between(LocalDate.now(), event.getEventDate());
+        // 반복 이벤트는 다가오는 발생일 기준
+        LocalDate today = LocalDate.now();
+        LocalDate occurrence = event.nextOccurrence(today);
+        int daysUntilEvent = (int) ChronoUnit.DAYS.between(today, occurrence != null ? occurrence : event.getEventDate());
         Long userId = event.getUser().getId();
 
         // 컨텍스트 빌드 (이벤트 상세 정보 포함)
@@ -283,20 +296,19 @@ public class AIRecommendationService {
 
         AIRecommendation savedRecommendation = aiRecommendationRepository.save(recommendation);
 
-        // 추천된 선물 아이템 저장
-        for (AIRecommendationDto.GiftRecommendation giftRec : recommendations) {
-            RecommendedGiftItem recommendedGift = RecommendedGiftItem.builder()
-                    .recommendation(savedRecommendation)
-                    .name(giftRec.getName())
-                    .description(giftRec.getDescription())
-                    .category(giftRec.getCategory())
-                    .estimatedPrice(giftRec.getEstimatedPrice())
-                    .reason(giftRec.getReason())
-                    .purchaseLink(giftRec.getPurchaseLink())
-                    .build();
-
-            recommendedGiftItemRepository.save(recommendedGift);
-        }
+        // 추천된 선물 아이템 저장 (시퀀스 ID로 한 번의 JDBC 배치 INSERT)
+        List<RecommendedGiftItem> recommendedGifts = recommendations.stream()
+                .map(giftRec -> RecommendedGiftItem.builder()
+                        .recommendation(savedRecommendation)
+                        .name(giftRec.getName())
+                        .description(giftRec.getDescription())
+                        .category(giftRec.getCategory())
+                        .estimatedPrice(giftRec.getEstimatedPrice())
+                        .reason(giftRec.getReason())
+                        .purchaseLink(giftRec.getPurchaseLink())
+                        .build())
+                .collect(java.util.stream.Collectors.toList());
+        recommendedGiftItemRepository.saveAll(recommendedGifts);
 
         log.info("Saved recommendation to database: id={}, event={}", savedRecommendation.getId(), event.getTitle());
 
@@ -313,7 +325,7 @@ public class AIRecommendationService {
         context.append("=== 이벤트 정보 ===\n");
         context.append("이벤트 제목: ").append(event.getTitle()).append("\n");
         context.append("이벤트 유형: ").append(getEventTypeDescription(event.getEventType())).append("\n");
-        context.append("이벤트 날짜: ").append(event.getEventDate()).append("\n");
+        context.append("이벤트 날짜: ").append(LocalDate.now().plusDays(daysUntilEvent)).append("\n");
 
         // D-day 정보
         if (daysUntilEvent > 0) {
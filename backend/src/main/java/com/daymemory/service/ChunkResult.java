@@ -0,0 +1,26 @@
+package com.daymemory.service;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 청크 1개 처리 결과 (읽은 건수, 반영한 건수, 청크의 마지막 키)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChunkResult {
+
+    private final int rowsRead;
+    private final long rowsWritten;
+    private final long lastKey;
+
+    public static ChunkResult of(int rowsRead, long rowsWritten, long lastKey) {
+        return new ChunkResult(rowsRead, rowsWritten, lastKey);
+    }
+
+    // 더 읽을 행이 없음 (커서 유지)
+    public static ChunkResult empty(long lastKey) {
+        return new ChunkResult(0, 0, lastKey);
+    }
+}
@@ -3,143 +3,190 @@ package com.daymemory.service;
 import com.daymemory.domain.dto.DashboardDto;
 import com.daymemory.domain.dto.EventDto;
 import com.daymemory.domain.entity.Event;
-import com.daymemory.domain.entity.EventReminder;
-import com.daymemory.domain.entity.GiftItem;
-import com.daymemory.domain.entity.ReminderLog;
-import com.daymemory.domain.repository.EventReminderRepository;
+import com.daymemory.domain.entity.ReminderDailyStat;
+import com.daymemory.domain.entity.ReminderDue;
 import com.daymemory.domain.repository.EventRepository;
 import com.daymemory.domain.repository.GiftItemRepository;
-import com.daymemory.domain.repository.ReminderLogRepository;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderDueRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * 대시보드 요약
+ * 서로 독립적인 조회 4개(이벤트, 미구매 선물 개수, 최근 발송 현황, 오늘 리마인더)를 제한된 스레드 풀에서 병렬로 실행하고,
+ * 결과는 UserDataCache에 사용자/날짜별로 캐시한다.
+ * 개수만 필요한 항목은 엔티티를 읽지 않고 COUNT 쿼리나 미리 누적한 일일 발송 집계(reminder_daily_stats)로 구하며,
+ * 각 조회는 저장소의 읽기 트랜잭션에서 끝나므로 엔티티는 fetch join으로 필요한 연관만 읽고 DTO 변환에 지연 로딩을 쓰지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class DashboardService {
 
+    static final String THREAD_PREFIX = "dashboard-";
+
+    private static final int RECENT_REMINDER_DAYS = 7;
+
     private final EventRepository eventRepository;
     private final GiftItemRepository giftItemRepository;
-    private final ReminderLogRepository reminderLogRepository;
-    private final EventReminderRepository eventReminderRepository;
+    private final ReminderDailyStatRepository reminderDailyStatRepository;
+    private final ReminderDueRepository reminderDueRepository;
+    private final UserDataCache userDataCache;
+
+    @Value("${dashboard.fan-out.threads:8}")
+    private int threads;
+
+    @Value("${dashboard.fan-out.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        // 대기열이 차면 요청 스레드에서 직접 실행해 DB 연결 사용량을 스레드 수 이내로 묶는다
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_PREFIX + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
 
     /**
-     * 대시보드 요약 정보 조회
+     * 대시보드 요약 정보 조회 (사용자별 캐시, 미스 시 DB 왕복 4회)
      */
     public DashboardDto getDashboardSummary(Long userId) {
         LocalDate today = LocalDate.now();
-        LocalDate next90Days = today.plusDays(90);
-
-        // 다가오는 이벤트 조회 (90일 이내)
-        List<Event> upcomingEventsList = eventRepository.findUpcomingEvents(userId, today, next90Days);
-
-        // 미구매 선물 조회
-        List<GiftItem> unpurchasedGifts = giftItemRepository.findByUserIdAndIsPurchasedFalse(userId);
-
-        // 최근 리마인더 발송 현황 (최근 7일)
-        DashboardDto.RecentReminderStatus reminderStatus = getRecentReminderStatus();
+        return userDataCache.get(userId, "dashboard:" + today, () -> loadDashboardSummary(userId, today));
+    }
 
-        // 이번 달 이벤트 조회
-        YearMonth currentMonth = YearMonth.now();
+    private DashboardDto loadDashboardSummary(Long userId, LocalDate today) {
+        LocalDate next90Days = today.plusDays(90);
+        YearMonth currentMonth = YearMonth.from(today);
         LocalDate monthStart = currentMonth.atDay(1);
         LocalDate monthEnd = currentMonth.atEndOfMonth();
-        List<Event> thisMonthEvents = eventRepository.findUpcomingEvents(userId, monthStart, monthEnd);
+
+        // 이번 달 1일 ~ 90일 뒤 구간을 한 번에 조회해 다가오는 이벤트와 이번 달 이벤트에 함께 사용
+        CompletableFuture<List<Event>> events = supply(
+                () -> eventRepository.findUpcomingEvents(userId, monthStart, next90Days));
+        CompletableFuture<Long> unpurchasedGiftsCount = supply(
+                () -> giftItemRepository.countByUserIdAndIsPurchasedFalse(userId));
+        CompletableFuture<DashboardDto.RecentReminderStatus> reminderStatus = supply(
+                () -> getRecentReminderStatus(userId, today));
+        CompletableFuture<List<DashboardDto.TodayReminderDto>> todayReminders = supply(
+                () -> getTodayReminders(userId, today));
+
+        // 반복 이벤트는 발생일마다 펼침
+        List<Event> candidates = join(events);
+        List<EventOccurrences.Occurrence> upcomingEventsList = EventOccurrences.expand(candidates, today, next90Days);
+        int thisMonthEventsCount = EventOccurrences.expand(candidates, monthStart, monthEnd).size();
 
         // 모든 다가오는 이벤트 반환 (프론트엔드에서 스크롤 처리)
         List<EventDto.Response> upcomingEventsDto = upcomingEventsList.stream()
-                .map(EventDto.Response::from)
+                .map(occurrence -> EventDto.Response.from(occurrence.event(), occurrence.date()))
                 .collect(Collectors.toList());
 
-        // 오늘 발송 예정인 리마인더 조회
-        List<DashboardDto.TodayReminderDto> todayReminders = getTodayReminders(userId, today);
-
         return DashboardDto.builder()
                 .upcomingEventsCount(upcomingEventsList.size())
-                .unpurchasedGiftsCount(unpurchasedGifts.size())
-                .recentReminderStatus(reminderStatus)
-                .thisMonthEventsCount(thisMonthEvents.size())
+                .unpurchasedGiftsCount(join(unpurchasedGiftsCount).intValue())
+                .recentReminderStatus(join(reminderStatus))
+                .thisMonthEventsCount(thisMonthEventsCount)
                 .upcomingEvents(upcomingEventsDto)
-                .todayReminders(todayReminders)
+                .todayReminders(join(todayReminders))
                 .build();
     }
 
     /**
-     * 최근 리마인더 발송 현황 (최근 7일)
+     * 최근 리마인더 발송 현황 (오늘 포함 최근 7일, 사용자별 일일 발송 집계 최대 7행 합산)
      */
-    private DashboardDto.RecentReminderStatus getRecentReminderStatus() {
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        LocalDateTime now = LocalDateTime.now();
-
-        List<ReminderLog> recentLogs = reminderLogRepository.findRemindersBetweenDates(sevenDaysAgo, now);
-
-        long sentCount = recentLogs.stream()
-                .filter(log -> log.getStatus() == ReminderLog.ReminderStatus.SENT)
-                .count();
-
-        long failedCount = recentLogs.stream()
-                .filter(log -> log.getStatus() == ReminderLog.ReminderStatus.FAILED)
-                .count();
-
-        String lastSentAt = recentLogs.isEmpty()
-                ? "없음"
-                : recentLogs.get(0).getSentAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+    private DashboardDto.RecentReminderStatus getRecentReminderStatus(Long userId, LocalDate today) {
+        List<ReminderDailyStat> stats = reminderDailyStatRepository.findByUserIdAndStatDateBetweenOrderByStatDateAsc(
+                userId, today.minusDays(RECENT_REMINDER_DAYS - 1), today);
+
+        int sentCount = 0;
+        int failedCount = 0;
+        LocalDateTime lastSentAt = null;
+        for (ReminderDailyStat stat : stats) {
+            sentCount += stat.getSentCount();
+            failedCount += stat.getFailedCount();
+            if (stat.getLastSentAt() != null && (lastSentAt == null || stat.getLastSentAt().isAfter(lastSentAt))) {
+                lastSentAt = stat.getLastSentAt();
+            }
+        }
 
         return DashboardDto.RecentReminderStatus.builder()
-                .sentCount((int) sentCount)
-                .failedCount((int) failedCount)
-                .lastSentAt(lastSentAt)
+                .sentCount(sentCount)
+                .failedCount(failedCount)
+                .lastSentAt(lastSentAt == null ? "없음" : lastSentAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
                 .build();
     }
 
     /**
-     * 오늘 발송 예정인 리마인더 조회
+     * 오늘 발송 예정인 리마인더 조회 (reminder_due 프로젝션 인덱스 조회)
      */
     private List<DashboardDto.TodayReminderDto> getTodayReminders(Long userId, LocalDate today) {
-        log.info("getTodayReminders - userId: {}, today: {}", userId, today);
-
-        // 모든 활성 리마인더 조회 후 Java에서 필터링
-        List<EventReminder> allReminders = eventReminderRepository.findActiveRemindersByUserId(userId);
+        List<ReminderDue> dues = reminderDueRepository.findByUserIdAndFireDateWithEvent(userId, today);
 
-        log.info("getTodayReminders - found {} total active reminders", allReminders.size());
-
-        List<DashboardDto.TodayReminderDto> result = allReminders.stream()
-                .filter(reminder -> {
-                    Event event = reminder.getEvent();
-                    long daysUntilEvent = ChronoUnit.DAYS.between(today, event.getEventDate());
-                    // 오늘 발송해야 하는 리마인더 필터링
-                    return daysUntilEvent == reminder.getDaysBeforeEvent();
-                })
-                .map(reminder -> {
-                    Event event = reminder.getEvent();
-                    long daysUntilEvent = ChronoUnit.DAYS.between(today, event.getEventDate());
-
-                    log.info("  - Event: id={}, title={}, eventDate={}, daysBeforeEvent={}, daysUntilEvent={}",
-                            event.getId(), event.getTitle(), event.getEventDate(),
-                            reminder.getDaysBeforeEvent(), daysUntilEvent);
+        log.debug("getTodayReminders - userId: {}, today: {}, found {} reminders", userId, today, dues.size());
 
+        return dues.stream()
+                .map(due -> {
+                    Event event = due.getEvent();
                     return DashboardDto.TodayReminderDto.builder()
                             .eventId(event.getId())
                             .eventTitle(event.getTitle())
                             .recipientName(event.getRecipientName())
-                            .eventDate(event.getEventDate().toString())
-                            .daysUntilEvent((int) daysUntilEvent)
+                            .eventDate(due.getFireDate().plusDays(due.getDaysBeforeEvent()).toString())
+                            .daysUntilEvent(due.getDaysBeforeEvent())
                             .build();
                 })
                 .collect(Collectors.toList());
+    }
 
-        log.info("getTodayReminders - returning {} reminder DTOs", result.size());
+    private <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
 
-        return result;
+    // 조회 중 발생한 예외(CustomException 등)를 그대로 전달
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 }
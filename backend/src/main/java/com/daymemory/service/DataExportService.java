@@ -0,0 +1,322 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.dto.UserDto;
+import com.daymemory.domain.repository.*;
+import com.daymemory.exception.CustomException;
+import com.daymemory.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사용자 데이터 내보내기 (이벤트, 리마인더, 선물, AI 추천, 리마인더 발송 기록)
+ * 각 섹션을 프로젝션 Stream(PostgreSQL 커서, fetch size 500)으로 읽어 곧바로 응답에 쓰므로
+ * 엔티티나 전체 목록을 메모리에 모으지 않고, 계정 크기와 무관하게 메모리 사용량이 일정하다.
+ * 사용자 정보는 스트림을 열기 전에 먼저 써서 첫 바이트가 쿼리 완료를 기다리지 않는다.
+ * 내보내기 하나가 응답이 끝날 때까지 DB 연결 하나를 잡으므로, 동시 실행은 전체 max-concurrent건, 사용자별 1건으로 제한하고
+ * 넘치면 기다리지 않고 429(EXPORT_TOO_MANY_REQUESTS)로 거절한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DataExportService {
+
+    // 이 행 수마다 응답을 flush (gzip은 sync flush로 압축 블록을 내보낸다)
+    static final int FLUSH_EVERY = 500;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final GiftItemRepository giftItemRepository;
+    private final AIRecommendationRepository aiRecommendationRepository;
+    private final RecommendedGiftItemRepository recommendedGiftItemRepository;
+    private final ReminderLogRepository reminderLogRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${export.max-concurrent:4}")
+    private int maxConcurrent;
+
+    // 섹션 스트림 전용 읽기 전용 트랜잭션 (PostgreSQL READ ONLY 트랜잭션, Hibernate flush 생략)
+    private TransactionTemplate readOnlyTransaction;
+    private Semaphore permits;
+    private final Set<Long> exportingUsers = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        permits = new Semaphore(maxConcurrent);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON, "json"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+    }
+
+    /**
+     * 내보내기 응답 본문 생성
+     * 사용자 확인은 호출 시점에 하고(없으면 USER_NOT_FOUND), 데이터는 응답을 쓰는 비동기 스레드에서 읽는다.
+     *
+     * @param gzip true면 본문을 gzip으로 압축 (Content-Encoding: gzip은 호출하는 쪽에서 설정)
+     */
+    public StreamingResponseBody export(Long userId, Format format, boolean gzip) {
+        UserDto.Response profile = userRepository.findById(userId)
+                .map(UserDto.Response::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        acquire(userId);
+
+        return outputStream -> {
+            try {
+                long started = System.nanoTime();
+                GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE, true) : null;
+                OutputStream out = new BufferedOutputStream(gzipStream != null ? gzipStream : outputStream, BUFFER_SIZE);
+                ExportWriter writer = format == Format.JSON ? new JsonExportWriter(objectMapper, out) : new CsvExportWriter(out);
+
+                writer.begin(profile);
+                writer.flush();
+                long rows = writeSections(userId, writer);
+                writer.end();
+                if (gzipStream != null) {
+                    gzipStream.finish();
+                }
+                log.info("Exported {} rows ({}) for user {} in {}ms", rows, format, userId,
+                        (System.nanoTime() - started) / 1_000_000);
+            } finally {
+                release(userId);
+            }
+        };
+    }
+
+    // 사용자별 1건 + 전체 max-concurrent건 (대기하지 않고 바로 거절)
+    private void acquire(Long userId) {
+        if (!exportingUsers.add(userId)) {
+            throw new CustomException(ErrorCode.EXPORT_TOO_MANY_REQUESTS);
+        }
+        if (!permits.tryAcquire()) {
+            exportingUsers.remove(userId);
+            throw new CustomException(ErrorCode.EXPORT_TOO_MANY_REQUESTS);
+        }
+    }
+
+    private void release(Long userId) {
+        permits.release();
+        exportingUsers.remove(userId);
+    }
+
+    // 섹션별 스트림 쿼리는 트랜잭션 안에서만 열 수 있다 (PostgreSQL은 autocommit이 꺼져 있어야 커서로 읽는다)
+    private long writeSections(Long userId, ExportWriter writer) throws IOException {
+        try {
+            Long rows = readOnlyTransaction.execute(status -> {
+                try {
+                    return writeSection(writer, "events", () -> eventRepository.streamExportRowsByUserId(userId))
+                            + writeSection(writer, "reminders", () -> eventRepository.streamExportReminderRowsByUserId(userId))
+                            + writeSection(writer, "gifts", () -> giftItemRepository.streamExportRowsByUserId(userId))
+                            + writeSection(writer, "recommendations", () -> aiRecommendationRepository.streamExportRowsByUserId(userId))
+                            + writeSection(writer, "recommendedGifts", () -> recommendedGiftItemRepository.streamExportRowsByUserId(userId))
+                            + writeSection(writer, "reminderLogs", () -> reminderLogRepository.streamExportRowsByUserId(userId));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return rows != null ? rows : 0;
+        } catch (UncheckedIOException e) {
+            // 대부분 클라이언트가 다운로드를 중단한 경우
+            log.debug("Export aborted for user {}: {}", userId, e.getMessage());
+            throw e.getCause();
+        }
+    }
+
+    private static <T> long writeSection(ExportWriter writer, String name, Supplier<Stream<T>> query) throws IOException {
+        writer.startSection(name);
+        long count = 0;
+        try (Stream<T> rows = query.get()) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.row(iterator.next());
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.endSection();
+        writer.flush();
+        return count;
+    }
+
+    private interface ExportWriter {
+        void begin(UserDto.Response profile) throws IOException;
+
+        void startSection(String name) throws IOException;
+
+        void row(Object row) throws IOException;
+
+        void endSection() throws IOException;
+
+        void end() throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    /**
+     * {"exportedAt", "user", "events": [...], "reminders": [...], ...} 형태의 JSON 문서 하나
+     */
+    private static class JsonExportWriter implements ExportWriter {
+
+        private final JsonGenerator generator;
+
+        JsonExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+            // 응답 스트림은 서블릿 컨테이너가 닫는다
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void begin(UserDto.Response profile) throws IOException {
+            generator.writeStartObject();
+            generator.writeObjectField("exportedAt", LocalDateTime.now());
+            generator.writeObjectField("user", profile);
+        }
+
+        @Override
+        public void startSection(String name) throws IOException {
+            generator.writeArrayFieldStart(name);
+        }
+
+        @Override
+        public void row(Object row) throws IOException {
+            generator.writeObject(row);
+        }
+
+        @Override
+        public void endSection() throws IOException {
+            generator.writeEndArray();
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.writeEndObject();
+            generator.flush();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /**
+     * 섹션마다 헤더 줄을 두는 CSV 하나 (첫 열은 섹션 이름, 섹션 사이는 빈 줄)
+     * 열은 프로젝션 record의 컴포넌트 순서를 따른다.
+     */
+    private static class CsvExportWriter implements ExportWriter {
+
+        private final Writer writer;
+        private String section;
+        private RecordComponent[] columns;
+
+        CsvExportWriter(OutputStream out) {
+            this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void begin(UserDto.Response profile) throws IOException {
+            // 엑셀이 UTF-8로 열도록 BOM
+            writer.write('\uFEFF');
+            line("user", "id", "email", "nickname", "profileImageUrl", "createdAt", "exportedAt");
+            line("user", profile.getId(), profile.getEmail(), profile.getNickname(), profile.getProfileImageUrl(),
+                    profile.getCreatedAt(), LocalDateTime.now());
+        }
+
+        @Override
+        public void startSection(String name) throws IOException {
+            section = name;
+            columns = null;
+            writer.write('\n');
+        }
+
+        @Override
+        public void row(Object row) throws IOException {
+            if (columns == null) {
+                columns = row.getClass().getRecordComponents();
+                Object[] header = new Object[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    header[i] = columns[i].getName();
+                }
+                line(section, header);
+            }
+            Object[] values = new Object[columns.length];
+            try {
+                for (int i = 0; i < columns.length; i++) {
+                    values[i] = columns[i].getAccessor().invoke(row);
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read export row " + row.getClass().getSimpleName(), e);
+            }
+            line(section, values);
+        }
+
+        @Override
+        public void endSection() {
+        }
+
+        @Override
+        public void end() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void line(String first, Object... values) throws IOException {
+            writer.write(first);
+            for (Object value : values) {
+                writer.write(',');
+                writer.write(escape(value));
+            }
+            writer.write('\n');
+        }
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 따옴표는 ""로
+    static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,8 +1,10 @@
 package com.daymemory.service;
 
-import com.daymemory.exception.CustomException;
-import com.daymemory.exception.ErrorCode;
+import com.daymemory.domain.entity.MailOutbox;
+import com.daymemory.domain.entity.ReminderLog;
+import com.daymemory.domain.repository.MailOutboxRepository;
 import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,152 +12,133 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final SmtpTransportPool transportPool;
+    private final MailTemplateRenderer templateRenderer;
+    private final ReminderMetrics reminderMetrics;
+
+    /**
+     * 메일 발송 요청 (아웃박스 적재)
+     * 호출자의 트랜잭션에 참여해 함께 커밋되며, 실제 SMTP 발송은 MailOutboxDispatcher가 비동기로 처리한다.
+     */
+    public MailOutbox enqueue(String to, String subject, String html) {
+        return enqueueReminder(to, subject, html, null);
+    }
+
+    /**
+     * 리마인더 메일 발송 요청 (발송 결과를 reminderLog에 반영)
+     */
+    public MailOutbox enqueueReminder(String to, String subject, String html, ReminderLog reminderLog) {
+        MailOutbox message = MailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(html)
+                .reminderLog(reminderLog)
+                .build();
 
-    public void sendReminderEmail(String to, String subject, String text) {
+        MailOutbox saved = mailOutboxRepository.save(message);
+        log.debug("Mail enqueued to: {} (outbox id: {})", to, saved.getId());
+        return saved;
+    }
+
+    /**
+     * 대량 발송 (MailOutboxDispatcher 워커 전용)
+     * 풀에서 빌린 SMTP 연결 하나로 여러 메일을 연속 발송하고, 메일별 결과를 resultHandler로 전달한다 (성공 시 예외 null).
+     * 연결 오류가 난 연결은 버리고 다음 메일부터 새 연결을 사용한다. 메일 생성 오류나 수신자 거부는 연결을 그대로 쓴다.
+     */
+    public void sendBulk(List<MailOutbox> messages, BiConsumer<MailOutbox, Exception> resultHandler) {
+        sendBulk(messages, () -> true, resultHandler);
+    }
+
+    /**
+     * 대량 발송 - 메일마다 callPermitted를 확인해 false면 (SMTP 서킷 브레이커 열림) 중단하고 발송하지 않은 메일을 반환한다.
+     */
+    public List<MailOutbox> sendBulk(List<MailOutbox> messages, BooleanSupplier callPermitted,
+                                     BiConsumer<MailOutbox, Exception> resultHandler) {
+        SmtpTransportPool.PooledTransport transport = null;
+        long phaseStart = System.nanoTime();
         try {
-            // HTML 이메일로 발송
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+            for (int i = 0; i < messages.size(); i++) {
+                MailOutbox message = messages.get(i);
+                if (!callPermitted.getAsBoolean()) {
+                    return messages.subList(i, messages.size());
+                }
 
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(text, true); // true = HTML
-            helper.setFrom("noreply@daymemory.com");
+                long sendStart = System.nanoTime();
+                MimeMessage mimeMessage = null;
+                try {
+                    mimeMessage = createHtmlMessage(message.getRecipient(), message.getSubject(), message.getBody());
+                    if (transport == null) {
+                        transport = transportPool.borrow();
+                    }
+                    transport.send(mimeMessage);
+                    log.debug("Mail sent to: {} (outbox id: {})", message.getRecipient(), message.getId());
+                } catch (Exception e) {
+                    reminderMetrics.recordSmtpSend(System.nanoTime() - sendStart, false);
+                    log.error("Failed to send email to: {}", message.getRecipient(), e);
+                    // 메일 생성 단계에서 실패했으면 연결은 쓰지도 않았으므로 그대로 둔다
+                    if (transport != null && mimeMessage != null && isConnectionFailure(e, transport)) {
+                        transportPool.release(transport, true);
+                        transport = null;
+                    }
+                    resultHandler.accept(message, e);
+                    continue;
+                }
 
-            mailSender.send(mimeMessage);
-            log.info("Reminder email sent to: {}", to);
-        } catch (MessagingException e) {
-            log.error("Failed to create email message to: {}", to, e);
-            throw new CustomException(ErrorCode.EMAIL_SEND_FAILED);
-        } catch (Exception e) {
-            log.error("Failed to send email to: {}", to, e);
-            throw new CustomException(ErrorCode.EMAIL_SEND_FAILED);
+                reminderMetrics.recordSmtpSend(System.nanoTime() - sendStart, true);
+                if (message.getReminderLog() != null) {
+                    reminderMetrics.countSent();
+                }
+                if (transport.isExhausted()) {
+                    transportPool.release(transport, false);
+                    transport = null;
+                }
+                resultHandler.accept(message, null);
+            }
+            return List.of();
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport, false);
+            }
+            reminderMetrics.recordSmtpPhase(System.nanoTime() - phaseStart);
         }
     }
 
-    public String buildReminderEmailContent(String eventTitle, int daysRemaining, String recipientName) {
-        return buildHtmlEmailTemplate(eventTitle, daysRemaining, recipientName);
+    /**
+     * 연결을 더 쓸 수 없는 실패인지 판단
+     * 수신자 거부(SendFailedException)는 SMTP 서버가 응답한 것이라 연결이 살아 있으면 다음 메일에 그대로 쓴다.
+     */
+    private boolean isConnectionFailure(Exception error, SmtpTransportPool.PooledTransport transport) {
+        return !(error instanceof SendFailedException) || !transport.isConnected();
+    }
+
+    private MimeMessage createHtmlMessage(String to, String subject, String text) throws MessagingException {
+        // HTML 이메일
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(text, true); // true = HTML
+        helper.setFrom("noreply@daymemory.com");
+        return mimeMessage;
     }
 
-    private String buildHtmlEmailTemplate(String eventTitle, int daysRemaining, String recipientName) {
-        return """
-                <!DOCTYPE html>
-                <html lang="ko">
-                <head>
-                    <meta charset="UTF-8">
-                    <meta name="viewport" content="width=device-width, initial-scale=1.0">
-                    <title>Day Memory - 이벤트 리마인더</title>
-                    <style>
-                        body {
-                            font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
-                            background-color: #f5f5f5;
-                            margin: 0;
-                            padding: 0;
-                        }
-                        .container {
-                            max-width: 600px;
-                            margin: 40px auto;
-                            background-color: #ffffff;
-                            border-radius: 10px;
-                            box-shadow: 0 2px 10px rgba(0, 0, 0, 0.1);
-                            overflow: hidden;
-                        }
-                        .header {
-                            background: linear-gradient(135deg, #667eea 0%%, #764ba2 100%%);
-                            color: white;
-                            padding: 30px;
-                            text-align: center;
-                        }
-                        .header h1 {
-                            margin: 0;
-                            font-size: 28px;
-                            font-weight: 600;
-                        }
-                        .content {
-                            padding: 40px 30px;
-                        }
-                        .event-info {
-                            background-color: #f8f9fa;
-                            border-left: 4px solid #667eea;
-                            padding: 20px;
-                            margin: 20px 0;
-                            border-radius: 5px;
-                        }
-                        .event-title {
-                            font-size: 20px;
-                            font-weight: 600;
-                            color: #333;
-                            margin-bottom: 10px;
-                        }
-                        .days-remaining {
-                            font-size: 36px;
-                            font-weight: 700;
-                            color: #667eea;
-                            text-align: center;
-                            margin: 20px 0;
-                        }
-                        .days-label {
-                            font-size: 16px;
-                            color: #666;
-                            text-align: center;
-                            margin-bottom: 20px;
-                        }
-                        .message {
-                            color: #555;
-                            line-height: 1.6;
-                            text-align: center;
-                            font-size: 16px;
-                        }
-                        .footer {
-                            background-color: #f8f9fa;
-                            padding: 20px;
-                            text-align: center;
-                            color: #999;
-                            font-size: 14px;
-                        }
-                        .footer a {
-                            color: #667eea;
-                            text-decoration: none;
-                        }
-                    </style>
-                </head>
-                <body>
-                    <div class="container">
-                        <div class="header">
-                            <h1>🎉 Day Memory</h1>
-                        </div>
-                        <div class="content">
-                            <p class="message" style="margin-bottom: 20px;">
-                                안녕하세요, <strong>%s</strong>님!
-                            </p>
-                            <div class="event-info">
-                                <div class="event-title">%s</div>
-                            </div>
-                            <div class="days-remaining">D-%d</div>
-                            <div class="days-label">%d일 남았습니다</div>
-                            <p class="message">
-                                소중한 날이 다가오고 있습니다.<br>
-                                특별한 순간을 위해 미리 준비해보세요!<br>
-                                <br>
-                                Day Memory가 여러분의 소중한 기억을 함께 지켜드리겠습니다.
-                            </p>
-                        </div>
-                        <div class="footer">
-                            <p>이 메일은 Day Memory에서 자동으로 발송되었습니다.</p>
-                            <p>
-                                <a href="#">알림 설정 변경</a> |
-                                <a href="#">Day Memory 방문하기</a>
-                            </p>
-                        </div>
-                    </div>
-                </body>
-                </html>
-                """.formatted(recipientName, eventTitle, daysRemaining, daysRemaining);
+    public String buildReminderEmailContent(String eventTitle, int daysRemaining, String recipientName) {
+        return reminderMetrics.recordRender(() -> templateRenderer.render("reminder", Map.of(
+                "recipientName", recipientName,
+                "eventTitle", eventTitle,
+                "daysRemaining", daysRemaining)));
     }
 }
@@ -0,0 +1,373 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.dto.EventDto;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.UserRepository;
+import com.daymemory.exception.CustomException;
+import com.daymemory.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 일괄 가져오기 (CSV, JSON Lines)
+ * 파일을 한 줄씩 읽어 CHUNK_SIZE행마다 한 트랜잭션으로 검증/저장하므로 파일 전체를 메모리에 올리지 않는다.
+ * 청크마다 사용자 조회 없이 참조만 쓰고, 중복 확인은 1문장, 이벤트/리마인더/발송 예정 리마인더는
+ * JDBC 배치 INSERT(시퀀스 allocationSize 50, hibernate.jdbc.batch_size 50)로 쓴 뒤 영속성 컨텍스트를 비운다.
+ * 잘못된 행은 건너뛰고 나머지를 가져오며, 파일 줄 번호별 결과를 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventImportService {
+
+    // 한 청크(트랜잭션)에서 저장할 행 수
+    static final int CHUNK_SIZE = 500;
+
+    // 한 번에 가져올 수 있는 최대 행 수 (넘는 행은 읽지 않고 truncated로 알린다)
+    public static final int MAX_ROWS = 10_000;
+
+    // CSV 필수 열 (헤더는 대소문자 구분 없음)
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "eventdate", "eventtype");
+
+    private static final char UTF8_BOM = '\uFEFF';
+
+    static final String DUPLICATE_MESSAGE = "같은 날짜에 같은 제목의 이벤트가 이미 있습니다.";
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final ReminderDueService reminderDueService;
+    private final UserDataCache userDataCache;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 파일의 이벤트를 가져온다 (형식은 확장자 .csv / .jsonl(.ndjson) 또는 Content-Type으로 판단)
+     * CSV: 첫 줄 헤더 title, eventDate(yyyy-MM-dd), eventType 필수, description, recipientName, relationship,
+     * isRecurring, recurrenceRule, isTracking, reminderDays(예: 30;7;1) 선택. 따옴표 안의 쉼표는 지원하고 줄바꿈은 지원하지 않는다.
+     * JSON Lines: 한 줄에 POST /api/events 요청 본문 하나.
+     * 검증 규칙은 POST /api/events와 같다. 같은 파일을 다시 올려도 이벤트가 두 벌 생기지 않도록
+     * 이미 있는(활성) 또는 파일 안에서 겹치는 (제목, 날짜)는 가져오지 않고 실패로 남긴다 (단건 생성은 중복을 막지 않는다).
+     */
+    public EventDto.ImportResponse importEvents(Long userId, MultipartFile file) {
+        Format format = Format.of(file);
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        long started = System.nanoTime();
+        List<EventDto.ImportRowResult> results = new ArrayList<>();
+        Set<String> seenKeys = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        RowParser parser = format == Format.JSON_LINES ? this::parseJsonLine : null;
+        int totalRows = 0;
+        boolean truncated = false;
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == UTF8_BOM) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                // CSV는 처음 나오는 비어 있지 않은 줄이 헤더
+                if (parser == null) {
+                    parser = csvParser(line);
+                    continue;
+                }
+                if (totalRows == MAX_ROWS) {
+                    truncated = true;
+                    break;
+                }
+
+                totalRows++;
+                chunk.add(parser.parse(lineNumber, line));
+                if (chunk.size() == CHUNK_SIZE) {
+                    results.addAll(writeChunk(userId, chunk, seenKeys));
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.IMPORT_FILE_INVALID);
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(writeChunk(userId, chunk, seenKeys));
+        }
+
+        int importedCount = (int) results.stream().filter(EventDto.ImportRowResult::isImported).count();
+        if (importedCount > 0) {
+            userDataCache.invalidate(userId);
+        }
+        log.info("Imported {} of {} event rows for user {} in {}ms", importedCount, totalRows, userId,
+                (System.nanoTime() - started) / 1_000_000);
+
+        return EventDto.ImportResponse.builder()
+                .totalRows(totalRows)
+                .importedCount(importedCount)
+                .failedCount(totalRows - importedCount)
+                .truncated(truncated)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 청크 1개를 한 트랜잭션으로 저장 (검증 실패/중복 행은 제외하고 나머지를 배치 INSERT)
+     * 검증은 트랜잭션 밖에서 먼저 해 DB 오류로 청크가 롤백돼도 검증 실패 사유는 그대로 남기고,
+     * 파일 안 중복 판단용 키(seenKeys)는 청크가 커밋된 뒤에만 더해 롤백된 행이 뒤 청크의 같은 행을 막지 않게 한다.
+     */
+    private List<EventDto.ImportRowResult> writeChunk(Long userId, List<ImportRow> rows, Set<String> seenKeys) {
+        EventDto.ImportRowResult[] results = new EventDto.ImportRowResult[rows.size()];
+        Map<Integer, EventDto.Request> valid = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                results[i] = failed(row, error);
+            } else {
+                valid.put(i, row.request());
+            }
+        }
+        if (valid.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        Set<String> chunkKeys = new HashSet<>();
+        Map<Integer, Event> events;
+        try {
+            events = transactionTemplate.execute(status -> {
+                Set<String> existingKeys = existingKeys(userId, valid.values());
+                User user = userRepository.getReferenceById(userId);
+                Map<Integer, Event> saved = new LinkedHashMap<>();
+                valid.forEach((index, request) -> {
+                    String key = key(request.getTitle(), request.getEventDate());
+                    if (existingKeys.contains(key) || seenKeys.contains(key) || !chunkKeys.add(key)) {
+                        results[index] = failed(rows.get(index), DUPLICATE_MESSAGE);
+                    } else {
+                        saved.put(index, EventService.newEvent(user, request, EventService.reminderDays(request)));
+                    }
+                });
+
+                if (!saved.isEmpty()) {
+                    eventRepository.saveAll(saved.values());
+                    reminderDueService.refreshAll(saved.values());
+                    eventRepository.flush();
+                }
+
+                // 다음 청크가 이 청크의 엔티티를 더티 체킹하지 않도록 비운다 (OSIV로 요청 동안 같은 컨텍스트를 쓴다)
+                entityManager.clear();
+                return saved;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Event import chunk failed for user {} (lines {}-{})", userId,
+                    rows.get(0).line(), rows.get(rows.size() - 1).line(), e);
+            entityManager.clear();
+            valid.keySet().forEach(index -> results[index] = failed(rows.get(index), ErrorCode.DATABASE_ERROR.getMessage()));
+            return Arrays.asList(results);
+        }
+
+        seenKeys.addAll(chunkKeys);
+        if (events != null) {
+            events.forEach((index, event) -> results[index] = EventDto.ImportRowResult.builder()
+                    .line(rows.get(index).line())
+                    .imported(true)
+                    .eventId(event.getId())
+                    .title(event.getTitle())
+                    .build());
+        }
+        return Arrays.asList(results);
+    }
+
+    private String validate(EventDto.Request request) {
+        Set<ConstraintViolation<EventDto.Request>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        try {
+            EventService.recurrenceRule(request);
+        } catch (CustomException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    // 청크의 제목으로 이미 있는 (제목, 날짜)를 한 번에 조회
+    private Set<String> existingKeys(Long userId, Collection<EventDto.Request> requests) {
+        if (requests.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> titles = requests.stream()
+                .map(EventDto.Request::getTitle)
+                .collect(Collectors.toSet());
+        return eventRepository.findTitleAndDateByUserIdAndTitleIn(userId, titles).stream()
+                .map(row -> key((String) row[0], (LocalDate) row[1]))
+                .collect(Collectors.toSet());
+    }
+
+    private static String key(String title, LocalDate eventDate) {
+        return title + '\u0000' + eventDate;
+    }
+
+    private static EventDto.ImportRowResult failed(ImportRow row, String message) {
+        return EventDto.ImportRowResult.builder()
+                .line(row.line())
+                .imported(false)
+                .title(row.request() != null ? row.request().getTitle() : null)
+                .message(message)
+                .build();
+    }
+
+    private ImportRow parseJsonLine(int lineNumber, String line) {
+        try {
+            return new ImportRow(lineNumber, objectMapper.readValue(line, EventDto.Request.class), null);
+        } catch (JsonProcessingException e) {
+            return new ImportRow(lineNumber, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    private static RowParser csvParser(String headerLine) {
+        List<String> header = splitCsv(headerLine).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        if (!header.containsAll(REQUIRED_COLUMNS)) {
+            throw new CustomException(ErrorCode.IMPORT_CSV_HEADER_INVALID);
+        }
+
+        return (lineNumber, line) -> {
+            List<String> values = splitCsv(line);
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                String value = values.get(i).trim();
+                row.put(header.get(i), value.isEmpty() ? null : value);
+            }
+            try {
+                return new ImportRow(lineNumber, EventDto.Request.builder()
+                        .title(row.get("title"))
+                        .description(row.get("description"))
+                        .recipientName(row.get("recipientname"))
+                        .relationship(row.get("relationship"))
+                        .eventDate(column(row, "eventDate", LocalDate::parse))
+                        .eventType(column(row, "eventType", value -> Event.EventType.valueOf(value.toUpperCase(Locale.ROOT))))
+                        .isRecurring(column(row, "isRecurring", EventImportService::parseBoolean))
+                        .recurrenceRule(column(row, "recurrenceRule", value -> Event.RecurrenceRule.valueOf(value.toUpperCase(Locale.ROOT))))
+                        .isTracking(column(row, "isTracking", EventImportService::parseBoolean))
+                        .reminderDays(column(row, "reminderDays", EventImportService::parseReminderDays))
+                        .build(), null);
+            } catch (IllegalArgumentException e) {
+                return new ImportRow(lineNumber, null, e.getMessage());
+            }
+        };
+    }
+
+    // 열 값 변환 (비어 있으면 null, 변환 실패는 열 이름과 값을 담은 IllegalArgumentException)
+    private static <T> T column(Map<String, String> row, String name, Function<String, T> converter) {
+        String value = row.get(name.toLowerCase(Locale.ROOT));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return converter.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(name + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "y", "yes", "1" -> true;
+            case "false", "n", "no", "0" -> false;
+            default -> throw new IllegalArgumentException(value);
+        };
+    }
+
+    private static List<Integer> parseReminderDays(String value) {
+        return Arrays.stream(value.split("[;|]"))
+                .map(String::trim)
+                .filter(days -> !days.isEmpty())
+                .map(Integer::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    // 쉼표 구분, 큰따옴표로 감싼 값 안의 쉼표와 "" 이스케이프 지원
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        ImportRow parse(int lineNumber, String line);
+    }
+
+    // 파싱된 행 (형식 오류면 request 없이 error만)
+    private record ImportRow(int line, EventDto.Request request, String error) {
+    }
+
+    private enum Format {
+        CSV, JSON_LINES;
+
+        static Format of(MultipartFile file) {
+            String filename = Optional.ofNullable(file.getOriginalFilename()).orElse("").toLowerCase(Locale.ROOT);
+            String contentType = Optional.ofNullable(file.getContentType()).orElse("").toLowerCase(Locale.ROOT);
+            if (filename.endsWith(".csv") || contentType.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (filename.endsWith(".jsonl") || filename.endsWith(".ndjson")
+                    || contentType.startsWith("application/x-ndjson") || contentType.startsWith("application/jsonl")) {
+                return JSON_LINES;
+            }
+            throw new CustomException(ErrorCode.IMPORT_FILE_INVALID);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.Event;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 이벤트 발생일 전개
+ * 반복 이벤트는 행 하나가 모든 발생일을 대표하므로, 기간 조회(다가오는 이벤트, 캘린더, 대시보드)는
+ * 조회한 이벤트를 구간 내 발생일로 펼친 뒤 날짜순으로 정렬해 사용한다.
+ */
+public final class EventOccurrences {
+
+    private EventOccurrences() {
+    }
+
+    public record Occurrence(Event event, LocalDate date) {
+    }
+
+    public static List<Occurrence> expand(Collection<Event> events, LocalDate start, LocalDate end) {
+        return events.stream()
+                .flatMap(event -> event.occurrencesBetween(start, end).stream()
+                        .map(date -> new Occurrence(event, date)))
+                .sorted(Comparator.comparing(Occurrence::date)
+                        .thenComparing(occurrence -> occurrence.event().getId(),
+                                Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+}
@@ -1,6 +1,9 @@
 package com.daymemory.service;
 
 import com.daymemory.domain.dto.EventDto;
+import com.daymemory.domain.dto.EventReminderRow;
+import com.daymemory.domain.dto.EventRow;
+import com.daymemory.domain.dto.PageDto;
 import com.daymemory.domain.entity.Event;
 import com.daymemory.domain.entity.EventReminder;
 import com.daymemory.domain.entity.User;
@@ -8,12 +11,17 @@ import com.daymemory.domain.repository.EventRepository;
 import com.daymemory.domain.repository.UserRepository;
 import com.daymemory.exception.CustomException;
 import com.daymemory.exception.ErrorCode;
+import com.daymemory.util.KeysetCursor;
+import com.daymemory.util.LunarCalendar;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,55 +29,76 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class EventService {
 
+    private static final List<Integer> DEFAULT_REMINDER_DAYS = List.of(30, 7, 1);
+
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final ReminderDueService reminderDueService;
+    private final UserDataCache userDataCache;
 
     @Transactional
     public EventDto.Response createEvent(Long userId, EventDto.Request request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        Event event = Event.builder()
-                .user(user)
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .recipientName(request.getRecipientName())
-                .relationship(request.getRelationship())
-                .eventDate(request.getEventDate())
-                .eventType(request.getEventType())
-                .isRecurring(request.getIsRecurring())
-                .isTracking(request.getIsTracking() != null ? request.getIsTracking() : true)
-                .build();
-
-        // 리마인더 설정 (기본값: 30일, 7일, 1일)
-        List<Integer> reminderDays = request.getReminderDays() != null && !request.getReminderDays().isEmpty()
-                ? request.getReminderDays()
-                : List.of(30, 7, 1);
-
-        for (Integer days : reminderDays) {
-            EventReminder reminder = EventReminder.builder()
-                    .event(event)
-                    .daysBeforeEvent(days)
-                    .isActive(true)
-                    .build();
-            event.addReminder(reminder);
-        }
-
-        Event savedEvent = eventRepository.save(event);
+        Event savedEvent = eventRepository.save(newEvent(user, request, reminderDays(request)));
+        reminderDueService.refresh(savedEvent);
+        userDataCache.invalidate(userId);
         return EventDto.Response.from(savedEvent);
     }
 
+    /**
+     * 이벤트 목록 (이벤트 날짜순)
+     * 이벤트 행과 리마인더 행을 프로젝션 2문장으로 읽어 묶는다 (이벤트 수와 무관, 엔티티 하이드레이션 없음).
+     */
     public List<EventDto.Response> getEventsByUser(Long userId) {
-        List<Event> events = eventRepository.findByUserIdAndIsActiveTrue(userId);
-        return events.stream()
-                .map(EventDto.Response::from)
-                .collect(Collectors.toList());
+        List<EventRow> rows = eventRepository.findRowsByUserId(userId);
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return toResponses(rows, eventRepository.findReminderRowsByUserId(userId));
+    }
+
+    /**
+     * 이벤트 목록 키셋 페이지 ((event_date, id) 순, 반복 이벤트는 첫 발생일 기준으로 정렬)
+     * 한 행을 더 읽어 다음 페이지 여부를 판단하고, 마지막 행의 (event_date, id)를 다음 커서로 돌려준다.
+     * 이벤트 행과 페이지 이벤트의 리마인더 행을 프로젝션 2문장으로 읽는다 (엔티티 하이드레이션 없음).
+     * 응답의 eventDate는 다음 발생일이라 정렬 순서와 다를 수 있으므로, 정렬 기준인 저장 날짜를 anchorDate로 함께 준다.
+     * (다음 발생일은 오늘 날짜와 음력 변환에 따라 달라져 인덱스 순서로 읽을 수 없다)
+     */
+    public PageDto.CursorPage<EventDto.Response> getEventPage(Long userId, Event.EventType eventType,
+                                                              String cursor, int size, Sort.Direction direction) {
+        int pageSize = PageDto.limitSize(size);
+        List<EventRow> rows = eventRepository.findPage(
+                userId, eventType, KeysetCursor.decode(cursor), direction.isAscending(), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<EventRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        EventRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        List<EventReminderRow> reminderRows = page.isEmpty() ? List.of()
+                : eventRepository.findReminderRowsByEventIdIn(page.stream().map(EventRow::id).toList());
+
+        return PageDto.CursorPage.<EventDto.Response>builder()
+                .items(toResponses(page, reminderRows))
+                .nextCursor(hasNext ? KeysetCursor.encode(last.eventDate(), last.id()) : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     public List<EventDto.Response> getEventsByUserAndType(Long userId, Event.EventType eventType) {
-        List<Event> events = eventRepository.findByUserIdAndEventTypeAndIsActiveTrue(userId, eventType);
-        return events.stream()
-                .map(EventDto.Response::from)
+        List<EventRow> rows = eventRepository.findRowsByUserIdAndEventType(userId, eventType);
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return toResponses(rows, eventRepository.findReminderRowsByUserIdAndEventType(userId, eventType));
+    }
+
+    private List<EventDto.Response> toResponses(List<EventRow> rows, List<EventReminderRow> reminderRows) {
+        Map<Long, List<EventDto.ReminderDto>> remindersByEvent = reminderRows.stream()
+                .collect(Collectors.groupingBy(EventReminderRow::eventId,
+                        Collectors.mapping(EventDto.ReminderDto::from, Collectors.toList())));
+        return rows.stream()
+                .map(row -> EventDto.Response.from(row, remindersByEvent.getOrDefault(row.id(), new ArrayList<>())))
                 .collect(Collectors.toList());
     }
 
@@ -104,8 +133,9 @@ public class EventService {
                 request.getRelationship(),
                 request.getEventDate(),
                 request.getEventType(),
-                request.getIsRecurring()
+                recurrenceRule(request) != Event.RecurrenceRule.NONE
         );
+        event.changeRecurrence(recurrenceRule(request));
 
         // 리마인더 업데이트
         if (request.getReminderDays() != null) {
@@ -117,6 +147,10 @@ public class EventService {
             event.setTracking(request.getIsTracking());
         }
 
+        reminderDueService.refresh(event);
+
+        userDataCache.invalidate(event.getUser().getId());
+
         return EventDto.Response.from(event);
     }
 
@@ -132,15 +166,18 @@ public class EventService {
         }
         
         event.deactivate();
+        reminderDueService.refresh(event);
+        userDataCache.invalidate(event.getUser().getId());
     }
 
     public List<EventDto.Response> getUpcomingEvents(Long userId, int days) {
         LocalDate today = LocalDate.now();
         LocalDate endDate = today.plusDays(days);
 
+        // 반복 이벤트는 구간 내 발생일마다 하나씩 펼쳐서 날짜순으로 반환
         List<Event> events = eventRepository.findUpcomingEvents(userId, today, endDate);
-        return events.stream()
-                .map(EventDto.Response::from)
+        return EventOccurrences.expand(events, today, endDate).stream()
+                .map(occurrence -> EventDto.Response.from(occurrence.event(), occurrence.date()))
                 .collect(Collectors.toList());
     }
 
@@ -156,6 +193,8 @@ public class EventService {
         }
 
         updateEventReminders(event, request.getReminderDays());
+        reminderDueService.refresh(event);
+        userDataCache.invalidate(event.getUser().getId());
 
         return EventDto.Response.from(event);
     }
@@ -172,6 +211,8 @@ public class EventService {
         }
 
         event.setTracking(isTracking);
+        reminderDueService.refresh(event);
+        userDataCache.invalidate(event.getUser().getId());
 
         return EventDto.Response.from(event);
     }
@@ -192,6 +233,54 @@ public class EventService {
     }
 
     public List<Event> getEventsRequiringReminder(LocalDate targetDate) {
-        return eventRepository.findEventsByDate(targetDate);
+        return eventRepository.findEventsByDate(targetDate).stream()
+                .filter(event -> targetDate.equals(event.nextOccurrence(targetDate)))
+                .collect(Collectors.toList());
+    }
+
+    // 새 이벤트와 리마인더 (일괄 가져오기와 공용)
+    static Event newEvent(User user, EventDto.Request request, List<Integer> reminderDays) {
+        Event.RecurrenceRule rule = recurrenceRule(request);
+        Event event = Event.builder()
+                .user(user)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .recipientName(request.getRecipientName())
+                .relationship(request.getRelationship())
+                .eventDate(request.getEventDate())
+                .eventType(request.getEventType())
+                .isRecurring(rule != Event.RecurrenceRule.NONE)
+                .recurrenceRule(rule)
+                .isTracking(request.getIsTracking() != null ? request.getIsTracking() : true)
+                .build();
+
+        for (Integer days : reminderDays) {
+            EventReminder reminder = EventReminder.builder()
+                    .event(event)
+                    .daysBeforeEvent(days)
+                    .isActive(true)
+                    .build();
+            event.addReminder(reminder);
+        }
+        return event;
+    }
+
+    // 리마인더 설정 (기본값: 30일, 7일, 1일)
+    static List<Integer> reminderDays(EventDto.Request request) {
+        return request.getReminderDays() != null && !request.getReminderDays().isEmpty()
+                ? request.getReminderDays()
+                : DEFAULT_REMINDER_DAYS;
+    }
+
+    // 반복 주기: 지정하지 않으면 isRecurring이면 매년 (음력 반복은 환산 표 범위 안의 날짜만)
+    static Event.RecurrenceRule recurrenceRule(EventDto.Request request) {
+        if (request.getRecurrenceRule() == Event.RecurrenceRule.LUNAR_YEARLY
+                && LunarCalendar.fromSolar(request.getEventDate()) == null) {
+            throw new CustomException(ErrorCode.LUNAR_DATE_OUT_OF_RANGE);
+        }
+        if (request.getRecurrenceRule() != null) {
+            return request.getRecurrenceRule();
+        }
+        return Boolean.TRUE.equals(request.getIsRecurring()) ? Event.RecurrenceRule.YEARLY : Event.RecurrenceRule.NONE;
     }
 }
@@ -1,6 +1,7 @@
 package com.daymemory.service;
 
 import com.daymemory.domain.dto.GiftItemDto;
+import com.daymemory.domain.dto.PageDto;
 import com.daymemory.domain.entity.Event;
 import com.daymemory.domain.entity.GiftItem;
 import com.daymemory.domain.entity.RecommendedGiftItem;
@@ -11,7 +12,9 @@ import com.daymemory.domain.repository.RecommendedGiftItemRepository;
 import com.daymemory.domain.repository.UserRepository;
 import com.daymemory.exception.CustomException;
 import com.daymemory.exception.ErrorCode;
+import com.daymemory.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -29,6 +32,7 @@ public class GiftItemService {
     private final EventRepository eventRepository;
     private final FileStorageService fileStorageService;
     private final RecommendedGiftItemRepository recommendedGiftItemRepository;
+    private final UserDataCache userDataCache;
 
     @Transactional
     public GiftItemDto.Response createGiftItem(Long userId, GiftItemDto.Request request) {
@@ -54,6 +58,7 @@ public class GiftItemService {
                 .build();
 
         GiftItem savedGiftItem = giftItemRepository.save(giftItem);
+        userDataCache.invalidate(userId);
         return GiftItemDto.Response.from(savedGiftItem);
     }
 
@@ -64,6 +69,28 @@ public class GiftItemService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 선물 목록 키셋 페이지 ((created_at, id) 순, 구매 상태/카테고리 필터 선택)
+     * 한 행을 더 읽어 다음 페이지 여부를 판단하고, 마지막 행의 (created_at, id)를 다음 커서로 돌려준다.
+     */
+    public PageDto.CursorPage<GiftItemDto.Response> getGiftItemPage(Long userId, Boolean isPurchased,
+                                                                    GiftItem.GiftCategory category, String cursor,
+                                                                    int size, Sort.Direction direction) {
+        int pageSize = PageDto.limitSize(size);
+        List<GiftItem> giftItems = giftItemRepository.findPage(
+                userId, isPurchased, category, KeysetCursor.decode(cursor), direction.isAscending(), pageSize + 1);
+
+        boolean hasNext = giftItems.size() > pageSize;
+        List<GiftItem> page = hasNext ? giftItems.subList(0, pageSize) : giftItems;
+        GiftItem last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return PageDto.CursorPage.<GiftItemDto.Response>builder()
+                .items(page.stream().map(GiftItemDto.Response::from).collect(Collectors.toList()))
+                .nextCursor(hasNext ? KeysetCursor.encode(last.getCreatedAt(), last.getId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     public GiftItemDto.Response getGiftItemById(Long giftId) {
         GiftItem giftItem = giftItemRepository.findById(giftId)
                 .orElseThrow(() -> new CustomException(ErrorCode.GIFT_NOT_FOUND));
@@ -102,6 +129,7 @@ public class GiftItemService {
                 request.getUrl(),
                 request.getCategory()
         );
+        userDataCache.invalidate(currentUserId);
 
         return GiftItemDto.Response.from(giftItem);
     }
@@ -122,6 +150,7 @@ public class GiftItemService {
         } else {
             giftItem.markAsPurchased();
         }
+        userDataCache.invalidate(currentUserId);
 
         return GiftItemDto.Response.from(giftItem);
     }
@@ -146,6 +175,7 @@ public class GiftItemService {
         }
 
         giftItemRepository.delete(giftItem);
+        userDataCache.invalidate(currentUserId);
     }
 
     /**
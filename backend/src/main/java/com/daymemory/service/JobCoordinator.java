@@ -0,0 +1,118 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.JobRun;
+import com.daymemory.domain.repository.JobCheckpointRepository;
+import com.daymemory.domain.repository.JobLeaseRepository;
+import com.daymemory.domain.repository.JobRunRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 다중 인스턴스 스케줄 작업 조정
+ * job_leases 테이블의 임대를 얻은 인스턴스 하나만 작업을 실행하고, 실행 결과를 job_runs에 기록한다.
+ * (조회: GET /actuator/jobs)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobCoordinator {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobRunRepository jobRunRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 비어 있으면 호스트명:PID (컨테이너마다 다름)
+    @Value("${jobs.instance-id:}")
+    private String instanceId;
+
+    @Value("${jobs.history-retention-days:30}")
+    private int historyRetentionDays;
+
+    @PostConstruct
+    public void init() {
+        if (instanceId == null || instanceId.isBlank()) {
+            instanceId = defaultInstanceId();
+        }
+        log.info("Job coordinator instance id: {}", instanceId);
+    }
+
+    /**
+     * 임대를 얻은 경우에만 작업 실행
+     *
+     * @param lockAtMost  실행 중 인스턴스가 죽어도 이 시간이 지나면 다른 인스턴스가 임대를 가져간다
+     * @param lockAtLeast 작업이 빨리 끝나도 획득 후 이 시간 동안은 임대를 유지한다
+     *                    (다른 인스턴스의 같은 주기 실행 방지, 보유 인스턴스는 다음 주기에 다시 획득)
+     * @return 실행했으면 true, 다른 인스턴스가 임대를 보유 중이면 false
+     */
+    public boolean runExclusive(String jobName, Duration lockAtMost, Duration lockAtLeast, Supplier<JobResult> job) {
+        Integer acquired = transactionTemplate.execute(status ->
+                jobLeaseRepository.tryAcquire(jobName, instanceId, lockAtMost.toSeconds()));
+        if (acquired == null || acquired == 0) {
+            log.debug("Job {} is held by another instance, skipping", jobName);
+            return false;
+        }
+
+        JobRun run = jobRunRepository.save(JobRun.builder()
+                .jobName(jobName)
+                .owner(instanceId)
+                .startedAt(LocalDateTime.now())
+                .build());
+
+        try {
+            JobResult result = job.get();
+            run.succeed(result.getRowsProcessed(), result.getFailures());
+        } catch (RuntimeException e) {
+            log.error("Job {} failed", jobName, e);
+            run.fail(truncate(e.toString()));
+        } finally {
+            jobRunRepository.save(run);
+            transactionTemplate.executeWithoutResult(status ->
+                    jobLeaseRepository.release(jobName, instanceId, lockAtLeast.toSeconds()));
+        }
+        return true;
+    }
+
+    /**
+     * 오래된 실행 이력/청크 체크포인트 정리 (매일 새벽 3시, 멱등이므로 임대 없이 실행)
+     */
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void purgeHistory() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(historyRetentionDays);
+        Integer deleted = transactionTemplate.execute(status -> jobRunRepository.deleteStartedBefore(threshold));
+        Integer checkpoints = transactionTemplate.execute(status -> jobCheckpointRepository.deleteUpdatedBefore(threshold));
+        log.info("Purged {} job runs and {} checkpoints older than {}", deleted, checkpoints, threshold);
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = UUID.randomUUID().toString();
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+}
@@ -0,0 +1,24 @@
+package com.daymemory.service;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스케줄 작업 실행 결과 (처리 건수, 실패 건수)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class JobResult {
+
+    private final long rowsProcessed;
+    private final int failures;
+
+    public static JobResult of(long rowsProcessed, int failures) {
+        return new JobResult(rowsProcessed, failures);
+    }
+
+    public static JobResult of(long rowsProcessed) {
+        return new JobResult(rowsProcessed, 0);
+    }
+}
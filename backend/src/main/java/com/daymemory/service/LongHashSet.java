@@ -0,0 +1,84 @@
+package com.daymemory.service;
+
+/**
+ * long 전용 해시 셋 (오픈 어드레싱 + 선형 탐사)
+ * 청크 단위 중복 발송 체크처럼 키가 많은 조회에서 Long 박싱/노드 할당 없이 사용한다.
+ */
+final class LongHashSet {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    // 0은 빈 슬롯 표시로 쓰므로 별도 플래그로 관리
+    private long[] table;
+    private boolean containsZero;
+    private int size;
+
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        table = new long[capacity];
+    }
+
+    boolean add(long key) {
+        if (key == 0L) {
+            boolean added = !containsZero;
+            containsZero = true;
+            size += added ? 1 : 0;
+            return added;
+        }
+
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (table[slot] != 0L) {
+            if (table[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+
+        if (++size > table.length * LOAD_FACTOR) {
+            rehash();
+        }
+        return true;
+    }
+
+    boolean contains(long key) {
+        if (key == 0L) {
+            return containsZero;
+        }
+
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (table[slot] != 0L) {
+            if (table[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void rehash() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        int mask = table.length - 1;
+        for (long key : old) {
+            if (key != 0L) {
+                int slot = mix(key) & mask;
+                while (table[slot] != 0L) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = key;
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
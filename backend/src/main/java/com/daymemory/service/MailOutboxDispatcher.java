@@ -0,0 +1,253 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.MailOutbox;
+import com.daymemory.domain.entity.ReminderLog;
+import com.daymemory.domain.repository.MailOutboxRepository;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderLogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 아웃박스 디스패처
+ * mail_outbox의 발송 대기 메일을 배치 단위로 선점한 뒤, 고정 크기 워커 풀에서 SMTP 발송하고 메일별 상태를 기록한다.
+ * 워커는 배치를 나눠 맡고, 각자 SmtpTransportPool의 연결 하나로 여러 메일을 연속 발송한다.
+ * SmtpCircuitBreaker가 열려 있으면 선점하지 않고, 발송 도중 열리면 남은 메일을 시도 횟수 차감 없이 대기 상태로 되돌린다.
+ * 일시적인 실패는 지수 백오프로 다음 발송 시각을 잡아 대기 상태로 돌리고, 수신자 거부나 5xx 같은 영구 실패는 바로 FAILED로 끝낸다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    // 2^n 계산 시 오버플로 방지
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ReminderLogRepository reminderLogRepository;
+    private final ReminderDailyStatRepository reminderDailyStatRepository;
+    private final EmailService emailService;
+    private final SmtpCircuitBreaker circuitBreaker;
+    private final ReminderMetrics reminderMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final UserDataCache userDataCache;
+
+    @Value("${mail.outbox.workers:4}")
+    private int workers;
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.stuck-timeout-minutes:10}")
+    private int stuckTimeoutMinutes;
+
+    @Value("${mail.outbox.retry-delay-seconds:60}")
+    private long retryDelaySeconds;
+
+    @Value("${mail.outbox.max-retry-delay-seconds:3600}")
+    private long maxRetryDelaySeconds;
+
+    // 리마인더 로그 자동 재발송 횟수 (이 횟수를 다 쓴 실패만 일일 집계에 실패로 센다)
+    @Value("${reminder.retry.max-retries:5}")
+    private int maxReminderRetries;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Mail outbox dispatcher started with {} workers", workers);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 발송 대기 메일 처리
+     * 배치를 선점(SENDING)하고 커밋한 뒤 워커 풀에서 병렬 발송한다. 배치가 가득 차 있으면 바로 다음 배치를 가져온다.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        while (true) {
+            // 반개방 탐침 허가는 실제 첫 발송(sendBulk)에서 받도록 여기서는 조회만 한다
+            if (circuitBreaker.isOpen()) {
+                log.debug("SMTP circuit is open, skipping outbox dispatch");
+                return;
+            }
+
+            List<MailOutbox> batch = transactionTemplate.execute(status -> claimBatch());
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+
+            // 워커마다 한 조각씩 맡아 풀링된 SMTP 연결 하나로 연속 발송
+            int sliceSize = (batch.size() + workers - 1) / workers;
+            List<CompletableFuture<List<MailOutbox>>> futures = new ArrayList<>();
+            for (int from = 0; from < batch.size(); from += sliceSize) {
+                List<MailOutbox> slice = batch.subList(from, Math.min(from + sliceSize, batch.size()));
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> emailService.sendBulk(slice, circuitBreaker::allowRequest, this::recordResult), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            invalidateReminderUsers(batch);
+
+            List<Long> unsentIds = futures.stream()
+                    .flatMap(future -> future.join().stream())
+                    .map(MailOutbox::getId)
+                    .toList();
+            if (!unsentIds.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> mailOutboxRepository.releaseUnsent(unsentIds));
+                log.warn("SMTP circuit opened during dispatch, released {} unsent mails back to PENDING", unsentIds.size());
+                return;
+            }
+
+            log.debug("Dispatched {} mails from outbox", batch.size());
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 발송 도중 종료되어 SENDING 상태로 남은 메일 복구
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void releaseStuckMails() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(stuckTimeoutMinutes);
+        Integer released = transactionTemplate.execute(status -> mailOutboxRepository.releaseStuck(threshold));
+        if (released != null && released > 0) {
+            log.warn("Released {} stuck mails back to PENDING", released);
+        }
+    }
+
+    private List<MailOutbox> claimBatch() {
+        List<MailOutbox> batch = mailOutboxRepository.findPendingForUpdate(LocalDateTime.now(), batchSize);
+        batch.forEach(MailOutbox::markSending);
+        return batch;
+    }
+
+    /**
+     * 메일별 발송 결과 기록 (워커 스레드) - error가 null이면 성공, 메일별 트랜잭션으로 기록
+     * 리마인더 로그가 SENT로 바뀌거나 재발송 횟수를 다 쓰고 FAILED로 끝나면 같은 트랜잭션에서 사용자별 일일 발송 집계도 누적한다.
+     */
+    void recordResult(MailOutbox message, Exception error) {
+        Long reminderLogId = message.getReminderLog() != null ? message.getReminderLog().getId() : null;
+
+        if (error == null) {
+            circuitBreaker.recordSuccess();
+            LocalDateTime sentAt = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                mailOutboxRepository.markSent(message.getId(), sentAt);
+                if (reminderLogId != null) {
+                    reminderLogRepository.updateStatus(reminderLogId, ReminderLog.ReminderStatus.SENT, sentAt);
+                    reminderDailyStatRepository.recordSent(reminderLogId, sentAt.toLocalDate(), sentAt);
+                }
+            });
+            return;
+        }
+
+        // 수신자 거부/영구 실패는 SMTP 서버가 응답한 것이므로 장애로 세지 않는다
+        boolean permanent = isPermanentFailure(error);
+        if (!permanent && !(error instanceof SendFailedException)) {
+            circuitBreaker.recordFailure();
+        }
+
+        boolean exhausted = permanent || message.getAttempts() >= maxAttempts;
+        MailOutbox.MailStatus nextStatus = exhausted ? MailOutbox.MailStatus.FAILED : MailOutbox.MailStatus.PENDING;
+        LocalDateTime nextAttemptAt = exhausted ? null : LocalDateTime.now().plusSeconds(retryDelay(message.getAttempts()));
+        log.warn("Mail delivery failed (outbox id: {}, attempt {}/{}, permanent: {}): {}",
+                message.getId(), message.getAttempts(), maxAttempts, permanent, error.getMessage());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            mailOutboxRepository.markFailed(message.getId(), nextStatus, truncate(error.getMessage()), nextAttemptAt);
+            if (exhausted && reminderLogId != null) {
+                reminderLogRepository.markFailed(reminderLogId);
+                reminderDailyStatRepository.recordFailedIfExhausted(reminderLogId, LocalDate.now(), maxReminderRetries);
+            }
+        });
+        if (exhausted && reminderLogId != null) {
+            reminderMetrics.countFailed();
+        }
+    }
+
+    /**
+     * 다시 보내도 같은 결과인 실패
+     * SMTP 응답 코드가 있으면 5xx만 영구 실패(4xx는 일시 오류)이고, 코드 없는 수신자 거부와 잘못된 주소도 영구 실패로 본다.
+     */
+    static boolean isPermanentFailure(Exception error) {
+        // MessagingException.getCause()는 getNextException()으로 이어진 원인(SMTP 응답)을 돌려준다
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SMTPAddressFailedException smtp) {
+                return smtp.getReturnCode() / 100 == 5;
+            }
+            if (cause instanceof SMTPSendFailedException smtp) {
+                return smtp.getReturnCode() / 100 == 5;
+            }
+        }
+        return error instanceof SendFailedException || error instanceof AddressException;
+    }
+
+    /**
+     * 재시도 지연: retry-delay * 2^(attempts - 1) (최대 max-retry-delay)
+     */
+    long retryDelay(int attempts) {
+        long exponential = retryDelaySeconds << Math.min(Math.max(attempts - 1, 0), MAX_BACKOFF_EXPONENT);
+        return Math.min(exponential, maxRetryDelaySeconds);
+    }
+
+    // 리마인더 발송 결과(SENT/FAILED)가 반영된 사용자의 대시보드/통계 캐시 무효화 (배치당 쿼리 1회)
+    private void invalidateReminderUsers(List<MailOutbox> batch) {
+        List<Long> reminderLogIds = batch.stream()
+                .map(MailOutbox::getReminderLog)
+                .filter(Objects::nonNull)
+                .map(ReminderLog::getId)
+                .toList();
+        if (!reminderLogIds.isEmpty()) {
+            reminderLogRepository.findUserIdsByIds(reminderLogIds).forEach(userDataCache::invalidate);
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,172 @@
+package com.daymemory.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 메일 HTML 템플릿 렌더러
+ * templates/mail/{name}[_{language}].html 을 기동 시 한 번만 읽어 정적 조각과 {{placeholder}} 목록으로 컴파일해 두고,
+ * 렌더링 시에는 조각 사이에 HTML 이스케이프한 값을 끼워 넣기만 한다.
+ * 출력 버퍼(StringBuilder)는 스레드별로 재사용한다.
+ * 결과는 어차피 String(아웃박스 body, MimeMessage)으로 쓰이므로 조각을 UTF-8 바이트가 아닌 문자열로 보관해 디코딩 비용을 없앤다.
+ */
+@Component
+@Slf4j
+public class MailTemplateRenderer {
+
+    public static final Locale DEFAULT_LOCALE = Locale.KOREAN;
+
+    private static final String TEMPLATE_LOCATION = "classpath*:templates/mail/*.html";
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*([A-Za-z0-9_]+)\\s*}}");
+
+    // 이보다 커진 버퍼는 렌더링 후 버려서 스레드별로 큰 배열이 계속 남지 않게 한다
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final Map<String, CompiledTemplate> templates = new HashMap<>();
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    @PostConstruct
+    public void init() {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION);
+            for (Resource resource : resources) {
+                String filename = resource.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                String key = filename.substring(0, filename.length() - ".html".length());
+                try (InputStream in = resource.getInputStream()) {
+                    templates.put(key, compile(key, new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load mail templates", e);
+        }
+        log.info("Compiled {} mail templates: {}", templates.size(), templates.keySet());
+    }
+
+    /**
+     * 기본 로케일(ko)로 렌더링
+     */
+    public String render(String templateName, Map<String, ?> values) {
+        return render(templateName, DEFAULT_LOCALE, values);
+    }
+
+    /**
+     * 로케일별 템플릿으로 렌더링 (name_ko_KR → name_ko → name 순으로 찾는다)
+     */
+    public String render(String templateName, Locale locale, Map<String, ?> values) {
+        CompiledTemplate template = resolve(templateName, locale);
+
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        try {
+            template.writeTo(buffer, values);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                buffers.remove();
+            }
+        }
+    }
+
+    private CompiledTemplate resolve(String templateName, Locale locale) {
+        if (locale != null) {
+            if (!locale.getCountry().isEmpty()) {
+                CompiledTemplate template = templates.get(templateName + "_" + locale.getLanguage() + "_" + locale.getCountry());
+                if (template != null) {
+                    return template;
+                }
+            }
+            CompiledTemplate template = templates.get(templateName + "_" + locale.getLanguage());
+            if (template != null) {
+                return template;
+            }
+        }
+
+        CompiledTemplate template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown mail template: " + templateName);
+        }
+        return template;
+    }
+
+    static CompiledTemplate compile(String name, String source) {
+        List<String> segments = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int last = 0;
+        while (matcher.find()) {
+            segments.add(source.substring(last, matcher.start()));
+            placeholders.add(matcher.group(1));
+            last = matcher.end();
+        }
+        segments.add(source.substring(last));
+
+        return new CompiledTemplate(name, segments.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    /**
+     * 컴파일된 템플릿: segments[0] + value(placeholders[0]) + segments[1] + ... + segments[n]
+     */
+    static final class CompiledTemplate {
+
+        private final String name;
+        private final String[] segments;
+        private final String[] placeholders;
+        private final int staticLength;
+
+        CompiledTemplate(String name, String[] segments, String[] placeholders) {
+            this.name = name;
+            this.segments = segments;
+            this.placeholders = placeholders;
+            this.staticLength = Arrays.stream(segments).mapToInt(String::length).sum();
+        }
+
+        void writeTo(StringBuilder buffer, Map<String, ?> values) {
+            buffer.ensureCapacity(staticLength + placeholders.length * 32);
+            buffer.append(segments[0]);
+            for (int i = 0; i < placeholders.length; i++) {
+                if (!values.containsKey(placeholders[i])) {
+                    throw new IllegalArgumentException(
+                            "Missing value for placeholder '" + placeholders[i] + "' in mail template: " + name);
+                }
+                Object value = values.get(placeholders[i]);
+                if (value != null) {
+                    appendEscaped(buffer, value.toString());
+                }
+                buffer.append(segments[i + 1]);
+            }
+        }
+    }
+
+    private static void appendEscaped(StringBuilder buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> buffer.append("&amp;");
+                case '<' -> buffer.append("&lt;");
+                case '>' -> buffer.append("&gt;");
+                case '"' -> buffer.append("&quot;");
+                case '\'' -> buffer.append("&#39;");
+                default -> buffer.append(c);
+            }
+        }
+    }
+}
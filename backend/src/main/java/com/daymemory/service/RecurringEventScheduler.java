@@ -0,0 +1,32 @@
+package com.daymemory.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 반복 이벤트 리마인더 발송일 갱신 스케줄러
+ * 여러 인스턴스가 같은 시각에 깨어나도 임대를 얻은 인스턴스 하나만 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecurringEventScheduler {
+
+    static final String JOB_NAME = RecurringEventService.JOB_NAME;
+
+    // 실행 중 인스턴스가 죽으면 1시간 뒤 다른 인스턴스가 재시도할 수 있다
+    private static final Duration LOCK_AT_MOST = Duration.ofHours(1);
+    // 인스턴스 간 시계 차이로 늦게 깨어난 인스턴스가 다시 실행하지 않도록 유지
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(10);
+
+    private final RecurringEventService recurringEventService;
+    private final JobCoordinator jobCoordinator;
+
+    @Scheduled(cron = "0 0 0 * * ?") // 매일 자정 실행
+    public void run() {
+        jobCoordinator.runExclusive(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST,
+                () -> JobResult.of(recurringEventService.advanceRecurringReminders()));
+    }
+}
@@ -1,141 +1,80 @@
 package com.daymemory.service;
 
-import com.daymemory.domain.entity.Event;
-import com.daymemory.domain.entity.EventReminder;
-import com.daymemory.domain.repository.EventRepository;
-import com.daymemory.exception.CustomException;
-import com.daymemory.exception.ErrorCode;
+import com.daymemory.domain.entity.ReminderDue;
+import com.daymemory.domain.repository.ReminderDueRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 이벤트 처리
+ * 반복 이벤트는 해마다 행을 복사하지 않고 한 행(eventDate = 첫 발생일)이 모든 발생일을 대표한다.
+ * 발생일은 조회 시점에 Event.nextOccurrence / occurrencesBetween으로 계산하고,
+ * 발송 예정 리마인더(reminder_due)만 발송일이 지날 때마다 다음 발생일로 옮긴다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RecurringEventService {
 
-    private final EventRepository eventRepository;
-
-    /**
-     * 매일 자정에 실행되어 반복 이벤트를 자동 생성
-     * 이벤트 날짜가 지났고, isRecurring이 true인 이벤트를 다음 해로 복사
-     */
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 자정 실행
-    @Transactional
-    public void processRecurringEvents() {
-        log.info("Starting recurring events processing...");
-
-        LocalDate today = LocalDate.now();
-
-        // 모든 활성화된 반복 이벤트 조회
-        List<Event> allRecurringEvents = findAllRecurringEvents();
-
-        int createdCount = 0;
-        for (Event event : allRecurringEvents) {
-            // 이벤트 날짜가 오늘보다 이전이면 다음 해로 복사
-            if (event.getEventDate().isBefore(today)) {
-                createNextYearEvent(event);
-                createdCount++;
-            }
-        }
+    static final String JOB_NAME = "recurring-reminder-advance";
 
-        log.info("Recurring events processing completed. Created {} events", createdCount);
-    }
+    // 한 청크(트랜잭션)에서 옮길 리마인더 수
+    private static final int CHUNK_SIZE = 500;
 
-    /**
-     * 모든 활성화된 반복 이벤트 조회 (N+1 문제 방지)
-     */
-    private List<Event> findAllRecurringEvents() {
-        // User와 Reminders를 fetch join으로 함께 조회 (101 queries → 1 query)
-        return eventRepository.findAllRecurringEventsWithReminders();
-    }
+    private final ReminderDueRepository reminderDueRepository;
+    private final ChunkJobRunner chunkJobRunner;
+    private final UserDataCache userDataCache;
 
     /**
-     * 반복 이벤트를 다음 해로 복사
+     * 반복 이벤트 리마인더 발송일 갱신 (RecurringEventScheduler가 매일 자정 실행)
+     * 발송일이 지난 반복 이벤트의 reminder_due를 키셋 커서로 청크 단위 조회해 다음 발생일 기준 발송일로 옮긴다 (더티 체킹으로 일괄 UPDATE).
+     * 옮긴 행은 발송일이 오늘 이후가 되어 다시 조회되지 않고 다음 발생일이 없는 행은 삭제되며, 중단 후 다시 실행하면 체크포인트 다음부터 이어서 처리한다.
+     * 발송 슬롯은 사용자 시간대의 날짜로 발송일을 비교하므로, 서버 자정에는 서쪽 시간대 사용자의 어제가 아직 끝나지 않았다.
+     * 그래서 "지난 발송일"은 서버 날짜가 아니라 가장 늦은 시간대(UTC-18)의 오늘보다 이전인 발송일로 본다.
+     *
+     * @return 옮긴 리마인더 수
      */
-    private void createNextYearEvent(Event originalEvent) {
-        LocalDate originalDate = originalEvent.getEventDate();
-        LocalDate nextYearDate;
-
-        // 윤년 2월 29일 처리: 다음 해가 윤년이 아니면 2월 28일로 조정
-        if (originalDate.getMonthValue() == 2 && originalDate.getDayOfMonth() == 29) {
-            int nextYear = originalDate.getYear() + 1;
-            // 다음 해가 윤년인지 확인
-            if (LocalDate.of(nextYear, 1, 1).isLeapYear()) {
-                nextYearDate = LocalDate.of(nextYear, 2, 29);
-            } else {
-                nextYearDate = LocalDate.of(nextYear, 2, 28);
+    public int advanceRecurringReminders() {
+        log.info("Starting recurring reminder advance...");
+
+        LocalDate runDate = LocalDate.now();
+        LocalDate earliestToday = LocalDate.now(ZoneOffset.MIN);
+        long advanced = chunkJobRunner.run(JOB_NAME, runDate.toString(), CHUNK_SIZE, lastId -> {
+            List<ReminderDue> dues = reminderDueRepository.findPassedRecurringAfter(
+                    earliestToday, lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (dues.isEmpty()) {
+                return ChunkResult.empty(lastId);
             }
-        } else {
-            nextYearDate = originalDate.plusYears(1);
-        }
-
-        // 다음 해 이벤트가 이미 존재하는지 확인
-        if (isEventAlreadyExists(originalEvent, nextYearDate)) {
-            log.debug("Event already exists for next year: {}", originalEvent.getTitle());
-            return;
-        }
-
-        // 새로운 이벤트 생성 (원본 이벤트 복사)
-        // 설명(description)은 제외하고, 대상자명과 관계는 포함
-        Event newEvent = Event.builder()
-                .user(originalEvent.getUser())
-                .title(originalEvent.getTitle())
-                .recipientName(originalEvent.getRecipientName())
-                .relationship(originalEvent.getRelationship())
-                .eventDate(nextYearDate)
-                .eventType(originalEvent.getEventType())
-                .isRecurring(true)
-                .isTracking(originalEvent.getIsTracking())
-                .build();
-
-        // 리마인더도 복사
-        for (EventReminder originalReminder : originalEvent.getReminders()) {
-            EventReminder newReminder = EventReminder.builder()
-                    .event(newEvent)
-                    .daysBeforeEvent(originalReminder.getDaysBeforeEvent())
-                    .isActive(originalReminder.getIsActive())
-                    .build();
-            newEvent.addReminder(newReminder);
-        }
-
-        eventRepository.save(newEvent);
-
-        // 원본 이벤트 비활성화 (선택사항 - 원하면 활성화 상태 유지 가능)
-        originalEvent.deactivate();
-
-        log.info("Created recurring event for next year: {} -> {}",
-                originalEvent.getEventDate(), nextYearDate);
-    }
-
-    /**
-     * 같은 사용자, 같은 제목, 같은 날짜의 이벤트가 이미 존재하는지 확인
-     */
-    private boolean isEventAlreadyExists(Event originalEvent, LocalDate targetDate) {
-        List<Event> userEvents = eventRepository.findByUserIdAndIsActiveTrue(originalEvent.getUser().getId());
-
-        return userEvents.stream()
-                .anyMatch(e -> e.getTitle().equals(originalEvent.getTitle())
-                        && e.getEventDate().equals(targetDate));
-    }
-
-    /**
-     * 수동으로 반복 이벤트 생성 (테스트용)
-     */
-    @Transactional
-    public void createRecurringEventManually(Long eventId) {
-        Event event = eventRepository.findByIdWithUserAndReminders(eventId)
-                .orElseThrow(() -> new CustomException(ErrorCode.EVENT_NOT_FOUND));
-
-        if (!Boolean.TRUE.equals(event.getIsRecurring())) {
-            throw new CustomException(ErrorCode.EVENT_NOT_RECURRING);
-        }
-
-        createNextYearEvent(event);
+            // 다음 발생일이 없는 리마인더(음력 환산 범위 초과)는 옮기지 않고 삭제
+            List<ReminderDue> finished = new ArrayList<>();
+            for (ReminderDue due : dues) {
+                LocalDate fireDate = ReminderDueService.fireDate(due.getEvent(), due.getDaysBeforeEvent(), earliestToday);
+                if (fireDate == null) {
+                    finished.add(due);
+                } else {
+                    due.reschedule(fireDate);
+                }
+            }
+            if (!finished.isEmpty()) {
+                reminderDueRepository.deleteAll(finished);
+                log.info("Removed {} recurring reminders with no further occurrence", finished.size());
+            }
+            // 대시보드의 오늘 리마인더가 바뀐 사용자만 무효화 (청크 커밋 후 한 번 더)
+            Set<Long> userIds = dues.stream().map(ReminderDue::getUserId).collect(Collectors.toSet());
+            userIds.forEach(userDataCache::invalidate);
+            return ChunkResult.of(dues.size(), dues.size(), dues.get(dues.size() - 1).getId());
+        });
+
+        log.info("Recurring reminder advance completed. Advanced {} reminders", advanced);
+        return (int) advanced;
     }
 }
@@ -0,0 +1,91 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.ReminderDue;
+import com.daymemory.domain.repository.ReminderDueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * reminder_due 프로젝션 동기화
+ * 이벤트 날짜, 리마인더, 추적/활성 상태가 바뀔 때마다 해당 이벤트의 행을 다시 계산한다.
+ * 반복 이벤트는 리마인더마다 오늘 이후 가장 가까운 발송일 1행만 두고, 발송일이 지나면 RecurringEventService가 다음 발생일로 옮긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReminderDueService {
+
+    private final ReminderDueRepository reminderDueRepository;
+
+    /**
+     * 이벤트의 발송 예정 리마인더를 다시 계산 (기존 행 삭제 후 재생성)
+     */
+    @Transactional
+    public void refresh(Event event) {
+        refreshAll(List.of(event));
+    }
+
+    /**
+     * 여러 이벤트의 발송 예정 리마인더를 한 번에 다시 계산 (DELETE 1회 + 배치 INSERT)
+     */
+    @Transactional
+    public void refreshAll(Collection<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Set<Long> eventIds = events.stream()
+                .map(Event::getId)
+                .collect(Collectors.toSet());
+        reminderDueRepository.deleteByEventIdIn(eventIds);
+
+        List<ReminderDue> dues = events.stream()
+                .filter(event -> Boolean.TRUE.equals(event.getIsActive()) && Boolean.TRUE.equals(event.getIsTracking()))
+                .flatMap(event -> buildDues(event).stream())
+                .collect(Collectors.toList());
+
+        reminderDueRepository.saveAll(dues);
+        log.debug("Refreshed {} due reminders for {} events", dues.size(), events.size());
+    }
+
+    private List<ReminderDue> buildDues(Event event) {
+        LocalDate today = LocalDate.now();
+        // 같은 일수의 리마인더가 중복 등록된 경우 한 번만 발송, 더 이상 발생일이 없는 리마인더는 만들지 않음
+        return event.getReminders().stream()
+                .filter(EventReminder::getIsActive)
+                .map(EventReminder::getDaysBeforeEvent)
+                .distinct()
+                .flatMap(days -> {
+                    LocalDate fireDate = fireDate(event, days, today);
+                    return fireDate == null ? Stream.empty() : Stream.of(ReminderDue.builder()
+                            .event(event)
+                            .userId(event.getUser().getId())
+                            .daysBeforeEvent(days)
+                            .fireDate(fireDate)
+                            .build());
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 리마인더 발송일: 반복 이벤트는 발송일이 오늘 이후인 첫 발생일 기준, 그 외에는 이벤트 날짜 기준
+     * 음력 반복이 환산 범위(LunarCalendar.MAX_YEAR)를 넘어 더 이상 발생일이 없으면 null
+     */
+    public static LocalDate fireDate(Event event, int daysBeforeEvent, LocalDate today) {
+        LocalDate occurrence = event.recurrence() == Event.RecurrenceRule.NONE
+                ? event.getEventDate()
+                : event.nextOccurrence(today.plusDays(daysBeforeEvent));
+        return occurrence == null ? null : occurrence.minusDays(daysBeforeEvent);
+    }
+}
@@ -0,0 +1,129 @@
+package com.daymemory.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 리마인더 발송 파이프라인 메트릭 (GET /actuator/metrics/{name}, /actuator/prometheus)
+ * - reminder.run             : 발송 실행 전체 소요 시간 (trigger = slot)
+ * - reminder.phase           : 단계별 소요 시간 (phase = query | render | smtp)
+ * - reminder.messages        : 리마인더 건수 (outcome = sent | failed | duplicate)
+ * - reminder.run.lag         : 마지막 슬롯 실행의 예정 발송 시각 대비 지연
+ * - mail.smtp.send           : 메일 한 건의 SMTP 발송 지연 히스토그램 (outcome = success | failure)
+ */
+@Component
+public class ReminderMetrics {
+
+    static final String RUN = "reminder.run";
+    static final String PHASE = "reminder.phase";
+    static final String MESSAGES = "reminder.messages";
+    static final String RUN_LAG = "reminder.run.lag";
+    static final String SMTP_SEND = "mail.smtp.send";
+
+    private final MeterRegistry registry;
+
+    private final Timer queryTimer;
+    private final Timer renderTimer;
+    private final Timer smtpTimer;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter duplicateCounter;
+
+    private final Timer smtpSuccessTimer;
+    private final Timer smtpFailureTimer;
+
+    private final AtomicLong runLagMillis = new AtomicLong();
+
+    public ReminderMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        this.queryTimer = phaseTimer("query");
+        this.renderTimer = phaseTimer("render");
+        this.smtpTimer = phaseTimer("smtp");
+
+        this.sentCounter = messageCounter("sent");
+        this.failedCounter = messageCounter("failed");
+        this.duplicateCounter = messageCounter("duplicate");
+
+        this.smtpSuccessTimer = smtpSendTimer("success");
+        this.smtpFailureTimer = smtpSendTimer("failure");
+
+        TimeGauge.builder(RUN_LAG, runLagMillis, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+                .description("Delay of the last reminder slot run behind its scheduled send time")
+                .register(registry);
+    }
+
+    public Timer.Sample startRun() {
+        return Timer.start(registry);
+    }
+
+    public void stopRun(Timer.Sample sample, String trigger) {
+        sample.stop(Timer.builder(RUN)
+                .description("Duration of a whole reminder run")
+                .tag("trigger", trigger)
+                .register(registry));
+    }
+
+    public <T> T recordQuery(Supplier<T> query) {
+        return queryTimer.record(query);
+    }
+
+    public <T> T recordRender(Supplier<T> render) {
+        return renderTimer.record(render);
+    }
+
+    public void recordSmtpPhase(long durationNanos) {
+        smtpTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRunLag(Duration lag) {
+        runLagMillis.set(Math.max(0, lag.toMillis()));
+    }
+
+    public void recordSmtpSend(long durationNanos, boolean success) {
+        (success ? smtpSuccessTimer : smtpFailureTimer).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void countSent() {
+        sentCounter.increment();
+    }
+
+    public void countFailed() {
+        failedCounter.increment();
+    }
+
+    public void countDuplicate() {
+        duplicateCounter.increment();
+    }
+
+    private Timer phaseTimer(String phase) {
+        return Timer.builder(PHASE)
+                .description("Duration of a reminder pipeline phase")
+                .tag("phase", phase)
+                .register(registry);
+    }
+
+    private Counter messageCounter(String outcome) {
+        return Counter.builder(MESSAGES)
+                .description("Reminders by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private Timer smtpSendTimer(String outcome) {
+        return Timer.builder(SMTP_SEND)
+                .description("SMTP latency per message")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
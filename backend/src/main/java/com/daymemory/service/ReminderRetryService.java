@@ -0,0 +1,169 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.ReminderLog;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 실패 리마인더 자동 재발송
+ * FAILED 로그를 키셋 커서로 배치 조회해 로그마다 지수 백오프 + 지터로 재발송 시각을 잡고, 시각이 된 로그는 같은 행을 재사용해 다시 적재한다.
+ * - 새로 실패한 로그: 재발송 시각만 예약 (retryCount에 따라 base * 2^n, 최대 max-delay)
+ * - 재발송 시각이 된 로그: ReminderService.requeueFailed로 멱등 키를 다시 선점하고 아웃박스 재적재 (이미 선점된 키는 SUPERSEDED)
+ * - 알린 발생일이 지났거나 삭제/추적 해제/알림 해제된 이벤트의 로그: SUPERSEDED 처리해 재시도 대상에서 제외
+ * - max-age-days보다 오래전에 발송된 실패 로그(자동 재발송 도입 이전 로그 포함)는 조회하지 않는다.
+ * - max-retries를 넘긴 로그는 FAILED로 남아 수동 재발송 대상이 된다.
+ * SMTP 서킷 브레이커가 열려 있으면 재적재하지 않고, 여러 인스턴스 중 JobCoordinator 임대를 얻은 하나만 실행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReminderRetryService {
+
+    static final String JOB_NAME = "reminder-retry";
+
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST = Duration.ofSeconds(30);
+
+    // 2^n 계산 시 오버플로 방지
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
+    private final ReminderLogRepository reminderLogRepository;
+    private final ReminderDailyStatRepository reminderDailyStatRepository;
+    private final ReminderService reminderService;
+    private final SmtpCircuitBreaker circuitBreaker;
+    private final JobCoordinator jobCoordinator;
+    private final TransactionTemplate transactionTemplate;
+    private final UserDataCache userDataCache;
+
+    @Value("${reminder.retry.batch-size:100}")
+    private int batchSize;
+
+    @Value("${reminder.retry.max-retries:5}")
+    private int maxRetries;
+
+    @Value("${reminder.retry.base-delay-seconds:300}")
+    private long baseDelaySeconds;
+
+    @Value("${reminder.retry.max-delay-seconds:21600}")
+    private long maxDelaySeconds;
+
+    @Value("${reminder.retry.max-age-days:7}")
+    private long maxAgeDays;
+
+    private DoubleSupplier jitter = () -> ThreadLocalRandom.current().nextDouble();
+
+    @Scheduled(fixedDelayString = "${reminder.retry.poll-interval-ms:60000}")
+    public void retryFailedReminders() {
+        if (circuitBreaker.isOpen()) {
+            log.debug("SMTP circuit is open, skipping reminder retry");
+            return;
+        }
+        jobCoordinator.runExclusive(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, this::processRetries);
+    }
+
+    private JobResult processRetries() {
+        LocalDateTime now = LocalDateTime.now();
+        long lastId = 0L;
+        RetryCounts total = new RetryCounts();
+
+        while (!circuitBreaker.isOpen()) {
+            long cursor = lastId;
+            RetryCounts counts = new RetryCounts();
+            List<ReminderLog> batch = transactionTemplate.execute(status -> processBatch(now, cursor, counts));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            total.add(counts);
+            lastId = batch.get(batch.size() - 1).getId();
+
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (total.processed() > 0) {
+            log.info("Reminder retry: {} requeued, {} scheduled, {} superseded",
+                    total.requeued, total.scheduled, total.superseded);
+        }
+        return JobResult.of(total.processed());
+    }
+
+    /**
+     * 배치 처리 (배치마다 커밋, 변경은 더티 체킹으로 반영)
+     */
+    private List<ReminderLog> processBatch(LocalDateTime now, long lastId, RetryCounts counts) {
+        List<ReminderLog> batch = reminderLogRepository.findRetryableAfter(
+                now, now.minusDays(maxAgeDays), maxRetries, lastId, PageRequest.of(0, batchSize));
+
+        LocalDate today = now.toLocalDate();
+        for (ReminderLog failedLog : batch) {
+            if (isObsolete(failedLog, today)) {
+                failedLog.supersede();
+                // 더 보내지 않으므로 여기서 최종 실패로 센다 (재시도 중의 실패는 세지 않았다)
+                reminderDailyStatRepository.recordFailed(failedLog.getId(), today);
+                userDataCache.invalidate(failedLog.getEvent().getUser().getId());
+                counts.superseded++;
+            } else if (failedLog.getNextRetryAt() == null) {
+                failedLog.scheduleRetry(now.plus(backoff(failedLog.getRetryCount())));
+                counts.scheduled++;
+            } else if (reminderService.requeueFailed(failedLog)) {
+                counts.requeued++;
+            } else {
+                counts.superseded++;
+            }
+        }
+        return batch;
+    }
+
+    // 다시 보내도 의미가 없는 리마인더 (반복 이벤트는 다음 발생일이 항상 있으므로 로그가 알린 발생일로 판단)
+    private boolean isObsolete(ReminderLog failedLog, LocalDate today) {
+        Event event = failedLog.getEvent();
+        return failedLog.occurrenceDate().isBefore(today)
+                || event.nextOccurrence(today) == null
+                || !Boolean.TRUE.equals(event.getIsActive())
+                || !Boolean.TRUE.equals(event.getIsTracking())
+                || !Boolean.TRUE.equals(event.getUser().getReminderEnabled());
+    }
+
+    /**
+     * 지수 백오프 + 지터: base * 2^retryCount (최대 max-delay)의 절반~전체 구간에서 무작위로 고른다.
+     * 같은 장애로 함께 실패한 메일들이 한꺼번에 재발송되지 않도록 분산한다.
+     */
+    Duration backoff(int retryCount) {
+        long exponential = baseDelaySeconds << Math.min(retryCount, MAX_BACKOFF_EXPONENT);
+        long capped = Math.min(exponential, maxDelaySeconds);
+        long half = capped / 2;
+        return Duration.ofSeconds(half + (long) (jitter.getAsDouble() * (capped - half)));
+    }
+
+    private static final class RetryCounts {
+        private int requeued;
+        private int scheduled;
+        private int superseded;
+
+        private void add(RetryCounts other) {
+            requeued += other.requeued;
+            scheduled += other.scheduled;
+            superseded += other.superseded;
+        }
+
+        private int processed() {
+            return requeued + scheduled + superseded;
+        }
+    }
+}
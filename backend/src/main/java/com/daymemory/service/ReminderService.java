@@ -2,20 +2,31 @@ package com.daymemory.service;
 
 import com.daymemory.domain.entity.Event;
 import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.ReminderDue;
 import com.daymemory.domain.entity.ReminderLog;
 import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderDueRepository;
 import com.daymemory.domain.repository.ReminderLogRepository;
 import com.daymemory.exception.CustomException;
 import com.daymemory.exception.ErrorCode;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.function.LongFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,100 +34,175 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ReminderService {
 
+    static final String SLOT_JOB_NAME = "reminder-slot";
+
+    // 한 청크(트랜잭션)에서 처리할 리마인더 수
+    private static final int CHUNK_SIZE = 200;
+
     private final EventRepository eventRepository;
     private final ReminderLogRepository reminderLogRepository;
+    private final ReminderDueRepository reminderDueRepository;
+    private final ReminderDailyStatRepository reminderDailyStatRepository;
     private final EmailService emailService;
+    private final ReminderMetrics reminderMetrics;
+    private final ChunkJobRunner chunkJobRunner;
+    private final UserDataCache userDataCache;
 
-    @Scheduled(cron = "0 0 9 * * ?") // 매일 오전 9시 실행
-    @Transactional
-    public void sendDailyReminders() {
-        log.info("Starting daily reminder check...");
+    // 자동 재발송 횟수 (이 횟수를 다 쓴 실패만 일일 집계에 실패로 센다)
+    @Value("${reminder.retry.max-retries:5}")
+    private int maxRetries;
 
-        LocalDate today = LocalDate.now();
-
-        // 가능한 모든 리마인더 일수 범위 확인 (1일부터 365일까지)
-        // 실제로는 활성화된 리마인더만 확인하기 위해 추적 중인 이벤트를 조회
-        LocalDate startDate = today.plusDays(1);
-        LocalDate endDate = today.plusDays(365);
-
-        List<Event> trackingEvents = eventRepository.findTrackingEventsBetweenDates(startDate, endDate);
+    /**
+     * 발송 슬롯 처리: 해당 (시간대, 발송 시각)을 설정한 사용자의 fireDate 리마인더만 발송
+     */
+    public int sendSlotReminders(String timeZone, LocalTime reminderTime, LocalDate fireDate) {
+        Instant scheduledAt = ZonedDateTime.of(fireDate, reminderTime, ZoneId.of(timeZone)).toInstant();
+        reminderMetrics.recordRunLag(Duration.between(scheduledAt, Instant.now()));
 
-        // 날짜별로 그룹화
-        Map<LocalDate, List<Event>> eventsByDate = trackingEvents.stream()
-                .collect(Collectors.groupingBy(Event::getEventDate));
+        Timer.Sample run = reminderMetrics.startRun();
+        try {
+            return sendDueReminders(SLOT_JOB_NAME, timeZone + " " + reminderTime + " " + fireDate, fireDate,
+                    lastId -> reminderDueRepository.findSlotDueAfter(
+                            fireDate, timeZone, reminderTime, lastId, PageRequest.of(0, CHUNK_SIZE)));
+        } finally {
+            reminderMetrics.stopRun(run, "slot");
+        }
+    }
 
-        // 각 날짜에 대해 리마인더 확인 및 발송
-        for (Map.Entry<LocalDate, List<Event>> entry : eventsByDate.entrySet()) {
-            LocalDate eventDate = entry.getKey();
-            List<Event> events = entry.getValue();
+    /**
+     * reminder_due 프로젝션에서 발송일인 행만 키셋 커서로 청크 단위 조회하고, 청크마다 커밋한다.
+     * 청크가 끝나면 영속성 컨텍스트가 비워지므로 이벤트 수와 무관하게 메모리 사용량이 일정하다.
+     * 청크를 커밋할 때 마지막 reminder_due id를 체크포인트로 남기므로 중단된 실행은 그 다음부터 이어서 발송한다.
+     */
+    private int sendDueReminders(String jobName, String jobKey, LocalDate fireDate,
+                                 LongFunction<List<ReminderDue>> nextChunk) {
+        long processedCount = chunkJobRunner.run(jobName, jobKey, CHUNK_SIZE, lastId -> {
+            List<ReminderDue> dues = reminderMetrics.recordQuery(() -> nextChunk.apply(lastId));
+            if (dues.isEmpty()) {
+                return ChunkResult.empty(lastId);
+            }
+            int processed = processChunk(dues, fireDate);
+            return ChunkResult.of(dues.size(), processed, dues.get(dues.size() - 1).getId());
+        });
 
-            int daysUntilEvent = (int) java.time.temporal.ChronoUnit.DAYS.between(today, eventDate);
+        log.debug("Reminder check for {} completed. {} reminders", fireDate, processedCount);
+        return (int) processedCount;
+    }
 
-            for (Event event : events) {
-                checkAndSendRemindersForEvent(event, daysUntilEvent);
+    /**
+     * 청크 단위 처리: 청크에 포함된 이벤트와 최근 발송 이력을 한 번에 조회 후 발송 (청크마다 커밋)
+     */
+    private int processChunk(List<ReminderDue> dues, LocalDate fireDate) {
+        Set<Long> eventIds = dues.stream()
+                .map(due -> due.getEvent().getId())
+                .collect(Collectors.toSet());
+
+        Map<Long, Event> eventsById = reminderMetrics.recordQuery(() -> eventRepository.findAllWithUserByIdIn(eventIds))
+                .stream()
+                .collect(Collectors.toMap(Event::getId, event -> event));
+        LongHashSet recentReminders = reminderMetrics.recordQuery(() -> findRecentReminderKeys(eventIds));
+
+        List<ReminderLog> candidates = new ArrayList<>();
+        for (ReminderDue due : dues) {
+            Event event = eventsById.get(due.getEvent().getId());
+            if (event == null) {
+                continue;
             }
+            candidates.add(pendingLog(event, due.getDaysBeforeEvent(), fireDate));
         }
 
-        log.info("Daily reminder check completed.");
+        return sendReminders(candidates, recentReminders);
     }
 
-    private void checkAndSendRemindersForEvent(Event event, int daysUntilEvent) {
-        // 이 이벤트의 활성화된 리마인더 중 오늘 발송해야 할 것들 찾기
-        List<EventReminder> remindersToSend = event.getReminders().stream()
-                .filter(EventReminder::getIsActive)
-                .filter(reminder -> reminder.getDaysBeforeEvent().equals(daysUntilEvent))
-                .collect(Collectors.toList());
+    /**
+     * 최근 24시간 내 발송 이력이 있는 (eventId, daysBeforeEvent) 쌍을 한 번의 쿼리로 조회
+     */
+    private LongHashSet findRecentReminderKeys(Collection<Long> eventIds) {
+        LocalDateTime checkDate = LocalDateTime.now().minusHours(24);
+        List<Object[]> rows = reminderLogRepository.findRecentReminderKeys(eventIds, checkDate);
 
-        for (EventReminder reminder : remindersToSend) {
-            sendReminder(event, reminder.getDaysBeforeEvent());
+        LongHashSet keys = new LongHashSet(rows.size());
+        for (Object[] row : rows) {
+            keys.add(reminderKey((Long) row[0], (Integer) row[1]));
         }
+        return keys;
     }
 
-    private void sendReminder(Event event, int daysBeforeEvent) {
-        try {
-            // 이미 최근에 보냈는지 확인 (24시간 이내)
-            LocalDateTime checkDate = LocalDateTime.now().minusHours(24);
-            Optional<ReminderLog> recentReminder = reminderLogRepository.findRecentReminder(
-                    event.getId(), daysBeforeEvent, checkDate
-            );
+    // (eventId, daysBeforeEvent)를 long 하나로 압축 (일수는 하위 20비트)
+    private static long reminderKey(long eventId, int daysBeforeEvent) {
+        return (eventId << 20) | daysBeforeEvent;
+    }
 
-            if (recentReminder.isPresent()) {
+    private ReminderLog pendingLog(Event event, int daysBeforeEvent, LocalDate fireDate) {
+        return ReminderLog.builder()
+                .event(event)
+                .daysBeforeEvent(daysBeforeEvent)
+                .sentAt(LocalDateTime.now())
+                .status(ReminderLog.ReminderStatus.PENDING)
+                .idempotencyKey(ReminderLog.idempotencyKey(event.getId(), daysBeforeEvent, fireDate))
+                .fireDate(fireDate)
+                .build();
+    }
+
+    /**
+     * 리마인더 발송: 최근 발송 건 제외 → 발송 대기 로그 일괄 선점(JDBC 배치) → 선점한 건만 아웃박스 적재
+     */
+    private int sendReminders(List<ReminderLog> candidates, LongHashSet recentReminders) {
+        List<ReminderLog> pending = new ArrayList<>();
+        for (ReminderLog candidate : candidates) {
+            // 이미 최근에 보냈는지 확인 (24시간 이내)
+            if (recentReminders.contains(reminderKey(candidate.getEvent().getId(), candidate.getDaysBeforeEvent()))) {
                 log.debug("Reminder already sent for event: {} ({} days before)",
-                        event.getId(), daysBeforeEvent);
-                return;
+                        candidate.getEvent().getId(), candidate.getDaysBeforeEvent());
+                reminderMetrics.countDuplicate();
+                continue;
             }
+            pending.add(candidate);
+        }
 
-            // 이메일 발송
+        // 멱등 키로 발송 대기 로그 선점 (동시/중복 실행 시 한 쪽만 적재)
+        Map<String, Long> claimed = reminderLogRepository.claimPending(pending);
+
+        int enqueued = 0;
+        for (ReminderLog reminder : pending) {
+            Long reminderLogId = claimed.get(reminder.getIdempotencyKey());
+            if (reminderLogId == null) {
+                log.debug("Reminder already claimed for event: {} ({} days before)",
+                        reminder.getEvent().getId(), reminder.getDaysBeforeEvent());
+                reminderMetrics.countDuplicate();
+                continue;
+            }
+            if (enqueueReminder(reminder.getEvent(), reminder.getDaysBeforeEvent(), reminderLogId)) {
+                enqueued++;
+            }
+        }
+        return enqueued;
+    }
+
+    private boolean enqueueReminder(Event event, int daysBeforeEvent, Long reminderLogId) {
+        try {
+            // 이메일 발송 요청 (아웃박스 적재, 발송 결과는 MailOutboxDispatcher가 SENT/FAILED로 갱신)
             String subject = String.format("[Day Memory] '%s' %d일 전 알림",
                     event.getTitle(), daysBeforeEvent);
             String recipientName = event.getUser().getNickname();
             String content = emailService.buildReminderEmailContent(event.getTitle(), daysBeforeEvent, recipientName);
-            emailService.sendReminderEmail(event.getUser().getEmail(), subject, content);
-
-            // 로그 저장
-            ReminderLog reminderLog = ReminderLog.builder()
-                    .event(event)
-                    .daysBeforeEvent(daysBeforeEvent)
-                    .sentAt(LocalDateTime.now())
-                    .status(ReminderLog.ReminderStatus.SENT)
-                    .build();
-            reminderLogRepository.save(reminderLog);
-
-            log.info("Reminder sent for event: {} ({} days before)",
+            emailService.enqueueReminder(event.getUser().getEmail(), subject, content,
+                    reminderLogRepository.getReferenceById(reminderLogId));
+
+            log.info("Reminder enqueued for event: {} ({} days before)",
                     event.getTitle(), daysBeforeEvent);
+            return true;
 
         } catch (Exception e) {
             log.error("Failed to send reminder for event: {} ({} days before)",
                     event.getId(), daysBeforeEvent, e);
 
-            // 실패 로그 저장
-            ReminderLog failedLog = ReminderLog.builder()
-                    .event(event)
-                    .daysBeforeEvent(daysBeforeEvent)
-                    .sentAt(LocalDateTime.now())
-                    .status(ReminderLog.ReminderStatus.FAILED)
-                    .build();
-            reminderLogRepository.save(failedLog);
+            // 선점한 로그 실패 처리 (멱등 키 해제)
+            reminderLogRepository.markFailed(reminderLogId);
+            reminderDailyStatRepository.recordFailedIfExhausted(reminderLogId, LocalDate.now(), maxRetries);
+            reminderMetrics.countFailed();
+            userDataCache.invalidate(event.getUser().getId());
+            return false;
         }
     }
 
@@ -129,12 +215,12 @@ public class ReminderService {
                 .orElseThrow(() -> new CustomException(ErrorCode.EVENT_NOT_FOUND));
 
         LocalDate today = LocalDate.now();
-        int daysUntilEvent = (int) java.time.temporal.ChronoUnit.DAYS.between(today, event.getEventDate());
-
-        if (daysUntilEvent < 0) {
+        LocalDate occurrence = event.nextOccurrence(today);
+        if (occurrence == null) {
             log.warn("Event {} has already passed", eventId);
             return;
         }
+        int daysUntilEvent = (int) java.time.temporal.ChronoUnit.DAYS.between(today, occurrence);
 
         // 가장 가까운 리마인더 찾기
         Optional<EventReminder> nearestReminder = event.getReminders().stream()
@@ -142,9 +228,10 @@ public class ReminderService {
                 .filter(r -> r.getDaysBeforeEvent() <= daysUntilEvent)
                 .min(Comparator.comparing(EventReminder::getDaysBeforeEvent));
 
-        nearestReminder.ifPresent(reminder ->
-                sendReminder(event, reminder.getDaysBeforeEvent())
-        );
+        nearestReminder.ifPresent(reminder -> sendReminders(
+                List.of(pendingLog(event, reminder.getDaysBeforeEvent(), today)),
+                findRecentReminderKeys(Set.of(eventId))
+        ));
     }
 
     /**
@@ -174,23 +261,10 @@ public class ReminderService {
         }
 
         try {
-            Event event = failedLog.getEvent();
-            String subject = String.format("[Day Memory] '%s' %d일 전 알림 (재발송)",
-                    event.getTitle(), failedLog.getDaysBeforeEvent());
-            String recipientName = event.getUser().getNickname();
-            String content = emailService.buildReminderEmailContent(event.getTitle(), failedLog.getDaysBeforeEvent(), recipientName);
-            emailService.sendReminderEmail(event.getUser().getEmail(), subject, content);
-
-            // 새로운 성공 로그 저장
-            ReminderLog successLog = ReminderLog.builder()
-                    .event(event)
-                    .daysBeforeEvent(failedLog.getDaysBeforeEvent())
-                    .sentAt(LocalDateTime.now())
-                    .status(ReminderLog.ReminderStatus.SENT)
-                    .build();
-            reminderLogRepository.save(successLog);
-
-            log.info("Reminder retry successful for log: {}", reminderLogId);
+            if (!requeueFailed(failedLog)) {
+                return false;
+            }
+            log.info("Reminder retry enqueued for log: {}", reminderLogId);
             return true;
 
         } catch (Exception e) {
@@ -199,6 +273,41 @@ public class ReminderService {
         }
     }
 
+    /**
+     * 실패 로그 재발송 적재 (수동 재발송, ReminderRetryService 공용)
+     * 새 로그를 만들지 않고 같은 로그를 발송 대기로 되돌려 재시도마다 reminder_logs 행이 늘지 않게 한다.
+     * 실패 처리 때 해제된 멱등 키는 되돌리는 UPDATE에서 다시 선점한다. 그 사이 정기 발송이 같은 키로 새 로그를 잡았으면
+     * 이미 보낸 리마인더이므로 SUPERSEDED 처리하고, 다른 재발송이 먼저 되돌렸으면 아무것도 하지 않는다.
+     * 호출자의 트랜잭션 안에서 실행된다.
+     *
+     * @return 아웃박스에 다시 적재했으면 true
+     */
+    public boolean requeueFailed(ReminderLog failedLog) {
+        Long reminderLogId = failedLog.getId();
+        Event event = failedLog.getEvent();
+        userDataCache.invalidate(event.getUser().getId());
+        if (reminderLogRepository.requeueFailed(reminderLogId, failedLog.retryIdempotencyKey(), LocalDateTime.now()) == 0) {
+            reminderLogRepository.supersedeIfFailed(reminderLogId);
+            log.debug("Reminder retry already claimed for log: {}", reminderLogId);
+            reminderMetrics.countDuplicate();
+            return false;
+        }
+
+        String subject = String.format("[Day Memory] '%s' %d일 전 알림 (재발송)",
+                event.getTitle(), failedLog.getDaysBeforeEvent());
+        String recipientName = event.getUser().getNickname();
+        try {
+            String content = emailService.buildReminderEmailContent(event.getTitle(), failedLog.getDaysBeforeEvent(), recipientName);
+            emailService.enqueueReminder(event.getUser().getEmail(), subject, content, failedLog);
+        } catch (RuntimeException e) {
+            // 선점한 키를 다시 해제해 발송 대기로 남지 않게 한다
+            reminderLogRepository.markFailed(reminderLogId);
+            reminderDailyStatRepository.recordFailedIfExhausted(reminderLogId, LocalDate.now(), maxRetries);
+            throw e;
+        }
+        return true;
+    }
+
     /**
      * 실패한 리마인더 목록 조회
      */
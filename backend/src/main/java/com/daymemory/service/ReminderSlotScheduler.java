@@ -0,0 +1,171 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 발송 시각 리마인더 스케줄러 (타이밍 휠)
+ * 하루를 UTC 기준 1분 단위 버킷 1440개로 나누고, 각 버킷에 그 분에 도달하는 (시간대, 발송 시각) 슬롯을 걸어 둔다.
+ * 매 분 커서가 가리키는 버킷의 슬롯만 발송하므로 SMTP/DB 부하가 오전 9시 한 번에 몰리지 않고 하루에 걸쳐 분산된다.
+ * 서머타임으로 UTC 오프셋이 바뀔 수 있어 휠은 UTC 날짜가 바뀔 때마다 다시 구성한다.
+ * 여러 인스턴스 중 JobCoordinator 임대를 가진 인스턴스 하나만 휠을 돌린다 (보유 인스턴스가 매 분 임대를 갱신).
+ * 발송 설정 변경은 users.reminder_slot_changed로 표시되고, 휠을 돌리는 인스턴스가 매 분 확인해 휠을 다시 구성한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReminderSlotScheduler {
+
+    static final String JOB_NAME = "reminder-slot-tick";
+
+    private static final int SLOTS_PER_DAY = 24 * 60;
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(2);
+
+    private final UserRepository userRepository;
+    private final ReminderService reminderService;
+    private final JobCoordinator jobCoordinator;
+    private final TransactionTemplate transactionTemplate;
+
+    // 기동 직후 지나간 슬롯도 처리하도록 이만큼 이전부터 커서를 시작 (멱등 키로 중복 발송은 없다)
+    @Value("${reminder.wheel.catch-up-minutes:60}")
+    private int catchUpMinutes;
+
+    private Clock clock = Clock.systemUTC();
+
+    private volatile List<Set<SendSlot>> wheel;
+    private LocalDate wheelDate;
+    private Instant cursor;
+
+    @PostConstruct
+    public void init() {
+        cursor = currentMinute().minus(catchUpMinutes, ChronoUnit.MINUTES);
+        rebuild(utcDate(cursor));
+    }
+
+    /**
+     * 매 분 임대를 얻은 인스턴스가 커서를 현재 분까지 전진시키며 지나간 버킷의 슬롯을 발송
+     */
+    @Scheduled(cron = "0 * * * * *")
+    public void tick() {
+        jobCoordinator.runExclusive(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, this::advance);
+    }
+
+    private synchronized JobResult advance() {
+        Instant now = currentMinute();
+
+        // 다른 인스턴스가 돌리던 휠을 이어받은 경우 catch-up 범위까지만 되돌아가 처리
+        Instant earliest = now.minus(catchUpMinutes, ChronoUnit.MINUTES);
+        if (cursor.isBefore(earliest)) {
+            cursor = earliest;
+        }
+
+        // 다른 인스턴스에서 저장된 발송 설정 변경 반영 (표시를 먼저 해제하므로 그 뒤의 변경은 다음 분에 다시 잡힌다)
+        Integer changed = transactionTemplate.execute(status -> userRepository.clearReminderSlotChanges());
+        if (changed != null && changed > 0) {
+            rebuild(utcDate(cursor));
+        }
+
+        long sent = 0;
+        int failures = 0;
+        while (!cursor.isAfter(now)) {
+            LocalDate date = utcDate(cursor);
+            if (!date.equals(wheelDate)) {
+                rebuild(date);
+            }
+            SlotResult result = fire(cursor);
+            sent += result.sent();
+            failures += result.failures();
+            cursor = cursor.plus(1, ChronoUnit.MINUTES);
+        }
+        return JobResult.of(sent, failures);
+    }
+
+    private SlotResult fire(Instant minute) {
+        long sentTotal = 0;
+        int failures = 0;
+        Set<SendSlot> slots = wheel.get(minuteOfDay(minute));
+        for (SendSlot slot : slots) {
+            LocalDate fireDate = minute.atZone(ZoneId.of(slot.timeZone())).toLocalDate();
+            try {
+                int sent = reminderService.sendSlotReminders(slot.timeZone(), slot.reminderTime(), fireDate);
+                sentTotal += sent;
+                if (sent > 0) {
+                    log.info("Reminder slot {} {} ({}) sent {} reminders", slot.timeZone(), slot.reminderTime(), fireDate, sent);
+                }
+            } catch (Exception e) {
+                // 한 슬롯의 실패가 같은 분의 다른 슬롯 발송을 막지 않도록 한다
+                log.error("Failed to process reminder slot {} {} ({})", slot.timeZone(), slot.reminderTime(), fireDate, e);
+                failures++;
+            }
+        }
+        return new SlotResult(sentTotal, failures);
+    }
+
+    private void rebuild(LocalDate date) {
+        List<Set<SendSlot>> buckets = new ArrayList<>(SLOTS_PER_DAY);
+        for (int i = 0; i < SLOTS_PER_DAY; i++) {
+            buckets.add(ConcurrentHashMap.newKeySet());
+        }
+
+        int slotCount = 0;
+        for (Object[] row : userRepository.findReminderSlots()) {
+            SendSlot slot = new SendSlot((String) row[0], (LocalTime) row[1]);
+            try {
+                buckets.get(bucketOf(slot, date)).add(slot);
+                slotCount++;
+            } catch (DateTimeException e) {
+                log.warn("Skipping reminder slot with invalid time zone: {}", slot.timeZone());
+            }
+        }
+
+        wheel = buckets;
+        wheelDate = date;
+        log.info("Reminder timing wheel built for {} with {} slots", date, slotCount);
+    }
+
+    // 해당 UTC 날짜에 슬롯의 현지 발송 시각이 되는 UTC 분
+    private static int bucketOf(SendSlot slot, LocalDate utcDate) {
+        ZonedDateTime local = ZonedDateTime.of(utcDate, slot.reminderTime(), ZoneId.of(slot.timeZone()));
+        return minuteOfDay(local.toInstant());
+    }
+
+    private static int minuteOfDay(Instant instant) {
+        return (int) (instant.getEpochSecond() / 60 % SLOTS_PER_DAY);
+    }
+
+    private static LocalDate utcDate(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private Instant currentMinute() {
+        return clock.instant().truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private record SendSlot(String timeZone, LocalTime reminderTime) {
+    }
+
+    private record SlotResult(long sent, int failures) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.daymemory.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * SMTP 서킷 브레이커 (인스턴스별)
+ * 연속 발송 실패가 임계치에 도달하면 회로를 열어 일정 시간 동안 아웃박스 발송과 리마인더 재발송을 멈춘다.
+ * 장애 중에 메일마다 SMTP 타임아웃을 기다리며 워커와 재시도 횟수를 소모하지 않도록 하기 위함이다.
+ * 열린 시간이 지나면 반개방 상태로 탐침 발송 한 건만 허용하고, 그 결과로 회로를 닫거나 다시 연다.
+ * 탐침 결과가 오기 전의 호출은 모두 거절해 복구되지 않은 서버에 워커 수만큼 메일을 한꺼번에 보내지 않게 한다.
+ */
+@Component
+@Slf4j
+public class SmtpCircuitBreaker {
+
+    public enum State {
+        CLOSED,     // 정상 발송
+        OPEN,       // 발송 중단
+        HALF_OPEN   // 복구 확인 중 (탐침 한 건의 결과로 CLOSED/OPEN 결정)
+    }
+
+    @Value("${mail.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${mail.circuit-breaker.open-seconds:60}")
+    private long openSeconds;
+
+    private Clock clock = Clock.systemUTC();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    // 반개방 탐침을 내보낸 시각 (결과가 끝내 오지 않으면 열린 시간만큼 지난 뒤 다음 탐침을 허용)
+    private Instant probeStartedAt;
+
+    /**
+     * SMTP 호출 허용 여부 (열린 시간이 지났으면 반개방으로 전환하고 탐침 한 건만 허용)
+     */
+    public synchronized boolean allowRequest() {
+        Instant now = clock.instant();
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (now.isBefore(openedAt.plusSeconds(openSeconds))) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            log.info("SMTP circuit half-open, probing mail server");
+        } else if (now.isBefore(probeStartedAt.plusSeconds(openSeconds))) {
+            return false;
+        }
+        probeStartedAt = now;
+        return true;
+    }
+
+    /**
+     * 지금 호출이 막혀 있는지 (열린 시간 중이거나 반개방 탐침 결과를 기다리는 중, 상태 전환 없이 조회만 한다)
+     */
+    public synchronized boolean isOpen() {
+        Instant now = clock.instant();
+        return switch (state) {
+            case CLOSED -> false;
+            case OPEN -> now.isBefore(openedAt.plusSeconds(openSeconds));
+            case HALF_OPEN -> now.isBefore(probeStartedAt.plusSeconds(openSeconds));
+        };
+    }
+
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            log.info("SMTP circuit closed, mail delivery resumed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+            log.warn("SMTP circuit opened after {} consecutive failures, pausing mail delivery for {}s",
+                    consecutiveFailures, openSeconds);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,161 @@
+package com.daymemory.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SMTP 연결 풀
+ * 인증까지 끝난 Transport를 재사용해 메일마다 반복되는 연결/STARTTLS/AUTH 핸드셰이크를 없앤다.
+ * 연결당 발송 건수가 한도에 도달하거나 오류가 나면 연결을 닫고 다음 대여 시 새로 맺는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SmtpTransportPool {
+
+    private final JavaMailSender mailSender;
+
+    @Value("${mail.smtp-pool.size:4}")
+    private int poolSize;
+
+    @Value("${mail.smtp-pool.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    @Value("${mail.smtp-pool.borrow-timeout-ms:30000}")
+    private long borrowTimeoutMs;
+
+    private BlockingQueue<PooledTransport> idle;
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        idle = new LinkedBlockingQueue<>();
+        permits = new Semaphore(poolSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        PooledTransport transport;
+        while ((transport = idle.poll()) != null) {
+            transport.close();
+        }
+    }
+
+    /**
+     * 연결 대여 (유휴 연결이 없으면 새로 연결, 풀이 가득 차면 반납될 때까지 대기)
+     */
+    public PooledTransport borrow() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("SMTP transport pool exhausted");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for SMTP transport", e);
+        }
+
+        try {
+            PooledTransport transport = idle.poll();
+            if (transport != null && transport.isConnected()) {
+                return transport;
+            }
+            if (transport != null) {
+                transport.close();
+            }
+            return new PooledTransport(connect(), maxMessagesPerConnection);
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 연결 반납 - 오류가 났거나 발송 한도에 도달한 연결은 닫는다
+     */
+    public void release(PooledTransport transport, boolean broken) {
+        try {
+            if (broken || transport.isExhausted()) {
+                transport.close();
+            } else {
+                idle.offer(transport);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Transport connect() throws MessagingException {
+        if (!(mailSender instanceof JavaMailSenderImpl sender)) {
+            throw new IllegalStateException("SMTP transport pool requires JavaMailSenderImpl");
+        }
+
+        String protocol = sender.getProtocol() != null ? sender.getProtocol() : "smtp";
+        String username = emptyToNull(sender.getUsername());
+        String password = emptyToNull(sender.getPassword());
+
+        Transport transport = sender.getSession().getTransport(protocol);
+        transport.connect(sender.getHost(), sender.getPort(), username, password);
+        log.debug("Opened pooled SMTP connection to {}:{}", sender.getHost(), sender.getPort());
+        return transport;
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 풀에서 대여한 SMTP 연결
+     */
+    @Slf4j
+    public static class PooledTransport {
+
+        private final Transport transport;
+        private final int maxMessages;
+        private int sentCount;
+
+        PooledTransport(Transport transport, int maxMessages) {
+            this.transport = transport;
+            this.maxMessages = maxMessages;
+        }
+
+        public void send(MimeMessage message) throws MessagingException {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            sentCount++;
+        }
+
+        public boolean isExhausted() {
+            return sentCount >= maxMessages;
+        }
+
+        boolean isConnected() {
+            return transport.isConnected();
+        }
+
+        void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Failed to close SMTP connection", e);
+            }
+        }
+    }
+}
@@ -3,17 +3,17 @@ package com.daymemory.service;
 import com.daymemory.domain.dto.StatisticsDto;
 import com.daymemory.domain.entity.Event;
 import com.daymemory.domain.entity.GiftItem;
-import com.daymemory.domain.entity.ReminderLog;
 import com.daymemory.domain.repository.EventRepository;
 import com.daymemory.domain.repository.GiftItemRepository;
-import com.daymemory.domain.repository.ReminderLogRepository;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.exception.CustomException;
+import com.daymemory.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
@@ -26,50 +26,102 @@ import java.util.stream.Collectors;
 @Slf4j
 public class StatisticsService {
 
+    // 연도별 이벤트 통계 한 번에 조회할 수 있는 최대 연수
+    static final int MAX_STATISTICS_YEARS = 10;
+
+    // 리마인더 발송 통계 최대 조회 기간 (일, 약 10년)
+    static final int MAX_REMINDER_STATISTICS_DAYS = 3660;
+
     private final EventRepository eventRepository;
     private final GiftItemRepository giftItemRepository;
-    private final ReminderLogRepository reminderLogRepository;
+    private final ReminderDailyStatRepository reminderDailyStatRepository;
+    private final UserDataCache userDataCache;
 
     /**
-     * 월별 이벤트 통계
+     * 월별 이벤트 통계 (사용자별 캐시)
      */
     public StatisticsDto.EventStatistics getEventStatistics(Long userId, int year) {
-        List<Event> events = eventRepository.findByUserIdAndIsActiveTrue(userId);
+        return userDataCache.get(userId, "event-statistics:" + year,
+                () -> loadEventStatistics(userId, year, year).get(year));
+    }
 
-        // 해당 연도의 이벤트만 필터링
-        List<Event> yearEvents = events.stream()
-                .filter(event -> event.getEventDate().getYear() == year)
-                .collect(Collectors.toList());
+    /**
+     * 연도별 이벤트 통계 (전년 대비 차트용, 기간 전체를 같은 쿼리 2개로 집계, 사용자별 캐시)
+     */
+    public Map<Integer, StatisticsDto.EventStatistics> getYearlyEventStatistics(Long userId, int fromYear, int toYear) {
+        if (fromYear > toYear || toYear - fromYear >= MAX_STATISTICS_YEARS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return userDataCache.get(userId, "event-statistics:" + fromYear + "-" + toYear,
+                () -> loadEventStatistics(userId, fromYear, toYear));
+    }
 
-        // 월별 이벤트 수 집계
-        Map<String, Integer> monthlyCount = new LinkedHashMap<>();
-        for (int month = 1; month <= 12; month++) {
-            String monthKey = String.format("%d-%02d", year, month);
-            int finalMonth = month;
-            int count = (int) yearEvents.stream()
-                    .filter(e -> e.getEventDate().getMonthValue() == finalMonth)
-                    .count();
-            monthlyCount.put(monthKey, count);
+    /**
+     * 이벤트 통계 집계: 1회성 이벤트는 DB에서 (연, 월, 타입)별로 GROUP BY, 반복 이벤트는 원본만 읽어 발생일마다 센다.
+     * 결과는 [연도][월], [연도][타입] 배열에 한 번씩만 더한다.
+     */
+    private Map<Integer, StatisticsDto.EventStatistics> loadEventStatistics(Long userId, int fromYear, int toYear) {
+        LocalDate startDate = LocalDate.of(fromYear, 1, 1);
+        LocalDate endDate = LocalDate.of(toYear, 12, 31);
+        Event.EventType[] types = Event.EventType.values();
+        int years = toYear - fromYear + 1;
+        int[][] monthlyCounts = new int[years][12];
+        int[][] typeCounts = new int[years][types.length];
+
+        for (Object[] row : eventRepository.countByMonthAndType(userId, startDate, endDate)) {
+            int yearIndex = ((Number) row[0]).intValue() - fromYear;
+            int count = ((Number) row[3]).intValue();
+            monthlyCounts[yearIndex][((Number) row[1]).intValue() - 1] += count;
+            typeCounts[yearIndex][((Event.EventType) row[2]).ordinal()] += count;
         }
 
-        // 이벤트 타입별 분포
-        Map<Event.EventType, Integer> typeDistribution = yearEvents.stream()
-                .collect(Collectors.groupingBy(
-                        Event::getEventType,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
+        // 반복 이벤트는 발생일마다 집계
+        for (Event event : eventRepository.findRecurringAnchors(userId, endDate)) {
+            for (LocalDate date : event.occurrencesBetween(startDate, endDate)) {
+                int yearIndex = date.getYear() - fromYear;
+                monthlyCounts[yearIndex][date.getMonthValue() - 1]++;
+                typeCounts[yearIndex][event.getEventType().ordinal()]++;
+            }
+        }
 
-        return StatisticsDto.EventStatistics.builder()
-                .monthlyEventCount(monthlyCount)
-                .eventTypeDistribution(typeDistribution)
-                .totalEvents(yearEvents.size())
-                .build();
+        Map<Integer, StatisticsDto.EventStatistics> statistics = new LinkedHashMap<>();
+        for (int yearIndex = 0; yearIndex < years; yearIndex++) {
+            int year = fromYear + yearIndex;
+
+            // 월별 이벤트 수
+            Map<String, Integer> monthlyCount = new LinkedHashMap<>();
+            int totalEvents = 0;
+            for (int month = 1; month <= 12; month++) {
+                int count = monthlyCounts[yearIndex][month - 1];
+                monthlyCount.put(String.format("%d-%02d", year, month), count);
+                totalEvents += count;
+            }
+
+            // 이벤트 타입별 분포 (발생한 타입만)
+            Map<Event.EventType, Integer> typeDistribution = new EnumMap<>(Event.EventType.class);
+            for (Event.EventType type : types) {
+                if (typeCounts[yearIndex][type.ordinal()] > 0) {
+                    typeDistribution.put(type, typeCounts[yearIndex][type.ordinal()]);
+                }
+            }
+
+            statistics.put(year, StatisticsDto.EventStatistics.builder()
+                    .monthlyEventCount(monthlyCount)
+                    .eventTypeDistribution(typeDistribution)
+                    .totalEvents(totalEvents)
+                    .build());
+        }
+        return statistics;
     }
 
     /**
-     * 선물 구매 통계
+     * 선물 구매 통계 (사용자별 캐시)
      */
     public StatisticsDto.GiftStatistics getGiftStatistics(Long userId) {
+        return userDataCache.get(userId, "gift-statistics", () -> loadGiftStatistics(userId));
+    }
+
+    private StatisticsDto.GiftStatistics loadGiftStatistics(Long userId) {
         List<GiftItem> allGifts = giftItemRepository.findByUserId(userId);
 
         // 구매한 선물만 필터링
@@ -107,67 +159,67 @@ public class StatisticsService {
     }
 
     /**
-     * 리마인더 발송 통계
+     * 리마인더 발송 통계 (startDate ~ endDate, 일/주/월 단위)
+     * 사용자별 일일 발송 집계를 DB에서 구간별로 합산해 구간 수만큼의 행만 읽고, 발송이 없는 구간은 0건으로 채운다.
      */
-    public StatisticsDto.ReminderStatistics getReminderStatistics(int days) {
-        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
-        LocalDateTime endDate = LocalDateTime.now();
-
-        List<ReminderLog> logs = reminderLogRepository.findRemindersBetweenDates(startDate, endDate);
-
-        // 성공/실패 건수
-        long sentCount = logs.stream()
-                .filter(log -> log.getStatus() == ReminderLog.ReminderStatus.SENT)
-                .count();
-
-        long failedCount = logs.stream()
-                .filter(log -> log.getStatus() == ReminderLog.ReminderStatus.FAILED)
-                .count();
+    public StatisticsDto.ReminderStatistics getReminderStatistics(Long userId, LocalDate startDate, LocalDate endDate,
+                                                                  StatisticsDto.Granularity granularity) {
+        if (startDate.isAfter(endDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_REMINDER_STATISTICS_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
 
-        // 성공률 계산
-        double successRate = logs.isEmpty() ? 0.0 :
-                (double) sentCount / logs.size() * 100;
+        Map<LocalDate, Object[]> sumsByBucket = new HashMap<>();
+        for (Object[] row : reminderDailyStatRepository.sumByBucket(userId, startDate, endDate, granularity.sqlUnit())) {
+            sumsByBucket.put(toLocalDate(row[0]), row);
+        }
 
-        // 일별 통계
-        Map<String, StatisticsDto.DailyReminderStats> dailyStats = new LinkedHashMap<>();
+        int sentCount = 0;
+        int failedCount = 0;
+        Map<String, StatisticsDto.DailyReminderStats> bucketStats = new LinkedHashMap<>();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-        for (int i = days - 1; i >= 0; i--) {
-            LocalDate date = LocalDate.now().minusDays(i);
-            String dateKey = date.format(formatter);
-
-            LocalDateTime dayStart = date.atStartOfDay();
-            LocalDateTime dayEnd = date.atTime(23, 59, 59);
-
-            int daySent = (int) logs.stream()
-                    .filter(log -> !log.getSentAt().isBefore(dayStart) && !log.getSentAt().isAfter(dayEnd))
-                    .filter(log -> log.getStatus() == ReminderLog.ReminderStatus.SENT)
-                    .count();
-
-            int dayFailed = (int) logs.stream()
-                    .filter(log -> !log.getSentAt().isBefore(dayStart) && !log.getSentAt().isAfter(dayEnd))
-                    .filter(log -> log.getStatus() == ReminderLog.ReminderStatus.FAILED)
-                    .count();
-
-            dailyStats.put(dateKey, StatisticsDto.DailyReminderStats.builder()
-                    .date(dateKey)
-                    .sentCount(daySent)
-                    .failedCount(dayFailed)
+        for (LocalDate bucket = granularity.truncate(startDate); !bucket.isAfter(endDate); bucket = granularity.next(bucket)) {
+            String bucketKey = bucket.format(formatter);
+            Object[] sums = sumsByBucket.get(bucket);
+            int bucketSent = sums != null ? ((Number) sums[1]).intValue() : 0;
+            int bucketFailed = sums != null ? ((Number) sums[2]).intValue() : 0;
+            sentCount += bucketSent;
+            failedCount += bucketFailed;
+
+            bucketStats.put(bucketKey, StatisticsDto.DailyReminderStats.builder()
+                    .date(bucketKey)
+                    .sentCount(bucketSent)
+                    .failedCount(bucketFailed)
                     .build());
         }
 
+        // 성공률 계산 (발송 결과가 난 건 중 성공 비율)
+        int total = sentCount + failedCount;
+        double successRate = total == 0 ? 0.0 : (double) sentCount / total * 100;
+
         return StatisticsDto.ReminderStatistics.builder()
-                .sentCount((int) sentCount)
-                .failedCount((int) failedCount)
+                .sentCount(sentCount)
+                .failedCount(failedCount)
                 .successRate(Math.round(successRate * 10) / 10.0)
-                .dailyStats(dailyStats)
+                .granularity(granularity)
+                .dailyStats(bucketStats)
                 .build();
     }
 
+    // 네이티브 쿼리의 DATE 컬럼 (드라이버/Hibernate 설정에 따라 java.sql.Date 또는 LocalDate)
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
     /**
-     * 캘린더 뷰 데이터 조회
+     * 캘린더 뷰 데이터 조회 (사용자별 캐시, 남은 일수가 있어 날짜별로 구분)
      */
     public List<StatisticsDto.CalendarEvent> getCalendarEvents(Long userId, int year, int month) {
+        return userDataCache.get(userId, "calendar:" + year + "-" + month + ":" + LocalDate.now(),
+                () -> loadCalendarEvents(userId, year, month));
+    }
+
+    private List<StatisticsDto.CalendarEvent> loadCalendarEvents(Long userId, int year, int month) {
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
@@ -176,13 +228,15 @@ public class StatisticsService {
 
         LocalDate today = LocalDate.now();
 
-        return events.stream()
-                .map(event -> {
-                    int daysRemaining = (int) ChronoUnit.DAYS.between(today, event.getEventDate());
+        // 반복 이벤트는 해당 월의 발생일마다 표시
+        return EventOccurrences.expand(events, startDate, endDate).stream()
+                .map(occurrence -> {
+                    Event event = occurrence.event();
+                    int daysRemaining = (int) ChronoUnit.DAYS.between(today, occurrence.date());
                     return StatisticsDto.CalendarEvent.builder()
                             .eventId(event.getId())
                             .title(event.getTitle())
-                            .date(event.getEventDate())
+                            .date(occurrence.date())
                             .type(event.getEventType())
                             .isTracking(event.getIsTracking())
                             .daysRemaining(daysRemaining)
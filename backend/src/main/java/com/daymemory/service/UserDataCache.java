@@ -0,0 +1,164 @@
+package com.daymemory.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 조회 캐시 (대시보드, 캘린더, 통계)
+ * 사용자 ID → (항목 키 → 값) 2단계 구조로, 사용자 데이터가 바뀌면 그 사용자 항목 전체를 한 번에 무효화한다.
+ * - 사용자 수는 max-users로 제한하고, ttl 동안 조회가 없으면 사용자 항목을 통째로 버린다.
+ * - 항목마다 ttl이 지나면 다시 계산한다 (날짜가 바뀌는 등 쓰기 없이 달라지는 값의 상한).
+ * - 같은 사용자/항목의 동시 미스는 한 번만 계산하고 나머지는 그 결과를 기다린다.
+ *   계산은 항목 맵의 잠금(compute) 밖에서 하고, 맵에는 계산 중인 결과(CompletableFuture)만 먼저 넣는다.
+ * 쓰기 쪽(EventService, GiftItemService, 메일 디스패처, 리마인더 재발송/실패 처리, 반복 리마인더 갱신, 회원 탈퇴)은
+ * invalidate를 호출하며, 트랜잭션 중이면 커밋 후에 한 번 더 무효화해 커밋 전 데이터로 다시 채워진 항목이 남지 않게 한다.
+ *
+ * 메트릭: cache.user-data.requests (view, result = hit | miss), cache.user-data.hit.ratio
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserDataCache {
+
+    static final String REQUESTS = "cache.user-data.requests";
+    static final String HIT_RATIO = "cache.user-data.hit.ratio";
+
+    private final MeterRegistry registry;
+
+    @Value("${cache.user-data.max-users:10000}")
+    private long maxUsers;
+
+    @Value("${cache.user-data.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<Long, Map<String, Entry>> users;
+    private long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        users = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+
+        Gauge.builder(HIT_RATIO, this, UserDataCache::hitRatio)
+                .description("Share of user data cache lookups served without recomputing")
+                .register(registry);
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 만료됐으면 loader로 계산해 저장
+     * key는 "항목:인자" 형식 (예: "calendar:2026-10"), 메트릭의 view 태그는 ':' 앞부분이다.
+     * loader 안에서 같은 항목을 다시 조회하면 안 된다 (자기 계산 결과를 기다리게 된다).
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId, String key, Supplier<T> loader) {
+        Map<String, Entry> entries = users.get(userId, id -> new ConcurrentHashMap<>());
+
+        Entry cached = entries.get(key);
+        if (cached != null && !cached.isExpired(System.nanoTime())) {
+            record(key, true);
+            return (T) await(cached.value());
+        }
+
+        // 먼저 들어온 스레드가 넣은 항목이 있으면 그 결과를 기다리고, 없으면 자리만 잡은 뒤 잠금 밖에서 계산한다
+        Entry loading = new Entry(new CompletableFuture<>(), System.nanoTime() + ttlNanos);
+        Entry entry = entries.compute(key, (k, current) ->
+                current != null && !current.isExpired(System.nanoTime()) ? current : loading);
+        if (entry != loading) {
+            record(key, true);
+            return (T) await(entry.value());
+        }
+
+        record(key, false);
+        try {
+            T value = loader.get();
+            loading.value().complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 실패한 계산은 남기지 않고, 기다리던 스레드에는 같은 예외를 전달한다
+            entries.remove(key, loading);
+            loading.value().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> value) {
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 캐시 무효화 (트랜잭션 중이면 커밋 후 한 번 더)
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        users.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    users.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private void record(String key, boolean hit) {
+        int separator = key.indexOf(':');
+        String view = separator < 0 ? key : key.substring(0, separator);
+        Counter.builder(REQUESTS)
+                .description("User data cache lookups")
+                .tag("view", view)
+                .tag("result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+        requests.increment();
+        if (hit) {
+            hits.increment();
+        }
+    }
+
+    private double hitRatio() {
+        long total = requests.sum();
+        return total == 0 ? 0 : (double) hits.sum() / total;
+    }
+
+    private record Entry(CompletableFuture<Object> value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.daymemory.service;
 
 import com.daymemory.domain.dto.UserDto;
 import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderDueRepository;
 import com.daymemory.domain.repository.UserRepository;
 import com.daymemory.exception.CustomException;
 import com.daymemory.exception.ErrorCode;
@@ -16,15 +18,26 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ReminderDueRepository reminderDueRepository;
+    private final ReminderDailyStatRepository reminderDailyStatRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final UserDataCache userDataCache;
+
+    private static final DateTimeFormatter REMINDER_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
 
     /**
      * 회원가입
@@ -176,8 +189,14 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
+        // reminder_due는 Event에서 cascade되지 않으므로 먼저 지운다 (남아 있으면 이벤트 삭제가 FK 위반)
+        reminderDueRepository.deleteByUserId(userId);
+        // reminder_daily_stats는 user_id에 FK가 없어 사용자와 함께 지워지지 않는다
+        reminderDailyStatRepository.deleteByUserId(userId);
+
         // 사용자 삭제
         userRepository.delete(user);
+        userDataCache.invalidate(userId);
     }
 
     /**
@@ -187,28 +206,74 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 현재는 기본값 반환 (추후 User 엔티티에 필드 추가 필요)
-        return UserDto.NotificationSettingsResponse.builder()
-                .emailNotificationsEnabled(true)
-                .reminderTime("09:00")
-                .build();
+        return toNotificationSettings(user);
     }
 
     /**
      * 알림 설정 수정
+     * 발송 시각/시간대/수신 여부가 바뀌면 표시해 두고, 임대를 가진 ReminderSlotScheduler가 다음 분에 휠을 다시 구성한다
+     * (요청을 받은 인스턴스가 휠을 돌리는 인스턴스가 아닐 수 있다).
      */
     @Transactional
     public UserDto.NotificationSettingsResponse updateNotificationSettings(Long userId, UserDto.NotificationSettingsRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 현재는 요청값 그대로 반환 (추후 User 엔티티에 필드 추가하여 저장 필요)
+        Boolean previousEnabled = user.getReminderEnabled();
+        LocalTime previousTime = user.getReminderTime();
+        String previousTimeZone = user.getTimeZone();
+
+        if (request.getEmailNotificationsEnabled() != null) {
+            user.setReminderEnabled(request.getEmailNotificationsEnabled());
+        }
+
+        if (request.getReminderTime() != null) {
+            user.setReminderTime(parseReminderTime(request.getReminderTime()));
+        }
+
+        if (request.getTimeZone() != null) {
+            user.setTimeZone(parseTimeZone(request.getTimeZone()));
+        }
+
+        if (!user.getReminderEnabled().equals(previousEnabled)
+                || !user.getReminderTime().equals(previousTime)
+                || !user.getTimeZone().equals(previousTimeZone)) {
+            user.setReminderSlotChanged(true);
+        }
+
+        return toNotificationSettings(user);
+    }
+
+    private UserDto.NotificationSettingsResponse toNotificationSettings(User user) {
         return UserDto.NotificationSettingsResponse.builder()
-                .emailNotificationsEnabled(request.getEmailNotificationsEnabled())
-                .reminderTime(request.getReminderTime())
+                .emailNotificationsEnabled(user.getReminderEnabled())
+                .reminderTime(user.getReminderTime().format(REMINDER_TIME_FORMAT))
+                .timeZone(user.getTimeZone())
                 .build();
     }
 
+    /**
+     * "HH:mm" 형식의 발송 시각 파싱 (분 단위)
+     */
+    private LocalTime parseReminderTime(String reminderTime) {
+        try {
+            return LocalTime.parse(reminderTime, REMINDER_TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * IANA 시간대 ID 검증 (예: Asia/Seoul)
+     */
+    private String parseTimeZone(String timeZone) {
+        try {
+            return ZoneId.of(timeZone).getId();
+        } catch (DateTimeException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
     /**
      * 전역 리마인더 설정 조회
      */
@@ -234,9 +299,10 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 설정 업데이트
-        if (request.getEnabled() != null) {
+        // 설정 업데이트 (수신 여부가 바뀌면 리마인더 타이밍 휠에 반영되도록 표시)
+        if (request.getEnabled() != null && !request.getEnabled().equals(user.getReminderEnabled())) {
             user.setReminderEnabled(request.getEnabled());
+            user.setReminderSlotChanged(true);
         }
 
         if (request.getDefaultDaysBefore() != null && !request.getDefaultDaysBefore().isEmpty()) {
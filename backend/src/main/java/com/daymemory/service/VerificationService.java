@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -26,6 +27,7 @@ public class VerificationService {
     private final UserRepository userRepository;
     private final VerificationTokenRepository tokenRepository;
     private final EmailService emailService;
+    private final MailTemplateRenderer templateRenderer;
     private final PasswordEncoder passwordEncoder;
 
     private static final int EMAIL_VERIFICATION_EXPIRY_HOURS = 24;
@@ -67,7 +69,7 @@ public class VerificationService {
         String emailBody = buildEmailVerificationHtml(user.getNickname(), verificationLink);
 
         try {
-            emailService.sendReminderEmail(
+            emailService.enqueue(
                     user.getEmail(),
                     "[Day Memory] 이메일 인증을 완료해주세요",
                     emailBody
@@ -150,7 +152,7 @@ public class VerificationService {
         String emailBody = buildPasswordResetHtml(user.getNickname(), resetLink);
 
         try {
-            emailService.sendReminderEmail(
+            emailService.enqueue(
                     user.getEmail(),
                     "[Day Memory] 비밀번호 재설정 요청",
                     emailBody
@@ -201,100 +203,17 @@ public class VerificationService {
      * 이메일 인증 HTML 생성
      */
     private String buildEmailVerificationHtml(String userName, String verificationLink) {
-        return String.format("""
-                <!DOCTYPE html>
-                <html>
-                <head>
-                    <meta charset="UTF-8">
-                    <style>
-                        body { font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif; background: linear-gradient(135deg, #667eea 0%%, #764ba2 100%%); margin: 0; padding: 40px; }
-                        .container { max-width: 600px; margin: 0 auto; background: white; border-radius: 16px; padding: 40px; box-shadow: 0 10px 40px rgba(0,0,0,0.1); }
-                        .header { text-align: center; padding-bottom: 30px; border-bottom: 2px solid #f0f0f0; }
-                        .logo { font-size: 28px; font-weight: bold; background: linear-gradient(135deg, #667eea, #764ba2); -webkit-background-clip: text; -webkit-text-fill-color: transparent; }
-                        .content { padding: 30px 0; }
-                        .greeting { font-size: 20px; font-weight: 600; color: #333; margin-bottom: 20px; }
-                        .message { font-size: 16px; color: #666; line-height: 1.6; margin-bottom: 30px; }
-                        .button { text-align: center; margin: 30px 0; }
-                        .button a { display: inline-block; padding: 14px 40px; background: linear-gradient(135deg, #667eea, #764ba2); color: white; text-decoration: none; border-radius: 8px; font-weight: 600; }
-                        .footer { text-align: center; padding-top: 30px; border-top: 2px solid #f0f0f0; color: #999; font-size: 14px; }
-                    </style>
-                </head>
-                <body>
-                    <div class="container">
-                        <div class="header">
-                            <div class="logo">📅 Day Memory</div>
-                        </div>
-                        <div class="content">
-                            <div class="greeting">안녕하세요, %s님!</div>
-                            <div class="message">
-                                Day Memory 회원가입을 환영합니다.<br>
-                                아래 버튼을 클릭하여 이메일 인증을 완료해주세요.<br>
-                                <br>
-                                <strong>인증 링크는 24시간 동안 유효합니다.</strong>
-                            </div>
-                            <div class="button">
-                                <a href="%s">이메일 인증하기</a>
-                            </div>
-                        </div>
-                        <div class="footer">
-                            본 메일은 발신 전용입니다.<br>
-                            © 2025 Day Memory. All rights reserved.
-                        </div>
-                    </div>
-                </body>
-                </html>
-                """, userName, verificationLink);
+        return templateRenderer.render("email-verification", Map.of(
+                "userName", userName,
+                "verificationLink", verificationLink));
     }
 
     /**
      * 비밀번호 재설정 HTML 생성
      */
     private String buildPasswordResetHtml(String userName, String resetLink) {
-        return String.format("""
-                <!DOCTYPE html>
-                <html>
-                <head>
-                    <meta charset="UTF-8">
-                    <style>
-                        body { font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif; background: linear-gradient(135deg, #667eea 0%%, #764ba2 100%%); margin: 0; padding: 40px; }
-                        .container { max-width: 600px; margin: 0 auto; background: white; border-radius: 16px; padding: 40px; box-shadow: 0 10px 40px rgba(0,0,0,0.1); }
-                        .header { text-align: center; padding-bottom: 30px; border-bottom: 2px solid #f0f0f0; }
-                        .logo { font-size: 28px; font-weight: bold; background: linear-gradient(135deg, #667eea, #764ba2); -webkit-background-clip: text; -webkit-text-fill-color: transparent; }
-                        .content { padding: 30px 0; }
-                        .greeting { font-size: 20px; font-weight: 600; color: #333; margin-bottom: 20px; }
-                        .message { font-size: 16px; color: #666; line-height: 1.6; margin-bottom: 30px; }
-                        .warning { background: #fff3cd; border-left: 4px solid #ffc107; padding: 12px; margin: 20px 0; font-size: 14px; color: #856404; }
-                        .button { text-align: center; margin: 30px 0; }
-                        .button a { display: inline-block; padding: 14px 40px; background: linear-gradient(135deg, #667eea, #764ba2); color: white; text-decoration: none; border-radius: 8px; font-weight: 600; }
-                        .footer { text-align: center; padding-top: 30px; border-top: 2px solid #f0f0f0; color: #999; font-size: 14px; }
-                    </style>
-                </head>
-                <body>
-                    <div class="container">
-                        <div class="header">
-                            <div class="logo">📅 Day Memory</div>
-                        </div>
-                        <div class="content">
-                            <div class="greeting">안녕하세요, %s님!</div>
-                            <div class="message">
-                                비밀번호 재설정 요청을 받았습니다.<br>
-                                아래 버튼을 클릭하여 새로운 비밀번호를 설정해주세요.
-                            </div>
-                            <div class="warning">
-                                ⚠️ 비밀번호 재설정을 요청하지 않으셨다면 이 메일을 무시하셔도 됩니다.<br>
-                                재설정 링크는 1시간 동안만 유효합니다.
-                            </div>
-                            <div class="button">
-                                <a href="%s">비밀번호 재설정하기</a>
-                            </div>
-                        </div>
-                        <div class="footer">
-                            본 메일은 발신 전용입니다.<br>
-                            © 2025 Day Memory. All rights reserved.
-                        </div>
-                    </div>
-                </body>
-                </html>
-                """, userName, resetLink);
+        return templateRenderer.render("password-reset", Map.of(
+                "userName", userName,
+                "resetLink", resetLink));
     }
 }
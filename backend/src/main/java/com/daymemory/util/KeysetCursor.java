@@ -0,0 +1,60 @@
+package com.daymemory.util;
+
+import com.daymemory.exception.CustomException;
+import com.daymemory.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (정렬 키, id)
+ * 이전 페이지 마지막 행의 (정렬 키, id)를 "키|id" 문자열로 묶어 URL-safe Base64로 전달한다.
+ * 다음 페이지는 OFFSET 없이 (정렬 키, id)가 커서보다 크거나(오름차순) 작은(내림차순) 행부터 읽는다.
+ */
+public record KeysetCursor(String key, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static String encode(Object key, Long id) {
+        String raw = key + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석 (없으면 null = 첫 페이지)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public LocalDate dateKey() {
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public LocalDateTime dateTimeKey() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
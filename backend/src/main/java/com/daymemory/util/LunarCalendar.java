@@ -0,0 +1,159 @@
+package com.daymemory.util;
+
+import java.time.LocalDate;
+
+/**
+ * 음력 ↔ 양력 변환 (1900 ~ 2100년)
+ * 연도별 월 길이/윤달 정보를 클래스 로딩 시 한 번 펼쳐 원시 배열 표로 만들어 두고, 변환은 표 조회만으로 처리한다.
+ * - YEAR_START  : 음력 설날의 epoch day
+ * - MONTH_START : 설날부터 각 달 1일까지의 일수 (연도당 14칸, 윤달은 해당 평달 바로 뒤 칸)
+ * - LEAP_MONTH  : 윤달 (없으면 0)
+ * 범위를 벗어난 연도는 null을 반환한다.
+ */
+public final class LunarCalendar {
+
+    public static final int MIN_YEAR = 1900;
+    public static final int MAX_YEAR = 2100;
+
+    private static final int YEARS = MAX_YEAR - MIN_YEAR + 1;
+    private static final int SLOTS = 14;
+
+    // 1900년 음력 1월 1일 = 양력 1900-01-31
+    private static final long BASE_EPOCH_DAY = LocalDate.of(1900, 1, 31).toEpochDay();
+
+    /*
+     * 연도별 압축 정보 (1900 ~ 2100, 한국천문연구원 음양력 기준)
+     * 합삭과 중기의 날짜를 한국 표준시 자오선(1908.4 ~ 1911, 1954.3.21 ~ 1961.8.9는 127.5°E, 1912 ~ 1954.3.20과
+     * 1961.8.10 이후는 135°E, 1908.3 이전은 서울 평균시)으로 정한 값이다.
+     * 중국 음력(120°E)과는 합삭이 자정 무렵인 달에서 하루씩 어긋난다 (예: 2017년 윤5월 / 중국 윤6월, 2028년 설날 1월 27일 / 중국 1월 26일).
+     * bit 0-3  : 윤달 (0이면 없음)
+     * bit 4-15 : 1월(bit 15) ~ 12월(bit 4) 크기 (1 = 30일, 0 = 29일)
+     * bit 16   : 윤달 크기 (1 = 30일, 0 = 29일)
+     */
+    private static final int[] LUNAR_INFO = {
+            0x04bd8, 0x04ae0, 0x0a570, 0x054e5, 0x0d2a0, 0x0e950, 0x16554, 0x056a0, 0x0aad0, 0x055d2, // 1900
+            0x04ae0, 0x0a5d6, 0x0a4d0, 0x0d250, 0x0da95, 0x0b550, 0x056a0, 0x0ada2, 0x095d0, 0x04bb7, // 1910
+            0x049b0, 0x0a4b0, 0x0b4b5, 0x06a90, 0x0ad40, 0x0bb54, 0x02b60, 0x095b0, 0x05372, 0x04970, // 1920
+            0x06566, 0x0e4a0, 0x0ea50, 0x16a95, 0x05b50, 0x02b60, 0x18ae3, 0x092e0, 0x1c8d7, 0x0c950, // 1930
+            0x0d4a0, 0x1d8a6, 0x0b690, 0x056d0, 0x125b4, 0x025d0, 0x092d0, 0x0d2b2, 0x0a950, 0x0d557, // 1940
+            0x0b4a0, 0x0b550, 0x15555, 0x04db0, 0x025b0, 0x18573, 0x052b0, 0x0a9b8, 0x06950, 0x06aa0, // 1950
+            0x0aea6, 0x0ab50, 0x04b60, 0x0aae4, 0x0a570, 0x05270, 0x07263, 0x0d950, 0x06b57, 0x056a0, // 1960
+            0x09ad0, 0x04dd5, 0x04ae0, 0x0a4e0, 0x0d4d4, 0x0d250, 0x0d598, 0x0b540, 0x0d6a0, 0x195a6, // 1970
+            0x095b0, 0x049b0, 0x0a9b4, 0x0a4b0, 0x0b27a, 0x06a50, 0x06d40, 0x0b756, 0x02b60, 0x095b0, // 1980
+            0x04b75, 0x04970, 0x064b0, 0x074a3, 0x0ea50, 0x06d98, 0x05ad0, 0x02b60, 0x096e5, 0x092e0, // 1990
+            0x0c960, 0x0e954, 0x0d4a0, 0x0da50, 0x07552, 0x056c0, 0x0abb7, 0x025d0, 0x092d0, 0x0cab5, // 2000
+            0x0a950, 0x0b4a0, 0x1b4a3, 0x0b550, 0x055d9, 0x04ba0, 0x0a5b0, 0x05575, 0x052b0, 0x0a950, // 2010
+            0x0b954, 0x06aa0, 0x0ad50, 0x06b52, 0x04b60, 0x0a6e6, 0x0a570, 0x05270, 0x06a65, 0x0d930, // 2020
+            0x05aa0, 0x0b6a3, 0x096d0, 0x04afb, 0x04ae0, 0x0a4d0, 0x1d0d6, 0x0d250, 0x0d520, 0x0dd45, // 2030
+            0x0b6a0, 0x096d0, 0x055b2, 0x049b0, 0x0a577, 0x0a4b0, 0x0b250, 0x1b255, 0x06d40, 0x0ada0, // 2040
+            0x18b63, 0x09570, 0x14978, 0x04970, 0x064b0, 0x168a6, 0x0ea50, 0x06b20, 0x1aac4, 0x0ab60, // 2050
+            0x09370, 0x052e3, 0x0c960, 0x0d557, 0x0d4a0, 0x0da50, 0x05d55, 0x056a0, 0x0aad0, 0x095d4, // 2060
+            0x092d0, 0x0c9b8, 0x0a950, 0x0b4a0, 0x0b6a6, 0x0ad50, 0x055a0, 0x0aba4, 0x0a5b0, 0x052b0, // 2070
+            0x0b2b3, 0x0a930, 0x07557, 0x06aa0, 0x0ad50, 0x14b55, 0x04b60, 0x0a570, 0x054f4, 0x05260, // 2080
+            0x0e968, 0x0d530, 0x05aa0, 0x1aaa6, 0x096d0, 0x04ae0, 0x0aad4, 0x0a4d0, 0x0d260, 0x0f253, // 2090
+            0x0d520                                                                                    // 2100
+    };
+
+    private static final int[] YEAR_START = new int[YEARS + 1];
+    private static final short[] MONTH_START = new short[YEARS * SLOTS];
+    private static final byte[] LEAP_MONTH = new byte[YEARS];
+
+    static {
+        long epochDay = BASE_EPOCH_DAY;
+        for (int y = 0; y < YEARS; y++) {
+            int info = LUNAR_INFO[y];
+            int leap = info & 0xf;
+            LEAP_MONTH[y] = (byte) leap;
+            YEAR_START[y] = (int) epochDay;
+
+            int offset = 0;
+            int slot = 0;
+            for (int month = 1; month <= 12; month++) {
+                MONTH_START[y * SLOTS + slot++] = (short) offset;
+                offset += (info & (0x10000 >> month)) != 0 ? 30 : 29;
+                if (month == leap) {
+                    MONTH_START[y * SLOTS + slot++] = (short) offset;
+                    offset += (info & 0x10000) != 0 ? 30 : 29;
+                }
+            }
+            // 마지막 칸은 다음 해 설날까지의 일수 (월 길이 계산용)
+            for (; slot < SLOTS; slot++) {
+                MONTH_START[y * SLOTS + slot] = (short) offset;
+            }
+            epochDay += offset;
+        }
+        YEAR_START[YEARS] = (int) epochDay;
+    }
+
+    private LunarCalendar() {
+    }
+
+    public record LunarDate(int year, int month, int day, boolean leapMonth) {
+    }
+
+    public static boolean isSupported(int lunarYear) {
+        return lunarYear >= MIN_YEAR && lunarYear <= MAX_YEAR;
+    }
+
+    /**
+     * 음력 → 양력
+     * 해당 해에 그 윤달이 없으면 평달로, 30일이 없는 작은 달이면 29일로 보정한다 (윤달/그믐 생일을 쇠는 관례).
+     */
+    public static LocalDate toSolar(int lunarYear, int month, int day, boolean leapMonth) {
+        if (!isSupported(lunarYear) || month < 1 || month > 12 || day < 1 || day > 30) {
+            return null;
+        }
+        int y = lunarYear - MIN_YEAR;
+        int slot = slotOf(y, month, leapMonth && LEAP_MONTH[y] == month);
+        int base = y * SLOTS + slot;
+        int length = MONTH_START[base + 1] - MONTH_START[base];
+        return LocalDate.ofEpochDay(YEAR_START[y] + MONTH_START[base] + Math.min(day, length) - 1L);
+    }
+
+    /**
+     * 양력 → 음력 (범위 밖이면 null)
+     */
+    public static LunarDate fromSolar(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        // 설날은 양력 1월 21일 ~ 2월 20일 사이이므로 같은 해 또는 전해
+        int y = date.getYear() - MIN_YEAR;
+        if (y >= 0 && y < YEARS && epochDay < YEAR_START[y]) {
+            y--;
+        }
+        if (y < 0 || y >= YEARS || epochDay >= YEAR_START[y + 1]) {
+            return null;
+        }
+
+        int dayOfYear = (int) (epochDay - YEAR_START[y]);
+        int base = y * SLOTS;
+        int slot = 0;
+        while (slot < SLOTS - 1 && MONTH_START[base + slot + 1] <= dayOfYear) {
+            slot++;
+        }
+
+        int leap = LEAP_MONTH[y];
+        boolean leapMonth = leap > 0 && slot == leap;
+        int month = leap > 0 && slot >= leap ? slot : slot + 1;
+        return new LunarDate(y + MIN_YEAR, month, dayOfYear - MONTH_START[base + slot] + 1, leapMonth);
+    }
+
+    /**
+     * 양력 날짜의 음력 월/일로 n년 뒤의 양력 날짜 (윤달은 평달로, 범위 밖이면 null)
+     */
+    public static LocalDate plusLunarYears(LocalDate solar, long years) {
+        LunarDate lunar = fromSolar(solar);
+        if (lunar == null || years > YEARS) {
+            return null;
+        }
+        return toSolar(lunar.year() + (int) years, lunar.month(), lunar.day(), false);
+    }
+
+    // 연도 내 칸 번호 (윤달은 해당 평달 바로 뒤 칸)
+    private static int slotOf(int y, int month, boolean leapMonth) {
+        int leap = LEAP_MONTH[y];
+        if (leapMonth) {
+            return month;
+        }
+        return leap > 0 && month > leap ? month : month - 1;
+    }
+}
@@ -0,0 +1,12 @@
+-- 실패 리마인더 자동 재발송 (ReminderRetryService)
+-- 재발송은 새 로그를 만들지 않고 같은 행의 retry_count를 올려 다시 발송 대기로 돌린다.
+-- 재발송 의미가 없어진 실패 로그는 SUPERSEDED 로 바뀐다.
+
+-- 1. 컬럼 추가
+ALTER TABLE reminder_logs ADD COLUMN IF NOT EXISTS retry_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE reminder_logs ADD COLUMN IF NOT EXISTS next_retry_at TIMESTAMP;
+
+-- 2. 재발송 대상 조회 (status = 'FAILED' AND (next_retry_at IS NULL OR next_retry_at <= ?))
+CREATE INDEX IF NOT EXISTS idx_reminder_logs_status_retry ON reminder_logs (status, next_retry_at);
+
+ANALYZE reminder_logs;
@@ -0,0 +1,20 @@
+-- 이벤트 유니크 키 (user_id, title, event_date)
+-- 반복 이벤트 롤오버는 건별 존재 확인 대신 INSERT ... ON CONFLICT DO NOTHING 으로 중복을 건너뛴다.
+-- 이벤트 생성/수정도 같은 키로 중복을 막는다 (삭제된 같은 이벤트는 생성 시 되살린다).
+
+-- 1. 기존 중복 정리: 가장 먼저 만든 행(최소 id)은 그대로 두고 나머지는 제목 뒤에 id를 붙여 구분
+UPDATE events e
+SET title = LEFT(e.title, 230) || ' (' || e.id || ')'
+WHERE EXISTS (
+    SELECT 1 FROM events d
+    WHERE d.user_id = e.user_id
+      AND d.title = e.title
+      AND d.event_date = e.event_date
+      AND d.id < e.id
+);
+
+-- 2. 유니크 제약 (user_id 선두 인덱스를 겸한다)
+ALTER TABLE events DROP CONSTRAINT IF EXISTS uk_events_user_title_date;
+ALTER TABLE events ADD CONSTRAINT uk_events_user_title_date UNIQUE (user_id, title, event_date);
+
+ANALYZE events;
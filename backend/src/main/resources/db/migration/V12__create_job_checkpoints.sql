@@ -0,0 +1,28 @@
+-- 재시작 가능한 청크 작업 체크포인트 (ChunkJobRunner)
+-- 작업 실행 (job_name, job_key)마다 1행, 청크를 커밋할 때 같은 트랜잭션에서 last_key와 처리량을 갱신한다.
+-- 중단된 실행을 다시 시작하면 last_key 다음부터 이어서 처리한다. (GET /actuator/jobs)
+
+-- 1. 체크포인트 테이블
+CREATE SEQUENCE IF NOT EXISTS job_checkpoints_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+    id                BIGINT PRIMARY KEY,
+    job_name          VARCHAR(100) NOT NULL,
+    job_key           VARCHAR(200) NOT NULL,
+    status            VARCHAR(20)  NOT NULL,
+    last_key          BIGINT       NOT NULL DEFAULT 0,
+    chunks            INTEGER      NOT NULL DEFAULT 0,
+    rows_read         BIGINT       NOT NULL DEFAULT 0,
+    rows_written      BIGINT       NOT NULL DEFAULT 0,
+    elapsed_millis    BIGINT       NOT NULL DEFAULT 0,
+    last_chunk_rows   INTEGER      NOT NULL DEFAULT 0,
+    last_chunk_millis BIGINT       NOT NULL DEFAULT 0,
+    started_at        TIMESTAMP    NOT NULL,
+    updated_at        TIMESTAMP    NOT NULL,
+    completed_at      TIMESTAMP,
+    CONSTRAINT uk_job_checkpoints_job_key UNIQUE (job_name, job_key),
+    CONSTRAINT job_checkpoints_status_check CHECK (status IN ('RUNNING', 'COMPLETED'))
+);
+
+-- 2. 최근 체크포인트 조회 / 보관 기간 지난 체크포인트 삭제
+CREATE INDEX IF NOT EXISTS idx_job_checkpoints_updated ON job_checkpoints (updated_at);
@@ -0,0 +1,16 @@
+-- 반복 규칙 (가상 반복 전개)
+-- 반복 이벤트는 첫 발생일(event_date) 한 행만 두고, 조회 시 규칙으로 발생일을 계산한다.
+-- 매년 다음 해 행을 복사하던 롤오버는 없어지고, 야간 작업은 reminder_due 발송일만 다음 발생일로 옮긴다.
+-- 이전 롤오버로 만들어진 비활성 복사본은 리마인더 로그/선물 이력이 참조할 수 있어 그대로 둔다.
+
+-- 1. 반복 규칙 컬럼 (기존 반복 이벤트는 매년)
+ALTER TABLE events ADD COLUMN IF NOT EXISTS recurrence_rule VARCHAR(20) NOT NULL DEFAULT 'NONE';
+UPDATE events SET recurrence_rule = 'YEARLY' WHERE is_recurring = TRUE AND recurrence_rule = 'NONE';
+
+ALTER TABLE events DROP CONSTRAINT IF EXISTS ck_events_recurrence_rule;
+ALTER TABLE events ADD CONSTRAINT ck_events_recurrence_rule
+    CHECK (recurrence_rule IN ('NONE', 'YEARLY', 'MONTHLY'));
+
+-- 2. 지난 발송일의 반복 리마인더는 다음 야간 작업(recurring-reminder-advance)이 다음 발생일로 옮긴다.
+
+ANALYZE events;
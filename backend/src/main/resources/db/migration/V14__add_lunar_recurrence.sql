@@ -0,0 +1,7 @@
+-- 음력 반복 (LUNAR_YEARLY)
+-- event_date(첫 발생일)의 음력 월/일로 매년 반복한다. 음력 ↔ 양력 환산은 애플리케이션의 LunarCalendar 표(1900 ~ 2100년)로 처리하므로
+-- 음력 날짜 컬럼은 따로 두지 않는다.
+
+ALTER TABLE events DROP CONSTRAINT IF EXISTS ck_events_recurrence_rule;
+ALTER TABLE events ADD CONSTRAINT ck_events_recurrence_rule
+    CHECK (recurrence_rule IN ('NONE', 'YEARLY', 'MONTHLY', 'LUNAR_YEARLY'));
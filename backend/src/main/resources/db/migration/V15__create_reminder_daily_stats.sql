@@ -0,0 +1,35 @@
+-- 사용자별 일일 리마인더 발송 집계 (reminder_daily_stats)
+-- 리마인더 로그가 SENT/FAILED로 바뀔 때 MailOutboxDispatcher/ReminderService가 같은 트랜잭션에서 (user_id, stat_date) 행에 UPSERT로 누적한다.
+-- 대시보드 최근 발송 현황과 GET /api/statistics/reminders는 전체 로그 대신 사용자의 최근 N일 행만 읽는다.
+
+-- 1. 집계 테이블
+CREATE SEQUENCE IF NOT EXISTS reminder_daily_stats_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS reminder_daily_stats (
+    id           BIGINT PRIMARY KEY,
+    user_id      BIGINT    NOT NULL,
+    stat_date    DATE      NOT NULL,
+    sent_count   INTEGER   NOT NULL DEFAULT 0,
+    failed_count INTEGER   NOT NULL DEFAULT 0,
+    last_sent_at TIMESTAMP,
+    CONSTRAINT uk_reminder_daily_stats_user_date UNIQUE (user_id, stat_date)
+);
+-- (user_id, stat_date) 유니크 인덱스가 UPSERT 충돌 검사와 사용자별 기간 조회를 함께 처리한다
+
+-- 2. 기존 로그 백필 (현재 SENT/FAILED 상태의 로그를 sent_at 날짜로 집계)
+INSERT INTO reminder_daily_stats (id, user_id, stat_date, sent_count, failed_count, last_sent_at)
+SELECT nextval('reminder_daily_stats_seq'), s.user_id, s.stat_date, s.sent_count, s.failed_count, s.last_sent_at
+FROM (
+    SELECT e.user_id,
+           CAST(rl.sent_at AS DATE) AS stat_date,
+           COUNT(*) FILTER (WHERE rl.status = 'SENT') AS sent_count,
+           COUNT(*) FILTER (WHERE rl.status = 'FAILED') AS failed_count,
+           MAX(rl.sent_at) FILTER (WHERE rl.status = 'SENT') AS last_sent_at
+    FROM reminder_logs rl
+    JOIN events e ON e.id = rl.event_id
+    WHERE rl.status IN ('SENT', 'FAILED')
+    GROUP BY e.user_id, CAST(rl.sent_at AS DATE)
+) s
+ON CONFLICT (user_id, stat_date) DO NOTHING;
+
+ANALYZE reminder_daily_stats;
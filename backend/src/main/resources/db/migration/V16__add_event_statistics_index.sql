@@ -0,0 +1,10 @@
+-- 이벤트 통계 집계용 커버링 인덱스
+-- StatisticsService는 반복하지 않는 활성 이벤트를 (연, 월, 타입)별로 GROUP BY 한다.
+-- (user_id, event_date) 범위에 event_type을 포함한 부분 인덱스로 테이블을 읽지 않고(index-only scan) 집계한다.
+-- 반복 이벤트 원본은 사용자당 몇 건뿐이라 기존 idx_event_user_date로 읽고 발생일은 애플리케이션에서 계산한다.
+
+CREATE INDEX IF NOT EXISTS idx_event_user_date_stats
+ON events (user_id, event_date) INCLUDE (event_type)
+WHERE is_active = TRUE AND is_recurring = FALSE;
+
+ANALYZE events;
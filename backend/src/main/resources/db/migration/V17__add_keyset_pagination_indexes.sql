@@ -0,0 +1,15 @@
+-- 목록 키셋 페이지네이션 인덱스
+-- GET /api/events/page: 활성 이벤트를 (event_date, id) 순으로, GET /api/gifts/page: 선물을 (created_at, id) 순으로 읽는다.
+-- 커서 조건 (정렬 키, id) > (커서 키, 커서 id)와 ORDER BY가 같은 인덱스 순서를 따르므로 OFFSET 없이 페이지 크기만큼만 읽는다.
+
+-- 1. 이벤트: 사용자별 (event_date, id), 활성 이벤트만
+CREATE INDEX IF NOT EXISTS idx_event_user_date_id_active
+ON events (user_id, event_date, id)
+WHERE is_active = TRUE;
+
+-- 2. 선물: 사용자별 (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_gift_user_created_id
+ON gift_items (user_id, created_at, id);
+
+ANALYZE events;
+ANALYZE gift_items;
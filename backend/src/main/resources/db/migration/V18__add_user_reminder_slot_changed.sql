@@ -0,0 +1,11 @@
+-- 발송 설정 변경 표시
+-- 설정 변경 요청은 어느 인스턴스로든 들어오지만 리마인더 타이밍 휠은 임대를 가진 인스턴스 하나만 돌린다.
+-- 변경된 사용자를 표시해 두고, 임대 보유 인스턴스가 매 분 표시를 해제하면서 해제한 행이 있으면 휠을 다시 구성한다.
+
+-- 1. 컬럼 추가 (기존 사용자는 기동 시 구성한 휠에 이미 반영되어 있다)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS reminder_slot_changed BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 2. 매 분 표시 해제 (UPDATE ... WHERE reminder_slot_changed = true)
+CREATE INDEX IF NOT EXISTS idx_users_reminder_slot_changed ON users (reminder_slot_changed);
+
+ANALYZE users;
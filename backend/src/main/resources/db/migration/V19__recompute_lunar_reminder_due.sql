@@ -0,0 +1,11 @@
+-- 음력 반복 이벤트 발송 예정일 재계산
+-- LunarCalendar 표를 중국 음력(120°E)에서 한국천문연구원 음양력(135°E)으로 바꿔, 합삭이 자정 무렵인 달은 발생일이 하루씩 달라진다.
+-- 이전 표로 계산해 둔 LUNAR_YEARLY 이벤트의 reminder_due를 지난 발송일로 돌려 두면
+-- 다음 RecurringEventService 실행(매일 자정)이 새 표 기준의 다음 발생일로 옮긴다.
+
+UPDATE reminder_due rd
+SET fire_date = DATE '1900-01-01'
+FROM events e
+WHERE rd.event_id = e.id
+  AND e.is_recurring = true
+  AND e.recurrence_rule = 'LUNAR_YEARLY';
@@ -0,0 +1,6 @@
+-- 이벤트 유니크 키 (user_id, title, event_date) 제거
+-- 반복 이벤트 롤오버(INSERT ... ON CONFLICT)가 가상 발생일 계산으로 바뀌어 더 이상 필요 없고,
+-- 같은 날 같은 제목의 이벤트(예: 서로 다른 사람의 "생일")를 막을 이유도 없다.
+-- ddl-auto로 엔티티 선언에서 만들어진 제약도 함께 지운다.
+
+ALTER TABLE events DROP CONSTRAINT IF EXISTS uk_events_user_title_date;
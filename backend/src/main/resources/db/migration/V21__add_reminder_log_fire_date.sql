@@ -0,0 +1,12 @@
+-- 리마인더 로그 발송일
+-- 실패 처리 시 멱등 키가 NULL로 해제되므로, 재발송이 같은 키(이벤트:일수:발송일)를 다시 선점할 수 있게 발송일을 따로 남긴다.
+
+-- 1. 컬럼 추가
+ALTER TABLE reminder_logs ADD COLUMN IF NOT EXISTS fire_date DATE;
+
+-- 2. 키가 남아 있는 기존 로그는 키의 발송일로 채운다 (이미 해제된 실패 로그는 재발송 시 sent_at 날짜를 쓴다)
+UPDATE reminder_logs
+SET fire_date = CAST(split_part(idempotency_key, ':', 3) AS DATE)
+WHERE fire_date IS NULL AND idempotency_key IS NOT NULL;
+
+ANALYZE reminder_logs;
@@ -0,0 +1,7 @@
+-- reminder_due.event_id 외래 키에 ON DELETE CASCADE 추가
+-- V4는 cascade 없이 events를 참조해, 이벤트(계정 삭제 시 포함)를 지울 때 남은 발송 예정 행이 FK 위반을 일으켰다.
+-- 애플리케이션은 계정 삭제 시 reminder_due를 먼저 일괄 삭제하고, 그 밖의 경로는 DB가 함께 지운다.
+
+ALTER TABLE reminder_due DROP CONSTRAINT IF EXISTS reminder_due_event_id_fkey;
+ALTER TABLE reminder_due ADD CONSTRAINT reminder_due_event_id_fkey
+    FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE;
@@ -0,0 +1,6 @@
+-- reminder_logs 상태에 SUPERSEDED(재발송 대상 제외) 추가
+-- V5의 상태 제약은 PENDING/SENT/FAILED만 허용해, ReminderRetryService가 재발송 의미가 없어진 실패 로그를 SUPERSEDED로 바꾸면 제약 위반이 났다.
+
+ALTER TABLE reminder_logs DROP CONSTRAINT IF EXISTS reminder_logs_status_check;
+ALTER TABLE reminder_logs ADD CONSTRAINT reminder_logs_status_check
+    CHECK (status IN ('PENDING', 'SENT', 'FAILED', 'SUPERSEDED'));
@@ -0,0 +1,5 @@
+-- 메일 아웃박스 재시도 백오프
+-- 재시도 가능한 실패는 다음 발송 시각을 잡아 PENDING으로 돌리고, 디스패처는 그 시각이 지난 메일만 선점한다.
+-- 기존 대기 메일은 NULL(바로 발송)이며, 선점 조회는 기존 (status, id) 인덱스를 그대로 쓴다.
+
+ALTER TABLE mail_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
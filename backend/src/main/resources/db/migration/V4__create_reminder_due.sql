@@ -0,0 +1,33 @@
+-- 리마인더 발송 예정일 프로젝션 (reminder_due)
+-- 리마인더 1건당 1행, fire_date 인덱스 범위 조회로 "오늘 발송할 리마인더"를 찾는다.
+
+-- 1. 테이블 생성
+CREATE TABLE IF NOT EXISTS reminder_due (
+    id                BIGSERIAL PRIMARY KEY,
+    event_id          BIGINT  NOT NULL REFERENCES events (id),
+    user_id           BIGINT  NOT NULL,
+    days_before_event INTEGER NOT NULL,
+    fire_date         DATE    NOT NULL,
+    CONSTRAINT uk_reminder_due_event_days UNIQUE (event_id, days_before_event)
+);
+
+-- 2. 인덱스
+-- 2-1. 일일 배치: fire_date = 오늘 + id 키셋 커서
+CREATE INDEX IF NOT EXISTS idx_reminder_due_fire_date
+ON reminder_due (fire_date, id);
+
+-- 2-2. 대시보드: 사용자별 오늘 발송 예정 리마인더
+CREATE INDEX IF NOT EXISTS idx_reminder_due_user_fire_date
+ON reminder_due (user_id, fire_date);
+
+-- 3. 기존 데이터 백필 (활성 + 추적 중인 이벤트의 활성 리마인더)
+INSERT INTO reminder_due (event_id, user_id, days_before_event, fire_date)
+SELECT DISTINCT e.id, e.user_id, r.days_before_event, e.event_date - r.days_before_event
+FROM events e
+JOIN event_reminders r ON r.event_id = e.id
+WHERE e.is_active = true
+  AND e.is_tracking = true
+  AND r.is_active = true
+ON CONFLICT (event_id, days_before_event) DO NOTHING;
+
+ANALYZE reminder_due;
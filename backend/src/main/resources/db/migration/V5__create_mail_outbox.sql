@@ -0,0 +1,27 @@
+-- 메일 발송 아웃박스 (mail_outbox)
+-- 호출자는 트랜잭션 안에서 행만 적재하고, MailOutboxDispatcher가 워커 풀로 SMTP 발송한다.
+
+-- 1. 테이블 생성
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    id               BIGSERIAL PRIMARY KEY,
+    recipient        VARCHAR(255) NOT NULL,
+    subject          VARCHAR(255) NOT NULL,
+    body             TEXT         NOT NULL,
+    reminder_log_id  BIGINT REFERENCES reminder_logs (id),
+    status           VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts         INTEGER      NOT NULL DEFAULT 0,
+    last_error       VARCHAR(1000),
+    last_attempt_at  TIMESTAMP,
+    sent_at          TIMESTAMP,
+    created_at       TIMESTAMP,
+    updated_at       TIMESTAMP
+);
+
+-- 2. 인덱스: 디스패처가 status = 'PENDING' + id 순으로 선점
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_status_id
+ON mail_outbox (status, id);
+
+-- 3. reminder_logs 상태에 PENDING(아웃박스 적재됨) 추가
+ALTER TABLE reminder_logs DROP CONSTRAINT IF EXISTS reminder_logs_status_check;
+ALTER TABLE reminder_logs ADD CONSTRAINT reminder_logs_status_check
+    CHECK (status IN ('PENDING', 'SENT', 'FAILED'));
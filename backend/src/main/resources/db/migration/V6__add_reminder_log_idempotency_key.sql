@@ -0,0 +1,12 @@
+-- 리마인더 중복 발송 방지 멱등 키 (이벤트:일수:발송일)
+-- 발송 대기/완료 로그만 키를 가지며, 실패 처리 시 NULL로 해제되어 재발송할 수 있다.
+
+-- 1. 컬럼 추가
+ALTER TABLE reminder_logs ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(64);
+
+-- 2. 유니크 제약 (NULL은 중복 허용)
+ALTER TABLE reminder_logs DROP CONSTRAINT IF EXISTS uk_reminder_logs_idempotency_key;
+ALTER TABLE reminder_logs ADD CONSTRAINT uk_reminder_logs_idempotency_key UNIQUE (idempotency_key);
+
+-- 3. 청크 단위 중복 체크 (event_id IN (...) AND sent_at >= ?) 는 기존 idx_event_days_sent 인덱스 사용
+ANALYZE reminder_logs;
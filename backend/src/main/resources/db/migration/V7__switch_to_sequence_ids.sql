@@ -0,0 +1,52 @@
+-- IDENTITY → 시퀀스 ID 전환 (Hibernate pooled 옵티마이저, allocationSize 50)
+-- IDENTITY는 INSERT마다 즉시 실행해야 ID를 알 수 있어 JDBC 배치가 꺼진다.
+-- 시퀀스는 50개 단위로 미리 할당하므로 hibernate.jdbc.batch_size가 실제로 적용된다.
+-- pooled 옵티마이저는 nextval 값 v에 대해 (v - 49 ~ v) 구간을 쓰므로, 기존 최대 id + 50 이후부터 시작한다.
+
+-- 1. events
+CREATE SEQUENCE IF NOT EXISTS events_seq INCREMENT BY 50;
+SELECT setval('events_seq', COALESCE((SELECT MAX(id) FROM events), 0) + 50);
+ALTER TABLE events ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE events ALTER COLUMN id DROP DEFAULT;
+
+-- 2. event_reminders
+CREATE SEQUENCE IF NOT EXISTS event_reminders_seq INCREMENT BY 50;
+SELECT setval('event_reminders_seq', COALESCE((SELECT MAX(id) FROM event_reminders), 0) + 50);
+ALTER TABLE event_reminders ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE event_reminders ALTER COLUMN id DROP DEFAULT;
+
+-- 3. reminder_logs
+CREATE SEQUENCE IF NOT EXISTS reminder_logs_seq INCREMENT BY 50;
+SELECT setval('reminder_logs_seq', COALESCE((SELECT MAX(id) FROM reminder_logs), 0) + 50);
+ALTER TABLE reminder_logs ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE reminder_logs ALTER COLUMN id DROP DEFAULT;
+
+-- 4. gift_items
+CREATE SEQUENCE IF NOT EXISTS gift_items_seq INCREMENT BY 50;
+SELECT setval('gift_items_seq', COALESCE((SELECT MAX(id) FROM gift_items), 0) + 50);
+ALTER TABLE gift_items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE gift_items ALTER COLUMN id DROP DEFAULT;
+
+-- 5. ai_recommendations
+CREATE SEQUENCE IF NOT EXISTS ai_recommendations_seq INCREMENT BY 50;
+SELECT setval('ai_recommendations_seq', COALESCE((SELECT MAX(id) FROM ai_recommendations), 0) + 50);
+ALTER TABLE ai_recommendations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE ai_recommendations ALTER COLUMN id DROP DEFAULT;
+
+-- 6. recommended_gift_items
+CREATE SEQUENCE IF NOT EXISTS recommended_gift_items_seq INCREMENT BY 50;
+SELECT setval('recommended_gift_items_seq', COALESCE((SELECT MAX(id) FROM recommended_gift_items), 0) + 50);
+ALTER TABLE recommended_gift_items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE recommended_gift_items ALTER COLUMN id DROP DEFAULT;
+
+-- 7. reminder_due
+CREATE SEQUENCE IF NOT EXISTS reminder_due_seq INCREMENT BY 50;
+SELECT setval('reminder_due_seq', COALESCE((SELECT MAX(id) FROM reminder_due), 0) + 50);
+ALTER TABLE reminder_due ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE reminder_due ALTER COLUMN id DROP DEFAULT;
+
+-- 8. mail_outbox
+CREATE SEQUENCE IF NOT EXISTS mail_outbox_seq INCREMENT BY 50;
+SELECT setval('mail_outbox_seq', COALESCE((SELECT MAX(id) FROM mail_outbox), 0) + 50);
+ALTER TABLE mail_outbox ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE mail_outbox ALTER COLUMN id DROP DEFAULT;
@@ -0,0 +1,11 @@
+-- 사용자별 리마인더 발송 시각/시간대
+-- ReminderSlotScheduler가 (time_zone, reminder_time) 슬롯별로 발송하므로 기존 오전 9시(Asia/Seoul) 일괄 발송과 같은 값으로 채운다.
+
+-- 1. 컬럼 추가 (기존 사용자는 기본값)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS reminder_time TIME NOT NULL DEFAULT '09:00';
+ALTER TABLE users ADD COLUMN IF NOT EXISTS time_zone VARCHAR(64) NOT NULL DEFAULT 'Asia/Seoul';
+
+-- 2. 슬롯별 사용자 조회 (findSlotDueAfter 의 users 조인, findReminderSlots 의 DISTINCT)
+CREATE INDEX IF NOT EXISTS idx_users_reminder_slot ON users (time_zone, reminder_time);
+
+ANALYZE users;
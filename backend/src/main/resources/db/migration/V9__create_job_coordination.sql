@@ -0,0 +1,30 @@
+-- 다중 인스턴스 스케줄 작업 조정
+-- job_leases: 작업별 임대 1행 (locked_until은 UTC, DB 시계 기준으로 획득/반납)
+-- job_runs: 임대를 얻어 실제 실행한 작업 이력 (GET /actuator/jobs)
+
+-- 1. 임대 테이블
+CREATE TABLE IF NOT EXISTS job_leases (
+    job_name     VARCHAR(100) PRIMARY KEY,
+    owner        VARCHAR(200) NOT NULL,
+    locked_until TIMESTAMP    NOT NULL,
+    acquired_at  TIMESTAMP    NOT NULL
+);
+
+-- 2. 실행 이력 테이블
+CREATE SEQUENCE IF NOT EXISTS job_runs_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS job_runs (
+    id             BIGINT PRIMARY KEY,
+    job_name       VARCHAR(100) NOT NULL,
+    owner          VARCHAR(200) NOT NULL,
+    status         VARCHAR(20)  NOT NULL,
+    started_at     TIMESTAMP    NOT NULL,
+    finished_at    TIMESTAMP,
+    rows_processed BIGINT       NOT NULL DEFAULT 0,
+    failures       INTEGER      NOT NULL DEFAULT 0,
+    error_message  VARCHAR(1000),
+    CONSTRAINT job_runs_status_check CHECK (status IN ('RUNNING', 'SUCCEEDED', 'FAILED'))
+);
+
+-- 3. 작업별 최근 이력 조회 / 보관 기간 지난 이력 삭제
+CREATE INDEX IF NOT EXISTS idx_job_runs_job_started ON job_runs (job_name, started_at);
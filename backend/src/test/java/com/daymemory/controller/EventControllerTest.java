@@ -8,6 +8,7 @@ import com.daymemory.exception.ErrorCode;
 import com.daymemory.security.CustomUserDetailsService;
 import com.daymemory.security.JwtAuthenticationFilter;
 import com.daymemory.security.JwtTokenProvider;
+import com.daymemory.service.EventImportService;
 import com.daymemory.service.EventService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,6 +53,9 @@ class EventControllerTest {
     @MockBean
     private EventService eventService;
 
+    @MockBean
+    private EventImportService eventImportService;
+
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
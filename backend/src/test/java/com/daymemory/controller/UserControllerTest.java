@@ -7,6 +7,7 @@ import com.daymemory.exception.ErrorCode;
 import com.daymemory.security.CustomUserDetailsService;
 import com.daymemory.security.JwtAuthenticationFilter;
 import com.daymemory.security.JwtTokenProvider;
+import com.daymemory.service.DataExportService;
 import com.daymemory.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +48,9 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private DataExportService dataExportService;
+
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -0,0 +1,178 @@
+package com.daymemory.domain.repository;
+
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.ReminderDailyStat;
+import com.daymemory.domain.entity.ReminderLog;
+import com.daymemory.domain.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("ReminderDailyStatRepository 테스트")
+class ReminderDailyStatRepositoryTest {
+
+    @Autowired
+    private ReminderDailyStatRepository reminderDailyStatRepository;
+
+    @Autowired
+    private ReminderLogRepository reminderLogRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Event testEvent;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(user("stats@example.com"));
+        testEvent = eventRepository.save(event(testUser));
+    }
+
+    @Test
+    @DisplayName("같은 날 발송 결과는 한 행에 누적, 마지막 발송 시각은 가장 늦은 시각")
+    void testRecord_AccumulatesPerUserAndDay() {
+        // Given
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        LocalDateTime morning = today.atTime(9, 0);
+        LocalDateTime evening = today.atTime(18, 30);
+        Long first = saveLog(testEvent);
+        Long second = saveLog(testEvent);
+        Long third = saveLog(testEvent);
+
+        // When
+        reminderDailyStatRepository.recordSent(first, today, evening);
+        reminderDailyStatRepository.recordSent(second, today, morning);
+        reminderDailyStatRepository.recordFailed(third, today);
+        entityManager.clear();
+
+        // Then
+        List<ReminderDailyStat> stats = reminderDailyStatRepository
+                .findByUserIdAndStatDateBetweenOrderByStatDateAsc(testUser.getId(), today, today);
+        assertThat(stats).hasSize(1);
+        assertThat(stats.get(0).getSentCount()).isEqualTo(2);
+        assertThat(stats.get(0).getFailedCount()).isEqualTo(1);
+        assertThat(stats.get(0).getLastSentAt()).isEqualTo(evening);
+    }
+
+    @Test
+    @DisplayName("실패 누적 - 자동 재발송 횟수를 다 쓴 로그만 실패로 셈")
+    void testRecordFailedIfExhausted() {
+        // Given
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        Long retrying = saveLog(testEvent, 2);
+        Long exhausted = saveLog(testEvent, 5);
+
+        // When
+        int retryingRows = reminderDailyStatRepository.recordFailedIfExhausted(retrying, today, 5);
+        int exhaustedRows = reminderDailyStatRepository.recordFailedIfExhausted(exhausted, today, 5);
+        entityManager.clear();
+
+        // Then
+        assertThat(retryingRows).isZero();
+        assertThat(exhaustedRows).isEqualTo(1);
+        List<ReminderDailyStat> stats = reminderDailyStatRepository
+                .findByUserIdAndStatDateBetweenOrderByStatDateAsc(testUser.getId(), today, today);
+        assertThat(stats).hasSize(1);
+        assertThat(stats.get(0).getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기간 조회 - 다른 사용자와 기간 밖 날짜는 제외하고 날짜순 반환")
+    void testFindByUserIdAndStatDateBetween() {
+        // Given
+        Event otherEvent = eventRepository.save(event(userRepository.save(user("other@example.com"))));
+        LocalDate today = LocalDate.of(2026, 3, 10);
+
+        reminderDailyStatRepository.recordSent(saveLog(testEvent), today, today.atTime(9, 0));
+        reminderDailyStatRepository.recordFailed(saveLog(testEvent), today.minusDays(2));
+        reminderDailyStatRepository.recordSent(saveLog(testEvent), today.minusDays(10), today.minusDays(10).atTime(9, 0));
+        reminderDailyStatRepository.recordSent(saveLog(otherEvent), today, today.atTime(10, 0));
+        entityManager.clear();
+
+        // When
+        List<ReminderDailyStat> stats = reminderDailyStatRepository
+                .findByUserIdAndStatDateBetweenOrderByStatDateAsc(testUser.getId(), today.minusDays(6), today);
+
+        // Then
+        assertThat(stats).extracting(ReminderDailyStat::getStatDate)
+                .containsExactly(today.minusDays(2), today);
+        assertThat(stats.get(0).getLastSentAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("구간별 합산 - 주 단위는 월요일 시작 구간으로 묶음")
+    void testSumByBucket_Weekly() {
+        // Given: 2026-03-02(월) 주에 2일, 2026-03-09(월) 주에 1일
+        reminderDailyStatRepository.recordSent(saveLog(testEvent), LocalDate.of(2026, 3, 3), LocalDate.of(2026, 3, 3).atTime(9, 0));
+        reminderDailyStatRepository.recordFailed(saveLog(testEvent), LocalDate.of(2026, 3, 8));
+        reminderDailyStatRepository.recordSent(saveLog(testEvent), LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 9).atTime(9, 0));
+
+        // When
+        List<Object[]> buckets = reminderDailyStatRepository.sumByBucket(
+                testUser.getId(), LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31), "week");
+
+        // Then
+        assertThat(buckets).hasSize(2);
+        assertThat(buckets.get(0)[0].toString()).isEqualTo("2026-03-02");
+        assertThat(((Number) buckets.get(0)[1]).intValue()).isEqualTo(1);
+        assertThat(((Number) buckets.get(0)[2]).intValue()).isEqualTo(1);
+        assertThat(buckets.get(1)[0].toString()).isEqualTo("2026-03-09");
+    }
+
+    private Long saveLog(Event event) {
+        return saveLog(event, 0);
+    }
+
+    private Long saveLog(Event event, int retryCount) {
+        ReminderLog reminderLog = reminderLogRepository.save(ReminderLog.builder()
+                .event(event)
+                .daysBeforeEvent(7)
+                .sentAt(LocalDateTime.now())
+                .status(ReminderLog.ReminderStatus.PENDING)
+                .retryCount(retryCount)
+                .build());
+        // 네이티브 UPSERT가 로그/이벤트 행을 조인하므로 먼저 반영
+        entityManager.flush();
+        return reminderLog.getId();
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .nickname("Test User")
+                .emailVerified(true)
+                .build();
+    }
+
+    private static Event event(User user) {
+        return Event.builder()
+                .user(user)
+                .title("Birthday")
+                .eventDate(LocalDate.now().plusDays(30))
+                .eventType(Event.EventType.BIRTHDAY)
+                .isActive(true)
+                .build();
+    }
+}
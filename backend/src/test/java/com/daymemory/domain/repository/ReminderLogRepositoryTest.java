@@ -16,7 +16,6 @@ import org.springframework.test.context.ActiveProfiles;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -108,70 +107,38 @@ class ReminderLogRepositoryTest {
     }
 
     @Test
-    @DisplayName("최근 리마인더 로그 조회 - 24시간 이내")
-    void testFindRecentReminderLog() {
+    @DisplayName("청크 중복 발송 체크 - 기간 내 로그의 (이벤트, 일수) 쌍만 조회")
+    void testFindRecentReminderKeys() {
         // given
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneDayAgo = now.minusDays(1);
-
-        // 24시간 이내의 리마인더
-        ReminderLog recentLog = ReminderLog.builder()
-                .event(testEvent)
-                .daysBeforeEvent(7)
-                .sentAt(now.minusHours(12))
-                .status(ReminderLog.ReminderStatus.SENT)
-                .build();
-        reminderLogRepository.save(recentLog);
-
-        // 24시간 이전의 리마인더
-        ReminderLog oldLog = ReminderLog.builder()
-                .event(testEvent)
-                .daysBeforeEvent(7)
-                .sentAt(now.minusHours(36))
-                .status(ReminderLog.ReminderStatus.SENT)
-                .build();
-        reminderLogRepository.save(oldLog);
-
-        entityManager.flush();
-        entityManager.clear();
-
-        // when
-        Optional<ReminderLog> foundLog = reminderLogRepository.findRecentReminder(
-                testEvent.getId(), 7, oneDayAgo);
-
-        // then
-        assertThat(foundLog).isPresent();
-        assertThat(foundLog.get().getSentAt()).isAfter(oneDayAgo);
-        assertThat(foundLog.get().getDaysBeforeEvent()).isEqualTo(7);
-    }
+        Event anotherEvent = eventRepository.save(Event.builder()
+                .user(testUser)
+                .title("Anniversary")
+                .eventDate(LocalDate.now().plusDays(60))
+                .eventType(Event.EventType.ANNIVERSARY_100)
+                .isActive(true)
+                .build());
 
-    @Test
-    @DisplayName("중복 리마인더 체크 - 24시간 이내 중복 발송 방지")
-    void testDuplicateReminderCheck() {
-        // given
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneDayAgo = now.minusDays(1);
-
-        // 최근에 발송된 리마인더
-        ReminderLog existingLog = ReminderLog.builder()
-                .event(testEvent)
-                .daysBeforeEvent(7)
-                .sentAt(now.minusHours(12))
-                .status(ReminderLog.ReminderStatus.SENT)
-                .build();
-        reminderLogRepository.save(existingLog);
+        reminderLogRepository.save(sentLog(testEvent, 7, now.minusHours(12)));
+        reminderLogRepository.save(sentLog(testEvent, 3, now.minusHours(6)));
+        // 기간 밖 로그
+        reminderLogRepository.save(sentLog(testEvent, 1, now.minusHours(36)));
+        reminderLogRepository.save(sentLog(anotherEvent, 7, now.minusHours(1)));
 
         entityManager.flush();
         entityManager.clear();
 
         // when
-        Optional<ReminderLog> recentReminder = reminderLogRepository.findRecentReminder(
-                testEvent.getId(), 7, oneDayAgo);
+        List<Object[]> keys = reminderLogRepository.findRecentReminderKeys(
+                List.of(testEvent.getId(), anotherEvent.getId()), now.minusDays(1));
 
         // then
-        assertThat(recentReminder).isPresent();
-        // 중복 발송 방지: 24시간 이내에 이미 발송된 리마인더가 있음
-        assertThat(recentReminder.get().getSentAt()).isAfter(oneDayAgo);
+        assertThat(keys)
+                .extracting(key -> key[0] + ":" + key[1])
+                .containsExactlyInAnyOrder(
+                        testEvent.getId() + ":7",
+                        testEvent.getId() + ":3",
+                        anotherEvent.getId() + ":7");
     }
 
     @Test
@@ -285,40 +252,66 @@ class ReminderLogRepositoryTest {
     }
 
     @Test
-    @DisplayName("같은 이벤트의 다른 일수 리마인더는 독립적으로 조회")
-    void testDifferentDaysBeforeEvent() {
+    @DisplayName("실패 로그 재발송 선점 - 멱등 키를 다시 잡고 PENDING으로, 두 번째 선점은 0행")
+    void testRequeueFailed() {
         // given
-        ReminderLog log7Days = ReminderLog.builder()
+        LocalDate fireDate = LocalDate.now();
+        ReminderLog failedLog = reminderLogRepository.save(ReminderLog.builder()
                 .event(testEvent)
                 .daysBeforeEvent(7)
-                .sentAt(LocalDateTime.now().minusHours(12))
-                .status(ReminderLog.ReminderStatus.SENT)
-                .build();
-        reminderLogRepository.save(log7Days);
+                .sentAt(LocalDateTime.now().minusHours(1))
+                .status(ReminderLog.ReminderStatus.FAILED)
+                .fireDate(fireDate)
+                .build());
+        entityManager.flush();
+        String key = failedLog.retryIdempotencyKey();
+
+        // when
+        int first = reminderLogRepository.requeueFailed(failedLog.getId(), key, LocalDateTime.now());
+        int second = reminderLogRepository.requeueFailed(failedLog.getId(), key, LocalDateTime.now());
+        entityManager.clear();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        ReminderLog requeued = reminderLogRepository.findById(failedLog.getId()).orElseThrow();
+        assertThat(requeued.getStatus()).isEqualTo(ReminderLog.ReminderStatus.PENDING);
+        assertThat(requeued.getIdempotencyKey()).isEqualTo(key);
+        assertThat(requeued.getRetryCount()).isEqualTo(1);
+    }
 
-        ReminderLog log3Days = ReminderLog.builder()
+    @Test
+    @DisplayName("실패 로그 재발송 선점 - 같은 키로 이미 발송된 로그가 있으면 0행, SUPERSEDED 처리")
+    void testRequeueFailed_KeyHeldByAnotherLog() {
+        // given
+        LocalDate fireDate = LocalDate.now();
+        ReminderLog failedLog = reminderLogRepository.save(ReminderLog.builder()
                 .event(testEvent)
-                .daysBeforeEvent(3)
-                .sentAt(LocalDateTime.now().minusHours(6))
+                .daysBeforeEvent(7)
+                .sentAt(LocalDateTime.now().minusHours(1))
+                .status(ReminderLog.ReminderStatus.FAILED)
+                .fireDate(fireDate)
+                .build());
+        reminderLogRepository.save(ReminderLog.builder()
+                .event(testEvent)
+                .daysBeforeEvent(7)
+                .sentAt(LocalDateTime.now())
                 .status(ReminderLog.ReminderStatus.SENT)
-                .build();
-        reminderLogRepository.save(log3Days);
-
+                .idempotencyKey(failedLog.retryIdempotencyKey())
+                .fireDate(fireDate)
+                .build());
         entityManager.flush();
-        entityManager.clear();
 
         // when
-        Optional<ReminderLog> recent7Days = reminderLogRepository.findRecentReminder(
-                testEvent.getId(), 7, LocalDateTime.now().minusDays(1));
-        Optional<ReminderLog> recent3Days = reminderLogRepository.findRecentReminder(
-                testEvent.getId(), 3, LocalDateTime.now().minusDays(1));
+        int requeued = reminderLogRepository.requeueFailed(failedLog.getId(), failedLog.retryIdempotencyKey(), LocalDateTime.now());
+        int superseded = reminderLogRepository.supersedeIfFailed(failedLog.getId());
+        entityManager.clear();
 
         // then
-        assertThat(recent7Days).isPresent();
-        assertThat(recent7Days.get().getDaysBeforeEvent()).isEqualTo(7);
-
-        assertThat(recent3Days).isPresent();
-        assertThat(recent3Days.get().getDaysBeforeEvent()).isEqualTo(3);
+        assertThat(requeued).isZero();
+        assertThat(superseded).isEqualTo(1);
+        assertThat(reminderLogRepository.findById(failedLog.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReminderLog.ReminderStatus.SUPERSEDED);
     }
 
     @Test
@@ -382,29 +375,6 @@ class ReminderLogRepositoryTest {
         assertThat(savedLog.getStatus()).isEqualTo(ReminderLog.ReminderStatus.SENT);
     }
 
-    @Test
-    @DisplayName("특정 일수의 최근 리마인더 조회 - 결과 없음")
-    void testFindRecentReminderLog_NotFound() {
-        // given
-        ReminderLog log = ReminderLog.builder()
-                .event(testEvent)
-                .daysBeforeEvent(7)
-                .sentAt(LocalDateTime.now().minusDays(2))
-                .status(ReminderLog.ReminderStatus.SENT)
-                .build();
-        reminderLogRepository.save(log);
-
-        entityManager.flush();
-        entityManager.clear();
-
-        // when - 24시간 이내의 리마인더를 찾지만, 2일 전에 발송되어 찾을 수 없음
-        Optional<ReminderLog> recentLog = reminderLogRepository.findRecentReminder(
-                testEvent.getId(), 7, LocalDateTime.now().minusHours(24));
-
-        // then
-        assertThat(recentLog).isEmpty();
-    }
-
     @Test
     @DisplayName("커스텀 일수의 리마인더 로그 지원")
     void testCustomDaysBeforeEvent() {
@@ -436,4 +406,13 @@ class ReminderLogRepositoryTest {
         assertThat(logs).extracting("daysBeforeEvent")
                 .containsExactlyInAnyOrder(30, 1);
     }
+
+    private ReminderLog sentLog(Event event, int daysBeforeEvent, LocalDateTime sentAt) {
+        return ReminderLog.builder()
+                .event(event)
+                .daysBeforeEvent(daysBeforeEvent)
+                .sentAt(sentAt)
+                .status(ReminderLog.ReminderStatus.SENT)
+                .build();
+    }
 }
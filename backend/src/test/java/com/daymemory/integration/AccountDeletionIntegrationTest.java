@@ -0,0 +1,134 @@
+package com.daymemory.integration;
+
+import com.daymemory.domain.dto.EventDto;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.ReminderDailyStat;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderDueRepository;
+import com.daymemory.domain.repository.UserRepository;
+import com.daymemory.service.EventService;
+import com.daymemory.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 탈퇴 통합 테스트
+ * - 추적 중인 이벤트가 있는 사용자(= reminder_due 행이 있는 사용자)도 FK 위반 없이 삭제되는지 확인
+ * - FK가 없는 reminder_daily_stats 행이 남지 않는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("회원 탈퇴 통합 테스트")
+class AccountDeletionIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ReminderDueRepository reminderDueRepository;
+
+    @Autowired
+    private ReminderDailyStatRepository reminderDailyStatRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = saveUser("delete.account@example.com");
+        otherUser = saveUser("keep.account@example.com");
+
+        createEvent(testUser, "엄마 생일", LocalDate.now().plusDays(40), false);
+        createEvent(testUser, "결혼기념일", LocalDate.now().plusDays(20), true);
+        createEvent(otherUser, "친구 생일", LocalDate.now().plusDays(40), false);
+        saveDailyStat(testUser);
+        saveDailyStat(otherUser);
+
+        // 탈퇴 시 사용자와 이벤트 목록을 DB에서 다시 읽도록 반영 후 비움
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 - 이벤트, 리마인더, 발송 예정 리마인더, 일일 발송 집계까지 삭제")
+    void testDeleteAccount_WithDueReminders() {
+        // Given
+        assertThat(dueCount(testUser)).isPositive();
+        long otherDueCount = dueCount(otherUser);
+
+        // When
+        userService.deleteAccount(testUser.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(userRepository.findById(testUser.getId())).isEmpty();
+        assertThat(eventRepository.findAll())
+                .noneMatch(event -> event.getUser().getId().equals(testUser.getId()));
+        assertThat(dueCount(testUser)).isZero();
+        assertThat(userRepository.findById(otherUser.getId())).isPresent();
+        assertThat(dueCount(otherUser)).isEqualTo(otherDueCount);
+        assertThat(reminderDailyStatRepository.findAll())
+                .extracting(ReminderDailyStat::getUserId)
+                .containsExactly(otherUser.getId());
+    }
+
+    private long dueCount(User user) {
+        return reminderDueRepository.findAll().stream()
+                .filter(due -> due.getUserId().equals(user.getId()))
+                .count();
+    }
+
+    private void saveDailyStat(User user) {
+        reminderDailyStatRepository.save(ReminderDailyStat.builder()
+                .userId(user.getId())
+                .statDate(LocalDate.now())
+                .sentCount(1)
+                .build());
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .nickname("Delete Test User")
+                .emailVerified(true)
+                .build());
+    }
+
+    private void createEvent(User user, String title, LocalDate eventDate, boolean recurring) {
+        eventService.createEvent(user.getId(), EventDto.Request.builder()
+                .title(title)
+                .eventDate(eventDate)
+                .eventType(Event.EventType.BIRTHDAY)
+                .isRecurring(recurring)
+                .reminderDays(List.of(30, 7, 1))
+                .build());
+    }
+}
@@ -0,0 +1,166 @@
+package com.daymemory.integration;
+
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.ReminderLog;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.ReminderLogRepository;
+import com.daymemory.domain.repository.UserRepository;
+import com.daymemory.service.ReminderDueService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 INSERT 통합 테스트
+ * - 시퀀스 ID 전환 후 다건 INSERT가 JDBC 배치로 실행되는지 SQL 문장 수로 확인
+ * - hibernate.generate_statistics=true (application-test.properties)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("배치 INSERT 통합 테스트")
+class BatchInsertIntegrationTest {
+
+    private static final int REMINDER_COUNT = 10;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReminderLogRepository reminderLogRepository;
+
+    @Autowired
+    private ReminderDueService reminderDueService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        testUser = userRepository.save(User.builder()
+                .email("batch@example.com")
+                .password("password")
+                .nickname("Batch User")
+                .emailVerified(true)
+                .build());
+
+        // 시퀀스 풀 예열 (첫 nextval 호출이 측정에 섞이지 않도록)
+        Event warmup = createEventWithReminders("예열 이벤트", 1);
+        eventRepository.save(warmup);
+        reminderDueService.refresh(warmup);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("이벤트 + 리마인더 10개 생성 - INSERT가 테이블별 배치 1회로 실행됨")
+    void testEventWithRemindersInsertedInBatch() {
+        // Given
+        Event event = createEventWithReminders("배치 이벤트", REMINDER_COUNT);
+        statistics.clear();
+
+        // When
+        eventRepository.save(event);
+        entityManager.flush();
+
+        // Then: events INSERT 1 + event_reminders 배치 INSERT 1 (+ 시퀀스 풀 소진 시 nextval 1)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(REMINDER_COUNT + 1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("발송 예정 리마인더 재계산 - DELETE 1회 + 배치 INSERT")
+    void testReminderDueRefreshInBatch() {
+        // Given
+        Event event = createEventWithReminders("재계산 이벤트", REMINDER_COUNT);
+        eventRepository.save(event);
+        entityManager.flush();
+        statistics.clear();
+
+        // When
+        reminderDueService.refresh(event);
+        entityManager.flush();
+
+        // Then: reminder_due DELETE 1 + 배치 INSERT 1 (+ nextval 1)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(REMINDER_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("발송 대기 로그 일괄 선점 - 같은 멱등 키는 한 번만 적재됨")
+    void testClaimPendingIsIdempotent() {
+        // Given
+        Event event = createEventWithReminders("선점 이벤트", REMINDER_COUNT);
+        eventRepository.save(event);
+        entityManager.flush();
+
+        LocalDate today = LocalDate.now();
+        List<ReminderLog> pending = new ArrayList<>();
+        for (int days = 1; days <= REMINDER_COUNT; days++) {
+            pending.add(ReminderLog.builder()
+                    .event(event)
+                    .daysBeforeEvent(days)
+                    .sentAt(LocalDateTime.now())
+                    .status(ReminderLog.ReminderStatus.PENDING)
+                    .idempotencyKey(ReminderLog.idempotencyKey(event.getId(), days, today))
+                    .build());
+        }
+
+        // When
+        Map<String, Long> firstClaim = reminderLogRepository.claimPending(pending);
+        Map<String, Long> secondClaim = reminderLogRepository.claimPending(pending);
+
+        // Then
+        assertThat(firstClaim).hasSize(REMINDER_COUNT);
+        assertThat(firstClaim.values()).doesNotHaveDuplicates();
+        assertThat(secondClaim).isEmpty();
+        assertThat(reminderLogRepository.findByEventId(event.getId())).hasSize(REMINDER_COUNT);
+    }
+
+    private Event createEventWithReminders(String title, int reminderCount) {
+        Event event = Event.builder()
+                .user(testUser)
+                .title(title)
+                .eventDate(LocalDate.now().plusDays(30))
+                .eventType(Event.EventType.BIRTHDAY)
+                .isTracking(true)
+                .build();
+
+        for (int days = 1; days <= reminderCount; days++) {
+            event.addReminder(EventReminder.builder()
+                    .event(event)
+                    .daysBeforeEvent(days)
+                    .isActive(true)
+                    .build());
+        }
+        return event;
+    }
+}
@@ -0,0 +1,437 @@
+package com.daymemory.integration;
+
+import com.daymemory.domain.dto.EventDto;
+import com.daymemory.domain.dto.GiftItemDto;
+import com.daymemory.domain.dto.UserDto;
+import com.daymemory.domain.entity.AIRecommendation;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.GiftItem;
+import com.daymemory.domain.entity.RecommendedGiftItem;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.AIRecommendationRepository;
+import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.GiftItemRepository;
+import com.daymemory.domain.repository.RecommendedGiftItemRepository;
+import com.daymemory.domain.repository.ReminderDueRepository;
+import com.daymemory.domain.repository.UserRepository;
+import com.daymemory.security.CustomUserDetails;
+import com.daymemory.service.UserDataCache;
+import com.daymemory.support.SqlBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 컨트롤러 엔드포인트 SQL 예산 통합 테스트
+ * - EventControllerTest / GiftItemControllerTest / UserControllerTest / AI 추천 조회의 엔드포인트를 실제 DB로 한 번씩 호출하고
+ *   엔드포인트마다 @SqlBudget으로 최대 SQL 문장 수와 하이드레이션 엔티티 수를 선언한다 (넘으면 빌드 실패)
+ * - 컨트롤러 테스트는 서비스를 목으로 바꿔 SQL이 실행되지 않으므로 예산은 여기서 검사한다
+ * - 요청마다 트랜잭션이 커밋되어야 쓰기 SQL까지 세므로 테스트 트랜잭션 없이 데이터를 커밋하고 테스트 후 삭제한다
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("컨트롤러 엔드포인트 SQL 예산 통합 테스트")
+class ControllerSqlBudgetIntegrationTest {
+
+    // 예산은 시드 건수와 무관한 상수로 잡아, 이벤트/선물마다 쿼리가 붙으면 바로 넘치게 한다
+    private static final int EVENT_COUNT = 20;
+    private static final int REMINDERS_PER_EVENT = 2;
+    private static final int GIFT_COUNT = 20;
+    private static final int RECOMMENDATION_COUNT = 5;
+    private static final int ITEMS_PER_RECOMMENDATION = 3;
+    private static final int PAGE_SIZE = 10;
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GiftItemRepository giftItemRepository;
+
+    @Autowired
+    private ReminderDueRepository reminderDueRepository;
+
+    @Autowired
+    private AIRecommendationRepository aiRecommendationRepository;
+
+    @Autowired
+    private RecommendedGiftItemRepository recommendedGiftItemRepository;
+
+    @Autowired
+    private UserDataCache userDataCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User testUser;
+    private Event testEvent;
+    private GiftItem testGift;
+    private AIRecommendation testRecommendation;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("budget@example.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .nickname("Budget User")
+                .emailVerified(true)
+                .build());
+
+        LocalDate start = LocalDate.now().plusDays(1);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event event = Event.builder()
+                    .user(testUser)
+                    .title("이벤트 " + i)
+                    .eventDate(start.plusDays(i))
+                    .eventType(i % 2 == 0 ? Event.EventType.BIRTHDAY : Event.EventType.ANNIVERSARY_100)
+                    .build();
+            for (int days = 1; days <= REMINDERS_PER_EVENT; days++) {
+                event.addReminder(EventReminder.builder()
+                        .event(event)
+                        .daysBeforeEvent(days)
+                        .isActive(true)
+                        .build());
+            }
+            events.add(event);
+        }
+        events = eventRepository.saveAll(events);
+        testEvent = events.get(0);
+
+        List<GiftItem> gifts = new ArrayList<>();
+        for (int i = 0; i < GIFT_COUNT; i++) {
+            gifts.add(GiftItem.builder()
+                    .user(testUser)
+                    .event(events.get(i % EVENT_COUNT))
+                    .name("선물 " + i)
+                    .price(10000 + i)
+                    .category(i % 2 == 0 ? GiftItem.GiftCategory.FLOWER : GiftItem.GiftCategory.COSMETICS)
+                    .isPurchased(i % 2 == 1)
+                    .build());
+        }
+        testGift = giftItemRepository.saveAll(gifts).get(0);
+
+        // 추천 아이템 이름은 시드 선물과 겹치지 않게 해 조회 중 선물 연결 UPDATE가 생기지 않게 한다
+        List<RecommendedGiftItem> items = new ArrayList<>();
+        for (int i = 0; i < RECOMMENDATION_COUNT; i++) {
+            AIRecommendation recommendation = aiRecommendationRepository.save(AIRecommendation.builder()
+                    .user(testUser)
+                    .event(testEvent)
+                    .eventTitle(testEvent.getTitle())
+                    .recipientName("엄마")
+                    .budget(50000)
+                    .daysUntilEvent(1)
+                    .build());
+            if (i == 0) {
+                testRecommendation = recommendation;
+            }
+            for (int j = 0; j < ITEMS_PER_RECOMMENDATION; j++) {
+                items.add(RecommendedGiftItem.builder()
+                        .recommendation(recommendation)
+                        .name("추천 아이템 " + i + "-" + j)
+                        .category(GiftItem.GiftCategory.JEWELRY)
+                        .estimatedPrice(50000)
+                        .reason("추천 이유")
+                        .build());
+            }
+        }
+        recommendedGiftItemRepository.saveAll(items);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userDataCache.invalidate(testUser.getId());
+        reminderDueRepository.deleteAll();
+        recommendedGiftItemRepository.deleteAll();
+        aiRecommendationRepository.deleteAll();
+        giftItemRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    // ===== EventController =====
+
+    @Test
+    @SqlBudget(statements = 9, entities = 1)
+    @DisplayName("POST /api/events - 사용자 조회 + 이벤트·리마인더·발송 예정 배치 INSERT")
+    void createEvent() throws Exception {
+        EventDto.Request request = EventDto.Request.builder()
+                .title("새 이벤트")
+                .eventDate(LocalDate.now().plusDays(40))
+                .eventType(Event.EventType.BIRTHDAY)
+                .reminderDays(List.of(7, 1))
+                .build();
+
+        mockMvc.perform(json(post("/api/events"), request))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(statements = 2, entities = 0)
+    @DisplayName("GET /api/events - 이벤트 행 + 리마인더 행 프로젝션")
+    void getEvents() throws Exception {
+        mockMvc.perform(get("/api/events").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(EVENT_COUNT));
+    }
+
+    @Test
+    @SqlBudget(statements = 2, entities = 0)
+    @DisplayName("GET /api/events?type - 타입별 프로젝션")
+    void getEventsByType() throws Exception {
+        mockMvc.perform(get("/api/events").param("type", "BIRTHDAY").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(EVENT_COUNT / 2));
+    }
+
+    @Test
+    @SqlBudget(statements = 2, entities = 0)
+    @DisplayName("GET /api/events/page - 페이지(+다음 페이지 확인용 1행) 프로젝션 + 페이지 이벤트의 리마인더 행")
+    void getEventPage() throws Exception {
+        mockMvc.perform(get("/api/events/page").param("size", String.valueOf(PAGE_SIZE)).with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @SqlBudget(statements = 1, entities = 2 + REMINDERS_PER_EVENT)
+    @DisplayName("GET /api/events/{eventId} - 사용자/리마인더 fetch join 1문장")
+    void getEvent() throws Exception {
+        mockMvc.perform(get("/api/events/{eventId}", testEvent.getId()).with(currentUser()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(statements = 9, entities = 2 + REMINDERS_PER_EVENT)
+    @DisplayName("PUT /api/events/{eventId} - 조회 + 리마인더 교체 + 발송 예정 재계산")
+    void updateEvent() throws Exception {
+        EventDto.Request request = EventDto.Request.builder()
+                .title("수정된 이벤트")
+                .eventDate(LocalDate.now().plusDays(50))
+                .eventType(Event.EventType.BIRTHDAY)
+                .reminderDays(List.of(3, 1))
+                .build();
+
+        mockMvc.perform(json(put("/api/events/{eventId}", testEvent.getId()), request))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(statements = 4, entities = 1)
+    @DisplayName("DELETE /api/events/{eventId} - 비활성화 + 발송 예정 삭제")
+    void deleteEvent() throws Exception {
+        mockMvc.perform(delete("/api/events/{eventId}", testEvent.getId()).with(currentUser()))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @SqlBudget(statements = 1, entities = 1 + EVENT_COUNT * (1 + REMINDERS_PER_EVENT))
+    @DisplayName("GET /api/events/upcoming - 사용자/리마인더 fetch join 1문장")
+    void getUpcomingEvents() throws Exception {
+        mockMvc.perform(get("/api/events/upcoming").param("days", "30").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(EVENT_COUNT));
+    }
+
+    @Test
+    @SqlBudget(statements = 7, entities = 1 + REMINDERS_PER_EVENT)
+    @DisplayName("PUT /api/events/{eventId}/tracking - 조회 + 발송 예정 재계산")
+    void toggleTracking() throws Exception {
+        mockMvc.perform(json(put("/api/events/{eventId}/tracking", testEvent.getId()),
+                        EventDto.ToggleTrackingRequest.builder().isTracking(true).build()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(statements = 8, entities = 2 + REMINDERS_PER_EVENT)
+    @DisplayName("PUT /api/events/{eventId}/reminders - 리마인더 교체 + 발송 예정 재계산")
+    void updateReminders() throws Exception {
+        mockMvc.perform(json(put("/api/events/{eventId}/reminders", testEvent.getId()),
+                        EventDto.UpdateReminderRequest.builder().reminderDays(List.of(14, 7, 1)).build()))
+                .andExpect(status().isOk());
+    }
+
+    // ===== GiftItemController =====
+
+    @Test
+    @SqlBudget(statements = 4, entities = 2)
+    @DisplayName("POST /api/gifts - 사용자/이벤트 조회 + INSERT")
+    void createGift() throws Exception {
+        GiftItemDto.Request request = GiftItemDto.Request.builder()
+                .eventId(testEvent.getId())
+                .name("새 선물")
+                .price(30000)
+                .category(GiftItem.GiftCategory.FLOWER)
+                .build();
+
+        mockMvc.perform(json(post("/api/gifts"), request))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(statements = 1, entities = 1 + GIFT_COUNT * 2)
+    @DisplayName("GET /api/gifts - 사용자/이벤트 fetch join 1문장")
+    void getGifts() throws Exception {
+        mockMvc.perform(get("/api/gifts").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(GIFT_COUNT));
+    }
+
+    @Test
+    @SqlBudget(statements = 1, entities = 1 + GIFT_COUNT)
+    @DisplayName("GET /api/gifts?isPurchased=false - 미구매 선물 1문장")
+    void getUnpurchasedGifts() throws Exception {
+        mockMvc.perform(get("/api/gifts").param("isPurchased", "false").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(GIFT_COUNT / 2));
+    }
+
+    @Test
+    @SqlBudget(statements = 1, entities = 1 + GIFT_COUNT)
+    @DisplayName("GET /api/gifts?category - 카테고리별 선물 1문장")
+    void getGiftsByCategory() throws Exception {
+        mockMvc.perform(get("/api/gifts").param("category", "FLOWER").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(GIFT_COUNT / 2));
+    }
+
+    @Test
+    @SqlBudget(statements = 1, entities = (PAGE_SIZE + 1) * 2)
+    @DisplayName("GET /api/gifts/page - 이벤트 fetch join 페이지(+1행) 1문장")
+    void getGiftPage() throws Exception {
+        mockMvc.perform(get("/api/gifts/page").param("size", String.valueOf(PAGE_SIZE)).with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @SqlBudget(statements = 1, entities = 3)
+    @DisplayName("GET /api/gifts/event/{eventId} - 이벤트별 선물 1문장")
+    void getGiftsByEvent() throws Exception {
+        mockMvc.perform(get("/api/gifts/event/{eventId}", testEvent.getId()).with(currentUser()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(statements = 3, entities = 2)
+    @DisplayName("PUT /api/gifts/{giftId} - 조회 + 이벤트 제목 + UPDATE")
+    void updateGift() throws Exception {
+        GiftItemDto.Request request = GiftItemDto.Request.builder()
+                .name("수정된 선물")
+                .price(50000)
+                .category(GiftItem.GiftCategory.FLOWER)
+                .build();
+
+        mockMvc.perform(json(put("/api/gifts/{giftId}", testGift.getId()), request))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(statements = 3, entities = 2)
+    @DisplayName("PATCH /api/gifts/{giftId}/purchase - 조회 + 이벤트 제목 + UPDATE")
+    void togglePurchase() throws Exception {
+        mockMvc.perform(patch("/api/gifts/{giftId}/purchase", testGift.getId()).with(currentUser()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(statements = 3, entities = 1)
+    @DisplayName("DELETE /api/gifts/{giftId} - 조회 + 추천 연결 조회 + DELETE")
+    void deleteGift() throws Exception {
+        mockMvc.perform(delete("/api/gifts/{giftId}", testGift.getId()).with(currentUser()))
+                .andExpect(status().isNoContent());
+    }
+
+    // ===== AIRecommendationController =====
+
+    @Test
+    @SqlBudget(statements = 3, entities = 1 + RECOMMENDATION_COUNT * (1 + ITEMS_PER_RECOMMENDATION) + GIFT_COUNT * 2)
+    @DisplayName("GET /api/ai/recommendations - 추천 + 추천 아이템(IN) + 사용자 선물 3문장")
+    void getRecommendations() throws Exception {
+        mockMvc.perform(get("/api/ai/recommendations").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(RECOMMENDATION_COUNT));
+    }
+
+    @Test
+    @SqlBudget(statements = 3, entities = 2 + ITEMS_PER_RECOMMENDATION + GIFT_COUNT * 2)
+    @DisplayName("GET /api/ai/recommendations/{id} - 추천 + 추천 아이템 + 사용자 선물 3문장")
+    void getRecommendationById() throws Exception {
+        mockMvc.perform(get("/api/ai/recommendations/{id}", testRecommendation.getId()).with(currentUser()))
+                .andExpect(status().isOk());
+    }
+
+    // ===== UserController =====
+
+    @Test
+    @SqlBudget(statements = 1, entities = 1)
+    @DisplayName("GET /api/users/me - 사용자 1문장")
+    void getMyInfo() throws Exception {
+        mockMvc.perform(get("/api/users/me").with(currentUser()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(statements = 2, entities = 1)
+    @DisplayName("PUT /api/users/me - 조회 + UPDATE")
+    void updateMyInfo() throws Exception {
+        mockMvc.perform(json(put("/api/users/me"), UserDto.UpdateRequest.builder().nickname("새 닉네임").build()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(statements = 2, entities = 1)
+    @DisplayName("PUT /api/users/password - 조회 + UPDATE")
+    void changePassword() throws Exception {
+        UserDto.PasswordChangeRequest request = UserDto.PasswordChangeRequest.builder()
+                .currentPassword(PASSWORD)
+                .newPassword("newpassword456")
+                .build();
+
+        mockMvc.perform(json(put("/api/users/password"), request))
+                .andExpect(status().isNoContent());
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder builder, Object body) throws Exception {
+        return builder.with(currentUser())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body));
+    }
+
+    // SecurityUtils는 CustomUserDetails 주체만 인정하므로 실제 사용자로 인증
+    private RequestPostProcessor currentUser() {
+        CustomUserDetails userDetails = new CustomUserDetails(testUser);
+        return authentication(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+}
@@ -0,0 +1,241 @@
+package com.daymemory.integration;
+
+import com.daymemory.domain.dto.DashboardDto;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.GiftItem;
+import com.daymemory.domain.entity.ReminderDue;
+import com.daymemory.domain.entity.ReminderLog;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.GiftItemRepository;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderDueRepository;
+import com.daymemory.domain.repository.ReminderLogRepository;
+import com.daymemory.domain.repository.UserRepository;
+import com.daymemory.service.DashboardService;
+import com.daymemory.service.UserDataCache;
+import com.daymemory.support.SqlStatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대시보드 통합 테스트
+ * - 요약 조회가 고정된 SQL 문장 수(4)로 끝나는지 확인
+ * - 응답 시간 예산은 CI 부하에 따라 흔들리므로 -Dbenchmark=true 일 때만 검사한다
+ * - 병렬 조회 스레드는 테스트 트랜잭션을 볼 수 없으므로 데이터를 커밋하고 테스트 후 삭제한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("대시보드 통합 테스트")
+class DashboardIntegrationTest {
+
+    private static final int STATEMENT_BUDGET = 4;
+    // 실행: ./gradlew test --tests "*DashboardIntegrationTest" -Dbenchmark=true
+    private static final long LATENCY_BUDGET_MILLIS = 1000;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private UserDataCache userDataCache;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GiftItemRepository giftItemRepository;
+
+    @Autowired
+    private ReminderLogRepository reminderLogRepository;
+
+    @Autowired
+    private ReminderDailyStatRepository reminderDailyStatRepository;
+
+    @Autowired
+    private ReminderDueRepository reminderDueRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate today = LocalDate.now();
+        testUser = saveUser("dashboard@example.com");
+        User otherUser = saveUser("other@example.com");
+
+        Event soon = saveEvent(testUser, "생일", today.plusDays(5), Event.RecurrenceRule.NONE);
+        saveEvent(testUser, "결혼기념일", today.minusYears(2).plusDays(10), Event.RecurrenceRule.YEARLY);
+        Event otherEvent = saveEvent(otherUser, "다른 사용자 생일", today.plusDays(3), Event.RecurrenceRule.NONE);
+
+        saveGift(soon, "꽃다발", false);
+        saveGift(soon, "케이크", false);
+        saveGift(soon, "카드", true);
+
+        saveLog(soon, ReminderLog.ReminderStatus.SENT);
+        saveLog(soon, ReminderLog.ReminderStatus.SENT);
+        saveLog(soon, ReminderLog.ReminderStatus.FAILED);
+        saveLog(otherEvent, ReminderLog.ReminderStatus.SENT);
+
+        reminderDueRepository.save(ReminderDue.builder()
+                .event(soon)
+                .userId(testUser.getId())
+                .daysBeforeEvent(5)
+                .fireDate(today)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userDataCache.invalidate(testUser.getId());
+        reminderDueRepository.deleteAll();
+        reminderDailyStatRepository.deleteAll();
+        reminderLogRepository.deleteAll();
+        giftItemRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("대시보드 요약 - 사용자 데이터만 집계")
+    void testGetDashboardSummary() {
+        // When
+        DashboardDto dashboard = dashboardService.getDashboardSummary(testUser.getId());
+
+        // Then
+        assertThat(dashboard.getUpcomingEventsCount()).isEqualTo(2);
+        assertThat(dashboard.getUpcomingEvents()).extracting("title").containsExactly("생일", "결혼기념일");
+        assertThat(dashboard.getUnpurchasedGiftsCount()).isEqualTo(2);
+        assertThat(dashboard.getRecentReminderStatus().getSentCount()).isEqualTo(2);
+        assertThat(dashboard.getRecentReminderStatus().getFailedCount()).isEqualTo(1);
+        assertThat(dashboard.getRecentReminderStatus().getLastSentAt()).isNotEqualTo("없음");
+        assertThat(dashboard.getTodayReminders()).hasSize(1);
+        assertThat(dashboard.getTodayReminders().get(0).getEventDate()).isEqualTo(LocalDate.now().plusDays(5).toString());
+    }
+
+    @Test
+    @DisplayName("대시보드 요약 - 캐시 미스는 SQL 4문장")
+    void testGetDashboardSummary_StatementBudget() {
+        // Given
+        userDataCache.invalidate(testUser.getId());
+
+        // When
+        SqlStatementCounter.start("dashboard-");
+        dashboardService.getDashboardSummary(testUser.getId());
+        List<String> statements = SqlStatementCounter.stop();
+
+        // Then: 이벤트 1 + 미구매 선물 COUNT 1 + 일일 발송 집계 1 + 오늘 리마인더 1
+        assertThat(statements).hasSize(STATEMENT_BUDGET);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("대시보드 요약 - 캐시 미스 응답 시간 예산 이내 (벤치마크)")
+    void testGetDashboardSummary_LatencyBudget() {
+        // Given: 커넥션/쿼리 계획 예열 후 캐시 비움
+        dashboardService.getDashboardSummary(testUser.getId());
+        userDataCache.invalidate(testUser.getId());
+
+        // When
+        long startedAt = System.nanoTime();
+        dashboardService.getDashboardSummary(testUser.getId());
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(LATENCY_BUDGET_MILLIS);
+    }
+
+    @Test
+    @DisplayName("대시보드 요약 - 캐시 적중 시 SQL 없음, 선물 변경 후 다시 조회")
+    void testGetDashboardSummary_CachedUntilInvalidated() {
+        // Given
+        DashboardDto first = dashboardService.getDashboardSummary(testUser.getId());
+
+        // When
+        SqlStatementCounter.start("dashboard-");
+        DashboardDto cached = dashboardService.getDashboardSummary(testUser.getId());
+        List<String> statements = SqlStatementCounter.stop();
+
+        giftItemRepository.deleteAll(giftItemRepository.findByUserIdAndIsPurchasedFalse(testUser.getId()));
+        userDataCache.invalidate(testUser.getId());
+        DashboardDto refreshed = dashboardService.getDashboardSummary(testUser.getId());
+
+        // Then
+        assertThat(statements).isEmpty();
+        assertThat(cached).isSameAs(first);
+        assertThat(refreshed.getUnpurchasedGiftsCount()).isZero();
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .nickname("Dashboard User")
+                .emailVerified(true)
+                .build());
+    }
+
+    private Event saveEvent(User user, String title, LocalDate eventDate, Event.RecurrenceRule rule) {
+        Event event = Event.builder()
+                .user(user)
+                .title(title)
+                .eventDate(eventDate)
+                .eventType(Event.EventType.BIRTHDAY)
+                .isRecurring(rule != Event.RecurrenceRule.NONE)
+                .recurrenceRule(rule)
+                .build();
+        event.addReminder(EventReminder.builder()
+                .event(event)
+                .daysBeforeEvent(5)
+                .isActive(true)
+                .build());
+        return eventRepository.save(event);
+    }
+
+    private void saveGift(Event event, String name, boolean purchased) {
+        giftItemRepository.save(GiftItem.builder()
+                .user(event.getUser())
+                .event(event)
+                .name(name)
+                .price(30000)
+                .category(GiftItem.GiftCategory.FLOWER)
+                .isPurchased(purchased)
+                .build());
+    }
+
+    // 디스패처처럼 로그 상태와 일일 발송 집계를 함께 기록
+    private void saveLog(Event event, ReminderLog.ReminderStatus status) {
+        LocalDateTime sentAt = LocalDateTime.now().minusDays(1);
+        ReminderLog reminderLog = reminderLogRepository.save(ReminderLog.builder()
+                .event(event)
+                .daysBeforeEvent(5)
+                .sentAt(sentAt)
+                .status(status)
+                .build());
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (status == ReminderLog.ReminderStatus.SENT) {
+                reminderDailyStatRepository.recordSent(reminderLog.getId(), sentAt.toLocalDate(), sentAt);
+            } else {
+                reminderDailyStatRepository.recordFailed(reminderLog.getId(), sentAt.toLocalDate());
+            }
+        });
+    }
+}
@@ -0,0 +1,189 @@
+package com.daymemory.integration;
+
+import com.daymemory.domain.entity.AIRecommendation;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.GiftItem;
+import com.daymemory.domain.entity.RecommendedGiftItem;
+import com.daymemory.domain.entity.ReminderLog;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.AIRecommendationRepository;
+import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.GiftItemRepository;
+import com.daymemory.domain.repository.RecommendedGiftItemRepository;
+import com.daymemory.domain.repository.ReminderDueRepository;
+import com.daymemory.domain.repository.ReminderLogRepository;
+import com.daymemory.domain.repository.UserRepository;
+import com.daymemory.service.DataExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 데이터 내보내기 통합 테스트
+ * - 섹션별 프로젝션 Stream 쿼리를 실제 PostgreSQL 커서(읽기 전용 트랜잭션)로 읽어 끝까지 쓰는지 확인
+ * - 내보내기는 자체 트랜잭션에서 읽으므로 테스트 트랜잭션 없이 데이터를 커밋하고 테스트 후 삭제한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("데이터 내보내기 통합 테스트")
+class DataExportIntegrationTest {
+
+    @Autowired
+    private DataExportService dataExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GiftItemRepository giftItemRepository;
+
+    @Autowired
+    private AIRecommendationRepository aiRecommendationRepository;
+
+    @Autowired
+    private RecommendedGiftItemRepository recommendedGiftItemRepository;
+
+    @Autowired
+    private ReminderLogRepository reminderLogRepository;
+
+    @Autowired
+    private ReminderDueRepository reminderDueRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = saveUser("export@example.com");
+        User otherUser = saveUser("export.other@example.com");
+
+        Event birthday = saveEvent(testUser, "엄마 생일", 2);
+        saveEvent(testUser, "결혼기념일", 1);
+        Event otherEvent = saveEvent(otherUser, "다른 사용자 생일", 1);
+
+        GiftItem gift = giftItemRepository.save(GiftItem.builder()
+                .user(testUser)
+                .event(birthday)
+                .name("꽃다발, \"장미\"")
+                .price(30000)
+                .category(GiftItem.GiftCategory.FLOWER)
+                .build());
+
+        AIRecommendation recommendation = aiRecommendationRepository.save(AIRecommendation.builder()
+                .user(testUser)
+                .event(birthday)
+                .eventTitle(birthday.getTitle())
+                .recipientName("엄마")
+                .budget(50000)
+                .daysUntilEvent(10)
+                .build());
+        recommendedGiftItemRepository.save(RecommendedGiftItem.builder()
+                .recommendation(recommendation)
+                .savedGift(gift)
+                .name("꽃다발")
+                .category(GiftItem.GiftCategory.FLOWER)
+                .estimatedPrice(30000)
+                .build());
+
+        saveLog(birthday, ReminderLog.ReminderStatus.SENT);
+        saveLog(birthday, ReminderLog.ReminderStatus.FAILED);
+        saveLog(otherEvent, ReminderLog.ReminderStatus.SENT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reminderDueRepository.deleteAll();
+        reminderLogRepository.deleteAll();
+        recommendedGiftItemRepository.deleteAll();
+        aiRecommendationRepository.deleteAll();
+        giftItemRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("JSON 내보내기 - 모든 섹션을 커서로 읽고 다른 사용자 데이터는 제외")
+    void testExport_Json() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dataExportService.export(testUser.getId(), DataExportService.Format.JSON, false).writeTo(out);
+
+        // Then
+        JsonNode root = objectMapper.readTree(out.toByteArray());
+        assertThat(root.path("user").path("email").asText()).isEqualTo("export@example.com");
+        assertThat(root.path("events")).hasSize(2);
+        assertThat(root.path("reminders")).hasSize(3);
+        assertThat(root.path("gifts")).hasSize(1);
+        assertThat(root.path("recommendations")).hasSize(1);
+        assertThat(root.path("recommendedGifts")).hasSize(1);
+        assertThat(root.path("reminderLogs")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 이스케이프된 값과 섹션별 행")
+    void testExport_Csv() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dataExportService.export(testUser.getId(), DataExportService.Format.CSV, false).writeTo(out);
+
+        // Then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).contains("\"꽃다발, \"\"장미\"\"\"");
+        assertThat(csv.lines().filter(line -> line.startsWith("reminderLogs,"))).hasSize(3);
+        assertThat(csv).doesNotContain("다른 사용자 생일");
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .nickname("Export User")
+                .emailVerified(true)
+                .build());
+    }
+
+    private Event saveEvent(User user, String title, int reminderCount) {
+        Event event = Event.builder()
+                .user(user)
+                .title(title)
+                .eventDate(LocalDate.now().plusDays(10))
+                .eventType(Event.EventType.BIRTHDAY)
+                .build();
+        for (int days = 1; days <= reminderCount; days++) {
+            event.addReminder(EventReminder.builder()
+                    .event(event)
+                    .daysBeforeEvent(days)
+                    .isActive(true)
+                    .build());
+        }
+        return eventRepository.save(event);
+    }
+
+    private void saveLog(Event event, ReminderLog.ReminderStatus status) {
+        reminderLogRepository.save(ReminderLog.builder()
+                .event(event)
+                .daysBeforeEvent(1)
+                .sentAt(LocalDateTime.now().minusDays(1))
+                .status(status)
+                .build());
+    }
+}
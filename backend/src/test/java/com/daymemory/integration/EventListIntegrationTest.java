@@ -0,0 +1,136 @@
+package com.daymemory.integration;
+
+import com.daymemory.domain.dto.EventDto;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.UserRepository;
+import com.daymemory.service.EventService;
+import com.daymemory.support.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 목록 조회 통합 테스트
+ * - 이벤트 500개 사용자의 목록 조회가 이벤트 수와 무관하게 SQL 2문장(이벤트 행 + 리마인더 행)으로 끝나는지 확인
+ * - 리마인더 지연 로딩이 섞이면 이벤트마다 1문장씩 늘어난다 (N+1 회귀)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("이벤트 목록 조회 통합 테스트")
+class EventListIntegrationTest {
+
+    private static final int EVENT_COUNT = 500;
+    private static final int STATEMENT_BUDGET = 2;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = saveUser("list@example.com");
+        User otherUser = saveUser("other-list@example.com");
+
+        LocalDate start = LocalDate.now().plusDays(1);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event.EventType type = i % 2 == 0 ? Event.EventType.BIRTHDAY : Event.EventType.ANNIVERSARY_100;
+            events.add(event(testUser, "이벤트 " + i, start.plusDays(i), type, 30, 7));
+        }
+        Event inactive = event(testUser, "삭제된 이벤트", start, Event.EventType.BIRTHDAY, 1);
+        inactive.deactivate();
+        events.add(inactive);
+        events.add(event(otherUser, "다른 사용자 이벤트", start, Event.EventType.BIRTHDAY, 1));
+        eventRepository.saveAll(events);
+
+        // 목록 조회가 1차 캐시가 아닌 DB에서 읽도록 반영 후 비움
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("이벤트 500개 목록 조회 - SQL 2문장, 이벤트별 리마인더 포함")
+    void testGetEventsByUser_StatementBudget() {
+        // When
+        SqlStatementCounter.start();
+        List<EventDto.Response> responses = eventService.getEventsByUser(testUser.getId());
+        List<String> statements = SqlStatementCounter.stop();
+
+        // Then
+        assertThat(statements).hasSize(STATEMENT_BUDGET);
+        assertThat(responses).hasSize(EVENT_COUNT);
+        assertThat(responses.get(0).getTitle()).isEqualTo("이벤트 0");
+        assertThat(responses).allSatisfy(response -> assertThat(response.getReminders())
+                .extracting(EventDto.ReminderDto::getDaysBeforeEvent)
+                .containsExactlyInAnyOrder(30, 7));
+    }
+
+    @Test
+    @DisplayName("이벤트 타입별 목록 조회 - SQL 2문장, 해당 타입만 반환")
+    void testGetEventsByUserAndType_StatementBudget() {
+        // When
+        SqlStatementCounter.start();
+        List<EventDto.Response> responses = eventService.getEventsByUserAndType(
+                testUser.getId(), Event.EventType.ANNIVERSARY_100);
+        List<String> statements = SqlStatementCounter.stop();
+
+        // Then
+        assertThat(statements).hasSize(STATEMENT_BUDGET);
+        assertThat(responses).hasSize(EVENT_COUNT / 2);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getEventType()).isEqualTo(Event.EventType.ANNIVERSARY_100);
+            assertThat(response.getReminders()).hasSize(2);
+        });
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .nickname("List User")
+                .emailVerified(true)
+                .build());
+    }
+
+    private static Event event(User user, String title, LocalDate eventDate, Event.EventType type, int... reminderDays) {
+        Event event = Event.builder()
+                .user(user)
+                .title(title)
+                .eventDate(eventDate)
+                .eventType(type)
+                .build();
+        for (int days : reminderDays) {
+            event.addReminder(EventReminder.builder()
+                    .event(event)
+                    .daysBeforeEvent(days)
+                    .isActive(true)
+                    .build());
+        }
+        return event;
+    }
+}
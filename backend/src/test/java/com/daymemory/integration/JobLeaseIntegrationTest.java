@@ -0,0 +1,71 @@
+package com.daymemory.integration;
+
+import com.daymemory.domain.entity.JobLease;
+import com.daymemory.domain.repository.JobLeaseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스케줄 작업 임대 통합 테스트
+ * - 인스턴스 두 개가 같은 작업 임대를 경쟁할 때 한 쪽만 획득하는지 확인 (PostgreSQL UPSERT)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("스케줄 작업 임대 통합 테스트")
+class JobLeaseIntegrationTest {
+
+    private static final String JOB_NAME = "lease-test-job";
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Test
+    @DisplayName("임대 보유 중에는 다른 인스턴스가 획득하지 못하고, 보유 인스턴스는 갱신 가능")
+    void testTryAcquire_ExclusiveWhileHeld() {
+        // When
+        int first = jobLeaseRepository.tryAcquire(JOB_NAME, "instance-a", 600);
+        int second = jobLeaseRepository.tryAcquire(JOB_NAME, "instance-b", 600);
+        int renewed = jobLeaseRepository.tryAcquire(JOB_NAME, "instance-a", 600);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(renewed).isEqualTo(1);
+        assertThat(jobLeaseRepository.findById(JOB_NAME)).map(JobLease::getOwner).contains("instance-a");
+    }
+
+    @Test
+    @DisplayName("lockAtLeast 없이 반납하면 다른 인스턴스가 바로 획득")
+    void testRelease_AllowsOtherInstance() {
+        // Given
+        jobLeaseRepository.tryAcquire(JOB_NAME, "instance-a", 600);
+
+        // When
+        jobLeaseRepository.release(JOB_NAME, "instance-a", 0);
+        int acquired = jobLeaseRepository.tryAcquire(JOB_NAME, "instance-b", 600);
+
+        // Then
+        assertThat(acquired).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lockAtLeast 동안은 반납 후에도 다른 인스턴스가 획득하지 못함")
+    void testRelease_KeepsLeaseForLockAtLeast() {
+        // Given
+        jobLeaseRepository.tryAcquire(JOB_NAME, "instance-a", 600);
+
+        // When
+        jobLeaseRepository.release(JOB_NAME, "instance-a", 120);
+        int acquired = jobLeaseRepository.tryAcquire(JOB_NAME, "instance-b", 600);
+
+        // Then
+        assertThat(acquired).isZero();
+    }
+}
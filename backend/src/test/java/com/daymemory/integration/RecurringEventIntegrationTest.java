@@ -0,0 +1,174 @@
+package com.daymemory.integration;
+
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.ReminderDue;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.ReminderDueRepository;
+import com.daymemory.domain.repository.UserRepository;
+import com.daymemory.service.RecurringEventService;
+import com.daymemory.service.ReminderDueService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반복 이벤트 통합 테스트
+ * - 반복 이벤트는 행을 복사하지 않고 한 행으로 매 발생일을 대표하는지 확인
+ * - 발송일이 지난 reminder_due가 다음 발생일 기준으로 옮겨지는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("반복 이벤트 통합 테스트")
+class RecurringEventIntegrationTest {
+
+    @Autowired
+    private RecurringEventService recurringEventService;
+
+    @Autowired
+    private ReminderDueService reminderDueService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ReminderDueRepository reminderDueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("recurring@example.com")
+                .password("password")
+                .nickname("Recurring User")
+                .build());
+    }
+
+    private Event saveRecurringEvent(LocalDate eventDate, Event.RecurrenceRule rule) {
+        Event event = Event.builder()
+                .user(testUser)
+                .title("엄마 생신")
+                .recipientName("홍길동")
+                .eventDate(eventDate)
+                .eventType(Event.EventType.BIRTHDAY)
+                .isRecurring(true)
+                .recurrenceRule(rule)
+                .build();
+        event.addReminder(EventReminder.builder()
+                .event(event)
+                .daysBeforeEvent(7)
+                .isActive(true)
+                .build());
+        return eventRepository.save(event);
+    }
+
+    private List<ReminderDue> findDues(Event event) {
+        entityManager.flush();
+        entityManager.clear();
+        return reminderDueRepository.findAll().stream()
+                .filter(due -> due.getEvent().getId().equals(event.getId()))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("지난 첫 발생일의 반복 이벤트 - 다음 발생일 기준으로 발송일 계산")
+    void testRefresh_UsesNextOccurrence() {
+        // Given: 3년 전 어제가 첫 발생일
+        LocalDate today = LocalDate.now();
+        Event event = saveRecurringEvent(today.minusYears(3).minusDays(1), Event.RecurrenceRule.YEARLY);
+
+        // When
+        reminderDueService.refresh(event);
+
+        // Then: 올해 발생일(어제)은 지났으므로 내년 발생일 7일 전
+        assertThat(findDues(event)).extracting(ReminderDue::getFireDate)
+                .containsExactly(today.minusDays(1).plusYears(1).minusDays(7));
+        assertThat(eventRepository.findByUserIdAndIsActiveTrue(testUser.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("발송일이 지난 반복 리마인더를 다음 발생일로 옮기고, 이벤트 행은 복사하지 않음")
+    void testAdvanceRecurringReminders_MovesPassedDues() {
+        // Given: 매월 반복 이벤트의 리마인더가 지난 발송일에 남아 있음
+        LocalDate today = LocalDate.now();
+        Event event = saveRecurringEvent(today.minusMonths(2), Event.RecurrenceRule.MONTHLY);
+        reminderDueRepository.save(ReminderDue.builder()
+                .event(event)
+                .userId(testUser.getId())
+                .daysBeforeEvent(7)
+                .fireDate(today.minusDays(3))
+                .build());
+        entityManager.flush();
+
+        // When
+        int advanced = recurringEventService.advanceRecurringReminders();
+
+        // Then
+        assertThat(advanced).isEqualTo(1);
+        LocalDate nextOccurrence = event.nextOccurrence(LocalDate.now(ZoneOffset.MIN).plusDays(7));
+        assertThat(findDues(event)).extracting(ReminderDue::getFireDate)
+                .containsExactly(nextOccurrence.minusDays(7));
+        assertThat(eventRepository.findByUserIdAndIsActiveTrue(testUser.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("가장 늦은 시간대에서 아직 오늘인 발송일은 옮기지 않음 (서쪽 시간대 사용자의 슬롯 발송 전)")
+    void testAdvanceRecurringReminders_KeepsDuesStillPendingInWesternZones() {
+        // Given: 서버 날짜로는 지났을 수 있지만 UTC-18에서는 오늘인 발송일
+        LocalDate earliestToday = LocalDate.now(ZoneOffset.MIN);
+        Event event = saveRecurringEvent(earliestToday.minusMonths(2).plusDays(7), Event.RecurrenceRule.MONTHLY);
+        reminderDueRepository.save(ReminderDue.builder()
+                .event(event)
+                .userId(testUser.getId())
+                .daysBeforeEvent(7)
+                .fireDate(earliestToday)
+                .build());
+        entityManager.flush();
+
+        // When
+        int advanced = recurringEventService.advanceRecurringReminders();
+
+        // Then
+        assertThat(advanced).isZero();
+        assertThat(findDues(event)).extracting(ReminderDue::getFireDate)
+                .containsExactly(earliestToday);
+    }
+
+    @Test
+    @DisplayName("다가오는 이벤트 조회 - 첫 발생일이 지난 반복 이벤트도 조회")
+    void testFindUpcomingEvents_IncludesRecurringAnchors() {
+        // Given
+        LocalDate today = LocalDate.now();
+        saveRecurringEvent(today.minusYears(1).plusDays(5), Event.RecurrenceRule.YEARLY);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Event> events = eventRepository.findUpcomingEvents(testUser.getId(), today, today.plusDays(30));
+
+        // Then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).occurrencesBetween(today, today.plusDays(30)))
+                .containsExactly(today.minusYears(1).plusDays(5).plusYears(1));
+    }
+}
@@ -8,6 +8,7 @@ import com.daymemory.domain.repository.EventRepository;
 import com.daymemory.domain.repository.ReminderLogRepository;
 import com.daymemory.domain.repository.UserRepository;
 import com.daymemory.service.EmailService;
+import com.daymemory.service.ReminderDueService;
 import com.daymemory.service.ReminderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,8 +32,8 @@ import static org.mockito.Mockito.*;
 
 /**
  * 스케줄러 통합 테스트
- * - ReminderService의 스케줄 메서드가 정상적으로 동작하는지 확인
- * - 리마인더가 올바른 시점에 발송되는지 확인
+ * - ReminderSlotScheduler가 매 분 호출하는 발송 슬롯 처리(ReminderService.sendSlotReminders)가 정상적으로 동작하는지 확인
+ * - 리마인더가 올바른 시점에, 해당 슬롯의 알림을 켠 사용자에게만 발송되는지 확인
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -52,6 +54,9 @@ class SchedulerIntegrationTest {
     @Autowired
     private ReminderLogRepository reminderLogRepository;
 
+    @Autowired
+    private ReminderDueService reminderDueService;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -71,15 +76,14 @@ class SchedulerIntegrationTest {
                 .build();
         testUser = userRepository.save(testUser);
 
-        // EmailService의 실제 메서드가 호출되지 않도록 모킹
-        doNothing().when(emailService).sendReminderEmail(anyString(), anyString(), anyString());
+        // 메일 본문 렌더링 대신 고정 내용 사용
         when(emailService.buildReminderEmailContent(anyString(), anyInt(), anyString()))
                 .thenReturn("Test reminder email content");
     }
 
     @Test
     @DisplayName("7일 전 리마인더가 정상적으로 발송됨")
-    void testSendDailyReminders_7DaysBefore() {
+    void testSendSlotReminders_7DaysBefore() {
         // Given: 7일 후에 발생하는 이벤트 생성
         LocalDate eventDate = LocalDate.now().plusDays(7);
         Event event = Event.builder()
@@ -99,24 +103,25 @@ class SchedulerIntegrationTest {
                 .build();
         event.addReminder(reminder);
         reminder = eventRepository.save(event).getReminders().get(0);
+        reminderDueService.refresh(event);
 
         // When: 스케줄러 실행
-        reminderService.sendDailyReminders();
+        sendTestUserSlot();
 
-        // Then: 리마인더가 발송되었는지 확인
+        // Then: 리마인더 메일이 아웃박스에 적재되었는지 확인
         verify(emailService, times(1))
-                .sendReminderEmail(eq(testUser.getEmail()), contains("7일 전"), anyString());
+                .enqueueReminder(eq(testUser.getEmail()), contains("7일 전"), anyString(), any());
 
         // 리마인더 로그가 생성되었는지 확인
         List<ReminderLog> logs = reminderLogRepository.findByEventId(event.getId());
         assertThat(logs).isNotEmpty();
         assertThat(logs.get(0).getDaysBeforeEvent()).isEqualTo(7);
-        assertThat(logs.get(0).getStatus()).isEqualTo(ReminderLog.ReminderStatus.SENT);
+        assertThat(logs.get(0).getStatus()).isEqualTo(ReminderLog.ReminderStatus.PENDING);
     }
 
     @Test
     @DisplayName("3일 전 리마인더가 정상적으로 발송됨")
-    void testSendDailyReminders_3DaysBefore() {
+    void testSendSlotReminders_3DaysBefore() {
         // Given: 3일 후에 발생하는 이벤트 생성
         LocalDate eventDate = LocalDate.now().plusDays(3);
         Event event = Event.builder()
@@ -136,18 +141,19 @@ class SchedulerIntegrationTest {
                 .build();
         event.addReminder(reminder);
         eventRepository.save(event);
+        reminderDueService.refresh(event);
 
         // When: 스케줄러 실행
-        reminderService.sendDailyReminders();
+        sendTestUserSlot();
 
         // Then: 리마인더가 발송되었는지 확인
         verify(emailService, times(1))
-                .sendReminderEmail(eq(testUser.getEmail()), contains("3일 전"), anyString());
+                .enqueueReminder(eq(testUser.getEmail()), contains("3일 전"), anyString(), any());
     }
 
     @Test
     @DisplayName("1일 전 리마인더가 정상적으로 발송됨")
-    void testSendDailyReminders_1DayBefore() {
+    void testSendSlotReminders_1DayBefore() {
         // Given: 1일 후에 발생하는 이벤트 생성
         LocalDate eventDate = LocalDate.now().plusDays(1);
         Event event = Event.builder()
@@ -167,18 +173,19 @@ class SchedulerIntegrationTest {
                 .build();
         event.addReminder(reminder);
         eventRepository.save(event);
+        reminderDueService.refresh(event);
 
         // When: 스케줄러 실행
-        reminderService.sendDailyReminders();
+        sendTestUserSlot();
 
         // Then: 리마인더가 발송되었는지 확인
         verify(emailService, times(1))
-                .sendReminderEmail(eq(testUser.getEmail()), contains("1일 전"), anyString());
+                .enqueueReminder(eq(testUser.getEmail()), contains("1일 전"), anyString(), any());
     }
 
     @Test
     @DisplayName("비활성화된 리마인더는 발송되지 않음")
-    void testSendDailyReminders_InactiveReminderNotSent() {
+    void testSendSlotReminders_InactiveReminderNotSent() {
         // Given: 7일 후에 발생하는 이벤트 생성
         LocalDate eventDate = LocalDate.now().plusDays(7);
         Event event = Event.builder()
@@ -198,18 +205,19 @@ class SchedulerIntegrationTest {
                 .build();
         event.addReminder(reminder);
         eventRepository.save(event);
+        reminderDueService.refresh(event);
 
         // When: 스케줄러 실행
-        reminderService.sendDailyReminders();
+        sendTestUserSlot();
 
         // Then: 리마인더가 발송되지 않았는지 확인
         verify(emailService, never())
-                .sendReminderEmail(anyString(), anyString(), anyString());
+                .enqueueReminder(anyString(), anyString(), anyString(), any());
     }
 
     @Test
     @DisplayName("추적하지 않는 이벤트는 리마인더가 발송되지 않음")
-    void testSendDailyReminders_NotTrackingEventNotSent() {
+    void testSendSlotReminders_NotTrackingEventNotSent() {
         // Given: 7일 후에 발생하는 이벤트 생성 (추적 안 함)
         LocalDate eventDate = LocalDate.now().plusDays(7);
         Event event = Event.builder()
@@ -229,18 +237,19 @@ class SchedulerIntegrationTest {
                 .build();
         event.addReminder(reminder);
         eventRepository.save(event);
+        reminderDueService.refresh(event);
 
         // When: 스케줄러 실행
-        reminderService.sendDailyReminders();
+        sendTestUserSlot();
 
         // Then: 리마인더가 발송되지 않았는지 확인
         verify(emailService, never())
-                .sendReminderEmail(anyString(), anyString(), anyString());
+                .enqueueReminder(anyString(), anyString(), anyString(), any());
     }
 
     @Test
     @DisplayName("여러 리마인더가 있는 이벤트에서 올바른 리마인더만 발송됨")
-    void testSendDailyReminders_MultipleReminders() {
+    void testSendSlotReminders_MultipleReminders() {
         // Given: 7일 후에 발생하는 이벤트 생성
         LocalDate eventDate = LocalDate.now().plusDays(7);
         Event event = Event.builder()
@@ -273,18 +282,19 @@ class SchedulerIntegrationTest {
         event.addReminder(reminder3);
         event.addReminder(reminder1);
         eventRepository.save(event);
+        reminderDueService.refresh(event);
 
         // When: 스케줄러 실행
-        reminderService.sendDailyReminders();
+        sendTestUserSlot();
 
         // Then: 7일 전 리마인더만 발송됨
         verify(emailService, times(1))
-                .sendReminderEmail(eq(testUser.getEmail()), contains("7일 전"), anyString());
+                .enqueueReminder(eq(testUser.getEmail()), contains("7일 전"), anyString(), any());
     }
 
     @Test
     @DisplayName("여러 이벤트가 있을 때 모든 해당 리마인더가 발송됨")
-    void testSendDailyReminders_MultipleEvents() {
+    void testSendSlotReminders_MultipleEvents() {
         // Given: 여러 이벤트 생성
         LocalDate eventDate1 = LocalDate.now().plusDays(7);
         Event event1 = Event.builder()
@@ -302,6 +312,7 @@ class SchedulerIntegrationTest {
                 .build();
         event1.addReminder(reminder1);
         eventRepository.save(event1);
+        reminderDueService.refresh(event1);
 
         LocalDate eventDate2 = LocalDate.now().plusDays(3);
         Event event2 = Event.builder()
@@ -319,18 +330,19 @@ class SchedulerIntegrationTest {
                 .build();
         event2.addReminder(reminder2);
         eventRepository.save(event2);
+        reminderDueService.refresh(event2);
 
         // When: 스케줄러 실행
-        reminderService.sendDailyReminders();
+        sendTestUserSlot();
 
         // Then: 두 리마인더가 모두 발송됨
         verify(emailService, times(2))
-                .sendReminderEmail(eq(testUser.getEmail()), anyString(), anyString());
+                .enqueueReminder(eq(testUser.getEmail()), anyString(), anyString(), any());
     }
 
     @Test
     @DisplayName("중복 리마인더는 24시간 내에 재발송되지 않음")
-    void testSendDailyReminders_NoDuplicateWithin24Hours() {
+    void testSendSlotReminders_NoDuplicateWithin24Hours() {
         // Given: 7일 후에 발생하는 이벤트 생성
         LocalDate eventDate = LocalDate.now().plusDays(7);
         Event event = Event.builder()
@@ -349,6 +361,7 @@ class SchedulerIntegrationTest {
                 .build();
         event.addReminder(reminder);
         event = eventRepository.save(event);
+        reminderDueService.refresh(event);
 
         // 이미 리마인더 로그 생성 (1시간 전)
         ReminderLog existingLog = ReminderLog.builder()
@@ -360,16 +373,16 @@ class SchedulerIntegrationTest {
         reminderLogRepository.save(existingLog);
 
         // When: 스케줄러 실행
-        reminderService.sendDailyReminders();
+        sendTestUserSlot();
 
         // Then: 리마인더가 재발송되지 않음
         verify(emailService, never())
-                .sendReminderEmail(anyString(), anyString(), anyString());
+                .enqueueReminder(anyString(), anyString(), anyString(), any());
     }
 
     @Test
     @DisplayName("이메일 발송 실패 시 실패 로그가 생성됨")
-    void testSendDailyReminders_EmailFailureLogged() {
+    void testSendSlotReminders_EmailFailureLogged() {
         // Given: 7일 후에 발생하는 이벤트 생성
         LocalDate eventDate = LocalDate.now().plusDays(7);
         Event event = Event.builder()
@@ -388,13 +401,14 @@ class SchedulerIntegrationTest {
                 .build();
         event.addReminder(reminder);
         event = eventRepository.save(event);
+        reminderDueService.refresh(event);
 
-        // 이메일 발송 실패 시뮬레이션
+        // 이메일 발송 요청 실패 시뮬레이션
         doThrow(new RuntimeException("Email service error"))
-                .when(emailService).sendReminderEmail(anyString(), anyString(), anyString());
+                .when(emailService).enqueueReminder(anyString(), anyString(), anyString(), any());
 
         // When: 스케줄러 실행
-        reminderService.sendDailyReminders();
+        sendTestUserSlot();
 
         // Then: 실패 로그가 생성됨
         List<ReminderLog> logs = reminderLogRepository.findByEventId(event.getId());
@@ -402,6 +416,28 @@ class SchedulerIntegrationTest {
         assertThat(logs.get(0).getStatus()).isEqualTo(ReminderLog.ReminderStatus.FAILED);
     }
 
+    @Test
+    @DisplayName("알림을 끈 사용자와 다른 발송 슬롯 사용자의 리마인더는 이 슬롯에서 발송되지 않음")
+    void testSendSlotReminders_OnlyEnabledUsersInSlot() {
+        // Given: 같은 날 7일 전 리마인더가 있는 세 사용자 (이 슬롯 / 알림 해제 / 다른 발송 시각)
+        saveEventWithReminder(testUser, 7);
+
+        User mutedUser = saveUser("muted@example.com", false, testUser.getReminderTime());
+        saveEventWithReminder(mutedUser, 7);
+
+        User laterUser = saveUser("later@example.com", true, testUser.getReminderTime().plusHours(3));
+        saveEventWithReminder(laterUser, 7);
+
+        // When: 테스트 사용자의 슬롯 실행
+        sendTestUserSlot();
+
+        // Then: 이 슬롯의 알림을 켠 사용자만 발송
+        verify(emailService, times(1))
+                .enqueueReminder(anyString(), anyString(), anyString(), any());
+        verify(emailService, times(1))
+                .enqueueReminder(eq(testUser.getEmail()), contains("7일 전"), anyString(), any());
+    }
+
     @Test
     @DisplayName("즉시 리마인더 발송이 정상적으로 동작함")
     void testSendImmediateReminder() {
@@ -429,6 +465,38 @@ class SchedulerIntegrationTest {
 
         // Then: 리마인더가 발송됨
         verify(emailService, times(1))
-                .sendReminderEmail(eq(testUser.getEmail()), anyString(), anyString());
+                .enqueueReminder(eq(testUser.getEmail()), anyString(), anyString(), any());
+    }
+
+    // ReminderSlotScheduler가 테스트 사용자의 (시간대, 발송 시각) 슬롯에 도달했을 때와 같은 호출
+    private void sendTestUserSlot() {
+        reminderService.sendSlotReminders(testUser.getTimeZone(), testUser.getReminderTime(), LocalDate.now());
+    }
+
+    private User saveUser(String email, boolean reminderEnabled, LocalTime reminderTime) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password(passwordEncoder.encode("password123"))
+                .nickname("Slot User")
+                .emailVerified(true)
+                .reminderEnabled(reminderEnabled)
+                .reminderTime(reminderTime)
+                .build());
+    }
+
+    private void saveEventWithReminder(User user, int daysBeforeEvent) {
+        Event event = Event.builder()
+                .user(user)
+                .title("슬롯 이벤트")
+                .eventDate(LocalDate.now().plusDays(daysBeforeEvent))
+                .eventType(Event.EventType.BIRTHDAY)
+                .isTracking(true)
+                .build();
+        event.addReminder(EventReminder.builder()
+                .event(event)
+                .daysBeforeEvent(daysBeforeEvent)
+                .isActive(true)
+                .build());
+        reminderDueService.refresh(eventRepository.save(event));
     }
 }
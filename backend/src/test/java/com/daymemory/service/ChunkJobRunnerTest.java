@@ -0,0 +1,135 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.JobCheckpoint;
+import com.daymemory.domain.repository.JobCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChunkJobRunner 테스트")
+class ChunkJobRunnerTest {
+
+    private static final String JOB_NAME = "test-job";
+    private static final String JOB_KEY = "2026-01-15";
+
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ChunkJobRunner chunkJobRunner;
+
+    @BeforeEach
+    void setUp() {
+        chunkJobRunner = new ChunkJobRunner(jobCheckpointRepository, transactionTemplate, meterRegistry);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private void givenCheckpoint(long lastKey, int chunks) {
+        given(jobCheckpointRepository.findByJobNameAndJobKey(JOB_NAME, JOB_KEY))
+                .willReturn(Optional.of(JobCheckpoint.builder().id(7L).lastKey(lastKey).chunks(chunks).build()));
+    }
+
+    @Test
+    @DisplayName("청크마다 체크포인트를 남기고, 청크 크기보다 적게 읽으면 완료 처리")
+    void testRun_AdvancesCheckpointPerChunk() {
+        // Given: 2건, 2건, 1건 (청크 크기 2)
+        givenCheckpoint(0L, 0);
+        List<Long> startKeys = new ArrayList<>();
+
+        // When
+        long written = chunkJobRunner.run(JOB_NAME, JOB_KEY, 2, lastKey -> {
+            startKeys.add(lastKey);
+            int rows = lastKey < 4 ? 2 : 1;
+            return ChunkResult.of(rows, rows, lastKey + rows);
+        });
+
+        // Then
+        assertThat(written).isEqualTo(5);
+        assertThat(startKeys).containsExactly(0L, 2L, 4L);
+        then(jobCheckpointRepository).should().open(eq(JOB_NAME), eq(JOB_KEY), any(LocalDateTime.class));
+        then(jobCheckpointRepository).should().advance(eq(7L), eq(2L), eq(2), eq(2L), anyLong(), any(LocalDateTime.class));
+        then(jobCheckpointRepository).should().advance(eq(7L), eq(4L), eq(2), eq(2L), anyLong(), any(LocalDateTime.class));
+        then(jobCheckpointRepository).should().advance(eq(7L), eq(5L), eq(1), eq(1L), anyLong(), any(LocalDateTime.class));
+        then(jobCheckpointRepository).should().complete(eq(7L), any(LocalDateTime.class));
+
+        // Verify: 청크별 처리량 메트릭
+        assertThat(meterRegistry.get(ChunkJobRunner.CHUNK_TIMER).tag("job", JOB_NAME).timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(ChunkJobRunner.CHUNK_ROWS).tag("job", JOB_NAME).counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("중단된 실행은 체크포인트의 마지막 키 다음부터 이어서 처리")
+    void testRun_ResumesFromCheckpoint() {
+        // Given
+        givenCheckpoint(42L, 3);
+        List<Long> startKeys = new ArrayList<>();
+
+        // When
+        chunkJobRunner.run(JOB_NAME, JOB_KEY, 10, lastKey -> {
+            startKeys.add(lastKey);
+            return ChunkResult.of(1, 1, lastKey + 1);
+        });
+
+        // Then
+        assertThat(startKeys).containsExactly(42L);
+    }
+
+    @Test
+    @DisplayName("읽을 행이 없으면 체크포인트를 옮기지 않고 완료 처리")
+    void testRun_EmptyChunkKeepsCursor() {
+        // Given
+        givenCheckpoint(0L, 0);
+
+        // When
+        long written = chunkJobRunner.run(JOB_NAME, JOB_KEY, 10, ChunkResult::empty);
+
+        // Then
+        assertThat(written).isZero();
+        then(jobCheckpointRepository).should(never()).advance(anyLong(), anyLong(), anyInt(), anyLong(), anyLong(), any());
+        then(jobCheckpointRepository).should().complete(eq(7L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("청크 처리 중 예외 - 완료 처리하지 않아 다음 실행이 이어서 처리")
+    void testRun_FailureLeavesCheckpointRunning() {
+        // Given
+        givenCheckpoint(0L, 0);
+
+        // When & Then
+        assertThatThrownBy(() -> chunkJobRunner.run(JOB_NAME, JOB_KEY, 10, lastKey -> {
+            throw new IllegalStateException("DB error");
+        })).isInstanceOf(IllegalStateException.class);
+
+        then(jobCheckpointRepository).should(never()).complete(anyLong(), any());
+    }
+}
@@ -0,0 +1,203 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.dto.*;
+import com.daymemory.domain.entity.AIRecommendation;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.GiftItem;
+import com.daymemory.domain.entity.ReminderLog;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.*;
+import com.daymemory.exception.CustomException;
+import com.daymemory.exception.ErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataExportService 테스트")
+class DataExportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private GiftItemRepository giftItemRepository;
+
+    @Mock
+    private AIRecommendationRepository aiRecommendationRepository;
+
+    @Mock
+    private RecommendedGiftItemRepository recommendedGiftItemRepository;
+
+    @Mock
+    private ReminderLogRepository reminderLogRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ObjectMapper objectMapper;
+
+    private DataExportService dataExportService;
+
+    // 섹션 스트림이 닫힌 횟수 (커서를 놓지 않으면 연결이 트랜잭션 끝까지 묶인다)
+    private final AtomicInteger closedStreams = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        dataExportService = new DataExportService(userRepository, eventRepository, giftItemRepository,
+                aiRecommendationRepository, recommendedGiftItemRepository, reminderLogRepository,
+                transactionManager, objectMapper);
+        ReflectionTestUtils.setField(dataExportService, "maxConcurrent", 2);
+        dataExportService.init();
+        lenient().when(userRepository.findById(1L)).thenReturn(Optional.of(User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .nickname("테스터")
+                .build()));
+        lenient().when(userRepository.findById(2L)).thenReturn(Optional.of(User.builder().id(2L).email("two@example.com").build()));
+        lenient().when(userRepository.findById(3L)).thenReturn(Optional.of(User.builder().id(3L).email("three@example.com").build()));
+
+        LocalDate date = LocalDate.of(2026, 12, 25);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        lenient().when(eventRepository.streamExportRowsByUserId(1L)).thenAnswer(invocation -> tracked(Stream.of(
+                new EventRow(10L, "엄마 생일", "\"70세\", 가족 모임", "엄마", "가족", date,
+                        Event.EventType.BIRTHDAY, true, Event.RecurrenceRule.YEARLY, true, true),
+                new EventRow(11L, "삭제된 이벤트", null, null, null, date,
+                        Event.EventType.ANNIVERSARY_100, false, Event.RecurrenceRule.NONE, false, true))));
+        lenient().when(eventRepository.streamExportReminderRowsByUserId(1L)).thenAnswer(invocation -> tracked(Stream.of(
+                new EventReminderRow(10L, 100L, 7, true))));
+        lenient().when(giftItemRepository.streamExportRowsByUserId(1L)).thenAnswer(invocation -> tracked(Stream.of(
+                new GiftExportRow(20L, 10L, "꽃다발", null, 30000, null, null, null, null,
+                        GiftItem.GiftCategory.FLOWER, false, createdAt))));
+        lenient().when(aiRecommendationRepository.streamExportRowsByUserId(1L)).thenAnswer(invocation -> tracked(Stream.of(
+                new RecommendationExportRow(30L, 10L, "엄마 생일", "엄마", "F", 60, 50000, "[\"FLOWER\"]", null, 10,
+                        AIRecommendation.RecommendationStatus.COMPLETED, createdAt))));
+        lenient().when(recommendedGiftItemRepository.streamExportRowsByUserId(1L)).thenAnswer(invocation -> tracked(Stream.empty()));
+        lenient().when(reminderLogRepository.streamExportRowsByUserId(1L)).thenAnswer(invocation -> tracked(Stream.of(
+                new ReminderLogExportRow(40L, 10L, 7, createdAt, ReminderLog.ReminderStatus.SENT, 0))));
+    }
+
+    @Test
+    @DisplayName("JSON 내보내기 - 사용자 정보와 섹션별 배열, 모든 스트림을 닫음")
+    void testExport_Json() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dataExportService.export(1L, DataExportService.Format.JSON, false).writeTo(out);
+
+        // Then
+        JsonNode root = objectMapper.readTree(out.toByteArray());
+        assertThat(root.path("user").path("email").asText()).isEqualTo("test@example.com");
+        assertThat(root.path("events")).hasSize(2);
+        assertThat(root.path("events").get(0).path("eventDate").asText()).isEqualTo("2026-12-25");
+        assertThat(root.path("events").get(1).path("isActive").asBoolean()).isFalse();
+        assertThat(root.path("reminders").get(0).path("daysBeforeEvent").asInt()).isEqualTo(7);
+        assertThat(root.path("gifts").get(0).path("category").asText()).isEqualTo("FLOWER");
+        assertThat(root.path("recommendations").get(0).path("createdAt").asText()).isEqualTo("2026-01-02T03:04:05");
+        assertThat(root.path("recommendedGifts")).isEmpty();
+        assertThat(root.path("reminderLogs").get(0).path("status").asText()).isEqualTo("SENT");
+        assertThat(closedStreams).hasValue(6);
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("CSV gzip 내보내기 - 섹션별 헤더 줄, 쉼표/따옴표 이스케이프")
+    void testExport_CsvGzip() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dataExportService.export(1L, DataExportService.Format.CSV, true).writeTo(out);
+
+        // Then
+        String csv;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            csv = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(csv).startsWith("\uFEFFuser,id,email,nickname,profileImageUrl,createdAt,exportedAt\n"
+                + "user,1,test@example.com,테스터,,,");
+        assertThat(csv).contains("events,id,title,description,recipientName,relationship,eventDate,eventType,"
+                + "isRecurring,recurrenceRule,isActive,isTracking\n");
+        assertThat(csv).contains("events,10,엄마 생일,\"\"\"70세\"\", 가족 모임\",엄마,가족,2026-12-25,BIRTHDAY,"
+                + "true,YEARLY,true,true\n");
+        assertThat(csv).contains("reminders,eventId,id,daysBeforeEvent,isActive\nreminders,10,100,7,true\n");
+        assertThat(csv).contains("reminderLogs,40,10,7,2026-01-02T03:04:05,SENT,0\n");
+        assertThat(csv).doesNotContain("recommendedGifts");
+        assertThat(closedStreams).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("내보내기 실패 - 존재하지 않는 사용자는 스트리밍 전에 USER_NOT_FOUND")
+    void testExport_UserNotFound() {
+        // Given
+        given(userRepository.findById(999L)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> dataExportService.export(999L, DataExportService.Format.JSON, false))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+        verifyNoInteractions(transactionManager, eventRepository);
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 제한 - 같은 사용자 2건째와 전체 한도 초과는 EXPORT_TOO_MANY_REQUESTS, 끝나면 다시 허용")
+    void testExport_ConcurrencyLimit() throws Exception {
+        // Given: 응답을 아직 쓰지 않은 내보내기 2건 (전체 한도 2)
+        StreamingResponseBody first = dataExportService.export(1L, DataExportService.Format.JSON, false);
+        dataExportService.export(2L, DataExportService.Format.JSON, false);
+
+        // When & Then
+        assertThatThrownBy(() -> dataExportService.export(1L, DataExportService.Format.JSON, false))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPORT_TOO_MANY_REQUESTS);
+        assertThatThrownBy(() -> dataExportService.export(3L, DataExportService.Format.JSON, false))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPORT_TOO_MANY_REQUESTS);
+
+        first.writeTo(new ByteArrayOutputStream());
+        assertThatCode(() -> dataExportService.export(3L, DataExportService.Format.JSON, false))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("CSV 값 이스케이프 - 쉼표, 따옴표, 줄바꿈이 있을 때만 감쌈")
+    void testEscape() {
+        // When & Then
+        assertThat(DataExportService.escape(null)).isEmpty();
+        assertThat(DataExportService.escape("plain")).isEqualTo("plain");
+        assertThat(DataExportService.escape("a,b")).isEqualTo("\"a,b\"");
+        assertThat(DataExportService.escape("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(DataExportService.escape("line\nbreak")).isEqualTo("\"line\nbreak\"");
+    }
+
+    private <T> Stream<T> tracked(Stream<T> stream) {
+        return stream.onClose(closedStreams::incrementAndGet);
+    }
+}
@@ -1,17 +1,25 @@
 package com.daymemory.service;
 
-import com.daymemory.exception.CustomException;
-import com.daymemory.exception.ErrorCode;
+import com.daymemory.domain.entity.MailOutbox;
+import com.daymemory.domain.repository.MailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
 import jakarta.mail.internet.MimeMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mail.javamail.JavaMailSender;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
@@ -23,6 +31,20 @@ class EmailServiceTest {
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private SmtpTransportPool transportPool;
+
+    @Spy
+    private MailTemplateRenderer templateRenderer = new MailTemplateRenderer();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ReminderMetrics reminderMetrics = new ReminderMetrics(meterRegistry);
+
     @InjectMocks
     private EmailService emailService;
 
@@ -31,87 +53,7 @@ class EmailServiceTest {
     @BeforeEach
     void setUp() {
         mimeMessage = mock(MimeMessage.class);
-    }
-
-    @Test
-    @DisplayName("이메일 발송 성공")
-    void testSendEmail_Success() {
-        // Given
-        String to = "test@example.com";
-        String subject = "[Day Memory] 테스트 이메일";
-        String text = "<html><body>테스트 내용</body></html>";
-
-        given(mailSender.createMimeMessage()).willReturn(mimeMessage);
-        willDoNothing().given(mailSender).send(any(MimeMessage.class));
-
-        // When
-        emailService.sendReminderEmail(to, subject, text);
-
-        // Then
-        // Verify: MimeMessage 생성 및 발송 확인
-        then(mailSender).should(times(1)).createMimeMessage();
-        then(mailSender).should(times(1)).send(any(MimeMessage.class));
-    }
-
-    @Test
-    @DisplayName("이메일 발송 실패 - MessagingException")
-    void testSendEmail_Failure_MessagingException() {
-        // Given
-        String to = "test@example.com";
-        String subject = "[Day Memory] 테스트 이메일";
-        String text = "<html><body>테스트 내용</body></html>";
-
-        // MimeMessage 생성 시 예외 발생
-        given(mailSender.createMimeMessage()).willThrow(new RuntimeException("Messaging error"));
-
-        // When & Then
-        assertThatThrownBy(() -> emailService.sendReminderEmail(to, subject, text))
-                .isInstanceOf(CustomException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMAIL_SEND_FAILED);
-
-        // Verify: send가 호출되지 않아야 함
-        then(mailSender).should(never()).send(any(MimeMessage.class));
-    }
-
-    @Test
-    @DisplayName("이메일 발송 실패 - 일반 Exception")
-    void testSendEmail_Failure_GeneralException() {
-        // Given
-        String to = "test@example.com";
-        String subject = "[Day Memory] 테스트 이메일";
-        String text = "<html><body>테스트 내용</body></html>";
-
-        given(mailSender.createMimeMessage()).willReturn(mimeMessage);
-        willThrow(new RuntimeException("Mail server error"))
-                .given(mailSender).send(any(MimeMessage.class));
-
-        // When & Then
-        assertThatThrownBy(() -> emailService.sendReminderEmail(to, subject, text))
-                .isInstanceOf(CustomException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMAIL_SEND_FAILED);
-    }
-
-    @Test
-    @DisplayName("리마인더 이메일 템플릿 생성")
-    void testSendReminderEmail_Success() {
-        // Given
-        String to = "user@example.com";
-        String eventTitle = "친구 생일";
-        int daysRemaining = 7;
-        String recipientName = "홍길동";
-        String subject = String.format("[Day Memory] '%s' %d일 전 알림", eventTitle, daysRemaining);
-        String content = emailService.buildReminderEmailContent(eventTitle, daysRemaining, recipientName);
-
-        given(mailSender.createMimeMessage()).willReturn(mimeMessage);
-        willDoNothing().given(mailSender).send(any(MimeMessage.class));
-
-        // When
-        emailService.sendReminderEmail(to, subject, content);
-
-        // Then
-        // Verify
-        then(mailSender).should(times(1)).createMimeMessage();
-        then(mailSender).should(times(1)).send(any(MimeMessage.class));
+        templateRenderer.init();
     }
 
     @Test
@@ -173,35 +115,6 @@ class EmailServiceTest {
         assertThat(emailContent).contains("</style>");
     }
 
-    @Test
-    @DisplayName("인증 이메일 발송 (리마인더 이메일 메서드 재사용)")
-    void testSendVerificationEmail() {
-        // Given
-        String to = "newuser@example.com";
-        String subject = "[Day Memory] 이메일 인증";
-        String verificationLink = "https://daymemory.com/verify?token=abc123";
-        String text = String.format("""
-                <html>
-                <body>
-                    <h1>Day Memory 이메일 인증</h1>
-                    <p>아래 링크를 클릭하여 이메일을 인증해주세요.</p>
-                    <a href="%s">이메일 인증하기</a>
-                </body>
-                </html>
-                """, verificationLink);
-
-        given(mailSender.createMimeMessage()).willReturn(mimeMessage);
-        willDoNothing().given(mailSender).send(any(MimeMessage.class));
-
-        // When
-        emailService.sendReminderEmail(to, subject, text);
-
-        // Then
-        // Verify
-        then(mailSender).should(times(1)).createMimeMessage();
-        then(mailSender).should(times(1)).send(any(MimeMessage.class));
-    }
-
     @Test
     @DisplayName("이메일 내용에 이벤트 제목 포함 확인")
     void testReminderEmailContent_ContainsEventTitle() {
@@ -253,20 +166,164 @@ class EmailServiceTest {
     }
 
     @Test
-    @DisplayName("다중 이메일 발송")
-    void testSendMultipleEmails() {
+    @DisplayName("메일 발송 요청 - 아웃박스에 PENDING 상태로 적재되고 SMTP는 호출되지 않음")
+    void testEnqueue() {
         // Given
+        given(mailOutboxRepository.save(any(MailOutbox.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        MailOutbox result = emailService.enqueue("test@example.com", "[Day Memory] 테스트 이메일", "<html>내용</html>");
+
+        // Then
+        assertThat(result.getRecipient()).isEqualTo("test@example.com");
+        assertThat(result.getStatus()).isEqualTo(MailOutbox.MailStatus.PENDING);
+        assertThat(result.getAttempts()).isZero();
+
+        // Verify: 호출 스레드에서는 SMTP 발송을 하지 않아야 함
+        then(mailSender).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("대량 발송 - 풀링된 연결 하나로 여러 메일을 연속 발송")
+    void testSendBulk_ReusesTransport() throws Exception {
+        // Given
+        SmtpTransportPool.PooledTransport transport = mock(SmtpTransportPool.PooledTransport.class);
+        given(transportPool.borrow()).willReturn(transport);
+        given(mailSender.createMimeMessage()).willReturn(mimeMessage);
+
+        List<MailOutbox> messages = List.of(outboxMail(1L), outboxMail(2L), outboxMail(3L));
+        List<Exception> results = new ArrayList<>();
+
+        // When
+        emailService.sendBulk(messages, (message, error) -> results.add(error));
+
+        // Then
+        assertThat(results).hasSize(3).containsOnlyNulls();
+
+        // Verify: 연결은 한 번만 대여하고, 메일마다 새 연결을 열지 않음
+        then(transportPool).should(times(1)).borrow();
+        then(transport).should(times(3)).send(any(MimeMessage.class));
+        then(transportPool).should(times(1)).release(transport, false);
+        then(mailSender).should(never()).send(any(MimeMessage.class));
+
+        // Verify: 메일별 SMTP 지연 기록
+        assertThat(meterRegistry.get("mail.smtp.send").tag("outcome", "success").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("reminder.phase").tag("phase", "smtp").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대량 발송 - 발송 오류 시 연결을 폐기하고 다음 메일은 새 연결로 발송")
+    void testSendBulk_RecyclesTransportOnError() throws Exception {
+        // Given
+        SmtpTransportPool.PooledTransport broken = mock(SmtpTransportPool.PooledTransport.class);
+        SmtpTransportPool.PooledTransport fresh = mock(SmtpTransportPool.PooledTransport.class);
+        given(transportPool.borrow()).willReturn(broken, fresh);
+        given(mailSender.createMimeMessage()).willReturn(mimeMessage);
+        willThrow(new MessagingException("connection reset")).given(broken).send(any(MimeMessage.class));
+
+        List<MailOutbox> messages = List.of(outboxMail(1L), outboxMail(2L));
+        List<Exception> results = new ArrayList<>();
+
+        // When
+        emailService.sendBulk(messages, (message, error) -> results.add(error));
+
+        // Then
+        assertThat(results.get(0)).isInstanceOf(MessagingException.class);
+        assertThat(results.get(1)).isNull();
+
+        then(transportPool).should(times(1)).release(broken, true);
+        then(transportPool).should(times(1)).release(fresh, false);
+
+        assertThat(meterRegistry.get("mail.smtp.send").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.smtp.send").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대량 발송 - 수신자 거부는 연결을 폐기하지 않고 다음 메일에 그대로 사용")
+    void testSendBulk_KeepsTransportOnRecipientRejection() throws Exception {
+        // Given
+        SmtpTransportPool.PooledTransport transport = mock(SmtpTransportPool.PooledTransport.class);
+        given(transportPool.borrow()).willReturn(transport);
+        given(transport.isConnected()).willReturn(true);
         given(mailSender.createMimeMessage()).willReturn(mimeMessage);
-        willDoNothing().given(mailSender).send(any(MimeMessage.class));
+        willThrow(new SendFailedException("550 mailbox unavailable"))
+                .willDoNothing()
+                .given(transport).send(any(MimeMessage.class));
+
+        List<MailOutbox> messages = List.of(outboxMail(1L), outboxMail(2L));
+        List<Exception> results = new ArrayList<>();
 
         // When
-        emailService.sendReminderEmail("user1@example.com", "제목1", "내용1");
-        emailService.sendReminderEmail("user2@example.com", "제목2", "내용2");
-        emailService.sendReminderEmail("user3@example.com", "제목3", "내용3");
+        emailService.sendBulk(messages, (message, error) -> results.add(error));
 
         // Then
-        // Verify: 3번 호출되었는지 확인
-        then(mailSender).should(times(3)).createMimeMessage();
-        then(mailSender).should(times(3)).send(any(MimeMessage.class));
+        assertThat(results.get(0)).isInstanceOf(SendFailedException.class);
+        assertThat(results.get(1)).isNull();
+
+        // Verify: 같은 연결로 두 메일을 모두 발송
+        then(transportPool).should(times(1)).borrow();
+        then(transport).should(times(2)).send(any(MimeMessage.class));
+        then(transportPool).should(never()).release(transport, true);
+        then(transportPool).should(times(1)).release(transport, false);
+    }
+
+    @Test
+    @DisplayName("대량 발송 - 메일 생성 오류는 연결을 폐기하지 않음")
+    void testSendBulk_KeepsTransportOnMessageCreationError() throws Exception {
+        // Given: 두 번째 메일 생성 중 오류
+        SmtpTransportPool.PooledTransport transport = mock(SmtpTransportPool.PooledTransport.class);
+        given(transportPool.borrow()).willReturn(transport);
+        given(mailSender.createMimeMessage())
+                .willReturn(mimeMessage)
+                .willThrow(new RuntimeException("invalid message"))
+                .willReturn(mimeMessage);
+
+        List<MailOutbox> messages = List.of(outboxMail(1L), outboxMail(2L), outboxMail(3L));
+        List<Exception> results = new ArrayList<>();
+
+        // When
+        emailService.sendBulk(messages, (message, error) -> results.add(error));
+
+        // Then
+        assertThat(results.get(0)).isNull();
+        assertThat(results.get(1)).isInstanceOf(RuntimeException.class);
+        assertThat(results.get(2)).isNull();
+
+        then(transportPool).should(times(1)).borrow();
+        then(transport).should(times(2)).send(any(MimeMessage.class));
+        then(transportPool).should(never()).release(transport, true);
+        then(transportPool).should(times(1)).release(transport, false);
+    }
+
+    @Test
+    @DisplayName("대량 발송 - 발송이 허용되지 않으면 중단하고 남은 메일을 반환")
+    void testSendBulk_StopsWhenCallNotPermitted() throws Exception {
+        // Given: 첫 메일만 허용 (서킷 브레이커가 도중에 열린 상황)
+        SmtpTransportPool.PooledTransport transport = mock(SmtpTransportPool.PooledTransport.class);
+        given(transportPool.borrow()).willReturn(transport);
+        given(mailSender.createMimeMessage()).willReturn(mimeMessage);
+
+        List<MailOutbox> messages = List.of(outboxMail(1L), outboxMail(2L), outboxMail(3L));
+        Iterator<Boolean> permits = List.of(true, false).iterator();
+        List<Exception> results = new ArrayList<>();
+
+        // When
+        List<MailOutbox> unsent = emailService.sendBulk(messages, permits::next, (message, error) -> results.add(error));
+
+        // Then
+        assertThat(results).hasSize(1).containsOnlyNulls();
+        assertThat(unsent).extracting(MailOutbox::getId).containsExactly(2L, 3L);
+
+        then(transport).should(times(1)).send(any(MimeMessage.class));
+        then(transportPool).should(times(1)).release(transport, false);
+    }
+
+    private MailOutbox outboxMail(Long id) {
+        return MailOutbox.builder()
+                .id(id)
+                .recipient("user" + id + "@example.com")
+                .subject("제목" + id)
+                .body("<html>내용" + id + "</html>")
+                .build();
     }
 }
@@ -0,0 +1,224 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.dto.EventDto;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.UserRepository;
+import com.daymemory.exception.CustomException;
+import com.daymemory.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventImportService 테스트")
+class EventImportServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReminderDueService reminderDueService;
+
+    @Mock
+    private UserDataCache userDataCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private EventImportService eventImportService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        eventImportService = new EventImportService(eventRepository, userRepository, reminderDueService,
+                userDataCache, transactionTemplate, entityManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper);
+
+        testUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .nickname("테스터")
+                .build();
+
+        // 트랜잭션은 콜백을 바로 실행하고, 저장 시 ID를 채번한다
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(userRepository.existsById(1L)).thenReturn(true);
+        lenient().when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        AtomicLong sequence = new AtomicLong(100);
+        lenient().when(eventRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Event> events = invocation.getArgument(0);
+            events.forEach(event -> ReflectionTestUtils.setField(event, "id", sequence.incrementAndGet()));
+            return new ArrayList<>(events);
+        });
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 정상 행은 저장, 잘못된 행과 중복 행은 줄 번호와 사유로 실패 처리")
+    @SuppressWarnings("unchecked")
+    void testImportEvents_Csv() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(10);
+        String csv = String.join("\n",
+                "Title,EventDate,EventType,recipientName,reminderDays",
+                "엄마 생일," + date + ",BIRTHDAY,\"김, 엄마\",7;1",
+                "",
+                "날짜 없음,,BIRTHDAY,,",
+                "타입 오류," + date + ",PARTY,,",
+                "이미 있음," + date + ",ANNIVERSARY_100,,",
+                "엄마 생일," + date + ",BIRTHDAY,,");
+        given(eventRepository.findTitleAndDateByUserIdAndTitleIn(eq(1L), anyCollection()))
+                .willReturn(List.<Object[]>of(new Object[]{"이미 있음", date}));
+
+        // When
+        EventDto.ImportResponse response = eventImportService.importEvents(1L, csv("events.csv", csv));
+
+        // Then
+        assertThat(response.getTotalRows()).isEqualTo(5);
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getFailedCount()).isEqualTo(4);
+        assertThat(response.isTruncated()).isFalse();
+        assertThat(response.getResults())
+                .extracting(EventDto.ImportRowResult::getLine, EventDto.ImportRowResult::isImported)
+                .containsExactly(tuple(2, true), tuple(4, false), tuple(5, false), tuple(6, false), tuple(7, false));
+        assertThat(response.getResults().get(0).getEventId()).isEqualTo(101L);
+        assertThat(response.getResults().get(1).getMessage()).isEqualTo("이벤트 날짜는 필수입니다.");
+        assertThat(response.getResults().get(2).getMessage()).isEqualTo("eventType 값이 올바르지 않습니다: PARTY");
+        assertThat(response.getResults().get(3).getMessage()).isEqualTo(EventImportService.DUPLICATE_MESSAGE);
+        assertThat(response.getResults().get(4).getMessage()).isEqualTo(EventImportService.DUPLICATE_MESSAGE);
+
+        ArgumentCaptor<Collection<Event>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(eventRepository).saveAll(captor.capture());
+        Event saved = captor.getValue().iterator().next();
+        assertThat(saved.getRecipientName()).isEqualTo("김, 엄마");
+        assertThat(saved.getReminders()).extracting(EventReminder::getDaysBeforeEvent).containsExactly(7, 1);
+        verify(reminderDueService).refreshAll(anyCollection());
+        verify(eventRepository).flush();
+        verify(userDataCache).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("JSON Lines 가져오기 - 청크 단위로 저장하고 형식 오류 줄은 실패 처리")
+    void testImportEvents_JsonLinesChunks() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(3);
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < EventImportService.CHUNK_SIZE + 10; i++) {
+            lines.append("{\"title\":\"이벤트 ").append(i).append("\",\"eventDate\":\"").append(date)
+                    .append("\",\"eventType\":\"BIRTHDAY\"}\n");
+        }
+        lines.append("{not json}\n");
+        given(eventRepository.findTitleAndDateByUserIdAndTitleIn(eq(1L), anyCollection())).willReturn(List.of());
+
+        // When
+        EventDto.ImportResponse response = eventImportService.importEvents(1L,
+                new MockMultipartFile("file", "events.jsonl", "application/x-ndjson",
+                        lines.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(response.getTotalRows()).isEqualTo(EventImportService.CHUNK_SIZE + 11);
+        assertThat(response.getImportedCount()).isEqualTo(EventImportService.CHUNK_SIZE + 10);
+        assertThat(response.getResults().get(response.getResults().size() - 1).getMessage())
+                .startsWith("JSON 형식이 올바르지 않습니다");
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(eventRepository, times(2)).findTitleAndDateByUserIdAndTitleIn(eq(1L), anyCollection());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("청크 DB 오류 - 검증 실패 사유는 유지, 롤백된 행의 키는 뒤 청크에서 중복으로 보지 않음")
+    void testImportEvents_ChunkDatabaseError() {
+        // Given: 첫 청크(검증 실패 1행 + 정상 행)는 INSERT가 실패하고, 둘째 청크에 첫 청크와 같은 행이 다시 나온다
+        LocalDate date = LocalDate.now().plusDays(3);
+        StringBuilder lines = new StringBuilder("{\"title\":\"날짜 없음\",\"eventType\":\"BIRTHDAY\"}\n");
+        for (int i = 1; i < EventImportService.CHUNK_SIZE; i++) {
+            lines.append("{\"title\":\"이벤트 ").append(i).append("\",\"eventDate\":\"").append(date)
+                    .append("\",\"eventType\":\"BIRTHDAY\"}\n");
+        }
+        lines.append("{\"title\":\"이벤트 1\",\"eventDate\":\"").append(date).append("\",\"eventType\":\"BIRTHDAY\"}\n");
+        given(eventRepository.findTitleAndDateByUserIdAndTitleIn(eq(1L), anyCollection())).willReturn(List.of());
+        given(eventRepository.saveAll(anyCollection()))
+                .willThrow(new DataIntegrityViolationException("chunk failed"))
+                .willAnswer(invocation -> new ArrayList<>(invocation.<Collection<Event>>getArgument(0)));
+
+        // When
+        EventDto.ImportResponse response = eventImportService.importEvents(1L,
+                new MockMultipartFile("file", "events.jsonl", "application/x-ndjson",
+                        lines.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        List<EventDto.ImportRowResult> results = response.getResults();
+        assertThat(results.get(0).getMessage()).isEqualTo("이벤트 날짜는 필수입니다.");
+        assertThat(results.get(1).getMessage()).isEqualTo(ErrorCode.DATABASE_ERROR.getMessage());
+        assertThat(results.get(EventImportService.CHUNK_SIZE).isImported()).isTrue();
+        assertThat(response.getImportedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가져오기 실패 - 지원하지 않는 파일 형식")
+    void testImportEvents_UnsupportedFile() {
+        // When & Then
+        assertThatThrownBy(() -> eventImportService.importEvents(1L, csv("events.xlsx", "title")))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMPORT_FILE_INVALID);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("가져오기 실패 - CSV 필수 열 누락")
+    void testImportEvents_MissingCsvHeader() {
+        // When & Then
+        assertThatThrownBy(() -> eventImportService.importEvents(1L, csv("events.csv", "title,eventDate\n생일,2026-01-01")))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMPORT_CSV_HEADER_INVALID);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("CSV 분리 - 따옴표 안의 쉼표와 이스케이프된 따옴표")
+    void testSplitCsv() {
+        // When & Then
+        assertThat(EventImportService.splitCsv("a,\"b, c\",\"say \"\"hi\"\"\",,"))
+                .containsExactly("a", "b, c", "say \"hi\"", "", "");
+    }
+
+    private static MockMultipartFile csv(String filename, String content) {
+        return new MockMultipartFile("file", filename, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
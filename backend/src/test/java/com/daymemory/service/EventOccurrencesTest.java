@@ -0,0 +1,123 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.Event;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("이벤트 발생일 전개 테스트")
+class EventOccurrencesTest {
+
+    private static Event event(long id, LocalDate eventDate, Event.RecurrenceRule rule) {
+        return Event.builder()
+                .id(id)
+                .title("이벤트 " + id)
+                .eventDate(eventDate)
+                .isRecurring(rule != Event.RecurrenceRule.NONE)
+                .recurrenceRule(rule)
+                .build();
+    }
+
+    @Test
+    @DisplayName("매년 반복 - 지난 첫 발생일에서 오늘 이후 첫 발생일 계산")
+    void testNextOccurrence_Yearly() {
+        // Given
+        Event birthday = event(1L, LocalDate.of(1960, 5, 8), Event.RecurrenceRule.YEARLY);
+
+        // When & Then
+        assertThat(birthday.nextOccurrence(LocalDate.of(2026, 5, 8))).isEqualTo(LocalDate.of(2026, 5, 8));
+        assertThat(birthday.nextOccurrence(LocalDate.of(2026, 5, 9))).isEqualTo(LocalDate.of(2027, 5, 8));
+        assertThat(birthday.nextOccurrence(LocalDate.of(1950, 1, 1))).isEqualTo(LocalDate.of(1960, 5, 8));
+    }
+
+    @Test
+    @DisplayName("2월 29일 - 평년은 2월 28일, 윤년은 다시 2월 29일")
+    void testNextOccurrence_LeapDay() {
+        // Given
+        Event leapDay = event(1L, LocalDate.of(2024, 2, 29), Event.RecurrenceRule.YEARLY);
+
+        // When & Then
+        assertThat(leapDay.nextOccurrence(LocalDate.of(2025, 1, 1))).isEqualTo(LocalDate.of(2025, 2, 28));
+        assertThat(leapDay.nextOccurrence(LocalDate.of(2025, 3, 1))).isEqualTo(LocalDate.of(2026, 2, 28));
+        assertThat(leapDay.nextOccurrence(LocalDate.of(2027, 3, 1))).isEqualTo(LocalDate.of(2028, 2, 29));
+    }
+
+    @Test
+    @DisplayName("매월 31일 - 짧은 달은 말일, 다음 달은 다시 31일")
+    void testOccurrencesBetween_MonthlyClampsToMonthEnd() {
+        // Given
+        Event monthly = event(1L, LocalDate.of(2026, 1, 31), Event.RecurrenceRule.MONTHLY);
+
+        // When
+        List<LocalDate> occurrences = monthly.occurrencesBetween(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 4, 30));
+
+        // Then
+        assertThat(occurrences).containsExactly(
+                LocalDate.of(2026, 2, 28), LocalDate.of(2026, 3, 31), LocalDate.of(2026, 4, 30));
+    }
+
+    @Test
+    @DisplayName("음력 반복 - 첫 발생일의 음력 월/일을 매년 양력으로 환산")
+    void testOccurrencesBetween_LunarYearly() {
+        // Given: 2023년 추석 (음력 8월 15일)
+        Event chuseok = event(1L, LocalDate.of(2023, 9, 29), Event.RecurrenceRule.LUNAR_YEARLY);
+
+        // When
+        List<LocalDate> occurrences = chuseok.occurrencesBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31));
+
+        // Then
+        assertThat(occurrences).containsExactly(LocalDate.of(2024, 9, 17), LocalDate.of(2025, 10, 6));
+        assertThat(chuseok.nextOccurrence(LocalDate.of(2024, 9, 18))).isEqualTo(LocalDate.of(2025, 10, 6));
+        assertThat(chuseok.lunarDate().month()).isEqualTo(8);
+        assertThat(chuseok.lunarDate().day()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("반복하지 않는 이벤트 - 지난 이벤트는 발생일 없음")
+    void testNextOccurrence_NonRecurringPast() {
+        // Given
+        Event once = event(1L, LocalDate.of(2026, 3, 1), Event.RecurrenceRule.NONE);
+
+        // When & Then
+        assertThat(once.nextOccurrence(LocalDate.of(2026, 3, 2))).isNull();
+        assertThat(once.occurrencesBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)))
+                .containsExactly(LocalDate.of(2026, 3, 1));
+    }
+
+    @Test
+    @DisplayName("규칙 없이 isRecurring만 켜진 이벤트는 매년 반복")
+    void testRecurrence_DefaultsToYearly() {
+        // Given
+        Event legacy = Event.builder()
+                .id(1L)
+                .eventDate(LocalDate.of(2020, 10, 1))
+                .isRecurring(true)
+                .build();
+
+        // When & Then
+        assertThat(legacy.recurrence()).isEqualTo(Event.RecurrenceRule.YEARLY);
+        assertThat(legacy.nextOccurrence(LocalDate.of(2026, 10, 17))).isEqualTo(LocalDate.of(2027, 10, 1));
+    }
+
+    @Test
+    @DisplayName("구간 전개 - 반복 이벤트는 발생일마다 펼치고 날짜순 정렬")
+    void testExpand_SortsOccurrencesByDate() {
+        // Given
+        Event monthly = event(1L, LocalDate.of(2025, 12, 10), Event.RecurrenceRule.MONTHLY);
+        Event once = event(2L, LocalDate.of(2026, 2, 1), Event.RecurrenceRule.NONE);
+        Event outside = event(3L, LocalDate.of(2026, 6, 1), Event.RecurrenceRule.NONE);
+
+        // When
+        List<EventOccurrences.Occurrence> occurrences = EventOccurrences.expand(
+                List.of(once, monthly, outside), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 28));
+
+        // Then
+        assertThat(occurrences).extracting(EventOccurrences.Occurrence::date).containsExactly(
+                LocalDate.of(2026, 1, 10), LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 10));
+        assertThat(occurrences).extracting(occurrence -> occurrence.event().getId()).containsExactly(1L, 2L, 1L);
+    }
+}
@@ -1,12 +1,16 @@
 package com.daymemory.service;
 
 import com.daymemory.domain.dto.EventDto;
+import com.daymemory.domain.dto.EventReminderRow;
+import com.daymemory.domain.dto.EventRow;
+import com.daymemory.domain.dto.PageDto;
 import com.daymemory.domain.entity.Event;
 import com.daymemory.domain.entity.User;
 import com.daymemory.domain.repository.EventRepository;
 import com.daymemory.domain.repository.UserRepository;
 import com.daymemory.exception.CustomException;
 import com.daymemory.exception.ErrorCode;
+import com.daymemory.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -22,6 +27,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +41,12 @@ class EventServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ReminderDueService reminderDueService;
+
+    @Mock
+    private UserDataCache userDataCache;
+
     @InjectMocks
     private EventService eventService;
 
@@ -96,6 +109,8 @@ class EventServiceTest {
         // Verify: 메서드 호출 검증
         then(userRepository).should(times(1)).findById(1L);
         then(eventRepository).should(times(1)).save(any(Event.class));
+        then(reminderDueService).should(times(1)).refresh(testEvent);
+        then(userDataCache).should(times(1)).invalidate(1L);
     }
 
     @Test
@@ -230,8 +245,9 @@ class EventServiceTest {
         // Then
         assertThat(response).isNotNull();
 
-        // Verify
+        // Verify: 발송 예정 리마인더 프로젝션 동기화
         then(eventRepository).should(times(1)).findById(1L);
+        then(reminderDueService).should(times(1)).refresh(testEvent);
     }
 
     @Test
@@ -278,30 +294,55 @@ class EventServiceTest {
     }
 
     @Test
-    @DisplayName("사용자별 이벤트 조회")
+    @DisplayName("사용자별 이벤트 조회 - 이벤트 행과 리마인더 행을 묶어 응답")
     void testGetEventsByUser() {
         // Given
-        List<Event> userEvents = List.of(testEvent);
-        given(eventRepository.findByUserIdAndIsActiveTrue(1L)).willReturn(userEvents);
+        given(eventRepository.findRowsByUserId(1L)).willReturn(List.of(
+                row(1L, LocalDate.now().plusDays(30), Event.RecurrenceRule.NONE),
+                row(2L, LocalDate.now().minusYears(1).plusDays(3), Event.RecurrenceRule.YEARLY)));
+        given(eventRepository.findReminderRowsByUserId(1L)).willReturn(List.of(
+                new EventReminderRow(1L, 10L, 7, true),
+                new EventReminderRow(1L, 11L, 1, true)));
 
         // When
         List<EventDto.Response> responses = eventService.getEventsByUser(1L);
 
         // Then
-        assertThat(responses).hasSize(1);
+        assertThat(responses).hasSize(2);
         assertThat(responses.get(0).getTitle()).isEqualTo("생일");
+        assertThat(responses.get(0).getReminders()).extracting(EventDto.ReminderDto::getDaysBeforeEvent)
+                .containsExactly(7, 1);
+        assertThat(responses.get(1).getReminders()).isEmpty();
+        assertThat(responses.get(1).getEventDate()).isEqualTo(LocalDate.now().plusDays(3));
+        assertThat(responses.get(1).getDDay()).isEqualTo(3L);
 
         // Verify
-        then(eventRepository).should(times(1)).findByUserIdAndIsActiveTrue(1L);
+        then(eventRepository).should(times(1)).findRowsByUserId(1L);
+        then(eventRepository).should(times(1)).findReminderRowsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("사용자별 이벤트 조회 - 이벤트가 없으면 리마인더를 조회하지 않음")
+    void testGetEventsByUser_Empty() {
+        // Given
+        given(eventRepository.findRowsByUserId(1L)).willReturn(List.of());
+
+        // When
+        List<EventDto.Response> responses = eventService.getEventsByUser(1L);
+
+        // Then
+        assertThat(responses).isEmpty();
+        then(eventRepository).should(never()).findReminderRowsByUserId(anyLong());
     }
 
     @Test
     @DisplayName("이벤트 타입별 조회")
     void testGetEventsByUserAndType() {
         // Given
-        List<Event> birthdayEvents = List.of(testEvent);
-        given(eventRepository.findByUserIdAndEventTypeAndIsActiveTrue(1L, Event.EventType.BIRTHDAY))
-                .willReturn(birthdayEvents);
+        given(eventRepository.findRowsByUserIdAndEventType(1L, Event.EventType.BIRTHDAY))
+                .willReturn(List.of(row(1L, LocalDate.now().plusDays(30), Event.RecurrenceRule.NONE)));
+        given(eventRepository.findReminderRowsByUserIdAndEventType(1L, Event.EventType.BIRTHDAY))
+                .willReturn(List.of(new EventReminderRow(1L, 10L, 7, true)));
 
         // When
         List<EventDto.Response> responses = eventService.getEventsByUserAndType(1L, Event.EventType.BIRTHDAY);
@@ -309,10 +350,18 @@ class EventServiceTest {
         // Then
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getEventType()).isEqualTo(Event.EventType.BIRTHDAY);
+        assertThat(responses.get(0).getReminders()).hasSize(1);
 
         // Verify
         then(eventRepository).should(times(1))
-                .findByUserIdAndEventTypeAndIsActiveTrue(1L, Event.EventType.BIRTHDAY);
+                .findRowsByUserIdAndEventType(1L, Event.EventType.BIRTHDAY);
+        then(eventRepository).should(times(1))
+                .findReminderRowsByUserIdAndEventType(1L, Event.EventType.BIRTHDAY);
+    }
+
+    private static EventRow row(Long id, LocalDate eventDate, Event.RecurrenceRule rule) {
+        return new EventRow(id, "생일", "친구 생일", "홍길동", "친구", eventDate, Event.EventType.BIRTHDAY,
+                rule != Event.RecurrenceRule.NONE, rule, true, true);
     }
 
     @Test
@@ -334,6 +383,7 @@ class EventServiceTest {
 
         // Verify
         then(eventRepository).should(times(1)).findByIdWithUserAndReminders(1L);
+        then(reminderDueService).should(times(1)).refresh(testEvent);
     }
 
     @Test
@@ -380,4 +430,71 @@ class EventServiceTest {
         // Verify: 기본 리마인더(30, 7, 1일)가 설정되어야 함
         then(eventRepository).should(times(1)).save(any(Event.class));
     }
+
+    @Test
+    @DisplayName("이벤트 페이지 조회 - 한 행 더 읽어 다음 페이지 커서 생성")
+    void testGetEventPage_HasNext() {
+        // Given
+        List<EventRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            rows.add(row(id, LocalDate.of(2026, 5, (int) id), Event.RecurrenceRule.NONE));
+        }
+        given(eventRepository.findPage(1L, null, null, true, 3)).willReturn(rows);
+        given(eventRepository.findReminderRowsByEventIdIn(List.of(1L, 2L))).willReturn(List.of(
+                new EventReminderRow(1L, 10L, 7, true),
+                new EventReminderRow(2L, 11L, 1, true)));
+
+        // When
+        PageDto.CursorPage<EventDto.Response> page = eventService.getEventPage(1L, null, null, 2, Sort.Direction.ASC);
+
+        // Then
+        assertThat(page.getItems()).extracting(EventDto.Response::getId).containsExactly(1L, 2L);
+        assertThat(page.getItems().get(0).getReminders()).extracting(EventDto.ReminderDto::getDaysBeforeEvent)
+                .containsExactly(7);
+        assertThat(page.isHasNext()).isTrue();
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertThat(next.dateKey()).isEqualTo(LocalDate.of(2026, 5, 2));
+        assertThat(next.id()).isEqualTo(2L);
+
+        // Verify: 다음 페이지 확인용 행의 리마인더는 읽지 않음
+        then(eventRepository).should(times(1)).findReminderRowsByEventIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("이벤트 페이지 조회 - 마지막 페이지는 커서 없음, 페이지 크기는 최대값으로 제한")
+    void testGetEventPage_LastPage() {
+        // Given
+        String cursor = KeysetCursor.encode(LocalDate.of(2026, 5, 2), 2L);
+        given(eventRepository.findPage(eq(1L), eq(Event.EventType.BIRTHDAY), any(KeysetCursor.class), eq(false),
+                eq(PageDto.MAX_SIZE + 1))).willReturn(List.of(row(1L, LocalDate.of(2026, 5, 1), Event.RecurrenceRule.NONE)));
+        given(eventRepository.findReminderRowsByEventIdIn(List.of(1L))).willReturn(List.of());
+
+        // When
+        PageDto.CursorPage<EventDto.Response> page = eventService.getEventPage(
+                1L, Event.EventType.BIRTHDAY, cursor, 1000, Sort.Direction.DESC);
+
+        // Then
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("이벤트 페이지 조회 - 반복 이벤트는 저장 날짜(anchorDate) 순, eventDate는 다음 발생일")
+    void testGetEventPage_RecurringAnchorDate() {
+        // Given: 첫 발생일이 지난 매년 반복 이벤트와 아직 오지 않은 일회성 이벤트
+        LocalDate anchor = LocalDate.now().minusYears(3).plusDays(20);
+        EventRow recurring = row(1L, anchor, Event.RecurrenceRule.YEARLY);
+        EventRow oneTime = row(2L, LocalDate.now().plusDays(5), Event.RecurrenceRule.NONE);
+        given(eventRepository.findPage(1L, null, null, true, 3)).willReturn(List.of(recurring, oneTime));
+        given(eventRepository.findReminderRowsByEventIdIn(List.of(1L, 2L))).willReturn(List.of());
+
+        // When
+        PageDto.CursorPage<EventDto.Response> page = eventService.getEventPage(1L, null, null, 2, Sort.Direction.ASC);
+
+        // Then
+        assertThat(page.getItems()).extracting(EventDto.Response::getAnchorDate)
+                .containsExactly(anchor, oneTime.eventDate());
+        assertThat(page.getItems().get(0).getEventDate()).isEqualTo(recurring.toEvent().nextOccurrence(LocalDate.now()));
+    }
 }
@@ -1,6 +1,7 @@
 package com.daymemory.service;
 
 import com.daymemory.domain.dto.GiftItemDto;
+import com.daymemory.domain.dto.PageDto;
 import com.daymemory.domain.entity.Event;
 import com.daymemory.domain.entity.GiftItem;
 import com.daymemory.domain.entity.User;
@@ -9,6 +10,7 @@ import com.daymemory.domain.repository.GiftItemRepository;
 import com.daymemory.domain.repository.UserRepository;
 import com.daymemory.exception.CustomException;
 import com.daymemory.exception.ErrorCode;
+import com.daymemory.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,9 +18,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -43,6 +48,9 @@ class GiftItemServiceTest {
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private UserDataCache userDataCache;
+
     @InjectMocks
     private GiftItemService giftItemService;
 
@@ -117,6 +125,7 @@ class GiftItemServiceTest {
         then(userRepository).should(times(1)).findById(1L);
         then(eventRepository).should(times(1)).findById(1L);
         then(giftItemRepository).should(times(1)).save(any(GiftItem.class));
+        then(userDataCache).should(times(1)).invalidate(1L);
     }
 
     @Test
@@ -474,4 +483,44 @@ class GiftItemServiceTest {
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.GIFT_NOT_FOUND);
     }
+
+    @Test
+    @DisplayName("선물 페이지 조회 - 한 행 더 읽어 다음 페이지 커서 생성")
+    void testGetGiftItemPage_HasNext() {
+        // Given
+        List<GiftItem> giftItems = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            GiftItem giftItem = GiftItem.builder()
+                    .id(id)
+                    .user(testUser)
+                    .name("선물 " + id)
+                    .category(GiftItem.GiftCategory.COSMETICS)
+                    .isPurchased(false)
+                    .build();
+            ReflectionTestUtils.setField(giftItem, "createdAt", LocalDateTime.of(2026, 5, 1, 9, 0).plusHours(id));
+            giftItems.add(giftItem);
+        }
+        given(giftItemRepository.findPage(1L, false, null, null, false, 3)).willReturn(giftItems);
+
+        // When
+        PageDto.CursorPage<GiftItemDto.Response> page = giftItemService.getGiftItemPage(
+                1L, false, null, null, 2, Sort.Direction.DESC);
+
+        // Then
+        assertThat(page.getItems()).extracting(GiftItemDto.Response::getId).containsExactly(3L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertThat(next.dateTimeKey()).isEqualTo(LocalDateTime.of(2026, 5, 1, 11, 0));
+        assertThat(next.id()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("선물 페이지 조회 - 잘못된 커서는 조회 없이 실패")
+    void testGetGiftItemPage_InvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> giftItemService.getGiftItemPage(1L, null, null, "not-a-cursor", 20, Sort.Direction.DESC))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        then(giftItemRepository).shouldHaveNoInteractions();
+    }
 }
@@ -0,0 +1,148 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.JobRun;
+import com.daymemory.domain.repository.JobCheckpointRepository;
+import com.daymemory.domain.repository.JobLeaseRepository;
+import com.daymemory.domain.repository.JobRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobCoordinator 테스트")
+class JobCoordinatorTest {
+
+    private static final String JOB_NAME = "test-job";
+    private static final String INSTANCE_ID = "instance-1";
+
+    @Mock
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Mock
+    private JobRunRepository jobRunRepository;
+
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private JobCoordinator jobCoordinator;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jobCoordinator, "instanceId", INSTANCE_ID);
+        jobCoordinator.init();
+
+        // TransactionTemplate은 콜백을 바로 실행
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        lenient().when(jobRunRepository.save(any(JobRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("임대 획득 - 작업 실행 후 성공 이력 기록 및 임대 반납")
+    void testRunExclusive_Acquired() {
+        // Given
+        given(jobLeaseRepository.tryAcquire(JOB_NAME, INSTANCE_ID, 600L)).willReturn(1);
+
+        // When
+        boolean ran = jobCoordinator.runExclusive(JOB_NAME, Duration.ofMinutes(10), Duration.ofMinutes(2),
+                () -> JobResult.of(42, 1));
+
+        // Then
+        assertThat(ran).isTrue();
+
+        ArgumentCaptor<JobRun> captor = ArgumentCaptor.forClass(JobRun.class);
+        then(jobRunRepository).should(times(2)).save(captor.capture());
+        JobRun run = captor.getValue();
+        assertThat(run.getJobName()).isEqualTo(JOB_NAME);
+        assertThat(run.getOwner()).isEqualTo(INSTANCE_ID);
+        assertThat(run.getStatus()).isEqualTo(JobRun.JobStatus.SUCCEEDED);
+        assertThat(run.getRowsProcessed()).isEqualTo(42L);
+        assertThat(run.getFailures()).isEqualTo(1);
+        assertThat(run.getFinishedAt()).isNotNull();
+
+        then(jobLeaseRepository).should(times(1)).release(JOB_NAME, INSTANCE_ID, 120L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대 보유 - 작업을 실행하지 않고 이력도 남기지 않음")
+    void testRunExclusive_HeldElsewhere() {
+        // Given
+        given(jobLeaseRepository.tryAcquire(JOB_NAME, INSTANCE_ID, 600L)).willReturn(0);
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        // When
+        boolean ran = jobCoordinator.runExclusive(JOB_NAME, Duration.ofMinutes(10), Duration.ofMinutes(2), () -> {
+            executed.set(true);
+            return JobResult.of(1);
+        });
+
+        // Then
+        assertThat(ran).isFalse();
+        assertThat(executed).isFalse();
+        then(jobRunRepository).shouldHaveNoInteractions();
+        then(jobLeaseRepository).should(never()).release(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("작업 실패 - 실패 이력 기록 후 임대 반납")
+    void testRunExclusive_JobFails() {
+        // Given
+        given(jobLeaseRepository.tryAcquire(JOB_NAME, INSTANCE_ID, 600L)).willReturn(1);
+
+        // When
+        boolean ran = jobCoordinator.runExclusive(JOB_NAME, Duration.ofMinutes(10), Duration.ofMinutes(2), () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // Then
+        assertThat(ran).isTrue();
+
+        ArgumentCaptor<JobRun> captor = ArgumentCaptor.forClass(JobRun.class);
+        then(jobRunRepository).should(times(2)).save(captor.capture());
+        JobRun run = captor.getValue();
+        assertThat(run.getStatus()).isEqualTo(JobRun.JobStatus.FAILED);
+        assertThat(run.getErrorMessage()).contains("boom");
+
+        then(jobLeaseRepository).should(times(1)).release(JOB_NAME, INSTANCE_ID, 120L);
+    }
+
+    @Test
+    @DisplayName("인스턴스 ID 미설정 시 호스트명:PID 사용")
+    void testInit_DefaultInstanceId() {
+        // Given
+        ReflectionTestUtils.setField(jobCoordinator, "instanceId", "");
+
+        // When
+        jobCoordinator.init();
+
+        // Then
+        assertThat(jobCoordinator.getInstanceId()).endsWith(":" + ProcessHandle.current().pid());
+    }
+}
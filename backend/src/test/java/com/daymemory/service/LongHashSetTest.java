@@ -0,0 +1,63 @@
+package com.daymemory.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LongHashSet 테스트")
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("추가한 키만 포함하고 중복 추가는 무시")
+    void testAddAndContains() {
+        // Given
+        LongHashSet set = new LongHashSet(4);
+
+        // When
+        boolean first = set.add(42L);
+        boolean duplicate = set.add(42L);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(set.contains(42L)).isTrue();
+        assertThat(set.contains(43L)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("0과 음수 키도 저장")
+    void testZeroAndNegativeKeys() {
+        // Given
+        LongHashSet set = new LongHashSet(4);
+
+        // When
+        set.add(0L);
+        set.add(-1L);
+
+        // Then
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-1L)).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예상 크기를 넘겨도 재해시 후 모든 키 조회 가능")
+    void testRehash() {
+        // Given
+        LongHashSet set = new LongHashSet(2);
+
+        // When
+        for (long key = 1; key <= 10_000; key++) {
+            set.add(key << 20 | 7);
+        }
+
+        // Then
+        assertThat(set.size()).isEqualTo(10_000);
+        for (long key = 1; key <= 10_000; key++) {
+            assertThat(set.contains(key << 20 | 7)).isTrue();
+            assertThat(set.contains(key << 20 | 3)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.MailOutbox;
+import com.daymemory.domain.entity.ReminderLog;
+import com.daymemory.domain.repository.MailOutboxRepository;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderLogRepository;
+import com.daymemory.exception.CustomException;
+import com.daymemory.exception.ErrorCode;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.InternetAddress;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MailOutboxDispatcher 테스트")
+class MailOutboxDispatcherTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private ReminderLogRepository reminderLogRepository;
+
+    @Mock
+    private ReminderDailyStatRepository reminderDailyStatRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private SmtpCircuitBreaker circuitBreaker;
+
+    @Mock
+    private ReminderMetrics reminderMetrics;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UserDataCache userDataCache;
+
+    @InjectMocks
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    private ReminderLog testLog;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "workers", 2);
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "retryDelaySeconds", 60L);
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "maxRetryDelaySeconds", 3600L);
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "maxReminderRetries", 5);
+        mailOutboxDispatcher.init();
+
+        // TransactionTemplate은 콜백을 바로 실행
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // 회로는 닫혀 있고, 대량 발송은 모든 메일을 성공으로 보고
+        lenient().when(circuitBreaker.allowRequest()).thenReturn(true);
+        lenient().doAnswer(invocation -> {
+            List<MailOutbox> messages = invocation.getArgument(0);
+            BiConsumer<MailOutbox, Exception> resultHandler = invocation.getArgument(2);
+            messages.forEach(message -> resultHandler.accept(message, null));
+            return List.of();
+        }).when(emailService).sendBulk(anyList(), any(BooleanSupplier.class), any());
+
+        testLog = ReminderLog.builder()
+                .id(1L)
+                .daysBeforeEvent(7)
+                .sentAt(LocalDateTime.now())
+                .status(ReminderLog.ReminderStatus.PENDING)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        mailOutboxDispatcher.shutdown();
+    }
+
+    private MailOutbox pendingMail(Long id, ReminderLog reminderLog) {
+        return MailOutbox.builder()
+                .id(id)
+                .recipient("test@example.com")
+                .subject("[Day Memory] 테스트")
+                .body("<html>내용</html>")
+                .reminderLog(reminderLog)
+                .build();
+    }
+
+    @Test
+    @DisplayName("발송 대기 메일 처리 - 발송 성공 시 SENT 및 리마인더 로그 갱신")
+    void testDispatch_Success() {
+        // Given
+        MailOutbox mail = pendingMail(1L, testLog);
+        given(mailOutboxRepository.findPendingForUpdate(any(), eq(10))).willReturn(List.of(mail));
+
+        // When
+        mailOutboxDispatcher.dispatch();
+
+        // Then
+        assertThat(mail.getStatus()).isEqualTo(MailOutbox.MailStatus.SENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+
+        then(emailService).should(times(1)).sendBulk(eq(List.of(mail)), any(BooleanSupplier.class), any());
+        then(mailOutboxRepository).should(times(1)).markSent(eq(1L), any(LocalDateTime.class));
+        then(reminderLogRepository).should(times(1))
+                .updateStatus(eq(1L), eq(ReminderLog.ReminderStatus.SENT), any(LocalDateTime.class));
+        then(reminderDailyStatRepository).should(times(1))
+                .recordSent(eq(1L), any(LocalDate.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("발송 대기 메일 처리 - 배치가 가득 차면 다음 배치를 이어서 처리")
+    void testDispatch_DrainsFullBatches() {
+        // Given
+        List<MailOutbox> fullBatch = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            fullBatch.add(pendingMail(id, null));
+        }
+        given(mailOutboxRepository.findPendingForUpdate(any(), eq(10)))
+                .willReturn(fullBatch)
+                .willReturn(Collections.emptyList());
+
+        // When
+        mailOutboxDispatcher.dispatch();
+
+        // Then
+        then(mailOutboxRepository).should(times(2)).findPendingForUpdate(any(), eq(10));
+        // 워커 2개가 5건씩 나눠 발송
+        then(emailService).should(times(2)).sendBulk(argThat(slice -> slice.size() == 5), any(BooleanSupplier.class), any());
+        then(mailOutboxRepository).should(times(10)).markSent(anyLong(), any(LocalDateTime.class));
+        then(reminderLogRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 재시도 횟수가 남아 있으면 백오프 시각을 잡아 PENDING으로 복귀")
+    void testRecordResult_FailureRetryable() {
+        // Given
+        MailOutbox mail = pendingMail(1L, testLog);
+        mail.markSending();
+        mail.markSending();
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        mailOutboxDispatcher.recordResult(mail, new CustomException(ErrorCode.EMAIL_SEND_FAILED));
+
+        // Then: 두 번째 시도 실패 -> 60초 * 2
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(mailOutboxRepository).should(times(1))
+                .markFailed(eq(1L), eq(MailOutbox.MailStatus.PENDING), any(), nextAttemptAt.capture());
+        assertThat(nextAttemptAt.getValue()).isBetween(before.plusSeconds(120), LocalDateTime.now().plusSeconds(120));
+        then(reminderLogRepository).should(never()).updateStatus(any(), any(), any());
+        then(reminderLogRepository).should(never()).markFailed(any());
+        then(reminderDailyStatRepository).should(never()).recordFailedIfExhausted(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 최대 재시도 초과 시 FAILED 및 리마인더 로그 실패 처리")
+    void testRecordResult_FailureExhausted() {
+        // Given
+        MailOutbox mail = pendingMail(1L, testLog);
+        mail.markSending();
+        mail.markSending();
+        mail.markSending();
+
+        // When
+        mailOutboxDispatcher.recordResult(mail, new CustomException(ErrorCode.EMAIL_SEND_FAILED));
+
+        // Then
+        then(mailOutboxRepository).should(times(1))
+                .markFailed(eq(1L), eq(MailOutbox.MailStatus.FAILED), any(), isNull());
+        then(reminderLogRepository).should(times(1)).markFailed(1L);
+        // 최종 실패 여부(재발송 횟수 소진)는 UPSERT 조건으로 판단
+        then(reminderDailyStatRepository).should(times(1)).recordFailedIfExhausted(eq(1L), any(LocalDate.class), eq(5));
+        then(reminderMetrics).should(times(1)).countFailed();
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 수신자 거부(5xx)는 첫 시도에서 바로 FAILED, 일시 오류(4xx)는 재시도")
+    void testRecordResult_PermanentFailure() throws Exception {
+        // Given
+        MailOutbox rejected = pendingMail(1L, testLog);
+        rejected.markSending();
+        MailOutbox busy = pendingMail(2L, null);
+        busy.markSending();
+        InternetAddress recipient = new InternetAddress("test@example.com");
+
+        // When
+        mailOutboxDispatcher.recordResult(rejected, new SendFailedException("Invalid Addresses",
+                new SMTPAddressFailedException(recipient, "RCPT TO", 550, "No such user")));
+        mailOutboxDispatcher.recordResult(busy, new SendFailedException("Invalid Addresses",
+                new SMTPAddressFailedException(recipient, "RCPT TO", 450, "Mailbox busy")));
+
+        // Then
+        then(mailOutboxRepository).should(times(1))
+                .markFailed(eq(1L), eq(MailOutbox.MailStatus.FAILED), any(), isNull());
+        then(reminderLogRepository).should(times(1)).markFailed(1L);
+        then(mailOutboxRepository).should(times(1))
+                .markFailed(eq(2L), eq(MailOutbox.MailStatus.PENDING), any(), any(LocalDateTime.class));
+        then(circuitBreaker).should(never()).recordFailure();
+    }
+
+    @Test
+    @DisplayName("재시도 지연 - 시도마다 두 배로 늘고 최대 지연에서 멈춤")
+    void testRetryDelay_Exponential() {
+        assertThat(mailOutboxDispatcher.retryDelay(1)).isEqualTo(60);
+        assertThat(mailOutboxDispatcher.retryDelay(2)).isEqualTo(120);
+        assertThat(mailOutboxDispatcher.retryDelay(4)).isEqualTo(480);
+        assertThat(mailOutboxDispatcher.retryDelay(10)).isEqualTo(3600);
+        assertThat(mailOutboxDispatcher.retryDelay(100)).isEqualTo(3600);
+    }
+
+    @Test
+    @DisplayName("SMTP 회로 열림 - 메일을 선점하지 않음")
+    void testDispatch_SkipsWhenCircuitOpen() {
+        // Given
+        given(circuitBreaker.isOpen()).willReturn(true);
+
+        // When
+        mailOutboxDispatcher.dispatch();
+
+        // Then
+        then(mailOutboxRepository).should(never()).findPendingForUpdate(any(), anyInt());
+        then(emailService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("발송 도중 회로 열림 - 남은 메일을 시도 횟수 차감 없이 PENDING으로 복귀")
+    void testDispatch_ReleasesUnsentWhenCircuitOpens() {
+        // Given
+        MailOutbox sent = pendingMail(1L, null);
+        MailOutbox unsent = pendingMail(2L, null);
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "workers", 1);
+        given(mailOutboxRepository.findPendingForUpdate(any(), eq(10))).willReturn(List.of(sent, unsent));
+        willAnswer(invocation -> {
+            invocation.<BiConsumer<MailOutbox, Exception>>getArgument(2).accept(sent, null);
+            return List.of(unsent);
+        }).given(emailService).sendBulk(anyList(), any(BooleanSupplier.class), any());
+
+        // When
+        mailOutboxDispatcher.dispatch();
+
+        // Then
+        then(mailOutboxRepository).should(times(1)).markSent(eq(1L), any(LocalDateTime.class));
+        then(mailOutboxRepository).should(times(1)).releaseUnsent(List.of(2L));
+        then(mailOutboxRepository).should(times(1)).findPendingForUpdate(any(), eq(10));
+    }
+
+    @Test
+    @DisplayName("발송 결과를 서킷 브레이커에 기록 - 수신자 거부는 장애로 세지 않음")
+    void testRecordResult_UpdatesCircuitBreaker() {
+        // Given
+        MailOutbox mail = pendingMail(1L, null);
+        mail.markSending();
+
+        // When
+        mailOutboxDispatcher.recordResult(mail, null);
+        mailOutboxDispatcher.recordResult(mail, new CustomException(ErrorCode.EMAIL_SEND_FAILED));
+        mailOutboxDispatcher.recordResult(mail, new SendFailedException("Invalid recipient"));
+
+        // Then
+        then(circuitBreaker).should(times(1)).recordSuccess();
+        then(circuitBreaker).should(times(1)).recordFailure();
+    }
+}
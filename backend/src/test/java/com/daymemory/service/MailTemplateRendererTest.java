@@ -0,0 +1,132 @@
+package com.daymemory.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MailTemplateRenderer 테스트")
+class MailTemplateRendererTest {
+
+    private MailTemplateRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new MailTemplateRenderer();
+        renderer.init();
+    }
+
+    @Test
+    @DisplayName("기본 로케일 템플릿 렌더링")
+    void testRender_DefaultLocale() {
+        // When
+        String html = renderer.render("test-greeting", Map.of("name", "홍길동", "count", 3));
+
+        // Then
+        assertThat(html).isEqualTo("<p>안녕하세요, 홍길동님! 3개의 알림이 있습니다.</p>\n");
+    }
+
+    @Test
+    @DisplayName("로케일별 템플릿 선택 - 국가 코드가 달라도 언어가 같으면 사용")
+    void testRender_LocaleSpecificTemplate() {
+        // When
+        String english = renderer.render("test-greeting", Locale.ENGLISH, Map.of("name", "Gildong", "count", 2));
+        String us = renderer.render("test-greeting", Locale.US, Map.of("name", "Gildong", "count", 2));
+
+        // Then
+        assertThat(english).isEqualTo("<p>Hello, Gildong! You have 2 reminders.</p>\n");
+        assertThat(us).isEqualTo(english);
+    }
+
+    @Test
+    @DisplayName("로케일별 템플릿이 없으면 기본 템플릿으로 대체")
+    void testRender_FallbackToDefaultTemplate() {
+        // When
+        String html = renderer.render("test-greeting", Locale.JAPANESE, Map.of("name", "홍길동", "count", 1));
+
+        // Then
+        assertThat(html).contains("안녕하세요, 홍길동님!");
+    }
+
+    @Test
+    @DisplayName("값은 HTML 이스케이프 후 출력")
+    void testRender_EscapesValues() {
+        // When
+        String html = renderer.render("test-greeting",
+                Map.of("name", "<script>alert('x') & \"y\"</script> 🎂", "count", 1));
+
+        // Then
+        assertThat(html).contains("&lt;script&gt;alert(&#39;x&#39;) &amp; &quot;y&quot;&lt;/script&gt; 🎂님!");
+        assertThat(html).doesNotContain("<script>");
+    }
+
+    @Test
+    @DisplayName("출력 버퍼 재사용 - 이전 렌더링 결과가 섞이지 않음")
+    void testRender_ReusesBufferWithoutLeaking() {
+        // Given
+        String longName = "가".repeat(10_000);
+
+        // When
+        String first = renderer.render("test-greeting", Map.of("name", longName, "count", 1));
+        String second = renderer.render("test-greeting", Map.of("name", "김", "count", 2));
+
+        // Then
+        assertThat(first).contains(longName);
+        assertThat(second).isEqualTo("<p>안녕하세요, 김님! 2개의 알림이 있습니다.</p>\n");
+    }
+
+    @Test
+    @DisplayName("null 값은 빈 문자열로 출력")
+    void testRender_NullValue() {
+        // Given
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", null);
+        values.put("count", 0);
+
+        // When
+        String html = renderer.render("test-greeting", values);
+
+        // Then
+        assertThat(html).startsWith("<p>안녕하세요, 님!");
+    }
+
+    @Test
+    @DisplayName("플레이스홀더 값 누락 시 예외")
+    void testRender_MissingValue() {
+        // When & Then
+        assertThatThrownBy(() -> renderer.render("test-greeting", Map.of("name", "홍길동")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("count");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 템플릿 요청 시 예외")
+    void testRender_UnknownTemplate() {
+        // When & Then
+        assertThatThrownBy(() -> renderer.render("unknown", Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("메일 템플릿 3종 렌더링")
+    void testRender_MailTemplates() {
+        // When
+        String reminder = renderer.render("reminder",
+                Map.of("recipientName", "홍길동", "eventTitle", "친구 생일", "daysRemaining", 7));
+        String verification = renderer.render("email-verification",
+                Map.of("userName", "홍길동", "verificationLink", "http://localhost:3000/verify-email?token=abc"));
+        String reset = renderer.render("password-reset",
+                Map.of("userName", "홍길동", "resetLink", "http://localhost:3000/reset-password?token=abc"));
+
+        // Then
+        assertThat(reminder).contains("D-7").contains("친구 생일").contains("0%, #764ba2 100%");
+        assertThat(verification).contains("href=\"http://localhost:3000/verify-email?token=abc\"");
+        assertThat(reset).contains("href=\"http://localhost:3000/reset-password?token=abc\"");
+        assertThat(reminder + verification + reset).doesNotContain("{{");
+    }
+}
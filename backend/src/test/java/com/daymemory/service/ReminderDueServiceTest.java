@@ -0,0 +1,139 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.ReminderDue;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.ReminderDueRepository;
+import com.daymemory.util.LunarCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderDueService 테스트")
+class ReminderDueServiceTest {
+
+    @Mock
+    private ReminderDueRepository reminderDueRepository;
+
+    @InjectMocks
+    private ReminderDueService reminderDueService;
+
+    @Captor
+    private ArgumentCaptor<List<ReminderDue>> duesCaptor;
+
+    private User testUser;
+    private Event testEvent;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 테스트용 사용자 설정
+        testUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("password")
+                .nickname("테스트 사용자")
+                .build();
+
+        // Given: 30일 후 이벤트 (리마인더 7일, 1일, 비활성 3일)
+        testEvent = Event.builder()
+                .id(1L)
+                .user(testUser)
+                .title("생일")
+                .eventDate(LocalDate.now().plusDays(30))
+                .eventType(Event.EventType.BIRTHDAY)
+                .isTracking(true)
+                .reminders(new ArrayList<>())
+                .build();
+
+        testEvent.addReminder(EventReminder.builder().event(testEvent).daysBeforeEvent(7).isActive(true).build());
+        testEvent.addReminder(EventReminder.builder().event(testEvent).daysBeforeEvent(1).isActive(true).build());
+        testEvent.addReminder(EventReminder.builder().event(testEvent).daysBeforeEvent(3).isActive(false).build());
+    }
+
+    @Test
+    @DisplayName("활성 리마인더마다 발송일이 계산되어 저장됨")
+    void testRefresh_CreatesDueRows() {
+        // When
+        reminderDueService.refresh(testEvent);
+
+        // Then
+        then(reminderDueRepository).should(times(1)).deleteByEventIdIn(Set.of(1L));
+        then(reminderDueRepository).should(times(1)).saveAll(duesCaptor.capture());
+
+        List<ReminderDue> dues = duesCaptor.getValue();
+        assertThat(dues).hasSize(2);
+        assertThat(dues).extracting(ReminderDue::getFireDate)
+                .containsExactlyInAnyOrder(
+                        testEvent.getEventDate().minusDays(7),
+                        testEvent.getEventDate().minusDays(1));
+        assertThat(dues).allMatch(due -> due.getUserId().equals(1L));
+    }
+
+    @Test
+    @DisplayName("추적하지 않는 이벤트는 발송 예정 리마인더가 삭제만 됨")
+    void testRefresh_NotTrackingEvent() {
+        // Given
+        testEvent.setTracking(false);
+
+        // When
+        reminderDueService.refresh(testEvent);
+
+        // Then
+        then(reminderDueRepository).should(times(1)).deleteByEventIdIn(Set.of(1L));
+        then(reminderDueRepository).should(never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("비활성화된 이벤트는 발송 예정 리마인더가 삭제만 됨")
+    void testRefresh_DeactivatedEvent() {
+        // Given
+        testEvent.deactivate();
+
+        // When
+        reminderDueService.refresh(testEvent);
+
+        // Then
+        then(reminderDueRepository).should(times(1)).deleteByEventIdIn(Set.of(1L));
+        then(reminderDueRepository).should(never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("음력 반복 이벤트가 환산 범위를 넘으면 발송일 없음")
+    void testFireDate_LunarYearlyBeyondMaxYear() {
+        // Given: 2023년 추석 (음력 8월 15일) 음력 반복 이벤트
+        Event chuseok = Event.builder()
+                .id(2L)
+                .user(testUser)
+                .title("추석")
+                .eventDate(LocalDate.of(2023, 9, 29))
+                .eventType(Event.EventType.ANNIVERSARY_CUSTOM)
+                .isRecurring(true)
+                .recurrenceRule(Event.RecurrenceRule.LUNAR_YEARLY)
+                .isTracking(true)
+                .reminders(new ArrayList<>())
+                .build();
+
+        // When & Then: 범위 안에서는 다음 발생일 기준, 범위(LunarCalendar.MAX_YEAR)를 넘으면 null
+        assertThat(ReminderDueService.fireDate(chuseok, 7, LocalDate.of(2024, 1, 1)))
+                .isEqualTo(LocalDate.of(2024, 9, 10));
+        assertThat(ReminderDueService.fireDate(chuseok, 7, LocalDate.of(LunarCalendar.MAX_YEAR + 1, 1, 1)))
+                .isNull();
+    }
+}
@@ -0,0 +1,303 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.ReminderLog;
+import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderRetryService 테스트")
+class ReminderRetryServiceTest {
+
+    @Mock
+    private ReminderLogRepository reminderLogRepository;
+
+    @Mock
+    private ReminderDailyStatRepository reminderDailyStatRepository;
+
+    @Mock
+    private ReminderService reminderService;
+
+    @Mock
+    private SmtpCircuitBreaker circuitBreaker;
+
+    @Mock
+    private JobCoordinator jobCoordinator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UserDataCache userDataCache;
+
+    @InjectMocks
+    private ReminderRetryService reminderRetryService;
+
+    private User testUser;
+    private Event testEvent;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderRetryService, "batchSize", 2);
+        ReflectionTestUtils.setField(reminderRetryService, "maxRetries", 5);
+        ReflectionTestUtils.setField(reminderRetryService, "baseDelaySeconds", 300L);
+        ReflectionTestUtils.setField(reminderRetryService, "maxDelaySeconds", 21600L);
+        ReflectionTestUtils.setField(reminderRetryService, "maxAgeDays", 7L);
+
+        testUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("password")
+                .nickname("테스트 사용자")
+                .build();
+
+        testEvent = Event.builder()
+                .id(1L)
+                .user(testUser)
+                .title("생일")
+                .eventDate(LocalDate.now().plusDays(7))
+                .eventType(Event.EventType.BIRTHDAY)
+                .isTracking(true)
+                .build();
+
+        // 트랜잭션은 콜백을 바로 실행하고, 임대는 항상 획득한 것으로 본다
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(jobCoordinator.runExclusive(anyString(), any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Supplier<JobResult>>getArgument(3).get();
+            return true;
+        });
+    }
+
+    private ReminderLog failedLog(Long id, Event event, int retryCount, LocalDateTime nextRetryAt) {
+        return ReminderLog.builder()
+                .id(id)
+                .event(event)
+                .daysBeforeEvent(7)
+                .sentAt(LocalDateTime.now().minusHours(1))
+                .status(ReminderLog.ReminderStatus.FAILED)
+                .retryCount(retryCount)
+                .nextRetryAt(nextRetryAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("새로 실패한 로그 - 바로 재발송하지 않고 백오프 시각만 예약 (아직 최종 실패로 세지 않음)")
+    void testRetry_SchedulesNewFailure() {
+        // Given
+        ReminderLog log = failedLog(1L, testEvent, 0, null);
+        given(reminderLogRepository.findRetryableAfter(any(), any(), eq(5), eq(0L), any())).willReturn(List.of(log));
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        reminderRetryService.retryFailedReminders();
+
+        // Then: 300초 기준 지터 구간 [150, 300]
+        assertThat(log.getNextRetryAt()).isBetween(before.plusSeconds(150), LocalDateTime.now().plusSeconds(300));
+        assertThat(log.getStatus()).isEqualTo(ReminderLog.ReminderStatus.FAILED);
+        then(reminderService).shouldHaveNoInteractions();
+        then(reminderDailyStatRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("재발송 시각이 된 로그 - 같은 로그로 재적재")
+    void testRetry_RequeuesDueLog() {
+        // Given
+        ReminderLog log = failedLog(1L, testEvent, 1, LocalDateTime.now().minusMinutes(1));
+        given(reminderLogRepository.findRetryableAfter(any(), any(), eq(5), eq(0L), any())).willReturn(List.of(log));
+
+        // When
+        reminderRetryService.retryFailedReminders();
+
+        // Then
+        then(reminderService).should(times(1)).requeueFailed(log);
+    }
+
+    @Test
+    @DisplayName("지난 이벤트/알림 해제 로그 - SUPERSEDED 처리하고 재발송하지 않음")
+    void testRetry_SupersedesObsoleteLogs() {
+        // Given
+        Event pastEvent = Event.builder()
+                .id(2L)
+                .user(testUser)
+                .title("지난 기념일")
+                .eventDate(LocalDate.now().minusDays(1))
+                .eventType(Event.EventType.ANNIVERSARY_1YEAR)
+                .isTracking(true)
+                .build();
+        User mutedUser = User.builder()
+                .id(2L)
+                .email("muted@example.com")
+                .password("password")
+                .nickname("알림 해제 사용자")
+                .reminderEnabled(false)
+                .build();
+        Event mutedEvent = Event.builder()
+                .id(3L)
+                .user(mutedUser)
+                .title("생일")
+                .eventDate(LocalDate.now().plusDays(7))
+                .eventType(Event.EventType.BIRTHDAY)
+                .isTracking(true)
+                .build();
+
+        ReminderLog pastLog = failedLog(1L, pastEvent, 1, LocalDateTime.now().minusMinutes(1));
+        ReminderLog mutedLog = failedLog(2L, mutedEvent, 0, null);
+        given(reminderLogRepository.findRetryableAfter(any(), any(), eq(5), eq(0L), any())).willReturn(List.of(pastLog, mutedLog));
+        given(reminderLogRepository.findRetryableAfter(any(), any(), eq(5), eq(2L), any())).willReturn(Collections.emptyList());
+
+        // When
+        reminderRetryService.retryFailedReminders();
+
+        // Then
+        assertThat(pastLog.getStatus()).isEqualTo(ReminderLog.ReminderStatus.SUPERSEDED);
+        assertThat(mutedLog.getStatus()).isEqualTo(ReminderLog.ReminderStatus.SUPERSEDED);
+        then(reminderService).shouldHaveNoInteractions();
+        then(userDataCache).should().invalidate(testUser.getId());
+        then(userDataCache).should().invalidate(mutedUser.getId());
+        // 더 보내지 않는 로그는 최종 실패로 한 번씩 센다
+        then(reminderDailyStatRepository).should().recordFailed(1L, LocalDate.now());
+        then(reminderDailyStatRepository).should().recordFailed(2L, LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("삭제된 이벤트 / 알린 발생일이 지난 반복 이벤트 로그 - SUPERSEDED 처리하고 재발송하지 않음")
+    void testRetry_SupersedesDeletedAndPassedOccurrence() {
+        // Given: 삭제(비활성)된 이벤트
+        Event deletedEvent = Event.builder()
+                .id(2L)
+                .user(testUser)
+                .title("삭제한 생일")
+                .eventDate(LocalDate.now().plusDays(7))
+                .eventType(Event.EventType.BIRTHDAY)
+                .isTracking(true)
+                .isActive(false)
+                .build();
+        // 매년 반복 이벤트의 D-7이 10일 전에 실패 -> 알린 발생일(3일 전)이 지났으므로 내년 날짜로 재발송하지 않는다
+        Event yearlyEvent = Event.builder()
+                .id(3L)
+                .user(testUser)
+                .title("결혼기념일")
+                .eventDate(LocalDate.now().minusDays(3))
+                .eventType(Event.EventType.ANNIVERSARY_1YEAR)
+                .recurrenceRule(Event.RecurrenceRule.YEARLY)
+                .isTracking(true)
+                .build();
+
+        ReminderLog deletedLog = failedLog(1L, deletedEvent, 1, LocalDateTime.now().minusMinutes(1));
+        ReminderLog passedLog = ReminderLog.builder()
+                .id(2L)
+                .event(yearlyEvent)
+                .daysBeforeEvent(7)
+                .fireDate(LocalDate.now().minusDays(10))
+                .sentAt(LocalDateTime.now().minusHours(1))
+                .status(ReminderLog.ReminderStatus.FAILED)
+                .retryCount(2)
+                .nextRetryAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        given(reminderLogRepository.findRetryableAfter(any(), any(), eq(5), eq(0L), any())).willReturn(List.of(deletedLog, passedLog));
+        given(reminderLogRepository.findRetryableAfter(any(), any(), eq(5), eq(2L), any())).willReturn(Collections.emptyList());
+
+        // When
+        reminderRetryService.retryFailedReminders();
+
+        // Then
+        assertThat(deletedLog.getStatus()).isEqualTo(ReminderLog.ReminderStatus.SUPERSEDED);
+        assertThat(passedLog.getStatus()).isEqualTo(ReminderLog.ReminderStatus.SUPERSEDED);
+        then(reminderService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("오래된 실패 로그 - max-age-days 이전에 발송된 로그는 조회하지 않음")
+    void testRetry_BoundsBySentAt() {
+        // Given
+        given(reminderLogRepository.findRetryableAfter(any(), any(), eq(5), eq(0L), any())).willReturn(Collections.emptyList());
+
+        // When
+        reminderRetryService.retryFailedReminders();
+
+        // Then: sentAfter = now - 7일
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> sentAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(reminderLogRepository).should().findRetryableAfter(now.capture(), sentAfter.capture(), eq(5), eq(0L), any());
+        assertThat(sentAfter.getValue()).isEqualTo(now.getValue().minusDays(7));
+    }
+
+    @Test
+    @DisplayName("SMTP 회로 열림 - 재발송 작업을 실행하지 않음")
+    void testRetry_SkipsWhenCircuitOpen() {
+        // Given
+        given(circuitBreaker.isOpen()).willReturn(true);
+
+        // When
+        reminderRetryService.retryFailedReminders();
+
+        // Then
+        then(jobCoordinator).shouldHaveNoInteractions();
+        then(reminderLogRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("배치 처리 중 회로가 열리면 다음 배치를 가져오지 않음")
+    void testRetry_StopsWhenCircuitOpensMidRun() {
+        // Given
+        ReminderLog first = failedLog(1L, testEvent, 1, LocalDateTime.now().minusMinutes(1));
+        ReminderLog second = failedLog(2L, testEvent, 1, LocalDateTime.now().minusMinutes(1));
+        given(reminderLogRepository.findRetryableAfter(any(), any(), eq(5), eq(0L), any())).willReturn(List.of(first, second));
+        given(circuitBreaker.isOpen()).willReturn(false, false, true);
+
+        // When
+        reminderRetryService.retryFailedReminders();
+
+        // Then
+        then(reminderService).should(times(2)).requeueFailed(any(ReminderLog.class));
+        then(reminderLogRepository).should(times(1)).findRetryableAfter(any(), any(), anyInt(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("백오프 - 재시도마다 두 배로 늘고 최대 지연에서 멈추며 지터는 절반~전체 구간")
+    void testBackoff_ExponentialWithJitter() {
+        // Given: 지터 최댓값
+        ReflectionTestUtils.setField(reminderRetryService, "jitter", (DoubleSupplier) () -> 1.0);
+
+        // Then
+        assertThat(reminderRetryService.backoff(0)).isEqualTo(Duration.ofSeconds(300));
+        assertThat(reminderRetryService.backoff(1)).isEqualTo(Duration.ofSeconds(600));
+        assertThat(reminderRetryService.backoff(3)).isEqualTo(Duration.ofSeconds(2400));
+        assertThat(reminderRetryService.backoff(10)).isEqualTo(Duration.ofSeconds(21600));
+        assertThat(reminderRetryService.backoff(100)).isEqualTo(Duration.ofSeconds(21600));
+
+        // When: 지터 최솟값
+        ReflectionTestUtils.setField(reminderRetryService, "jitter", (DoubleSupplier) () -> 0.0);
+
+        // Then
+        assertThat(reminderRetryService.backoff(1)).isEqualTo(Duration.ofSeconds(300));
+    }
+}
@@ -1,30 +1,47 @@
 package com.daymemory.service;
 
 import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.entity.JobCheckpoint;
 import com.daymemory.domain.entity.EventReminder;
+import com.daymemory.domain.entity.ReminderDue;
 import com.daymemory.domain.entity.ReminderLog;
 import com.daymemory.domain.entity.User;
 import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.JobCheckpointRepository;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderDueRepository;
 import com.daymemory.domain.repository.ReminderLogRepository;
 import com.daymemory.exception.CustomException;
 import com.daymemory.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.*;
@@ -33,21 +50,45 @@ import static org.mockito.BDDMockito.*;
 @DisplayName("ReminderService 테스트")
 class ReminderServiceTest {
 
+    private static final String SLOT_TIME_ZONE = "Asia/Seoul";
+    private static final LocalTime SLOT_TIME = LocalTime.of(9, 0);
+
     @Mock
     private EventRepository eventRepository;
 
     @Mock
     private ReminderLogRepository reminderLogRepository;
 
+    @Mock
+    private ReminderDueRepository reminderDueRepository;
+
+    @Mock
+    private ReminderDailyStatRepository reminderDailyStatRepository;
+
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Mock
+    private UserDataCache userDataCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ReminderMetrics reminderMetrics = new ReminderMetrics(meterRegistry);
+
     @InjectMocks
     private ReminderService reminderService;
 
     private User testUser;
     private Event testEvent;
     private EventReminder testReminder;
+    private ReminderDue testDue;
 
     @BeforeEach
     void setUp() {
@@ -80,74 +121,141 @@ class ReminderServiceTest {
                 .build();
 
         testEvent.addReminder(testReminder);
+
+        // Given: 오늘 발송 예정인 리마인더 (7일 전)
+        testDue = ReminderDue.builder()
+                .id(1L)
+                .event(testEvent)
+                .userId(testUser.getId())
+                .daysBeforeEvent(7)
+                .fireDate(LocalDate.now())
+                .build();
+
+        // Given: 청크 트랜잭션은 콜백을 바로 실행
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        // Given: 체크포인트가 없는 새 실행 (처음부터 처리)
+        lenient().when(jobCheckpointRepository.findByJobNameAndJobKey(anyString(), anyString()))
+                .thenReturn(Optional.of(JobCheckpoint.builder().id(1L).build()));
+        ReflectionTestUtils.setField(reminderService, "maxRetries", 5);
+        ReflectionTestUtils.setField(reminderService, "chunkJobRunner",
+                new ChunkJobRunner(jobCheckpointRepository, transactionTemplate, meterRegistry));
     }
 
     @Test
-    @DisplayName("일일 리마인더 발송 성공")
-    void testSendDailyReminders_Success() {
+    @DisplayName("발송 슬롯 리마인더 발송 성공 - 해당 시간대/발송 시각 사용자의 리마인더만 조회")
+    void testSendSlotReminders_Success() {
         // Given
         LocalDate today = LocalDate.now();
-        LocalDate startDate = today.plusDays(1);
-        LocalDate endDate = today.plusDays(365);
 
-        List<Event> trackingEvents = List.of(testEvent);
-        given(eventRepository.findTrackingEventsBetweenDates(startDate, endDate))
-                .willReturn(trackingEvents);
-        given(reminderLogRepository.findRecentReminder(anyLong(), anyInt(), any(LocalDateTime.class)))
-                .willReturn(Optional.empty());
+        given(reminderDueRepository.findSlotDueAfter(eq(today), eq(SLOT_TIME_ZONE), eq(SLOT_TIME), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(testDue));
+        given(eventRepository.findAllWithUserByIdIn(Set.of(testEvent.getId())))
+                .willReturn(List.of(testEvent));
+        given(reminderLogRepository.findRecentReminderKeys(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(Collections.emptyList());
 
         String emailContent = "<html>리마인더 내용</html>";
         given(emailService.buildReminderEmailContent(anyString(), anyInt(), anyString())).willReturn(emailContent);
-        willDoNothing().given(emailService).sendReminderEmail(anyString(), anyString(), anyString());
-        given(reminderLogRepository.save(any(ReminderLog.class))).willAnswer(invocation -> invocation.getArgument(0));
+        givenPendingLogClaimed();
 
         // When
-        reminderService.sendDailyReminders();
+        int sent = reminderService.sendSlotReminders(SLOT_TIME_ZONE, SLOT_TIME, today);
 
         // Then
-        // Verify: 이메일 발송 확인
-        then(emailService).should(atLeastOnce()).sendReminderEmail(
+        assertThat(sent).isEqualTo(1);
+        // Verify: 이메일 발송 요청(아웃박스 적재) 확인
+        then(emailService).should(atLeastOnce()).enqueueReminder(
                 eq(testUser.getEmail()),
                 anyString(),
-                anyString()
+                anyString(),
+                any(ReminderLog.class)
         );
-        then(reminderLogRepository).should(atLeastOnce()).save(any(ReminderLog.class));
+        then(reminderLogRepository).should(times(1)).claimPending(argThat(logs -> logs.size() == 1
+                && logs.get(0).getIdempotencyKey().equals(ReminderLog.idempotencyKey(testEvent.getId(), 7, today))));
+
+        // Verify: 실행 전체 / 조회 단계 소요 시간 기록
+        assertThat(meterRegistry.get("reminder.run").tag("trigger", "slot").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("reminder.phase").tag("phase", "query").timer().count()).isEqualTo(3);
+        // 서울 09:00 예정 시각 대비 지연 (테스트 실행 시각에 따라 0 이상)
+        assertThat(meterRegistry.get("reminder.run.lag").timeGauge().value()).isGreaterThanOrEqualTo(0);
     }
 
     @Test
-    @DisplayName("일일 리마인더 발송 - 중복 발송 방지 (24시간)")
-    void testSendDailyReminders_NoDuplicates() {
+    @DisplayName("발송 슬롯 리마인더 발송 - 중단된 실행은 체크포인트 다음부터 이어서 발송")
+    void testSendSlotReminders_ResumesFromCheckpoint() {
+        // Given: 오늘 실행이 id 100까지 커밋하고 중단됨
+        LocalDate today = LocalDate.now();
+        given(jobCheckpointRepository.findByJobNameAndJobKey(ReminderService.SLOT_JOB_NAME, SLOT_TIME_ZONE + " " + SLOT_TIME + " " + today))
+                .willReturn(Optional.of(JobCheckpoint.builder().id(1L).lastKey(100L).chunks(1).build()));
+        given(reminderDueRepository.findSlotDueAfter(eq(today), eq(SLOT_TIME_ZONE), eq(SLOT_TIME), eq(100L), any(Pageable.class)))
+                .willReturn(Collections.emptyList());
+
+        // When
+        reminderService.sendSlotReminders(SLOT_TIME_ZONE, SLOT_TIME, today);
+
+        // Then
+        then(reminderDueRepository).should(never()).findSlotDueAfter(eq(today), anyString(), any(), eq(0L), any(Pageable.class));
+        then(emailService).should(never()).enqueueReminder(anyString(), anyString(), anyString(), any(ReminderLog.class));
+    }
+
+    @Test
+    @DisplayName("발송 슬롯 리마인더 발송 - 중복 발송 방지 (24시간)")
+    void testSendSlotReminders_NoDuplicates() {
         // Given
         LocalDate today = LocalDate.now();
-        LocalDate startDate = today.plusDays(1);
-        LocalDate endDate = today.plusDays(365);
 
-        List<Event> trackingEvents = List.of(testEvent);
-        given(eventRepository.findTrackingEventsBetweenDates(startDate, endDate))
-                .willReturn(trackingEvents);
+        given(reminderDueRepository.findSlotDueAfter(eq(today), eq(SLOT_TIME_ZONE), eq(SLOT_TIME), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(testDue));
+        given(eventRepository.findAllWithUserByIdIn(Set.of(testEvent.getId())))
+                .willReturn(List.of(testEvent));
 
-        // 최근에 발송된 리마인더 로그가 있음
-        ReminderLog recentLog = ReminderLog.builder()
-                .id(1L)
-                .event(testEvent)
-                .daysBeforeEvent(7)
-                .sentAt(LocalDateTime.now().minusHours(12))
-                .status(ReminderLog.ReminderStatus.SENT)
-                .build();
-        given(reminderLogRepository.findRecentReminder(anyLong(), anyInt(), any(LocalDateTime.class)))
-                .willReturn(Optional.of(recentLog));
+        // 최근에 발송된 리마인더 로그가 있음 (eventId, daysBeforeEvent)
+        List<Object[]> recentKeys = new ArrayList<>();
+        recentKeys.add(new Object[]{testEvent.getId(), 7});
+        given(reminderLogRepository.findRecentReminderKeys(eq(Set.of(testEvent.getId())), any(LocalDateTime.class)))
+                .willReturn(recentKeys);
 
         // When
-        reminderService.sendDailyReminders();
+        reminderService.sendSlotReminders(SLOT_TIME_ZONE, SLOT_TIME, today);
 
         // Then
         // Verify: 이메일이 발송되지 않아야 함 (24시간 이내 중복)
-        then(emailService).should(never()).sendReminderEmail(anyString(), anyString(), anyString());
+        then(emailService).should(never()).enqueueReminder(anyString(), anyString(), anyString(), any(ReminderLog.class));
+        then(reminderLogRepository).should(times(1)).claimPending(argThat(List::isEmpty));
+        assertThat(meterRegistry.get("reminder.messages").tag("outcome", "duplicate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발송 슬롯 리마인더 발송 - 다른 실행이 이미 멱등 키를 선점한 경우 발송하지 않음")
+    void testSendSlotReminders_AlreadyClaimed() {
+        // Given
+        LocalDate today = LocalDate.now();
+
+        given(reminderDueRepository.findSlotDueAfter(eq(today), eq(SLOT_TIME_ZONE), eq(SLOT_TIME), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(testDue));
+        given(eventRepository.findAllWithUserByIdIn(Set.of(testEvent.getId())))
+                .willReturn(List.of(testEvent));
+        given(reminderLogRepository.findRecentReminderKeys(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(Collections.emptyList());
+
+        // 동시 실행된 다른 배치가 같은 (이벤트, 일수, 발송일) 로그를 먼저 적재
+        given(reminderLogRepository.claimPending(anyList())).willReturn(Collections.emptyMap());
+
+        // When
+        reminderService.sendSlotReminders(SLOT_TIME_ZONE, SLOT_TIME, today);
+
+        // Then
+        // Verify: 중복 적재/발송이 없어야 함
+        then(emailService).should(never()).enqueueReminder(anyString(), anyString(), anyString(), any(ReminderLog.class));
+        then(reminderLogRepository).should(never()).getReferenceById(any());
+        assertThat(meterRegistry.get("reminder.messages").tag("outcome", "duplicate").counter().count()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("일일 리마인더 발송 - 활성 리마인더만 발송")
-    void testSendDailyReminders_OnlyActiveReminders() {
+    @DisplayName("발송 슬롯 리마인더 발송 - 활성 리마인더만 발송")
+    void testSendSlotReminders_OnlyActiveReminders() {
         // Given
         // 비활성 리마인더 추가
         EventReminder inactiveReminder = EventReminder.builder()
@@ -159,59 +267,56 @@ class ReminderServiceTest {
         testEvent.addReminder(inactiveReminder);
 
         LocalDate today = LocalDate.now();
-        LocalDate startDate = today.plusDays(1);
-        LocalDate endDate = today.plusDays(365);
 
-        List<Event> trackingEvents = List.of(testEvent);
-        given(eventRepository.findTrackingEventsBetweenDates(startDate, endDate))
-                .willReturn(trackingEvents);
-        given(reminderLogRepository.findRecentReminder(anyLong(), anyInt(), any(LocalDateTime.class)))
-                .willReturn(Optional.empty());
+        given(reminderDueRepository.findSlotDueAfter(eq(today), eq(SLOT_TIME_ZONE), eq(SLOT_TIME), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(testDue));
+        given(eventRepository.findAllWithUserByIdIn(Set.of(testEvent.getId())))
+                .willReturn(List.of(testEvent));
+        given(reminderLogRepository.findRecentReminderKeys(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(Collections.emptyList());
 
         String emailContent = "<html>리마인더 내용</html>";
         given(emailService.buildReminderEmailContent(anyString(), anyInt(), anyString())).willReturn(emailContent);
-        willDoNothing().given(emailService).sendReminderEmail(anyString(), anyString(), anyString());
-        given(reminderLogRepository.save(any(ReminderLog.class))).willAnswer(invocation -> invocation.getArgument(0));
+        givenPendingLogClaimed();
 
         // When
-        reminderService.sendDailyReminders();
+        reminderService.sendSlotReminders(SLOT_TIME_ZONE, SLOT_TIME, today);
 
         // Then
         // Verify: 활성 리마인더만 발송 (비활성 리마인더는 제외)
-        then(emailService).should(atLeastOnce()).sendReminderEmail(anyString(), anyString(), anyString());
+        then(emailService).should(atLeastOnce()).enqueueReminder(anyString(), anyString(), anyString(), any(ReminderLog.class));
     }
 
     @Test
-    @DisplayName("일일 리마인더 발송 - 발송 실패 처리")
-    void testSendDailyReminders_FailedReminder() {
+    @DisplayName("발송 슬롯 리마인더 발송 - 발송 실패 처리")
+    void testSendSlotReminders_FailedReminder() {
         // Given
         LocalDate today = LocalDate.now();
-        LocalDate startDate = today.plusDays(1);
-        LocalDate endDate = today.plusDays(365);
 
-        List<Event> trackingEvents = List.of(testEvent);
-        given(eventRepository.findTrackingEventsBetweenDates(startDate, endDate))
-                .willReturn(trackingEvents);
-        given(reminderLogRepository.findRecentReminder(anyLong(), anyInt(), any(LocalDateTime.class)))
-                .willReturn(Optional.empty());
+        given(reminderDueRepository.findSlotDueAfter(eq(today), eq(SLOT_TIME_ZONE), eq(SLOT_TIME), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(testDue));
+        given(eventRepository.findAllWithUserByIdIn(Set.of(testEvent.getId())))
+                .willReturn(List.of(testEvent));
+        given(reminderLogRepository.findRecentReminderKeys(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(Collections.emptyList());
 
         String emailContent = "<html>리마인더 내용</html>";
         given(emailService.buildReminderEmailContent(anyString(), anyInt(), anyString())).willReturn(emailContent);
 
         // 이메일 발송 실패 시뮬레이션
         willThrow(new CustomException(ErrorCode.EMAIL_SEND_FAILED))
-                .given(emailService).sendReminderEmail(anyString(), anyString(), anyString());
+                .given(emailService).enqueueReminder(anyString(), anyString(), anyString(), any(ReminderLog.class));
 
-        given(reminderLogRepository.save(any(ReminderLog.class))).willAnswer(invocation -> invocation.getArgument(0));
+        givenPendingLogClaimed();
 
         // When
-        reminderService.sendDailyReminders();
+        reminderService.sendSlotReminders(SLOT_TIME_ZONE, SLOT_TIME, today);
 
         // Then
-        // Verify: 실패 로그가 저장되어야 함
-        then(reminderLogRepository).should(atLeastOnce()).save(
-                argThat(log -> log.getStatus() == ReminderLog.ReminderStatus.FAILED)
-        );
+        // Verify: 선점한 로그가 실패 처리되어야 함
+        then(reminderLogRepository).should(times(1)).markFailed(10L);
+        then(reminderDailyStatRepository).should(times(1)).recordFailedIfExhausted(10L, today, 5);
+        assertThat(meterRegistry.get("reminder.messages").tag("outcome", "failed").counter().count()).isEqualTo(1);
     }
 
     @Test
@@ -220,13 +325,12 @@ class ReminderServiceTest {
         // Given
         given(eventRepository.findByIdWithUserAndReminders(1L))
                 .willReturn(Optional.of(testEvent));
-        given(reminderLogRepository.findRecentReminder(anyLong(), anyInt(), any(LocalDateTime.class)))
-                .willReturn(Optional.empty());
+        given(reminderLogRepository.findRecentReminderKeys(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(Collections.emptyList());
 
         String emailContent = "<html>리마인더 내용</html>";
         given(emailService.buildReminderEmailContent(anyString(), anyInt(), anyString())).willReturn(emailContent);
-        willDoNothing().given(emailService).sendReminderEmail(anyString(), anyString(), anyString());
-        given(reminderLogRepository.save(any(ReminderLog.class))).willAnswer(invocation -> invocation.getArgument(0));
+        givenPendingLogClaimed();
 
         // When
         reminderService.sendImmediateReminder(1L);
@@ -234,7 +338,7 @@ class ReminderServiceTest {
         // Then
         // Verify
         then(eventRepository).should(times(1)).findByIdWithUserAndReminders(1L);
-        then(emailService).should(times(1)).sendReminderEmail(anyString(), anyString(), anyString());
+        then(emailService).should(times(1)).enqueueReminder(anyString(), anyString(), anyString(), any(ReminderLog.class));
     }
 
     @Test
@@ -250,7 +354,7 @@ class ReminderServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EVENT_NOT_FOUND);
 
         // Verify
-        then(emailService).should(never()).sendReminderEmail(anyString(), anyString(), anyString());
+        then(emailService).should(never()).enqueueReminder(anyString(), anyString(), anyString(), any(ReminderLog.class));
     }
 
     @Test
@@ -275,43 +379,45 @@ class ReminderServiceTest {
 
         // Then
         // Verify: 이메일이 발송되지 않아야 함
-        then(emailService).should(never()).sendReminderEmail(anyString(), anyString(), anyString());
+        then(emailService).should(never()).enqueueReminder(anyString(), anyString(), anyString(), any(ReminderLog.class));
     }
 
     @Test
-    @DisplayName("실패한 리마인더 재발송 성공")
+    @DisplayName("실패한 리마인더 재발송 성공 - 해제된 멱등 키를 다시 선점하고 같은 로그로 재적재")
     void testRetryFailedReminder() {
         // Given
+        LocalDate fireDate = LocalDate.now().minusDays(1);
         ReminderLog failedLog = ReminderLog.builder()
                 .id(1L)
                 .event(testEvent)
                 .daysBeforeEvent(7)
                 .sentAt(LocalDateTime.now().minusHours(2))
                 .status(ReminderLog.ReminderStatus.FAILED)
+                .fireDate(fireDate)
                 .build();
 
         given(reminderLogRepository.findById(1L)).willReturn(Optional.of(failedLog));
+        given(reminderLogRepository.requeueFailed(eq(1L),
+                eq(ReminderLog.idempotencyKey(testEvent.getId(), 7, fireDate)), any(LocalDateTime.class))).willReturn(1);
 
         String emailContent = "<html>리마인더 내용</html>";
         given(emailService.buildReminderEmailContent(anyString(), anyInt(), anyString())).willReturn(emailContent);
-        willDoNothing().given(emailService).sendReminderEmail(anyString(), anyString(), anyString());
-        given(reminderLogRepository.save(any(ReminderLog.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // When
         boolean result = reminderService.retryFailedReminder(1L);
 
         // Then
         assertThat(result).isTrue();
+        then(userDataCache).should().invalidate(testUser.getId());
 
-        // Verify
-        then(emailService).should(times(1)).sendReminderEmail(
+        // Verify: 같은 로그로 재적재하고 새 로그는 만들지 않음
+        then(emailService).should(times(1)).enqueueReminder(
                 eq(testUser.getEmail()),
                 anyString(),
-                anyString()
-        );
-        then(reminderLogRepository).should(times(1)).save(
-                argThat(log -> log.getStatus() == ReminderLog.ReminderStatus.SENT)
+                anyString(),
+                same(failedLog)
         );
+        then(reminderLogRepository).should(never()).save(any(ReminderLog.class));
     }
 
     @Test
@@ -359,19 +465,51 @@ class ReminderServiceTest {
                 .build();
 
         given(reminderLogRepository.findById(1L)).willReturn(Optional.of(failedLog));
+        given(reminderLogRepository.requeueFailed(eq(1L), anyString(), any(LocalDateTime.class))).willReturn(1);
 
         String emailContent = "<html>리마인더 내용</html>";
         given(emailService.buildReminderEmailContent(anyString(), anyInt(), anyString())).willReturn(emailContent);
 
         // 재발송 실패 시뮬레이션
         willThrow(new CustomException(ErrorCode.EMAIL_SEND_FAILED))
-                .given(emailService).sendReminderEmail(anyString(), anyString(), anyString());
+                .given(emailService).enqueueReminder(anyString(), anyString(), anyString(), any(ReminderLog.class));
+
+        // When
+        boolean result = reminderService.retryFailedReminder(1L);
+
+        // Then
+        assertThat(result).isFalse();
+
+        // Verify: 다시 선점한 멱등 키를 해제해 발송 대기로 남기지 않음
+        then(reminderLogRepository).should(times(1)).markFailed(1L);
+        then(reminderDailyStatRepository).should(times(1)).recordFailedIfExhausted(eq(1L), any(LocalDate.class), eq(5));
+    }
+
+    @Test
+    @DisplayName("실패한 리마인더 재발송 - 그 사이 같은 멱등 키로 발송된 로그는 SUPERSEDED, 다시 보내지 않음")
+    void testRetryFailedReminder_KeyAlreadyClaimed() {
+        // Given: 발송일이 없는 이전 로그는 발송 시각의 날짜로 키를 만든다
+        LocalDateTime sentAt = LocalDateTime.now().minusHours(2);
+        ReminderLog failedLog = ReminderLog.builder()
+                .id(1L)
+                .event(testEvent)
+                .daysBeforeEvent(7)
+                .sentAt(sentAt)
+                .status(ReminderLog.ReminderStatus.FAILED)
+                .build();
+
+        given(reminderLogRepository.findById(1L)).willReturn(Optional.of(failedLog));
+        given(reminderLogRepository.requeueFailed(eq(1L),
+                eq(ReminderLog.idempotencyKey(testEvent.getId(), 7, sentAt.toLocalDate())), any(LocalDateTime.class)))
+                .willReturn(0);
 
         // When
         boolean result = reminderService.retryFailedReminder(1L);
 
         // Then
         assertThat(result).isFalse();
+        then(reminderLogRepository).should(times(1)).supersedeIfFailed(1L);
+        then(emailService).should(never()).enqueueReminder(anyString(), anyString(), anyString(), any(ReminderLog.class));
     }
 
     @Test
@@ -454,4 +592,19 @@ class ReminderServiceTest {
         then(reminderLogRepository).should(times(1))
                 .findFailedRemindersAfter(any(LocalDateTime.class));
     }
+
+    // 멱등 키 선점 성공 + 선점한 로그(id=10) 참조 반환
+    private void givenPendingLogClaimed() {
+        given(reminderLogRepository.claimPending(anyList())).willAnswer(invocation -> {
+            List<ReminderLog> logs = invocation.getArgument(0);
+            return logs.stream().collect(Collectors.toMap(ReminderLog::getIdempotencyKey, log -> 10L));
+        });
+        given(reminderLogRepository.getReferenceById(10L)).willReturn(ReminderLog.builder()
+                .id(10L)
+                .event(testEvent)
+                .daysBeforeEvent(7)
+                .sentAt(LocalDateTime.now())
+                .status(ReminderLog.ReminderStatus.PENDING)
+                .build());
+    }
 }
@@ -0,0 +1,243 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderSlotScheduler 테스트")
+class ReminderSlotSchedulerTest {
+
+    private static final LocalTime NINE_AM = LocalTime.of(9, 0);
+    private static final LocalTime HALF_PAST_EIGHT = LocalTime.of(8, 30);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReminderService reminderService;
+
+    @Mock
+    private JobCoordinator jobCoordinator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ReminderSlotScheduler reminderSlotScheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderSlotScheduler, "catchUpMinutes", 0);
+
+        List<Object[]> slots = new ArrayList<>();
+        slots.add(new Object[]{"Asia/Seoul", NINE_AM});
+        slots.add(new Object[]{"America/New_York", HALF_PAST_EIGHT});
+        lenient().when(userRepository.findReminderSlots()).thenReturn(slots);
+
+        // 임대는 항상 획득한 것으로 보고 작업을 바로 실행
+        lenient().when(jobCoordinator.runExclusive(anyString(), any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Supplier<JobResult>>getArgument(3).get();
+            return true;
+        });
+
+        // 트랜잭션은 콜백을 바로 실행 (기본은 바뀐 발송 설정 없음)
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private void startAt(String instant) {
+        setClock(instant);
+        reminderSlotScheduler.init();
+    }
+
+    private void setClock(String instant) {
+        ReflectionTestUtils.setField(reminderSlotScheduler, "clock", Clock.fixed(Instant.parse(instant), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("서울 09:00 슬롯 - UTC 00:00에 서울 날짜 기준으로 발송")
+    void testTick_FiresSeoulSlot() {
+        // Given
+        startAt("2026-01-14T23:59:00Z");
+
+        // When
+        setClock("2026-01-15T00:00:30Z");
+        reminderSlotScheduler.tick();
+
+        // Then
+        then(reminderService).should(times(1))
+                .sendSlotReminders("Asia/Seoul", NINE_AM, LocalDate.of(2026, 1, 15));
+        then(reminderService).should(never())
+                .sendSlotReminders(eq("America/New_York"), any(), any());
+    }
+
+    @Test
+    @DisplayName("뉴욕 08:30 슬롯 - 표준시(UTC-5)에는 UTC 13:30에 발송")
+    void testTick_FiresNewYorkSlot() {
+        // Given
+        startAt("2026-01-15T13:29:00Z");
+
+        // When
+        setClock("2026-01-15T13:30:00Z");
+        reminderSlotScheduler.tick();
+
+        // Then
+        then(reminderService).should(times(1))
+                .sendSlotReminders("America/New_York", HALF_PAST_EIGHT, LocalDate.of(2026, 1, 15));
+        then(reminderService).should(never())
+                .sendSlotReminders(eq("Asia/Seoul"), any(), any());
+    }
+
+    @Test
+    @DisplayName("서머타임(UTC-4) 기간에는 UTC 날짜가 바뀔 때 휠을 다시 구성해 UTC 12:30에 발송")
+    void testTick_RebuildsWheelForDaylightSaving() {
+        // Given: 서머타임 시작(3/8) 전날에 휠 구성
+        startAt("2026-03-07T23:59:00Z");
+
+        // When: 3/8 UTC 12:30
+        setClock("2026-03-08T12:30:00Z");
+        reminderSlotScheduler.tick();
+
+        // Then
+        then(reminderService).should(times(1))
+                .sendSlotReminders("America/New_York", HALF_PAST_EIGHT, LocalDate.of(2026, 3, 8));
+        then(userRepository).should(times(2)).findReminderSlots();
+    }
+
+    @Test
+    @DisplayName("기동 시 catch-up 범위의 지나간 슬롯을 처리하고 같은 슬롯을 다시 처리하지 않음")
+    void testTick_CatchesUpMissedMinutes() {
+        // Given: 00:05 기동, 30분 전부터 처리
+        ReflectionTestUtils.setField(reminderSlotScheduler, "catchUpMinutes", 30);
+        startAt("2026-01-15T00:05:00Z");
+
+        // When
+        reminderSlotScheduler.tick();
+        setClock("2026-01-15T00:06:00Z");
+        reminderSlotScheduler.tick();
+
+        // Then
+        then(reminderService).should(times(1))
+                .sendSlotReminders("Asia/Seoul", NINE_AM, LocalDate.of(2026, 1, 15));
+    }
+
+    @Test
+    @DisplayName("임대를 이어받은 경우 catch-up 범위 밖의 지나간 슬롯은 처리하지 않음")
+    void testTick_TakeoverSkipsMinutesBeyondCatchUp() {
+        // Given: 다른 인스턴스가 휠을 돌리는 동안 커서가 멈춰 있던 인스턴스
+        startAt("2026-01-14T20:00:00Z");
+        ReflectionTestUtils.setField(reminderSlotScheduler, "catchUpMinutes", 3);
+
+        // When: 00:05에 임대 획득
+        setClock("2026-01-15T00:05:00Z");
+        reminderSlotScheduler.tick();
+
+        // Then: 00:02 이후만 처리하므로 00:00 슬롯(서울 09:00)은 발송하지 않음
+        then(reminderService).should(never()).sendSlotReminders(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대를 보유 중이면 발송하지 않음")
+    void testTick_SkipsWhenLeaseHeldElsewhere() {
+        // Given
+        startAt("2026-01-14T23:59:00Z");
+        given(jobCoordinator.runExclusive(eq(ReminderSlotScheduler.JOB_NAME), any(), any(), any())).willReturn(false);
+
+        // When
+        setClock("2026-01-15T00:00:00Z");
+        reminderSlotScheduler.tick();
+
+        // Then
+        then(reminderService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("발송 설정 변경 - 다른 인스턴스에서 저장한 새 발송 시각도 휠을 다시 구성해 발송")
+    void testTick_RebuildsWheelWhenSlotsChanged() {
+        // Given
+        startAt("2026-01-15T02:00:00Z");
+        LocalTime elevenThirty = LocalTime.of(11, 30);
+        List<Object[]> slots = new ArrayList<>();
+        slots.add(new Object[]{"Asia/Seoul", NINE_AM});
+        slots.add(new Object[]{"Asia/Seoul", elevenThirty});
+        given(userRepository.findReminderSlots()).willReturn(slots);
+        given(userRepository.clearReminderSlotChanges()).willReturn(1, 0);
+
+        // When: 서울 11:30 = UTC 02:30
+        setClock("2026-01-15T02:29:00Z");
+        reminderSlotScheduler.tick();
+        setClock("2026-01-15T02:30:00Z");
+        reminderSlotScheduler.tick();
+
+        // Then: 변경이 표시된 첫 틱에만 다시 구성
+        then(reminderService).should(times(1))
+                .sendSlotReminders("Asia/Seoul", elevenThirty, LocalDate.of(2026, 1, 15));
+        then(userRepository).should(times(2)).findReminderSlots();
+    }
+
+    @Test
+    @DisplayName("슬롯 발송 실패 - 같은 분의 다른 슬롯은 계속 발송")
+    void testTick_SlotFailureDoesNotStopOthers() {
+        // Given
+        List<Object[]> slots = new ArrayList<>();
+        slots.add(new Object[]{"Asia/Seoul", NINE_AM});
+        slots.add(new Object[]{"Asia/Tokyo", NINE_AM});
+        given(userRepository.findReminderSlots()).willReturn(slots);
+        startAt("2026-01-14T23:59:00Z");
+
+        willThrow(new RuntimeException("DB error"))
+                .given(reminderService).sendSlotReminders(eq("Asia/Seoul"), any(), any());
+
+        // When
+        setClock("2026-01-15T00:00:00Z");
+        reminderSlotScheduler.tick();
+
+        // Then
+        then(reminderService).should(times(1))
+                .sendSlotReminders("Asia/Tokyo", NINE_AM, LocalDate.of(2026, 1, 15));
+    }
+
+    @Test
+    @DisplayName("잘못된 시간대 슬롯은 휠 구성 시 건너뜀")
+    void testInit_SkipsInvalidTimeZone() {
+        // Given
+        List<Object[]> slots = new ArrayList<>();
+        slots.add(new Object[]{"Invalid/Zone", NINE_AM});
+        slots.add(new Object[]{"Asia/Seoul", NINE_AM});
+        given(userRepository.findReminderSlots()).willReturn(slots);
+        startAt("2026-01-14T23:59:00Z");
+
+        // When
+        setClock("2026-01-15T00:00:00Z");
+        reminderSlotScheduler.tick();
+
+        // Then
+        then(reminderService).should(times(1))
+                .sendSlotReminders("Asia/Seoul", NINE_AM, LocalDate.of(2026, 1, 15));
+        then(reminderService).should(never())
+                .sendSlotReminders(eq("Invalid/Zone"), any(), any());
+    }
+}
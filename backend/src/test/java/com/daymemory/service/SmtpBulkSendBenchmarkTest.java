@@ -0,0 +1,131 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.entity.MailOutbox;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SMTP 발송 처리량 벤치마크 (GreenMail 로컬 SMTP 서버)
+ * - 메일마다 새 연결(JavaMailSender.send)과 풀링된 연결(sendBulk)의 초당 발송 건수를 비교
+ * - 실행: ./gradlew test --tests "*SmtpBulkSendBenchmarkTest" -Dbenchmark=true
+ * - 로컬 서버에는 STARTTLS/AUTH가 없으므로 실제 SMTP 서버에서는 차이가 더 크다
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("SMTP 대량 발송 벤치마크")
+class SmtpBulkSendBenchmarkTest {
+
+    private static final int WARMUP_COUNT = 50;
+    private static final int MESSAGE_COUNT = 1000;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private JavaMailSenderImpl mailSender;
+    private SmtpTransportPool transportPool;
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        transportPool = new SmtpTransportPool(mailSender);
+        ReflectionTestUtils.setField(transportPool, "poolSize", 1);
+        ReflectionTestUtils.setField(transportPool, "maxMessagesPerConnection", 100);
+        ReflectionTestUtils.setField(transportPool, "borrowTimeoutMs", 30000L);
+        transportPool.init();
+
+        emailService = new EmailService(mailSender, null, transportPool, null, new ReminderMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transportPool.shutdown();
+    }
+
+    @Test
+    @DisplayName("메일마다 새 연결 vs 풀링된 연결 - 초당 발송 건수 비교")
+    void compareSingleAndBulkSend() {
+        // Given
+        List<MailOutbox> warmup = createMessages(WARMUP_COUNT);
+        List<MailOutbox> messages = createMessages(MESSAGE_COUNT);
+        AtomicInteger failures = new AtomicInteger();
+
+        warmup.forEach(this::sendSingle);
+        emailService.sendBulk(warmup, (message, error) -> countFailure(failures, error));
+
+        // When
+        long singleStart = System.nanoTime();
+        messages.forEach(this::sendSingle);
+        double singleRate = messagesPerSecond(singleStart);
+
+        long bulkStart = System.nanoTime();
+        emailService.sendBulk(messages, (message, error) -> countFailure(failures, error));
+        double bulkRate = messagesPerSecond(bulkStart);
+
+        System.out.printf("SMTP send throughput (%d messages): per-message connection %.1f msg/s, pooled connection %.1f msg/s (x%.2f)%n",
+                MESSAGE_COUNT, singleRate, bulkRate, bulkRate / singleRate);
+
+        // Then
+        assertThat(failures.get()).isZero();
+        assertThat(greenMail.getReceivedMessages()).hasSize((WARMUP_COUNT + MESSAGE_COUNT) * 2);
+    }
+
+    // 비교 기준: 메일마다 JavaMailSender가 연결/핸드셰이크를 새로 수행
+    private void sendSingle(MailOutbox message) {
+        try {
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+            helper.setTo(message.getRecipient());
+            helper.setSubject(message.getSubject());
+            helper.setText(message.getBody(), true);
+            helper.setFrom("noreply@daymemory.com");
+            mailSender.send(mimeMessage);
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void countFailure(AtomicInteger failures, Exception error) {
+        if (error != null) {
+            failures.incrementAndGet();
+        }
+    }
+
+    private double messagesPerSecond(long startNanos) {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return MESSAGE_COUNT / elapsedSeconds;
+    }
+
+    private List<MailOutbox> createMessages(int count) {
+        List<MailOutbox> messages = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            messages.add(MailOutbox.builder()
+                    .id(i)
+                    .recipient("user" + i + "@example.com")
+                    .subject("[Day Memory] 벤치마크 " + i)
+                    .body("<html><body>벤치마크 메일 " + i + "</body></html>")
+                    .build());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,139 @@
+package com.daymemory.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SmtpCircuitBreaker 테스트")
+class SmtpCircuitBreakerTest {
+
+    private SmtpCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new SmtpCircuitBreaker();
+        ReflectionTestUtils.setField(circuitBreaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(circuitBreaker, "openSeconds", 60L);
+        setClock("2026-01-15T00:00:00Z");
+    }
+
+    private void setClock(String instant) {
+        ReflectionTestUtils.setField(circuitBreaker, "clock", Clock.fixed(Instant.parse(instant), ZoneOffset.UTC));
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            circuitBreaker.recordFailure();
+        }
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치 미만이면 회로 유지")
+    void testBelowThreshold_StaysClosed() {
+        // When
+        fail(2);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(SmtpCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수 초기화")
+    void testSuccess_ResetsFailures() {
+        // When
+        fail(2);
+        circuitBreaker.recordSuccess();
+        fail(2);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(SmtpCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 회로가 열려 호출 차단")
+    void testThresholdReached_Opens() {
+        // When
+        fail(3);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(SmtpCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 반개방 - 성공 시 회로 닫힘")
+    void testHalfOpen_SuccessCloses() {
+        // Given
+        fail(3);
+        setClock("2026-01-15T00:01:00Z");
+
+        // When
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(SmtpCircuitBreaker.State.HALF_OPEN);
+        circuitBreaker.recordSuccess();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(SmtpCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("반개방 상태에서 한 번 실패하면 다시 열림")
+    void testHalfOpen_FailureReopens() {
+        // Given
+        fail(3);
+        setClock("2026-01-15T00:01:00Z");
+        circuitBreaker.allowRequest();
+
+        // When
+        circuitBreaker.recordFailure();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(SmtpCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("반개방 상태는 탐침 한 건만 허용 - 결과 전까지 다른 호출은 거절")
+    void testHalfOpen_AdmitsSingleProbe() {
+        // Given
+        fail(3);
+        setClock("2026-01-15T00:01:00Z");
+
+        // When
+        boolean probe = circuitBreaker.allowRequest();
+        boolean second = circuitBreaker.allowRequest();
+
+        // Then
+        assertThat(probe).isTrue();
+        assertThat(second).isFalse();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(SmtpCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("반개방 탐침 결과가 열린 시간 동안 오지 않으면 다음 탐침 허용")
+    void testHalfOpen_StaleProbeAdmitsNext() {
+        // Given
+        fail(3);
+        setClock("2026-01-15T00:01:00Z");
+        circuitBreaker.allowRequest();
+
+        // When
+        setClock("2026-01-15T00:02:00Z");
+
+        // Then
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+}
@@ -0,0 +1,199 @@
+package com.daymemory.service;
+
+import com.daymemory.domain.dto.StatisticsDto;
+import com.daymemory.domain.entity.Event;
+import com.daymemory.domain.repository.EventRepository;
+import com.daymemory.domain.repository.GiftItemRepository;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.exception.CustomException;
+import com.daymemory.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsService 테스트")
+class StatisticsServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private GiftItemRepository giftItemRepository;
+
+    @Mock
+    private ReminderDailyStatRepository reminderDailyStatRepository;
+
+    @Mock
+    private UserDataCache userDataCache;
+
+    @InjectMocks
+    private StatisticsService statisticsService;
+
+    @BeforeEach
+    void setUp() {
+        // 캐시는 항상 미스로 보고 로더를 바로 실행
+        lenient().when(userDataCache.get(anyLong(), anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
+    private static Object[] countRow(int year, int month, Event.EventType type, long count) {
+        return new Object[]{year, month, type, count};
+    }
+
+    private static Event recurring(LocalDate eventDate, Event.RecurrenceRule rule, Event.EventType type) {
+        return Event.builder()
+                .id(1L)
+                .title("반복 이벤트")
+                .eventDate(eventDate)
+                .eventType(type)
+                .isRecurring(true)
+                .recurrenceRule(rule)
+                .build();
+    }
+
+    @Test
+    @DisplayName("월별 이벤트 통계 - DB 집계 행과 반복 이벤트 발생일을 함께 집계")
+    void testGetEventStatistics() {
+        // Given
+        LocalDate startDate = LocalDate.of(2026, 1, 1);
+        LocalDate endDate = LocalDate.of(2026, 12, 31);
+        given(eventRepository.countByMonthAndType(1L, startDate, endDate)).willReturn(List.of(
+                countRow(2026, 3, Event.EventType.BIRTHDAY, 2),
+                countRow(2026, 3, Event.EventType.ANNIVERSARY_100, 1),
+                countRow(2026, 11, Event.EventType.BIRTHDAY, 1)));
+        given(eventRepository.findRecurringAnchors(1L, endDate)).willReturn(List.of(
+                recurring(LocalDate.of(2020, 3, 15), Event.RecurrenceRule.YEARLY, Event.EventType.ANNIVERSARY_1YEAR)));
+
+        // When
+        StatisticsDto.EventStatistics statistics = statisticsService.getEventStatistics(1L, 2026);
+
+        // Then
+        assertThat(statistics.getTotalEvents()).isEqualTo(5);
+        assertThat(statistics.getMonthlyEventCount()).hasSize(12);
+        assertThat(statistics.getMonthlyEventCount()).containsEntry("2026-03", 4).containsEntry("2026-11", 1)
+                .containsEntry("2026-01", 0);
+        assertThat(statistics.getEventTypeDistribution()).containsOnly(
+                entry(Event.EventType.BIRTHDAY, 3),
+                entry(Event.EventType.ANNIVERSARY_100, 1),
+                entry(Event.EventType.ANNIVERSARY_1YEAR, 1));
+    }
+
+    @Test
+    @DisplayName("연도별 이벤트 통계 - 기간 전체를 쿼리 2개로 집계해 연도별로 나눔")
+    void testGetYearlyEventStatistics() {
+        // Given
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2026, 12, 31);
+        given(eventRepository.countByMonthAndType(1L, startDate, endDate)).willReturn(List.of(
+                countRow(2024, 5, Event.EventType.BIRTHDAY, 1),
+                countRow(2026, 5, Event.EventType.BIRTHDAY, 3)));
+        given(eventRepository.findRecurringAnchors(1L, endDate)).willReturn(List.of(
+                recurring(LocalDate.of(2025, 11, 10), Event.RecurrenceRule.MONTHLY, Event.EventType.ANNIVERSARY_CUSTOM)));
+
+        // When
+        Map<Integer, StatisticsDto.EventStatistics> statistics = statisticsService.getYearlyEventStatistics(1L, 2024, 2026);
+
+        // Then
+        assertThat(statistics).containsOnlyKeys(2024, 2025, 2026);
+        assertThat(statistics.get(2024).getTotalEvents()).isEqualTo(1);
+        assertThat(statistics.get(2025).getTotalEvents()).isEqualTo(2);
+        assertThat(statistics.get(2025).getMonthlyEventCount()).containsEntry("2025-11", 1).containsEntry("2025-12", 1);
+        assertThat(statistics.get(2026).getTotalEvents()).isEqualTo(15);
+        assertThat(statistics.get(2026).getEventTypeDistribution())
+                .containsEntry(Event.EventType.ANNIVERSARY_CUSTOM, 12);
+        then(eventRepository).should(times(1)).countByMonthAndType(1L, startDate, endDate);
+        then(eventRepository).should(times(1)).findRecurringAnchors(1L, endDate);
+    }
+
+    @Test
+    @DisplayName("연도별 이벤트 통계 - 시작 연도가 끝 연도보다 늦거나 최대 연수를 넘으면 실패")
+    void testGetYearlyEventStatistics_InvalidRange() {
+        // When & Then
+        assertThatThrownBy(() -> statisticsService.getYearlyEventStatistics(1L, 2026, 2025))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> statisticsService.getYearlyEventStatistics(
+                1L, 2000, 2000 + StatisticsService.MAX_STATISTICS_YEARS))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        then(eventRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("리마인더 발송 통계 - 일 단위, 발송이 없는 날은 0건으로 채움")
+    void testGetReminderStatistics_Daily() {
+        // Given
+        LocalDate startDate = LocalDate.of(2026, 3, 1);
+        LocalDate endDate = LocalDate.of(2026, 3, 7);
+        given(reminderDailyStatRepository.sumByBucket(1L, startDate, endDate, "day")).willReturn(List.of(
+                new Object[]{java.sql.Date.valueOf("2026-03-02"), 3L, 1L},
+                new Object[]{LocalDate.of(2026, 3, 7), 4L, 0L}));
+
+        // When
+        StatisticsDto.ReminderStatistics statistics = statisticsService.getReminderStatistics(
+                1L, startDate, endDate, StatisticsDto.Granularity.DAY);
+
+        // Then
+        assertThat(statistics.getSentCount()).isEqualTo(7);
+        assertThat(statistics.getFailedCount()).isEqualTo(1);
+        assertThat(statistics.getSuccessRate()).isEqualTo(87.5);
+        assertThat(statistics.getDailyStats()).hasSize(7);
+        assertThat(statistics.getDailyStats().get("2026-03-02").getSentCount()).isEqualTo(3);
+        assertThat(statistics.getDailyStats().get("2026-03-03").getSentCount()).isZero();
+        assertThat(statistics.getDailyStats().get("2026-03-07").getSentCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("리마인더 발송 통계 - 주/월 단위는 구간 시작일을 키로 사용")
+    void testGetReminderStatistics_WeeklyAndMonthly() {
+        // Given: 2026-03-04(수) ~ 2026-04-20(월)
+        LocalDate startDate = LocalDate.of(2026, 3, 4);
+        LocalDate endDate = LocalDate.of(2026, 4, 20);
+        given(reminderDailyStatRepository.sumByBucket(1L, startDate, endDate, "week")).willReturn(List.<Object[]>of(
+                new Object[]{LocalDate.of(2026, 3, 2), 2L, 0L}));
+        given(reminderDailyStatRepository.sumByBucket(1L, startDate, endDate, "month")).willReturn(List.<Object[]>of(
+                new Object[]{LocalDate.of(2026, 4, 1), 5L, 5L}));
+
+        // When
+        StatisticsDto.ReminderStatistics weekly = statisticsService.getReminderStatistics(
+                1L, startDate, endDate, StatisticsDto.Granularity.WEEK);
+        StatisticsDto.ReminderStatistics monthly = statisticsService.getReminderStatistics(
+                1L, startDate, endDate, StatisticsDto.Granularity.MONTH);
+
+        // Then
+        assertThat(weekly.getDailyStats().keySet()).first().isEqualTo("2026-03-02");
+        assertThat(weekly.getDailyStats().keySet()).last().isEqualTo("2026-04-20");
+        assertThat(weekly.getDailyStats()).hasSize(8);
+        assertThat(weekly.getSentCount()).isEqualTo(2);
+        assertThat(monthly.getDailyStats()).containsOnlyKeys("2026-03-01", "2026-04-01");
+        assertThat(monthly.getSuccessRate()).isEqualTo(50.0);
+        assertThat(monthly.getGranularity()).isEqualTo(StatisticsDto.Granularity.MONTH);
+    }
+
+    @Test
+    @DisplayName("리마인더 발송 통계 - 시작일이 종료일보다 늦으면 실패")
+    void testGetReminderStatistics_InvalidRange() {
+        // When & Then
+        assertThatThrownBy(() -> statisticsService.getReminderStatistics(
+                1L, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 1), StatisticsDto.Granularity.DAY))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        then(reminderDailyStatRepository).shouldHaveNoInteractions();
+    }
+}
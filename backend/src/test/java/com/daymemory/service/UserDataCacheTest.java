@@ -0,0 +1,147 @@
+package com.daymemory.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("UserDataCache 테스트")
+class UserDataCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDataCache userDataCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDataCache = createCache(300);
+        loads = new AtomicInteger();
+    }
+
+    private UserDataCache createCache(long ttlSeconds) {
+        UserDataCache cache = new UserDataCache(meterRegistry);
+        ReflectionTestUtils.setField(cache, "maxUsers", 100L);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+        cache.init();
+        return cache;
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시 적중 - 적중률 메트릭 반영")
+    void testGet_HitsCache() {
+        // When
+        String first = userDataCache.get(1L, "dashboard:2026-10-17", () -> load("A"));
+        String second = userDataCache.get(1L, "dashboard:2026-10-17", () -> load("B"));
+
+        // Then
+        assertThat(first).isEqualTo("A");
+        assertThat(second).isEqualTo("A");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get(UserDataCache.REQUESTS).tag("view", "dashboard").tag("result", "hit")
+                .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(UserDataCache.HIT_RATIO).gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("무효화 - 해당 사용자 항목만 다시 계산")
+    void testInvalidate_OnlyThatUser() {
+        // Given
+        userDataCache.get(1L, "gift-statistics", () -> load("user1"));
+        userDataCache.get(2L, "gift-statistics", () -> load("user2"));
+
+        // When
+        userDataCache.invalidate(1L);
+        String user1 = userDataCache.get(1L, "gift-statistics", () -> load("user1-new"));
+        String user2 = userDataCache.get(2L, "gift-statistics", () -> load("user2-new"));
+
+        // Then
+        assertThat(user1).isEqualTo("user1-new");
+        assertThat(user2).isEqualTo("user2");
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 계산")
+    void testGet_RecomputesExpiredEntry() {
+        // Given
+        UserDataCache expiring = createCache(0);
+
+        // When
+        expiring.get(1L, "calendar:2026-10", () -> load("A"));
+        String second = expiring.get(1L, "calendar:2026-10", () -> load("B"));
+
+        // Then
+        assertThat(second).isEqualTo("B");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 사용자/항목의 동시 미스는 한 번만 계산")
+    void testGet_CoalescesConcurrentMisses() throws Exception {
+        // Given
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return userDataCache.get(1L, "dashboard:2026-10-17", () -> {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return load("A");
+                });
+            }));
+        }
+        start.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("A");
+        }
+        assertThat(loads).hasValue(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("계산은 맵 잠금 밖에서 - loader 안에서 같은 사용자의 다른 항목 조회 가능, 실패한 계산은 남기지 않음")
+    void testGet_LoadsOutsideMapLock() {
+        // When
+        String nested = userDataCache.get(1L, "dashboard:2026-10-17",
+                () -> userDataCache.get(1L, "gift-statistics", () -> load("gifts")) + "+dashboard");
+        Throwable failure = catchThrowable(() ->
+                userDataCache.get(1L, "calendar:2026-10", () -> {
+                    throw new IllegalStateException("load failed");
+                }));
+        String retried = userDataCache.get(1L, "calendar:2026-10", () -> load("calendar"));
+
+        // Then
+        assertThat(nested).isEqualTo("gifts+dashboard");
+        assertThat(failure).isInstanceOf(IllegalStateException.class);
+        assertThat(retried).isEqualTo("calendar");
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -2,6 +2,8 @@ package com.daymemory.service;
 
 import com.daymemory.domain.dto.UserDto;
 import com.daymemory.domain.entity.User;
+import com.daymemory.domain.repository.ReminderDailyStatRepository;
+import com.daymemory.domain.repository.ReminderDueRepository;
 import com.daymemory.domain.repository.UserRepository;
 import com.daymemory.exception.CustomException;
 import com.daymemory.exception.ErrorCode;
@@ -18,6 +20,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -32,6 +35,12 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ReminderDueRepository reminderDueRepository;
+
+    @Mock
+    private ReminderDailyStatRepository reminderDailyStatRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -41,6 +50,9 @@ class UserServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private UserDataCache userDataCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -401,4 +413,95 @@ class UserServiceTest {
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
     }
+
+    @Test
+    @DisplayName("알림 설정 조회 - 기본값 09:00 (Asia/Seoul)")
+    void testGetNotificationSettings_Default() {
+        // Given
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+
+        // When
+        UserDto.NotificationSettingsResponse response = userService.getNotificationSettings(1L);
+
+        // Then
+        assertThat(response.getEmailNotificationsEnabled()).isTrue();
+        assertThat(response.getReminderTime()).isEqualTo("09:00");
+        assertThat(response.getTimeZone()).isEqualTo("Asia/Seoul");
+    }
+
+    @Test
+    @DisplayName("알림 설정 수정 - 발송 시각/시간대 저장 및 휠 재구성 표시")
+    void testUpdateNotificationSettings_Success() {
+        // Given
+        UserDto.NotificationSettingsRequest request = UserDto.NotificationSettingsRequest.builder()
+                .emailNotificationsEnabled(true)
+                .reminderTime("07:45")
+                .timeZone("America/New_York")
+                .build();
+
+        testUser.setReminderSlotChanged(false);
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+
+        // When
+        UserDto.NotificationSettingsResponse response = userService.updateNotificationSettings(1L, request);
+
+        // Then
+        assertThat(testUser.getReminderTime()).isEqualTo(LocalTime.of(7, 45));
+        assertThat(testUser.getTimeZone()).isEqualTo("America/New_York");
+        assertThat(response.getReminderTime()).isEqualTo("07:45");
+        assertThat(response.getTimeZone()).isEqualTo("America/New_York");
+
+        assertThat(testUser.getReminderSlotChanged()).isTrue();
+    }
+
+    @Test
+    @DisplayName("알림 설정 수정 실패 - 잘못된 발송 시각 형식")
+    void testUpdateNotificationSettings_InvalidTime() {
+        // Given
+        UserDto.NotificationSettingsRequest request = UserDto.NotificationSettingsRequest.builder()
+                .reminderTime("25:00")
+                .build();
+
+        testUser.setReminderSlotChanged(false);
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.updateNotificationSettings(1L, request))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThat(testUser.getReminderSlotChanged()).isFalse();
+    }
+
+    @Test
+    @DisplayName("알림 설정 수정 실패 - 존재하지 않는 시간대")
+    void testUpdateNotificationSettings_InvalidTimeZone() {
+        // Given
+        UserDto.NotificationSettingsRequest request = UserDto.NotificationSettingsRequest.builder()
+                .timeZone("Mars/Olympus")
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.updateNotificationSettings(1L, request))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThat(testUser.getTimeZone()).isEqualTo("Asia/Seoul");
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 - FK로 지워지지 않는 발송 예정/일일 집계 행을 먼저 삭제")
+    void testDeleteAccount() {
+        // Given
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+
+        // When
+        userService.deleteAccount(1L);
+
+        // Then
+        then(reminderDueRepository).should(times(1)).deleteByUserId(1L);
+        then(reminderDailyStatRepository).should(times(1)).deleteByUserId(1L);
+        then(userRepository).should(times(1)).delete(testUser);
+        then(userDataCache).should(times(1)).invalidate(1L);
+    }
 }
@@ -0,0 +1,25 @@
+package com.daymemory.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 본문 한 번에 허용하는 SQL 문장 수와 하이드레이션 엔티티 수 (SqlBudgetExtension이 검사)
+ * 예산은 시드 데이터 건수보다 작게 잡아, 행마다 쿼리가 하나씩 붙는 N+1 회귀가 생기면 테스트가 실패하게 한다.
+ * 측정은 테스트 메서드 실행 구간만이며 @BeforeEach/@AfterEach의 데이터 준비/정리는 포함하지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlBudgetExtension.class)
+public @interface SqlBudget {
+
+    // 최대 SQL 문장 수 (JDBC 배치는 1문장)
+    int statements();
+
+    // 최대 하이드레이션 엔티티 수 (프로젝션/집계 조회는 0)
+    int entities();
+}
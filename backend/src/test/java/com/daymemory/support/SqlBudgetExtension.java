@@ -0,0 +1,39 @@
+package com.daymemory.support;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+
+/**
+ * @SqlBudget 테스트의 SQL 문장/엔티티 하이드레이션 예산 검사
+ * 테스트 본문 실행 구간만 SqlStatementCounter로 기록하고, 예산을 넘으면 실행된 SQL 목록과 함께 실패시킨다.
+ */
+public class SqlBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SqlStatementCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        List<String> statements = SqlStatementCounter.stop();
+        int loadedEntities = SqlStatementCounter.loadedEntities();
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        SqlBudget budget = context.getRequiredTestMethod().getAnnotation(SqlBudget.class);
+        if (statements.size() > budget.statements()) {
+            throw new AssertionError(String.format("%s: SQL %d문장 실행 (예산 %d)%n%s",
+                    context.getDisplayName(), statements.size(), budget.statements(),
+                    String.join(System.lineSeparator(), statements)));
+        }
+        if (loadedEntities > budget.entities()) {
+            throw new AssertionError(String.format("%s: 엔티티 %d개 하이드레이션 (예산 %d)",
+                    context.getDisplayName(), loadedEntities, budget.entities()));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.daymemory.support;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 SQL 문장 기록기 (hibernate.session_factory.statement_inspector, application-test.properties)
+ * Hibernate 통계는 세션 팩토리 전체 합계라 테스트 중 도는 스케줄러(아웃박스 폴링 등)의 SQL까지 섞인다.
+ * 기록을 시작한 스레드와 지정한 이름 접두사의 스레드(병렬 조회 풀 등)가 실행한 SQL만 모은다.
+ * 같은 스레드에서 하이드레이션된 엔티티 수도 센다 (hibernate.session_factory.interceptor).
+ */
+public class SqlStatementCounter implements StatementInspector, Interceptor {
+
+    private static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger LOADED_ENTITIES = new AtomicInteger();
+
+    private static volatile Thread owner;
+    private static volatile String[] threadPrefixes = new String[0];
+
+    public static void start(String... prefixes) {
+        STATEMENTS.clear();
+        LOADED_ENTITIES.set(0);
+        threadPrefixes = prefixes;
+        owner = Thread.currentThread();
+    }
+
+    public static List<String> stop() {
+        owner = null;
+        return new ArrayList<>(STATEMENTS);
+    }
+
+    // 마지막 기록 구간에서 하이드레이션된 엔티티 수 (stop 이후에도 유지)
+    public static int loadedEntities() {
+        return LOADED_ENTITIES.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Thread recording = owner;
+        if (recording != null && isTracked(recording)) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        Thread recording = owner;
+        if (recording != null && isTracked(recording)) {
+            LOADED_ENTITIES.incrementAndGet();
+        }
+        return false;
+    }
+
+    private static boolean isTracked(Thread recording) {
+        Thread current = Thread.currentThread();
+        if (current == recording) {
+            return true;
+        }
+        for (String prefix : threadPrefixes) {
+            if (current.getName().startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,71 @@
+package com.daymemory.util;
+
+import com.daymemory.exception.CustomException;
+import com.daymemory.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor 테스트")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩/디코딩 - 날짜, 날짜시각 키와 id 복원")
+    void testEncodeDecode_RoundTrip() {
+        // Given
+        LocalDate date = LocalDate.of(2026, 5, 2);
+        LocalDateTime dateTime = LocalDateTime.of(2026, 5, 2, 13, 45, 10, 123_000_000);
+
+        // When
+        KeysetCursor dateCursor = KeysetCursor.decode(KeysetCursor.encode(date, 42L));
+        KeysetCursor dateTimeCursor = KeysetCursor.decode(KeysetCursor.encode(dateTime, 7L));
+
+        // Then
+        assertThat(dateCursor.dateKey()).isEqualTo(date);
+        assertThat(dateCursor.id()).isEqualTo(42L);
+        assertThat(dateTimeCursor.dateTimeKey()).isEqualTo(dateTime);
+        assertThat(dateTimeCursor.id()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("디코딩 - 커서가 없으면 첫 페이지(null)")
+    void testDecode_Blank() {
+        // When & Then
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("디코딩 - 형식이 잘못된 커서는 INVALID_CURSOR")
+    void testDecode_Invalid() {
+        // Given
+        String noSeparator = encodeRaw("2026-05-02");
+        String badId = encodeRaw("2026-05-02|abc");
+        String badDate = encodeRaw("yesterday|1");
+
+        // When & Then
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> KeysetCursor.decode(noSeparator))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> KeysetCursor.decode(badId))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> KeysetCursor.decode(badDate).dateKey())
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
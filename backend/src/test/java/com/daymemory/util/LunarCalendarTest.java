@@ -0,0 +1,84 @@
+package com.daymemory.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LunarCalendar 테스트")
+class LunarCalendarTest {
+
+    @Test
+    @DisplayName("음력 → 양력 - 설날/추석")
+    void testToSolar_Holidays() {
+        // When & Then
+        assertThat(LunarCalendar.toSolar(2024, 1, 1, false)).isEqualTo(LocalDate.of(2024, 2, 10));
+        assertThat(LunarCalendar.toSolar(2025, 1, 1, false)).isEqualTo(LocalDate.of(2025, 1, 29));
+        assertThat(LunarCalendar.toSolar(2026, 1, 1, false)).isEqualTo(LocalDate.of(2026, 2, 17));
+        assertThat(LunarCalendar.toSolar(2024, 8, 15, false)).isEqualTo(LocalDate.of(2024, 9, 17));
+        assertThat(LunarCalendar.toSolar(2025, 8, 15, false)).isEqualTo(LocalDate.of(2025, 10, 6));
+        assertThat(LunarCalendar.toSolar(2023, 8, 15, false)).isEqualTo(LocalDate.of(2023, 9, 29));
+    }
+
+    @Test
+    @DisplayName("윤달 - 윤달이 있는 해는 평달 다음 달, 없는 해는 평달로 환산")
+    void testToSolar_LeapMonth() {
+        // 2023년 윤2월 1일 = 양력 3월 22일
+        assertThat(LunarCalendar.toSolar(2023, 2, 1, true)).isEqualTo(LocalDate.of(2023, 3, 22));
+        assertThat(LunarCalendar.toSolar(2023, 3, 1, false)).isEqualTo(LocalDate.of(2023, 4, 20));
+        assertThat(LunarCalendar.toSolar(2024, 2, 1, true)).isEqualTo(LunarCalendar.toSolar(2024, 2, 1, false));
+    }
+
+    @Test
+    @DisplayName("한국 음력 - 합삭이 자정 무렵이라 중국 음력과 날짜/윤달이 다른 해")
+    void testToSolar_KoreanCalendar() {
+        // 2017년: 한국 윤5월 (중국은 윤6월)
+        assertThat(LunarCalendar.toSolar(2017, 5, 1, true)).isEqualTo(LocalDate.of(2017, 6, 24));
+        assertThat(LunarCalendar.toSolar(2017, 6, 1, false)).isEqualTo(LocalDate.of(2017, 7, 23));
+        assertThat(LunarCalendar.toSolar(2017, 6, 1, true)).isEqualTo(LocalDate.of(2017, 7, 23));
+        // 2012년: 한국 윤3월 (중국은 윤4월)
+        assertThat(LunarCalendar.toSolar(2012, 3, 1, true)).isEqualTo(LocalDate.of(2012, 4, 21));
+        // 설날: 중국은 하루 빠름 (1997-02-07, 2027-02-06, 2028-01-26)
+        assertThat(LunarCalendar.toSolar(1997, 1, 1, false)).isEqualTo(LocalDate.of(1997, 2, 8));
+        assertThat(LunarCalendar.toSolar(2027, 1, 1, false)).isEqualTo(LocalDate.of(2027, 2, 7));
+        assertThat(LunarCalendar.toSolar(2028, 1, 1, false)).isEqualTo(LocalDate.of(2028, 1, 27));
+        // 2036년 11월 1일: 중국은 12월 17일
+        assertThat(LunarCalendar.toSolar(2036, 11, 1, false)).isEqualTo(LocalDate.of(2036, 12, 18));
+    }
+
+    @Test
+    @DisplayName("작은 달의 30일은 29일로 보정")
+    void testToSolar_ClampsDayThirty() {
+        // 2024년 음력 1월은 29일까지
+        assertThat(LunarCalendar.toSolar(2024, 1, 30, false)).isEqualTo(LunarCalendar.toSolar(2024, 1, 29, false));
+    }
+
+    @Test
+    @DisplayName("양력 → 음력 - 윤달 포함")
+    void testFromSolar() {
+        // When & Then
+        assertThat(LunarCalendar.fromSolar(LocalDate.of(2023, 3, 22)))
+                .isEqualTo(new LunarCalendar.LunarDate(2023, 2, 1, true));
+        assertThat(LunarCalendar.fromSolar(LocalDate.of(2025, 1, 28)))
+                .isEqualTo(new LunarCalendar.LunarDate(2024, 12, 29, false));
+    }
+
+    @Test
+    @DisplayName("전 범위 왕복 변환")
+    void testRoundTrip() {
+        for (LocalDate date = LocalDate.of(1900, 1, 31); date.getYear() <= LunarCalendar.MAX_YEAR; date = date.plusDays(1)) {
+            LunarCalendar.LunarDate lunar = LunarCalendar.fromSolar(date);
+            assertThat(LunarCalendar.toSolar(lunar.year(), lunar.month(), lunar.day(), lunar.leapMonth())).isEqualTo(date);
+        }
+    }
+
+    @Test
+    @DisplayName("지원 범위를 벗어나면 null")
+    void testOutOfRange() {
+        assertThat(LunarCalendar.toSolar(2101, 1, 1, false)).isNull();
+        assertThat(LunarCalendar.fromSolar(LocalDate.of(1900, 1, 30))).isNull();
+        assertThat(LunarCalendar.plusLunarYears(LocalDate.of(2100, 5, 1), 1)).isNull();
+    }
+}